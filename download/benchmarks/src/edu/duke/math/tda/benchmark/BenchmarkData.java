@@ -0,0 +1,305 @@
+/*
+ * Created October 2026
+ *
+ * This file is part of Topological Data Analysis
+ * edu.duke.math.tda
+ * Copyright (c) 2012-2014 by John Harer
+ * All rights reserved.
+ *
+ * License Info:
+ *
+ *
+ */
+package edu.duke.math.tda.benchmark;
+
+import java.awt.image.BufferedImage;
+import java.io.File;
+import java.io.PrintWriter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import javax.imageio.ImageIO;
+
+import edu.duke.math.tda.utility.TDA;
+import edu.duke.math.tda.utility.errorhandling.TdaException;
+import edu.duke.math.tda.utility.settings.Settings;
+
+/**
+ * BenchmarkData creates the inputs for the benchmarks: synthetic point clouds, the
+ * point clouds of the handwriting images, and their distance matrix and text forms
+ *
+ * <p><strong>Details:</strong> <br>
+ *
+ * The synthetic clouds are drawn from a fixed seed, so every run of a benchmark sees
+ * the same points. The images are converted the same way as in imageToPointCloud.m:
+ * the image is cut into groupSize x groupSize blocks, and every block that contains
+ * dark pixels (gray value <= 120) gives one point, at the mean location of its dark
+ * pixels.
+ *
+ * <p><strong>Change History:</strong> <br>
+ * Created October 2026
+ *
+ *
+ * @author Jurgen Sladeczek (hjs) <br>
+ * For the latest info, please visit www.math.duke.edu.
+ */
+public class BenchmarkData {
+
+	public static final String SHAPE_UNIFORM = "uniform";
+	public static final String SHAPE_CIRCLE = "circle";
+	public static final String SHAPE_LETTER = "letter";
+	public static final String SHAPE_HANDWRITING = "handwriting";
+
+	public static final long SEED = 20261018L;
+	public static final double NOISE = 0.02;
+	public static final int IMAGE_THRESHOLD = 120;
+
+	// the strokes of the letter 'A' in the unit square: ( x1, y1, x2, y2 )
+	protected static final double[][] LETTERSTROKES = {
+		{ 0.1, 0.0, 0.5, 1.0 },
+		{ 0.5, 1.0, 0.9, 0.0 },
+		{ 0.3, 0.5, 0.7, 0.5 } };
+
+	// Points drawn uniformly from the unit cube in R^dimension
+	public static double[][] uniform( final int _numberOfPoints,
+			final int _dimension ) {
+
+		final Random random = new Random( SEED );
+		final double[][] points = new double[ _numberOfPoints ][ _dimension ];
+
+		for ( int i=0; i<_numberOfPoints; i++ ) {
+
+			for ( int j=0; j<_dimension; j++ ) {
+
+				points[ i ][ j ] = random.nextDouble();
+			}
+		}
+
+		return points;
+	}
+
+	// Points on the unit circle, with gaussian noise
+	public static double[][] circle( final int _numberOfPoints ) {
+
+		final Random random = new Random( SEED );
+		final double[][] points = new double[ _numberOfPoints ][ 2 ];
+		double angle;
+
+		for ( int i=0; i<_numberOfPoints; i++ ) {
+
+			angle = 2 * Math.PI * random.nextDouble();
+			points[ i ][ 0 ] = Math.cos( angle ) + NOISE * random.nextGaussian();
+			points[ i ][ 1 ] = Math.sin( angle ) + NOISE * random.nextGaussian();
+		}
+
+		return points;
+	}
+
+	// Points on the strokes of the letter 'A' (which has a 1-dim. cycle, like most
+	// of the handwriting samples), with gaussian noise
+	public static double[][] letter( final int _numberOfPoints ) {
+
+		final Random random = new Random( SEED );
+		final double[][] points = new double[ _numberOfPoints ][ 2 ];
+		final double[] strokeLengths = new double[ LETTERSTROKES.length ];
+		double totalLength = 0;
+		double position;
+		double[] stroke;
+		int s;
+
+		for ( s=0; s<LETTERSTROKES.length; s++ ) {
+
+			stroke = LETTERSTROKES[ s ];
+			strokeLengths[ s ] = Math.hypot( stroke[ 2 ] - stroke[ 0 ], stroke[ 3 ] - stroke[ 1 ] );
+			totalLength += strokeLengths[ s ];
+		}
+
+		for ( int i=0; i<_numberOfPoints; i++ ) {
+
+			// pick the stroke proportionally to its length
+			position = totalLength * random.nextDouble();
+			for ( s=0; s<LETTERSTROKES.length-1 && position > strokeLengths[ s ]; s++ ) {
+
+				position -= strokeLengths[ s ];
+			}
+
+			stroke = LETTERSTROKES[ s ];
+			position = Math.min( 1.0, position / strokeLengths[ s ] );
+			points[ i ][ 0 ] = stroke[ 0 ] + position * ( stroke[ 2 ] - stroke[ 0 ] ) +
+					NOISE * random.nextGaussian();
+			points[ i ][ 1 ] = stroke[ 1 ] + position * ( stroke[ 3 ] - stroke[ 1 ] ) +
+					NOISE * random.nextGaussian();
+		}
+
+		return points;
+	}
+
+	// The point cloud of an image, e.g., one of the HandwritingData PNGs
+	public static double[][] fromImage( final File _imageFile,
+			final int _groupSize ) throws Exception {
+
+		final BufferedImage image;
+		final List<double[]> points = new ArrayList<double[]>();
+		int pixel;
+		int gray;
+		int darkPixels;
+		double sumOfRows;
+		double sumOfColumns;
+
+		image = ImageIO.read( _imageFile );
+
+		if ( image == null ) {
+
+            throw new TdaException(
+                    TDA.ERROR_APP_USERINPUT,
+                    "(BenchmarkData) Cannot read the image '" + _imageFile.getPath() + "'." );
+		}
+
+		for ( int r=0; r+_groupSize<=image.getHeight(); r+=_groupSize ) {
+
+			for ( int c=0; c+_groupSize<=image.getWidth(); c+=_groupSize ) {
+
+				darkPixels = 0;
+				sumOfRows = 0;
+				sumOfColumns = 0;
+
+				for ( int i=0; i<_groupSize; i++ ) {
+
+					for ( int j=0; j<_groupSize; j++ ) {
+
+						pixel = image.getRGB( c+j, r+i );
+
+						// transparent pixels count as background
+						gray = ( ( pixel >>> 24 ) < 128 ) ? 255 :
+							( ( pixel >> 16 & 0xff ) + ( pixel >> 8 & 0xff ) + ( pixel & 0xff ) ) / 3;
+
+						if ( gray <= IMAGE_THRESHOLD ) {
+
+							darkPixels++;
+							sumOfRows += i;
+							sumOfColumns += j;
+						}
+					}
+				}
+
+				if ( darkPixels > 0 ) {
+
+					points.add( new double[] {
+							r + Math.round( sumOfRows / darkPixels ),
+							c + Math.round( sumOfColumns / darkPixels ) } );
+				}
+			}
+		}
+
+		if ( points.size() == 0 ) {
+
+            throw new TdaException(
+                    TDA.ERROR_APP_USERINPUT,
+                    "(BenchmarkData) The image '" + _imageFile.getPath() +
+                    "' does not contain any dark pixels." );
+		}
+
+		return points.toArray( new double[ points.size() ][] );
+	}
+
+	// The (euclidean) distance matrix of the points
+	public static double[][] distanceMatrix( final double[][] _points ) {
+
+		final int numberOfPoints = _points.length;
+		final double[][] distances = new double[ numberOfPoints ][ numberOfPoints ];
+		double sumOfSquares;
+		double difference;
+
+		for ( int i=0; i<numberOfPoints; i++ ) {
+
+			for ( int j=i+1; j<numberOfPoints; j++ ) {
+
+				sumOfSquares = 0;
+				for ( int k=0; k<_points[ i ].length; k++ ) {
+
+					difference = _points[ i ][ k ] - _points[ j ][ k ];
+					sumOfSquares += difference * difference;
+				}
+
+				distances[ i ][ j ] = Math.sqrt( sumOfSquares );
+				distances[ j ][ i ] = distances[ i ][ j ];
+			}
+		}
+
+		return distances;
+	}
+
+	// The largest entry of the distance matrix, i.e., the diameter of the point cloud
+	public static double diameter( final double[][] _distances ) {
+
+		double diameter = 0;
+
+		for ( int i=0; i<_distances.length; i++ ) {
+
+			for ( int j=i+1; j<_distances.length; j++ ) {
+
+				diameter = Math.max( diameter, _distances[ i ][ j ] );
+			}
+		}
+
+		return diameter;
+	}
+
+	// Write the rows of values (e.g., points, or a distance matrix) in the text
+	// format that the loaders read
+	public static void writeRows( final File _file,
+			final double[][] _rows ) throws Exception {
+
+		final StringBuffer line = new StringBuffer();
+
+		try ( PrintWriter writer = new PrintWriter( _file ) ) {
+
+			for ( int i=0; i<_rows.length; i++ ) {
+
+				line.setLength( 0 );
+				for ( int j=0; j<_rows[ i ].length; j++ ) {
+
+					if ( j > 0 ) line.append( "\t" );
+					line.append( _rows[ i ][ j ] );
+				}
+				writer.println( line );
+			}
+		}
+	}
+
+	public static void writeText( final File _file,
+			final CharSequence _text ) throws Exception {
+
+		try ( PrintWriter writer = new PrintWriter( _file ) ) {
+
+			writer.print( _text );
+		}
+	}
+
+	// The settings for running the pipeline steps directly (as for the API, without
+	// any output); a zpValue of 0 selects the Z2 implementation
+	public static Settings createSettings( final double _distanceBound,
+			final int _zpValue,
+			final String _reductionMethod ) throws Exception {
+
+		final Settings settings = new Settings();
+
+		settings.processCommandLine( new String[] {
+				TDA.SETTING_TASKCHOICE + "=" + TDA.UI_TASK_M12,
+				TDA.SETTING_DISTANCEBOUND + "=" + _distanceBound,
+				TDA.SETTING_ZP_VALUE + "=" + _zpValue,
+				TDA.SETTING_REDUCTIONMETHOD + "=" + _reductionMethod,
+				TDA.SETTING_APPLICATIONMODE + "=" + TDA.UI_APPLICATIONMODE_API,
+				TDA.SETTING_SUPPRESSALLOUTPUT + "=" + TDA.UI_SUPPRESSALLOUTPUT_YES } );
+
+		if ( !settings.validateRequiredData() || settings.wereThereProblems() ) {
+
+            throw new TdaException(
+                    TDA.ERROR_APP_USERINPUT,
+                    "(BenchmarkData) The benchmark settings are not valid." );
+		}
+
+		return settings;
+	}
+}
@@ -0,0 +1,111 @@
+/*
+ * Created October 2026
+ *
+ * This file is part of Topological Data Analysis
+ * edu.duke.math.tda
+ * Copyright (c) 2012-2014 by John Harer
+ * All rights reserved.
+ *
+ * License Info:
+ *
+ *
+ */
+package edu.duke.math.tda.benchmark;
+
+import java.io.File;
+import java.nio.file.Files;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import edu.duke.math.tda.structures.edgematrix.DistanceMatrix;
+import edu.duke.math.tda.structures.edgematrix.SparseMatrix;
+import edu.duke.math.tda.structures.pointcloud.PointCloudInRn;
+
+/**
+ * LoaderBenchmark measures loading the text forms of the input: a point cloud, a
+ * distance matrix and a sparse matrix
+ *
+ * <p><strong>Details:</strong> <br>
+ *
+ * The files are written (from the PipelineInput point cloud) to a temporary
+ * directory at the start of the trial, and deleted at its end.
+ *
+ * <p><strong>Change History:</strong> <br>
+ * Created October 2026
+ *
+ *
+ * @author Jurgen Sladeczek (hjs) <br>
+ * For the latest info, please visit www.math.duke.edu.
+ */
+@BenchmarkMode( Mode.AverageTime )
+@OutputTimeUnit( TimeUnit.MILLISECONDS )
+@Warmup( iterations = 3, time = 2 )
+@Measurement( iterations = 5, time = 2 )
+@Fork( 1 )
+public class LoaderBenchmark {
+
+	public static final String POINTCLOUDFILE = "pointCloud.txt";
+	public static final String DISTANCEMATRIXFILE = "distanceMatrix.txt";
+	public static final String SPARSEMATRIXFILE = "sparseMatrix.txt";
+
+	@State( Scope.Benchmark )
+	public static class InputFiles {
+
+		protected File directory_;
+
+		@Setup( Level.Trial )
+		public void setup( final PipelineInput _input ) throws Exception {
+
+			directory_ = Files.createTempDirectory( "tdaLoaderBenchmark" ).toFile();
+
+			BenchmarkData.writeRows( new File( directory_, POINTCLOUDFILE ),
+					_input.getPoints() );
+			BenchmarkData.writeRows( new File( directory_, DISTANCEMATRIXFILE ),
+					_input.getDistances() );
+			BenchmarkData.writeText( new File( directory_, SPARSEMATRIXFILE ),
+					_input.getPointCloud().asSparseMatrix(
+							_input.getMetric(), _input.getDistanceBound() ) );
+		}
+
+		@TearDown( Level.Trial )
+		public void tearDown() {
+
+			new File( directory_, POINTCLOUDFILE ).delete();
+			new File( directory_, DISTANCEMATRIXFILE ).delete();
+			new File( directory_, SPARSEMATRIXFILE ).delete();
+			directory_.delete();
+		}
+	}
+
+	@Benchmark
+	public PointCloudInRn loadPointCloud( final InputFiles _files ) throws Exception {
+
+		return new PointCloudInRn( _files.directory_.getPath(), POINTCLOUDFILE );
+	}
+
+	@Benchmark
+	public DistanceMatrix loadDistanceMatrix( final InputFiles _files ) throws Exception {
+
+		return new DistanceMatrix( _files.directory_.getPath(), DISTANCEMATRIXFILE );
+	}
+
+	@Benchmark
+	public SparseMatrix loadSparseMatrix( final PipelineInput _input,
+			final InputFiles _files ) throws Exception {
+
+		return new SparseMatrix( _files.directory_.getPath(), SPARSEMATRIXFILE,
+				_input.getSettings() );
+	}
+}
@@ -0,0 +1,169 @@
+/*
+ * Created October 2026
+ *
+ * This file is part of Topological Data Analysis
+ * edu.duke.math.tda
+ * Copyright (c) 2012-2014 by John Harer
+ * All rights reserved.
+ *
+ * License Info:
+ *
+ *
+ */
+package edu.duke.math.tda.benchmark;
+
+import java.io.File;
+
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import edu.duke.math.tda.structures.edgematrix.DistanceMatrix;
+import edu.duke.math.tda.structures.edgematrix.SparseMatrix;
+import edu.duke.math.tda.structures.metric.MetricFactory;
+import edu.duke.math.tda.structures.metric.MetricI;
+import edu.duke.math.tda.structures.pointcloud.PointCloudInRn;
+import edu.duke.math.tda.utility.TDA;
+import edu.duke.math.tda.utility.errorhandling.TdaException;
+import edu.duke.math.tda.utility.settings.Settings;
+
+/**
+ * PipelineInput is the (shared) JMH state of the pipeline benchmarks: one point
+ * cloud in each of the input forms, together with the settings and metric
+ *
+ * <p><strong>Details:</strong> <br>
+ *
+ * The JMH parameters (which can be overridden with -p name=value):
+ *   shape              uniform, circle, letter or handwriting
+ *   numberOfPoints     size of the synthetic clouds (ignored for handwriting)
+ *   image              the handwriting image (file name within handwritingDirectory)
+ *   groupSize          the block size for converting the image (as for imageToPointCloud.m)
+ *   distanceFraction   the distance bound on the edges, as a fraction of the diameter
+ *                      of the cloud (as for distLimit in findPersistences.m)
+ *   zpValue            0 for the Z2 implementation, p > 0 for Zp
+ *   reductionMethod    standard or pivotLookup
+ *
+ * <p><strong>Change History:</strong> <br>
+ * Created October 2026
+ *
+ *
+ * @author Jurgen Sladeczek (hjs) <br>
+ * For the latest info, please visit www.math.duke.edu.
+ */
+@State( Scope.Benchmark )
+public class PipelineInput {
+
+	@Param( { BenchmarkData.SHAPE_UNIFORM, BenchmarkData.SHAPE_CIRCLE,
+			BenchmarkData.SHAPE_LETTER, BenchmarkData.SHAPE_HANDWRITING } )
+	public String shape;
+
+	@Param( "400" )
+	public int numberOfPoints;
+
+	@Param( "HandwritingData" )
+	public String handwritingDirectory;
+
+	@Param( "A1.png" )
+	public String image;
+
+	@Param( "3" )
+	public int groupSize;
+
+	@Param( "0.2" )
+	public double distanceFraction;
+
+	@Param( { "0", "2" } )
+	public int zpValue;
+
+	@Param( TDA.UI_REDUCTIONMETHOD_STANDARD )
+	public String reductionMethod;
+
+	protected double[][] points_;
+	protected double[][] distances_;
+	protected double distanceBound_;
+	protected Settings settings_;
+	protected MetricI metric_;
+	protected PointCloudInRn pointCloud_;
+	protected DistanceMatrix distanceMatrix_;
+	protected SparseMatrix sparseMatrix_;
+
+	@Setup( Level.Trial )
+	public void setup() throws Exception {
+
+		if ( shape.equalsIgnoreCase( BenchmarkData.SHAPE_UNIFORM ) ) {
+
+			points_ = BenchmarkData.uniform( numberOfPoints, 2 );
+		}
+		else if ( shape.equalsIgnoreCase( BenchmarkData.SHAPE_CIRCLE ) ) {
+
+			points_ = BenchmarkData.circle( numberOfPoints );
+		}
+		else if ( shape.equalsIgnoreCase( BenchmarkData.SHAPE_LETTER ) ) {
+
+			points_ = BenchmarkData.letter( numberOfPoints );
+		}
+		else if ( shape.equalsIgnoreCase( BenchmarkData.SHAPE_HANDWRITING ) ) {
+
+			points_ = BenchmarkData.fromImage(
+					new File( handwritingDirectory, image ), groupSize );
+		}
+		else {
+
+            throw new TdaException(
+                    TDA.ERROR_APP_USERINPUT,
+                    "(PipelineInput) Unknown shape '" + shape + "'." );
+		}
+
+		distances_ = BenchmarkData.distanceMatrix( points_ );
+		distanceBound_ = distanceFraction * BenchmarkData.diameter( distances_ );
+
+		settings_ = BenchmarkData.createSettings( distanceBound_, zpValue, reductionMethod );
+		metric_ = new MetricFactory( settings_ ).getMetric();
+
+		pointCloud_ = new PointCloudInRn( points_ );
+		distanceMatrix_ = new DistanceMatrix( distances_ );
+		sparseMatrix_ = pointCloud_.asSparseMatrix( metric_, distanceBound_, settings_ );
+	}
+
+	public double[][] getPoints() {
+
+		return points_;
+	}
+
+	public double[][] getDistances() {
+
+		return distances_;
+	}
+
+	public double getDistanceBound() {
+
+		return distanceBound_;
+	}
+
+	public Settings getSettings() {
+
+		return settings_;
+	}
+
+	public MetricI getMetric() {
+
+		return metric_;
+	}
+
+	public PointCloudInRn getPointCloud() {
+
+		return pointCloud_;
+	}
+
+	public DistanceMatrix getDistanceMatrix() {
+
+		return distanceMatrix_;
+	}
+
+	public SparseMatrix getSparseMatrix() {
+
+		return sparseMatrix_;
+	}
+}
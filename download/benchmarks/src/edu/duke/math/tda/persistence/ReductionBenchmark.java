@@ -0,0 +1,124 @@
+/*
+ * Created October 2026
+ *
+ * This file is part of Topological Data Analysis
+ * edu.duke.math.tda
+ * Copyright (c) 2012-2014 by John Harer
+ * All rights reserved.
+ *
+ * License Info:
+ *
+ *
+ */
+package edu.duke.math.tda.persistence;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import edu.duke.math.tda.benchmark.PipelineInput;
+import edu.duke.math.tda.structures.RipsToPersistence;
+
+/**
+ * ReductionBenchmark measures the reduction of the M01, M12 and M12ref matrices
+ *
+ * <p><strong>Details:</strong> <br>
+ *
+ * The reduction implementation is picked by the PipelineInput parameters, the same
+ * way as for a task: zpValue=0 selects the Z2 implementation, and zpValue=p (p > 0)
+ * the Zp one (with p=2, both compute the same intervals, so their times can be
+ * compared directly); reductionMethod=pivotLookup selects the pivot lookup variants.
+ *
+ * A reduction works in place, so each invocation gets a freshly computed matrix;
+ * computing the matrix is not part of the measurement.
+ *
+ * <p><strong>Change History:</strong> <br>
+ * Created October 2026
+ *
+ *
+ * @author Jurgen Sladeczek (hjs) <br>
+ * For the latest info, please visit www.math.duke.edu.
+ */
+@BenchmarkMode( Mode.AverageTime )
+@OutputTimeUnit( TimeUnit.MILLISECONDS )
+@Warmup( iterations = 3, time = 2 )
+@Measurement( iterations = 5, time = 2 )
+@Fork( 1 )
+public class ReductionBenchmark {
+
+	@State( Scope.Thread )
+	public static class MatrixM01 {
+
+		protected M01PersistenceMatrix matrix_;
+
+		@Setup( Level.Invocation )
+		public void setup( final PipelineInput _input ) throws Exception {
+
+			matrix_ = new RipsToPersistence( _input.getDistanceMatrix(),
+					_input.getMetric(), _input.getDistanceBound(),
+					_input.getSettings() ).computeMatrixM01();
+		}
+	}
+
+	@State( Scope.Thread )
+	public static class MatrixM12 {
+
+		protected M12PersistenceMatrix matrix_;
+
+		@Setup( Level.Invocation )
+		public void setup( final PipelineInput _input ) throws Exception {
+
+			matrix_ = new RipsToPersistence( _input.getPointCloud(),
+					_input.getMetric(), _input.getDistanceBound(),
+					_input.getSettings() ).computeMatrixM12();
+		}
+	}
+
+	@State( Scope.Thread )
+	public static class MatrixM12ref {
+
+		protected M12PersistenceMatrix matrix_;
+
+		@Setup( Level.Invocation )
+		public void setup( final PipelineInput _input ) throws Exception {
+
+			matrix_ = new RipsToPersistence( _input.getPointCloud(),
+					_input.getMetric(), _input.getDistanceBound(),
+					_input.getSettings() ).computeMatrixM12ref();
+		}
+	}
+
+	@Benchmark
+	public PersistenceMatrix reduceM01( final MatrixM01 _m01 ) {
+
+		_m01.matrix_.reduce();
+
+		return _m01.matrix_;
+	}
+
+	@Benchmark
+	public PersistenceMatrix reduceM12( final MatrixM12 _m12 ) {
+
+		_m12.matrix_.reduce();
+
+		return _m12.matrix_;
+	}
+
+	@Benchmark
+	public PersistenceMatrix reduceM12ref( final MatrixM12ref _m12ref ) {
+
+		_m12ref.matrix_.reduce();
+
+		return _m12ref.matrix_;
+	}
+}
@@ -0,0 +1,142 @@
+/*
+ * Created October 2026
+ *
+ * This file is part of Topological Data Analysis
+ * edu.duke.math.tda
+ * Copyright (c) 2012-2014 by John Harer
+ * All rights reserved.
+ *
+ * License Info:
+ *
+ *
+ */
+package edu.duke.math.tda.structures;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import edu.duke.math.tda.benchmark.PipelineInput;
+import edu.duke.math.tda.persistence.M01PersistenceMatrix;
+import edu.duke.math.tda.persistence.M12PersistenceMatrix;
+
+/**
+ * RipsToPersistenceBenchmark measures the steps of RipsToPersistence: computing the
+ * edges (for each input form), the union-find, and setting up the M01, M12 and
+ * M12ref matrices
+ *
+ * <p><strong>Details:</strong> <br>
+ *
+ * The benchmark lives in the package of RipsToPersistence, so it can call the
+ * (protected) computeEdges methods directly.
+ *
+ * applyUnionFind and the computeMatrix methods change the state of the
+ * RipsToPersistence object (e.g., the union-find adds its intervals to the results),
+ * so each of their invocations gets a freshly constructed object; the construction
+ * is not part of the measurement.
+ *
+ * <p><strong>Change History:</strong> <br>
+ * Created October 2026
+ *
+ *
+ * @author Jurgen Sladeczek (hjs) <br>
+ * For the latest info, please visit www.math.duke.edu.
+ */
+@BenchmarkMode( Mode.AverageTime )
+@OutputTimeUnit( TimeUnit.MILLISECONDS )
+@Warmup( iterations = 3, time = 2 )
+@Measurement( iterations = 5, time = 2 )
+@Fork( 1 )
+public class RipsToPersistenceBenchmark {
+
+	// An object built from the point cloud (as for the M12 tasks), for reuse by
+	// the computeEdges benchmarks
+	@State( Scope.Benchmark )
+	public static class SharedRips {
+
+		protected RipsToPersistence rips_;
+
+		@Setup( Level.Trial )
+		public void setup( final PipelineInput _input ) throws Exception {
+
+			rips_ = new RipsToPersistence( _input.getPointCloud(),
+					_input.getMetric(), _input.getDistanceBound(), _input.getSettings() );
+		}
+	}
+
+	// A fresh object for every invocation; the M01 matrix needs the distance
+	// matrix form of the input (as for the RCA1 task)
+	@State( Scope.Thread )
+	public static class FreshRips {
+
+		protected RipsToPersistence ripsFromPointCloud_;
+		protected RipsToPersistence ripsFromDistanceMatrix_;
+
+		@Setup( Level.Invocation )
+		public void setup( final PipelineInput _input ) throws Exception {
+
+			ripsFromPointCloud_ = new RipsToPersistence( _input.getPointCloud(),
+					_input.getMetric(), _input.getDistanceBound(), _input.getSettings() );
+			ripsFromDistanceMatrix_ = new RipsToPersistence( _input.getDistanceMatrix(),
+					_input.getMetric(), _input.getDistanceBound(), _input.getSettings() );
+		}
+	}
+
+	@Benchmark
+	public List<EdgeI> computeEdgesPointCloud( final PipelineInput _input,
+			final SharedRips _shared ) throws Exception {
+
+		return _shared.rips_.computeEdges( _input.getPointCloud() );
+	}
+
+	@Benchmark
+	public List<EdgeI> computeEdgesDistanceMatrix( final PipelineInput _input,
+			final SharedRips _shared ) throws Exception {
+
+		return _shared.rips_.computeEdges( _input.getDistanceMatrix() );
+	}
+
+	@Benchmark
+	public List<EdgeI> computeEdgesSparseMatrix( final PipelineInput _input,
+			final SharedRips _shared ) throws Exception {
+
+		return _shared.rips_.computeEdges( _input.getSparseMatrix() );
+	}
+
+	@Benchmark
+	public RipsToPersistence applyUnionFind( final FreshRips _fresh ) throws Exception {
+
+		_fresh.ripsFromPointCloud_.applyUnionFind();
+
+		return _fresh.ripsFromPointCloud_;
+	}
+
+	@Benchmark
+	public M01PersistenceMatrix computeMatrixM01( final FreshRips _fresh ) throws Exception {
+
+		return _fresh.ripsFromDistanceMatrix_.computeMatrixM01();
+	}
+
+	@Benchmark
+	public M12PersistenceMatrix computeMatrixM12( final FreshRips _fresh ) throws Exception {
+
+		return _fresh.ripsFromPointCloud_.computeMatrixM12();
+	}
+
+	@Benchmark
+	public M12PersistenceMatrix computeMatrixM12ref( final FreshRips _fresh ) throws Exception {
+
+		return _fresh.ripsFromPointCloud_.computeMatrixM12ref();
+	}
+}
@@ -0,0 +1,168 @@
+/*
+ * Created October 2026
+ *
+ * This file is part of Topological Data Analysis
+ * edu.duke.math.tda
+ * Copyright (c) 2012-2014 by John Harer
+ * All rights reserved.
+ *
+ * License Info:
+ *
+ *
+ */
+package edu.duke.math.tda.structures;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * UnionFindBenchmark measures the 0-dim. union-find on chain-shaped input, i.e.,
+ * an edge order for which a union-find without path compression and union by rank
+ * ends up walking a long chain to the root
+ *
+ * <p><strong>Details:</strong> <br>
+ *
+ * The birth values decrease with the vertex index, so that by the elder rule every
+ * union makes the newly joined vertex the elder of the component, and the edges
+ * are (0,1), (0,2), ..., (0,n-1).
+ *
+ * With the root walk that RipsToPersistence.applyUnionFind used before the
+ * UnionFind class (the surviving elder always becomes the root), this builds a
+ * single chain 0 -> 1 -> ... -> n-1, and the walk from vertex 0 for edge (0,i)
+ * takes i-1 steps. The rootWalk benchmark keeps that code as the reference for
+ * unionFind.
+ *
+ * Each invocation works on freshly initialized arrays (set up outside the
+ * measurement for rootWalk; the UnionFind constructor is part of the measurement,
+ * as it is for applyUnionFind).
+ *
+ * <p><strong>Change History:</strong> <br>
+ * Created October 2026
+ *
+ *
+ * @author Jurgen Sladeczek (hjs) <br>
+ * For the latest info, please visit www.math.duke.edu.
+ */
+@BenchmarkMode( Mode.AverageTime )
+@OutputTimeUnit( TimeUnit.MILLISECONDS )
+@Warmup( iterations = 3, time = 2 )
+@Measurement( iterations = 5, time = 2 )
+@Fork( 1 )
+public class UnionFindBenchmark {
+
+	@State( Scope.Benchmark )
+	public static class ChainInput {
+
+		@Param( { "10000", "50000", "100000" } )
+		public int numberOfVertices;
+
+		protected double[] birthValues_;
+		protected int[] vertexIndex1_;
+		protected int[] vertexIndex2_;
+
+		@Setup( Level.Trial )
+		public void setup() {
+
+			birthValues_ = new double[ numberOfVertices ];
+			vertexIndex1_ = new int[ numberOfVertices-1 ];
+			vertexIndex2_ = new int[ numberOfVertices-1 ];
+
+			for ( int i=0; i<numberOfVertices; i++ ) {
+
+				birthValues_[ i ] = numberOfVertices - i;
+			}
+
+			for ( int i=0; i<numberOfVertices-1; i++ ) {
+
+				vertexIndex1_[ i ] = 0;
+				vertexIndex2_[ i ] = i+1;
+			}
+		}
+	}
+
+	// The parent array for the root walk, reset for every invocation
+	@State( Scope.Thread )
+	public static class RootWalkState {
+
+		protected int[] U_;
+
+		@Setup( Level.Invocation )
+		public void setup( final ChainInput _input ) {
+
+			if ( U_ == null || U_.length != _input.numberOfVertices ) {
+
+				U_ = new int[ _input.numberOfVertices ];
+			}
+
+			for ( int i=0; i<U_.length; i++ ) {
+
+				U_[ i ] = i;
+			}
+		}
+	}
+
+	@Benchmark
+	public int unionFind( final ChainInput _input ) {
+
+		final UnionFind unionFind = new UnionFind(
+				_input.numberOfVertices, _input.birthValues_ );
+		int dyingElders = 0;
+
+		for ( int i=0; i<_input.vertexIndex1_.length; i++ ) {
+
+			dyingElders += unionFind.union(
+					_input.vertexIndex1_[ i ], _input.vertexIndex2_[ i ] );
+		}
+
+		return dyingElders;
+	}
+
+	// The union-find of applyUnionFind before the UnionFind class (without the
+	// bookkeeping of the edges and components)
+	@Benchmark
+	public int rootWalk( final ChainInput _input, final RootWalkState _state ) {
+
+		final double[] diag = _input.birthValues_;
+		final int[] U = _state.U_;
+		int dyingElders = 0;
+		int a;
+		int b;
+
+		for ( int i=0; i<_input.vertexIndex1_.length; i++ ) {
+
+			a = _input.vertexIndex1_[ i ];
+			b = _input.vertexIndex2_[ i ];
+
+			while ( U[ a ] != a ) { a = U[ a ]; }
+			while ( U[ b ] != b ) { b = U[ b ]; }
+
+			if ( a != b ) {
+
+				if ( diag[ a ] < diag[ b ] || ( diag[ a ] == diag[ b ] && a < b ) ) {
+
+					U[ b ] = a;
+					dyingElders += b;
+				}
+				else {
+
+					U[ a ] = b;
+					dyingElders += a;
+				}
+			}
+		}
+
+		return dyingElders;
+	}
+}
@@ -68,6 +68,7 @@ public class AlgorithmM12ref extends Task {
 	protected String strDistanceMatrixFromString_ = new String();
 	protected String strSparseMatrixFromString_ = new String();
 	protected String strDataLoadedAsArray_ = new String();
+	protected double[][] dataLoadedAsArray_;
 	protected String strLocalPointsFile_ = new String();
 	protected String strInputDirectory_ = new String();
 	protected String strOutputDirectory_ = new String();
@@ -133,6 +134,7 @@ public class AlgorithmM12ref extends Task {
 		   	
     	String strSettingChoice;
     	String strSupplyDataAs;
+    	int switchToOffHeapAt;
     	
     	// kludge for latest workflow LPH adaption (original data format supplied via
     	// settings file, but M12 will require the use use of distance matrix input)
@@ -203,6 +205,13 @@ public class AlgorithmM12ref extends Task {
     			TDA.SETTING_DATALOADEDASARRAY );
     	strDataLoadedAsArray_ = strSettingChoice;
     	
+    	// hjs 10/18/2026 Size above which a distance matrix is stored off-heap
+    	switchToOffHeapAt = Integer.parseInt( processData_.getValidatedProcessParameter( 
+    			TDA.SETTING_SWITCHTOOFFHEAPAT ) );
+    	
+    	// hjs 10/18/2026 Data handed in as an array (api) takes precedence
+    	dataLoadedAsArray_ = processData_.getDataLoadedAsArray();
+    	
     	
     	strSupplyDataAs = processData_.getDynamicProcessParameter( 
     			TDA.DATA_SUPPLYDATAAS );
@@ -216,7 +225,11 @@ public class AlgorithmM12ref extends Task {
     		}
     		
         	// code for point cloud
-        	if ( strPointCloudFromString_.length() > 0 ) {
+        	if ( dataLoadedAsArray_ != null ) {
+        		
+        		pointCloud_ = new PointCloudInRn( dataLoadedAsArray_ );
+        	}
+        	else if ( strPointCloudFromString_.length() > 0 ) {
         		
         		pointCloud_ = new PointCloudInRn( strPointCloudFromString_ );
         	}
@@ -236,18 +249,46 @@ public class AlgorithmM12ref extends Task {
     			strDistanceMatrixFromString_ = strDataLoadedAsArray_;
     		}
     		    		
-        	if ( strDistanceMatrixFromString_.length() > 0 ) {
+        	if ( dataLoadedAsArray_ != null ) {
+        		
+        		distanceMatrix_ = new DistanceMatrix( dataLoadedAsArray_ );
+        	}
+        	else if ( strDistanceMatrixFromString_.length() > 0 ) {
         		
 
-        		distanceMatrix_ = new DistanceMatrix( strDistanceMatrixFromString_ );        		
+        		distanceMatrix_ = new DistanceMatrix( strDistanceMatrixFromString_, 
+        				switchToOffHeapAt );        		
         	}
         	else {
 
-        		distanceMatrix_ = new DistanceMatrix( strInputDirectory_, strPointCloudFile_ );
+        		distanceMatrix_ = new DistanceMatrix( strInputDirectory_, strPointCloudFile_, 
+        				switchToOffHeapAt );
         	}
         	
 			edgeList_ = new RipsToPersistence( distanceMatrix_, metric_, distanceBound_, processData_ );
     	}
+    	else if ( strSupplyDataAs.equalsIgnoreCase( TDA.UI_SUPPLYDATAAS_BINARY )) {
+    		
+    		// hjs 10/18/2026 The header of the binary file tells us the type of the data
+    		BinaryDataFile binaryDataFile = 
+    				new BinaryDataFile( strInputDirectory_, strPointCloudFile_ );
+    		
+    		if ( binaryDataFile.getDataType() == BinaryDataFile.DATATYPE_POINTCLOUD ) {
+    			
+    			pointCloud_ = binaryDataFile.loadPointCloud();
+    			edgeList_ = new RipsToPersistence( pointCloud_, metric_, distanceBound_, processData_ );
+    		}
+    		else if ( binaryDataFile.getDataType() == BinaryDataFile.DATATYPE_DISTANCEMATRIX ) {
+    			
+    			distanceMatrix_ = binaryDataFile.loadDistanceMatrix();
+    			edgeList_ = new RipsToPersistence( distanceMatrix_, metric_, distanceBound_, processData_ );
+    		}
+    		else {
+    			
+    			sparseMatrix_ = binaryDataFile.loadSparseMatrix( processData_ );
+    			edgeList_ = new RipsToPersistence( sparseMatrix_, metric_, distanceBound_, processData_ );
+    		}
+    	}
     	else if ( strSupplyDataAs.equalsIgnoreCase( TDA.UI_SUPPLYDATAAS_SPARSEMATRIX ) || 
     			strSupplyDataAs.equalsIgnoreCase( TDA.UI_SUPPLYDATAAS_SPARSEMATRIX2 ) ) {
     		
@@ -257,7 +298,11 @@ public class AlgorithmM12ref extends Task {
     			strSparseMatrixFromString_ = strDataLoadedAsArray_;
     		}
     		
-        	if ( strSparseMatrixFromString_.length() > 0 ) {
+        	if ( dataLoadedAsArray_ != null ) {
+        		
+        		sparseMatrix_ = new SparseMatrix( dataLoadedAsArray_, processData_ );
+        	}
+        	else if ( strSparseMatrixFromString_.length() > 0 ) {
         		
 
         		sparseMatrix_ = new SparseMatrix( strSparseMatrixFromString_, processData_ );        		
@@ -269,6 +314,16 @@ public class AlgorithmM12ref extends Task {
         	
 			edgeList_ = new RipsToPersistence( sparseMatrix_, metric_, distanceBound_, processData_ );
     	}
+    	
+    	// hjs 10/18/2026 Save the loaded data in the binary format, if requested
+    	if ( processData_.getValidatedProcessParameter( 
+    			TDA.SETTING_CONVERTDATATOBINARYFORMAT ).equalsIgnoreCase( 
+    					TDA.UI_CONVERTDATATOBINARYFORMAT_YES ) ) {
+    		
+    		BinaryDataFile.writeData( strOutputDirectory_, 
+    				processData_.getValidatedProcessParameter( TDA.SETTING_BINARYDATAFILEOUTPUT ),
+    				pointCloud_, distanceMatrix_, sparseMatrix_ );
+    	}
 	}
 
     public void executeTask() throws Exception {
@@ -348,8 +403,9 @@ public class AlgorithmM12ref extends Task {
 	    	strBufCollectedFeedback.append( "\nDistance bound on edges = " 
 	    			+ edgeList_.getDistanceBound() );
 	    	
-	    	if ( processData_.getValidatedProcessParameter( TDA.SETTING_SUPPLYDATAAS )
-	    			.equalsIgnoreCase( TDA.UI_SUPPLYDATAAS_POINTCLOUD ) 
+	    	// hjs 10/18/2026 The point cloud may also come from a binary file
+	    	if ( ( processData_.getValidatedProcessParameter( TDA.SETTING_SUPPLYDATAAS )
+	    			.equalsIgnoreCase( TDA.UI_SUPPLYDATAAS_POINTCLOUD ) || pointCloud_ != null )
 	    			&& pointCloud_.getPointDimension() != TDA.UNKNOWNPOINTDIMENSION ) {
 	    	
 	    		strBufCollectedFeedback.append( "\nDimension of points  = " 
@@ -729,6 +785,7 @@ public class AlgorithmM12ref extends Task {
         validValues.add( TDA.UI_SUPPLYDATAAS_SPARSEMATRIX );
         validValues.add( TDA.UI_SUPPLYDATAAS_SPARSEMATRIX2 );
         validValues.add( TDA.UI_SUPPLYDATAAS_OBJECT );
+        validValues.add( TDA.UI_SUPPLYDATAAS_BINARY );
         validationType = TDA.VALIDATIONTYPE_OPTIONAL;
         settingItem = processData_.processSetting( settingNameCanonical, 
                 settingNameDescriptive,
@@ -814,6 +871,28 @@ public class AlgorithmM12ref extends Task {
             
             isDataValid = false;
         }
+
+        // Validate the 'reduction method'
+        settingNameCanonical = TDA.SETTING_REDUCTIONMETHOD;
+        settingNameDescriptive = TDA.SETTING_REDUCTIONMETHOD_DESCR;
+        settingNameForDisplay = TDA.SETTING_REDUCTIONMETHOD_DISP;
+        settingDataType = TDA.VALIDATION_DATATYPE_STRING;
+        validValues.clear();
+        validValues.add( TDA.UI_REDUCTIONMETHOD_STANDARD );
+        validValues.add( TDA.UI_REDUCTIONMETHOD_PIVOTLOOKUP );
+        validationType = TDA.VALIDATIONTYPE_OPTIONAL;
+        settingItem = processData_.processSetting( settingNameCanonical, 
+                settingNameDescriptive,
+                settingNameForDisplay,
+                settingDataType,
+                validationType,
+                validValues,
+                TDA.DEFAULT_REDUCTIONMETHOD );
+        
+        if ( !settingItem.isValidSetting() ) {
+            
+            isDataValid = false;
+        }
 	        
 //	        if ( settingItem.isValidSetting() ) {
 //	
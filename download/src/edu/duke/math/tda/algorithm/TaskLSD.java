@@ -12,19 +12,30 @@
  */
 package edu.duke.math.tda.algorithm;
 
+import java.io.File;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Deque;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 import edu.duke.math.tda.structures.RipsToPersistence;
 import edu.duke.math.tda.structures.PointRn;
 import edu.duke.math.tda.structures.PointRnLocal;
 import edu.duke.math.tda.structures.edgematrix.EdgeMatrixAsMultiDimArray;
 import edu.duke.math.tda.structures.edgematrix.EdgeMatrixI;
-import edu.duke.math.tda.structures.metric.MetricFactory;
 import edu.duke.math.tda.structures.metric.MetricI;
+import edu.duke.math.tda.structures.pointcloud.ParallelEdgeBuilder;
 import edu.duke.math.tda.structures.pointcloud.PointCloudInRn;
+import edu.duke.math.tda.structures.pointcloud.SpatialIndex;
+import edu.duke.math.tda.structures.pointcloud.SpatialIndexI;
+import edu.duke.math.tda.structures.results.LsdMatrixSinkI;
 import edu.duke.math.tda.structures.results.ResultsContainerI;
 import edu.duke.math.tda.utility.TDA;
 import edu.duke.math.tda.utility.StringUtil;
@@ -52,8 +63,24 @@ public class TaskLSD extends Task {
 	RipsToPersistence edgeList_;      
 	double distanceBound_;               
 	double radius_;
+	
+	// hjs 10/18/2026 Spatial index for the distance-bounded neighbor search
+	SpatialIndexI spatialIndex_;
+	PointCloudInRn indexedPointCloud_;
+	MetricI indexedMetric_;
+	double indexedDistanceBound_;
+	
+	// hjs 10/18/2026 Center points for the multi-center mode, which computes the
+	// LSD matrix of each center point's neighborhood in one pass
+	PointCloudInRn centerPoints_;
+	// takes the LSD matrices one at a time (supplied via the api)
+	LsdMatrixSinkI lsdMatrixSink_;
+	boolean apiMode_;
+	boolean runningInEclipse_;
 		
 	String strPointCloudFile_ = new String();
+	String strCenterPointsFile_ = new String();
+	String strLsdMatricesFile_ = new String();
 	String strInputDirectory_ = new String();
 	String strOutputDirectory_ = new String();
 	String strIntervalsFile_ = new String();
@@ -114,6 +141,12 @@ public class TaskLSD extends Task {
 		boolean suppressAllOutput = processData_.getValidatedProcessParameter( 
 				TDA.SETTING_SUPPRESSALLOUTPUT ).
 				equalsIgnoreCase( TDA.UI_SUPPRESSALLOUTPUT_YES );
+		
+		if ( centerPoints_ != null ) {
+			
+			computeLocalSphericalDistanceMatrices( radius, suppressAllOutput );
+			return;
+		}
     	
     	localNeighborhood =	computeLocalNeighborhoodsByDistance(  
 	    			pointCloud_, 
@@ -162,6 +195,128 @@ public class TaskLSD extends Task {
     	}
 	}
 
+	/*
+	 * Multi-center mode: compute the neighborhood and the LSD matrix for each of the
+	 * center points, on a pool of worker threads (as set by the 'threads' setting).
+	 * The spatial index of the point cloud is set up once and shared by all centers.
+	 * The matrices are handed on (written to the LSD matrices file, when not in api
+	 * mode, and passed to the LSD matrix sink, if there is one) in the order of the 
+	 * center points, as soon as they become available. Only a limited number of 
+	 * matrices (2 per thread) is computed ahead of the one that is handed on next, 
+	 * so memory use doesn't grow with the number of center points.
+	 */
+	protected void computeLocalSphericalDistanceMatrices( 
+			final double _radius,
+			final boolean _suppressAllOutput ) throws Exception {
+
+		final int numberOfCenterPoints = centerPoints_.getNumberOfPoints();
+		final int numberOfThreads = Math.min( 
+				ParallelEdgeBuilder.getNumberOfThreads( processData_ ), 
+				Math.max( 1, numberOfCenterPoints ) );
+		final int maxMatricesInFlight = 2* numberOfThreads;
+		final Deque<Future<EdgeMatrixAsMultiDimArray>> pendingMatrices = 
+				new ArrayDeque<Future<EdgeMatrixAsMultiDimArray>>( maxMatricesInFlight );
+		final boolean writeToFile = runningInEclipse_ || !apiMode_;
+		final String strFileName = strOutputDirectory_ + File.separator + strLsdMatricesFile_;
+		EdgeMatrixAsMultiDimArray distanceMatrix;
+		double[][] edgeLengths;
+		ExecutorService workerPool;
+		int numberOfSubmittedCenterPoints = 0;
+		
+    	if ( !_suppressAllOutput ) {
+    		
+	    	System.out.println( "------------------------------------------------- " );
+	    	System.out.println( TDA.APPLICATION_NAME + ": Computing " + TDA.UI_TASK_LSD );
+	    	System.out.println( "------------------------------------------------- " );
+		
+	    	System.out.println( "\nNumber of center points = " + numberOfCenterPoints );
+	    	System.out.println( "Radius = " + _radius );
+    	}
+		
+		// Set up the spatial index up front, so the workers only read it
+		getSpatialIndex( pointCloud_, metric_, 2* _radius );
+		
+		if ( writeToFile ) {
+			
+	    	this.processData_.writeStringToFile( strFileName, 
+	    			"# LSD matrices (radius = " + _radius + ") for " + 
+	    			numberOfCenterPoints + " center points", false, false );
+		}
+		
+		workerPool = Executors.newFixedThreadPool( numberOfThreads );
+		
+		try {
+			
+			for ( int i=0; i<numberOfCenterPoints; i++ ) {
+				
+				// keep the workers busy, up to the limit of matrices in flight
+				while ( numberOfSubmittedCenterPoints < numberOfCenterPoints && 
+						pendingMatrices.size() < maxMatricesInFlight ) {
+					
+					final PointRn centerPoint = 
+							centerPoints_.getPoint( numberOfSubmittedCenterPoints );
+					
+					pendingMatrices.addLast( workerPool.submit( 
+							new Callable<EdgeMatrixAsMultiDimArray>() {
+						
+						public EdgeMatrixAsMultiDimArray call() throws Exception {
+							
+							PointCloudInRn localNeighborhood = 
+									computeLocalNeighborhoodsByDistance( pointCloud_, 
+											centerPoint, metric_, 2* _radius );
+							
+							return ( EdgeMatrixAsMultiDimArray ) 
+									computeLocalSphericalDistanceMatrix( 
+											localNeighborhood, centerPoint, _radius );
+						}
+					} ) );
+					numberOfSubmittedCenterPoints++;
+				}
+				
+				try {
+					
+					distanceMatrix = pendingMatrices.removeFirst().get();
+				}
+				catch ( ExecutionException e ) {
+					
+					if ( e.getCause() instanceof Exception ) {
+						
+						throw ( Exception ) e.getCause();
+					}
+					throw e;
+				}
+				
+				edgeLengths = distanceMatrix.getEdgeLengths();
+				
+		    	if ( !_suppressAllOutput ) {
+		    		
+			    	System.out.println( "Center point #" + (i+1) + 
+			    			": number of points = " + edgeLengths.length );
+		    	}
+				
+				if ( writeToFile ) {
+					
+			    	this.processData_.writeStringToFile( strFileName, 
+			    			"\n# center point #" + (i+1) + ": " + 
+			    			centerPoints_.getPoint( i ).asStringBasicTab() + 
+			    			"\n# number of points in neighborhood: " + 
+			    			edgeLengths.length + "\n" +
+			    			distanceMatrix.toString(), false, true );
+				}
+				
+				if ( lsdMatrixSink_ != null ) {
+					
+					lsdMatrixSink_.addLsdMatrix( i, 
+							centerPoints_.getPoint( i ).getCoordinates(), edgeLengths );
+				}
+			}
+		}
+		finally {
+			
+			workerPool.shutdownNow();
+		}
+	}
+
 	public EdgeMatrixI computeLocalSphericalDistanceMatrix( 
 			final PointCloudInRn _pointCloud,
 			final PointRn _centerPoint,
@@ -172,8 +327,9 @@ public class TaskLSD extends Task {
     		System.out.println( "PC in computeLSD\n" + _pointCloud.asString() );
 		}
 
-		MetricFactory metricFactory = new MetricFactory( processData_ );
-		MetricI _metric = metricFactory.getMetric();
+		// hjs 10/18/2026 Use the task's metric: a new MetricFactory would validate
+		// the metric settings again, which isn't safe on the multi-center workers
+		MetricI _metric = metric_;
 		
     	// Load the coordinates of the anchor point
     	PointRn z = _centerPoint;
@@ -858,6 +1014,48 @@ public class TaskLSD extends Task {
     }
 
 
+	// Get the indices of the points that may lie within the distance bound of the
+	// center point, or null when all points need to be checked. The spatial index 
+	// is kept for subsequent calls on the same point cloud and distance bound.
+	protected int[] getCandidatePoints( 
+			final PointCloudInRn _pointCloud, 
+    		final PointRn _centerPoint,
+    		final MetricI _metric, 
+    		final double _distanceBound ) throws Exception {
+		
+		SpatialIndexI spatialIndex = 
+				getSpatialIndex( _pointCloud, _metric, _distanceBound );
+		
+		if ( spatialIndex == null || 
+				_centerPoint.getDimension() != spatialIndex.getDimension() ) {
+			
+			return null;
+		}
+		
+		return spatialIndex.findCandidates( 
+				_centerPoint.getCoordinates(), _distanceBound, -1 );
+	}
+	
+	// Get the spatial index for the point cloud, metric and distance bound (only
+	// set up anew when one of them changes)
+	protected synchronized SpatialIndexI getSpatialIndex( 
+			final PointCloudInRn _pointCloud, 
+    		final MetricI _metric, 
+    		final double _distanceBound ) throws Exception {
+		
+		if ( _pointCloud != indexedPointCloud_ || _metric != indexedMetric_ ||
+				_distanceBound != indexedDistanceBound_ ) {
+			
+			spatialIndex_ = SpatialIndex.createSpatialIndex( 
+					_pointCloud.getPoints(), _metric, _distanceBound );
+			indexedPointCloud_ = _pointCloud;
+			indexedMetric_ = _metric;
+			indexedDistanceBound_ = _distanceBound;
+		}
+		
+		return spatialIndex_;
+	}
+
 	public PointCloudInRn computeLocalNeighborhoodsByDistance( 
 			final PointCloudInRn _pointCloud, 
     		final PointRn _centerPoint,
@@ -868,6 +1066,12 @@ public class TaskLSD extends Task {
     	PointRn p2;
     	double distanceBetweenPoints;
     	int numberOfPointsInPointCloud;
+    	int[] candidates;
+    	int numberOfCandidates;
+    	int pointIndex;
+    	double[] flatCoordinates;
+    	double[] centerCoordinates;
+    	int dimension;
 
     	PointCloudInRn neighborhoodPoints = new PointCloudInRn();
     	
@@ -876,7 +1080,8 @@ public class TaskLSD extends Task {
     	StringBuffer strBufCollectFeedback =
 			new StringBuffer( TDA.BUFFERLENGTH_SMALL );
 
-		startTime_ = System.currentTimeMillis();
+		// hjs 10/18/2026 Local, since the multi-center workers run this concurrently
+		final long startTime = System.currentTimeMillis();
     	
     	allPoints = _pointCloud.getPoints();
     	numberOfPointsInPointCloud = allPoints.size();
@@ -896,12 +1101,30 @@ public class TaskLSD extends Task {
     		
     		
     		
+    		// hjs 10/18/2026 Only look at the candidates from the spatial index
+    		// (when we can use one); they are listed in increasing point order
+    		candidates = getCandidatePoints( _pointCloud, p1, _metric, _distanceBound );
+    		numberOfCandidates = ( candidates == null ) ? 
+    				numberOfPointsInPointCloud : candidates.length;
+    		
+    		// hjs 10/18/2026 Use the metric's bounded flat kernel on the point cloud's
+    		// coordinate array when the center point has the common dimension
+    		flatCoordinates = _pointCloud.getFlatCoordinates();
+    		dimension = _pointCloud.getFlatCoordinatesDimension();
+    		centerCoordinates = p1.getCoordinates();
+    		if ( centerCoordinates.length != dimension ) flatCoordinates = null;
+    		
     		// We need to start comparing at 0, because we are not comparing
     		// within the same set
-    		for ( int j=0; j<numberOfPointsInPointCloud; j++ ) {
+    		for ( int c=0; c<numberOfCandidates; c++ ) {
     			
-    	    	p2 = allPoints.get( j );
-    	    	distanceBetweenPoints = _metric.computeDistance( p1, p2 );
+    			pointIndex = ( candidates == null ) ? c : candidates[ c ];
+    	    	p2 = allPoints.get( pointIndex );
+    	    	distanceBetweenPoints = ( flatCoordinates != null ) ?
+    	    			_metric.computeDistanceWithinBound( centerCoordinates, 0, 
+    	    					flatCoordinates, pointIndex*dimension, dimension, 
+    	    					_distanceBound ) :
+    	    			_metric.computeDistance( p1, p2 );
     	    	
     	    	// Omit the point itself if we encounter it, by enforcing the 
     	    	// distance to be >0
@@ -958,6 +1181,8 @@ public class TaskLSD extends Task {
         	if ( TDA.DEBUG  && TDA.TRACE_COMPUTELSD ) {
         	
         		System.out.println( strListOfPoints );
+        		System.out.println( "Local neighborhood computed in " + 
+        				( System.currentTimeMillis() - startTime ) + " ms" );
         	}
 
         	String strFileName = "nearestPoints_";
@@ -981,11 +1206,6 @@ public class TaskLSD extends Task {
     			TDA.SETTING_RADIUSFORLOCALNEIGHBORHOOD );
     	radius_ = Double.parseDouble(strSettingChoice);
 
-    	strSettingChoice = processData_.getValidatedProcessParameter(
-    			TDA.SETTING_RADIUSFORLOCALNEIGHBORHOOD );
-    	centerPoint_ = new PointRn( processData_.getValidatedProcessParameter( 
-    			TDA.SETTING_CENTERPOINTFORLOCALNBHD ) );
-
     	strSettingChoice = processData_.getValidatedProcessParameter(
     			TDA.SETTING_POINTCLOUDLOCALNBHDFILE );
     	strPointCloudFile_ = strSettingChoice;
@@ -1000,9 +1220,54 @@ public class TaskLSD extends Task {
     			TDA.SETTING_OUTPUTDIRECTORY );
     	strOutputDirectory_ = strSettingChoice;
     	
+    	strSettingChoice = processData_.getValidatedProcessParameter(
+    			TDA.SETTING_LSDMATRICESFILE );
+    	strLsdMatricesFile_ = strSettingChoice;
+    	
+		runningInEclipse_ = processData_.getValidatedProcessParameter( 
+				TDA.SETTING_RUNNINGINECLIPSE ).
+				equalsIgnoreCase( TDA.UI_RUNNINGINECLIPSE_YES );
+		
+		apiMode_ = processData_.getValidatedProcessParameter( 
+					TDA.SETTING_APPLICATIONMODE ).
+					equalsIgnoreCase( TDA.UI_APPLICATIONMODE_API );
+    	
+    	// hjs 10/18/2026 Multi-center mode: the center points are supplied as
+    	// an array (api), or in a file
+    	if ( processData_.getCenterPointsLoadedAsArray() != null ) {
+    		
+    		centerPoints_ = new PointCloudInRn( 
+    				processData_.getCenterPointsLoadedAsArray() );
+    	}
+    	else if ( isCenterPointsFileSupplied() ) {
+    		
+    		centerPoints_ = new PointCloudInRn( strInputDirectory_, strCenterPointsFile_ );
+    	}
+    	else {
+    		
+	    	centerPoint_ = new PointRn( processData_.getValidatedProcessParameter( 
+	    			TDA.SETTING_CENTERPOINTFORLOCALNBHD ) );
+    	}
+    	
+    	// hjs 10/18/2026 In api mode the multi-center matrices can only be handed on
+    	// to a sink (they are not collected in the results)
+    	lsdMatrixSink_ = processData_.getLsdMatrixSink();
+    	if ( centerPoints_ != null && apiMode_ && !runningInEclipse_ && 
+    			lsdMatrixSink_ == null ) {
+    		
+            throw new TdaException( TDA.ERROR_APP_USERINPUT, 
+                    "(TaskLSD) Need to supply an LSD matrix sink for computing " +
+                    "the LSD matrices of several center points in api mode." );
+    	}
+    	
     	String pointCloudAsString = processData_.getValidatedProcessParameter( 
     			TDA.SETTING_DATALOADEDASARRAY );
-    	if ( pointCloudAsString != null && pointCloudAsString.length() > 1 ) {
+    	if ( processData_.getDataLoadedAsArray() != null ) {
+    		
+    		// hjs 10/18/2026 Point cloud handed in as an array (api)
+	    	pointCloud_ = new PointCloudInRn( processData_.getDataLoadedAsArray() );
+    	}
+    	else if ( pointCloudAsString != null && pointCloudAsString.length() > 1 ) {
 
 	    	pointCloud_ = new PointCloudInRn( pointCloudAsString );
     	}
@@ -1018,6 +1283,12 @@ public class TaskLSD extends Task {
         // nothing to do
     }
     
+    protected boolean isCenterPointsFileSupplied() {
+    	
+    	return strCenterPointsFile_ != null && strCenterPointsFile_.length() > 0 &&
+    			!strCenterPointsFile_.equalsIgnoreCase( TDA.DATA_SETTINGNOTFOUND );
+    }
+    
 	private boolean validateRequiredData() throws Exception {
 	    
 	    boolean isDataValid = true;
@@ -1109,12 +1380,55 @@ public class TaskLSD extends Task {
         }
 
 
-        // Validate the 'SETTING_CENTERPOINTFORLOCALNBHD'
+        // hjs 10/18/2026 Validate the (optional) file with the center points for
+        // the multi-center mode
+        settingNameCanonical = TDA.SETTING_CENTERPOINTSFORLOCALNBHDFILE;
+        settingNameDescriptive = TDA.SETTING_CENTERPOINTSFORLOCALNBHDFILE_DESCR;
+        settingNameForDisplay = TDA.SETTING_CENTERPOINTSFORLOCALNBHDFILE_DISP;
+        settingDataType = TDA.VALIDATION_DATATYPE_STRING;
+        validationType = TDA.VALIDATIONTYPE_OPTIONAL;
+        settingItem = processData_.processSetting( settingNameCanonical, 
+                settingNameDescriptive,
+                settingNameForDisplay,
+                settingDataType,
+                validationType,
+                TDA.APP_FREEFORMINPUT, 
+                null );
+        
+        if ( settingItem.isValidSetting() ) {
+        	
+        	strCenterPointsFile_ = processData_.getValidatedProcessParameter( 
+        			settingNameCanonical );
+        }
+        
+        settingNameCanonical = TDA.SETTING_LSDMATRICESFILE;
+        settingNameDescriptive = TDA.SETTING_LSDMATRICESFILE_DESCR;
+        settingNameForDisplay = TDA.SETTING_LSDMATRICESFILE_DISP;
+        settingDataType = TDA.VALIDATION_DATATYPE_STRING;
+        validationType = TDA.VALIDATIONTYPE_OPTIONAL;
+        settingItem = processData_.processSetting( settingNameCanonical, 
+                settingNameDescriptive,
+                settingNameForDisplay,
+                settingDataType,
+                validationType,
+                TDA.APP_FREEFORMINPUT, 
+                TDA.DEFAULT_LSDMATRICESFILE );
+
+        // Validate the 'SETTING_CENTERPOINTFORLOCALNBHD' (not needed in the 
+        // multi-center mode)
         settingNameCanonical = TDA.SETTING_CENTERPOINTFORLOCALNBHD;
         settingNameDescriptive = TDA.SETTING_CENTERPOINTFORLOCALNBHD_DESCR;
         settingNameForDisplay = TDA.SETTING_CENTERPOINTFORLOCALNBHD_DISP;
         settingDataType = TDA.VALIDATION_DATATYPE_STRING;
-        validationType = TDA.VALIDATIONTYPE_MANDATORY;
+        if ( processData_.getCenterPointsLoadedAsArray() != null || 
+        		isCenterPointsFileSupplied() ) {
+        	
+        	validationType = TDA.VALIDATIONTYPE_OPTIONAL;
+        }
+        else {
+        	
+        	validationType = TDA.VALIDATIONTYPE_MANDATORY;
+        }
         arrSettingItem[0] = processData_.processSetting( settingNameCanonical, 
                 settingNameDescriptive,
                 settingNameForDisplay,
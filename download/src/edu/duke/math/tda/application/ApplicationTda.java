@@ -12,15 +12,22 @@
  */
 package edu.duke.math.tda.application;
 
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashSet;
 import java.util.Iterator;
+import java.util.List;
 import java.util.Set;
 import java.util.SortedMap;
 import java.util.StringTokenizer;
 import java.util.TreeMap;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 import edu.duke.math.tda.algorithm.*;
+import edu.duke.math.tda.structures.results.LsdMatrixSinkI;
 import edu.duke.math.tda.structures.results.ResultsContainer;
 import edu.duke.math.tda.structures.results.ResultsContainerI;
 import edu.duke.math.tda.utility.*;
@@ -35,7 +42,10 @@ import edu.duke.math.tda.utility.settings.Settings;
  * 
  * <p><strong>Details:</strong> <br>
  *  
- * 
+ * All application state (the settings, the task and its results) is held by the 
+ * ApplicationTda instance, so separate instances can execute on separate threads
+ * at the same time. A single instance is not thread-safe: assigning data and 
+ * executing need to happen on one thread (or be synchronized by the caller).
  * 
  * <p><strong>Change History:</strong> <br>
  * Created 2012
@@ -45,13 +55,22 @@ import edu.duke.math.tda.utility.settings.Settings;
  */
 public class ApplicationTda {
 
-    protected static Settings processData_;
+    // hjs 10/18/2026 The settings and the task are per-instance (they used to be
+    // static, so concurrent instances overwrote each other's state)
+    protected Settings processData_;
     protected String[] storedArgs_;
-    protected static TaskI task_;
+    protected TaskI task_;
     protected ResultsContainerI resultsContainer_; // = new ResultsContainer();
     int lastExecutedTaskReturnValue_;
     
 	protected SortedMap<String, String> rawSettingsList_;
+	// hjs 10/18/2026 Data passed in as an array is handed to the tasks as is
+	// (instead of being converted into a string and parsed again)
+	protected double[][] dataLoadedAsArray_;
+	// Center points passed in as an array (multi-center LSD)
+	protected double[][] centerPointsLoadedAsArray_;
+	// Sink for the LSD matrices of the multi-center LSD
+	protected LsdMatrixSinkI lsdMatrixSink_;
 	
     
     public ApplicationTda() {
@@ -118,10 +137,10 @@ public class ApplicationTda {
 		try {
 
             // Load and validate the parameters for running the application
-			if ( processData_ == null ) {
+			if ( tda.processData_ == null ) {
             
-				processData_ = new Settings();
-	    		errorHandler = new TdaErrorHandler( processData_ );
+				tda.processData_ = new Settings();
+	    		errorHandler = new TdaErrorHandler( tda.processData_ );
 			}
 			
 			tda.assignData( _args );
@@ -137,21 +156,52 @@ public class ApplicationTda {
 		}
 	}
 	
-	protected String convertArrayToString( final double[] _arrayToConvert )
+	// Turn a 1-dimensional array into an array with a single column
+	protected double[][] convertToColumnArray( final double[] _arrayToConvert ) {
+
+		double[][] columnArray = new double[ _arrayToConvert.length ][ 1 ];
+
+		for ( int i=0; i<_arrayToConvert.length; i++ ) {
+
+			columnArray[ i ][ 0 ] = _arrayToConvert[ i ];
+		}
+		
+		return columnArray;
+	}
+	
+	// Make sure that the passed-in array is rectangular, which is the only
+	// condition that we can/should enforce on the data
+	protected double[][] validateArray( final double[][] _arrayToValidate )
 			throws Exception {
 
+		int arrayDimension;
 		
-		// Create the extra argument, for supplying the point cloud in string form
-		StringBuffer dataLoadedAsArray = new StringBuffer();
+		if ( _arrayToValidate == null || _arrayToValidate.length == 0 ) {
 
-		// translate the passed-in array into a string (using tabs as white-space 
-		// delimiters, and inserting crlf's) 
-		for ( int i=0; i<_arrayToConvert.length; i++ ) {
+            throw new TdaException( 
+                    TDA.ERROR_APP_USERINPUT,
+                    "(ApplicationTda.validateArray) " +
+                    "The array you pass along needs to contain at least one line." );
+		}
 
-			dataLoadedAsArray.append( _arrayToConvert[ i ] + "\n" );
+		arrayDimension = _arrayToValidate[ 0 ].length;
+		
+		for ( int i=0; i<_arrayToValidate.length; i++ ) {
+			
+			if ( _arrayToValidate[ i ].length != arrayDimension ) {
+
+                throw new TdaException( 
+                        TDA.ERROR_APP_USERINPUT,
+                        "(CompTopo.executeCompTopo) " +
+                        "For line i=" + i + ", the supplied number of values " +
+                        "is different from the expected " +
+                        "number (" + arrayDimension +
+                        ").\n" +
+                        "Please make sure that the array you pass along is rectangular." );
+			}
 		}
 		
-		return dataLoadedAsArray.toString();
+		return _arrayToValidate;
 	}
 	
 	protected String convertArrayToString( final double[][] _arrayToConvert )
@@ -285,6 +335,20 @@ public class ApplicationTda {
 			}
 		}
 		
+		// The array is only translated into a string when it is requested here
+		if ( dataLoadedAsArray_ != null ) {
+			
+			try {
+			
+				strAssignedData.append( "\n" + TDA.SETTING_DATALOADEDASARRAY.toLowerCase() + 
+						"=" + convertArrayToString( dataLoadedAsArray_ ) );
+			}
+			catch ( final Exception e ) {
+				
+				// the array is validated when assigned, so this can't happen
+			}
+		}
+		
 		return strAssignedData.toString();
 	}
 	
@@ -298,8 +362,7 @@ public class ApplicationTda {
 				final double[][] _dblArgs )
 					throws Exception {
 		
-		String arrayAsString = convertArrayToString( _dblArgs );
-		updateSettingsList( TDA.SETTING_DATALOADEDASARRAY, arrayAsString );
+		dataLoadedAsArray_ = validateArray( _dblArgs );
 		
 		for ( int i=0; i<_settingsToAssign.length; i++ ) {
 				
@@ -312,8 +375,7 @@ public class ApplicationTda {
 	public int assignData( final double[][] _dblArgs )
 					throws Exception {
 
-		String arrayAsString = convertArrayToString( _dblArgs );
-		updateSettingsList( TDA.SETTING_DATALOADEDASARRAY, arrayAsString );
+		dataLoadedAsArray_ = validateArray( _dblArgs );
 		
 		return 1;
 	}
@@ -321,8 +383,26 @@ public class ApplicationTda {
 	public int assignData( final double[] _dblArgs )
 					throws Exception {
 
-		String arrayAsString = convertArrayToString( _dblArgs );
-		updateSettingsList( TDA.SETTING_DATALOADEDASARRAY, arrayAsString );
+		dataLoadedAsArray_ = validateArray( convertToColumnArray( _dblArgs ) );
+		
+		return 1;
+	}
+
+	// hjs 10/18/2026 Center points for computing the LSD matrices of several
+	// local neighborhoods in one pass
+	public int assignCenterPoints( final double[][] _centerPoints )
+					throws Exception {
+
+		centerPointsLoadedAsArray_ = validateArray( _centerPoints );
+		
+		return 1;
+	}
+
+	// hjs 10/18/2026 Sink that takes the multi-center LSD matrices one at a time
+	public int assignLsdMatrixSink( final LsdMatrixSinkI _lsdMatrixSink )
+					throws Exception {
+
+		lsdMatrixSink_ = _lsdMatrixSink;
 		
 		return 1;
 	}
@@ -386,21 +466,9 @@ public class ApplicationTda {
 	public int executeTda( String[] _args, double[][] _dblArgs, String[] _apiArgs ) 
 				throws Exception {
 		
-		// number of columns in the passed-in array
-		int arrayWidth;
-		int nbrOfArgs;
 		int retVal;
 		
-		if ( _dblArgs == null ) {
-
-			nbrOfArgs = _args.length + _apiArgs.length;
-		}
-		else {
-
-			nbrOfArgs = _args.length + _apiArgs.length + 1;
-		}
-		
-		String[] modifiedArgs = new String[ nbrOfArgs ]; 
+		String[] modifiedArgs = new String[ _args.length + _apiArgs.length ]; 
 		
 		for ( int i=0; i<_args.length; i++ ) {
 			
@@ -413,45 +481,13 @@ public class ApplicationTda {
 
 		if ( _dblArgs != null ) {
 			
-			// Record the dimension of the point cloud (i.e., the dimension of each point)
-			// so we can use it later
-			arrayWidth = _dblArgs[ 0 ].length;
-			
-			// Create the extra argument, for supplying the point cloud in string form
-			StringBuffer dataLoadedAsArray = new StringBuffer( 
-					TDA.SETTING_DATALOADEDASARRAY + "=" );
-	
-			// translate the passed-in array into a string (using tabs as white-space 
-			// delimiters, and inserting crlf's) 
-			for ( int i=0; i<_dblArgs.length; i++ ) {
-				
-				if ( _dblArgs[ i ].length == arrayWidth ) {
-				
-					for ( int j=0; j<_dblArgs[ i ].length; j++ ) {
-	
-						dataLoadedAsArray.append( _dblArgs[ i ][ j ] + "\t" );
-					}
-	
-					dataLoadedAsArray.append( "\n" );
-				}
-				else {
-	
-					// this is the only condition that we can/should enforce on the data
-	                throw new TdaException( 
-	                        TDA.ERROR_APP_USERINPUT,
-	                        "(CompTopo.executeCompTopo) " +
-	                        "For line i=" + i + ", the supplied number of values " +
-	                        "is different from the expected " +
-	                        "number (" + arrayWidth +
-	                        ").\n" +
-	                        "Please make sure that the array you pass along is rectangular." );
-				}
-			}
-	
-			modifiedArgs[ nbrOfArgs-1 ]  = dataLoadedAsArray.toString();
+			// hjs 10/18/2026 Hand the array to the task directly (no string conversion)
+			assignData( modifiedArgs, _dblArgs );
 		}
+		else {
 				
-		assignData( modifiedArgs );
+			assignData( modifiedArgs );
+		}
 		retVal = executeTda();
 
 		return retVal;
@@ -464,55 +500,9 @@ public class ApplicationTda {
 				throws Exception {
 		
 		int retVal;
-		
-		// number of columns in the passed-in array
-		int arrayWidth;
-		
-		String[] modifiedArgs = new String[ _args.length + 1 ]; 
-		
-		for ( int i=0; i<_args.length; i++ ) {
-			
-			modifiedArgs[ i ] = _args[ i ];
-		}
-		
-		// Record the dimension of the point cloud (i.e., the dimension of each point)
-		// so we can use it later
-		arrayWidth = _dblArgs[ 0 ].length;
-		
-		// Create the extra argument, for supplying the point cloud in string form
-		StringBuffer dataLoadedAsArray = new StringBuffer( 
-				TDA.SETTING_DATALOADEDASARRAY + "=" );
-
-		// translate the passed-in array into a string (using tabs as white-space 
-		// delimiters, and inserting crlf's) 
-		for ( int i=0; i<_dblArgs.length; i++ ) {
-			
-			if ( _dblArgs[ i ].length == arrayWidth ) {
-			
-				for ( int j=0; j<_dblArgs[ i ].length; j++ ) {
-
-					dataLoadedAsArray.append( _dblArgs[ i ][ j ] + "\t" );
-				}
-
-				dataLoadedAsArray.append( "\n" );
-			}
-			else {
-
-				// this is the only condition that we can/should enforce on the data
-                throw new TdaException( 
-                        TDA.ERROR_APP_USERINPUT,
-                        "(CompTopo.executeCompTopo) " +
-                        "For line i=" + i + ", the supplied number of values " +
-                        "is different from the expected " +
-                        "number (" + arrayWidth +
-                        ").\n" +
-                        "Please make sure that the array you pass along is rectangular." );
-			}
-		}
-
-		modifiedArgs[ _args.length ]  = dataLoadedAsArray.toString();
 
-		assignData( modifiedArgs );
+		// hjs 10/18/2026 Hand the array to the task directly (no string conversion)
+		assignData( _args, _dblArgs );
 		retVal = executeTda();
 
 		return retVal;
@@ -536,6 +526,9 @@ public class ApplicationTda {
 
 			processData_ = new Settings();
 			processData_.processCommandLine( this.rawSettingsList_ );
+			processData_.setDataLoadedAsArray( dataLoadedAsArray_ );
+			processData_.setCenterPointsLoadedAsArray( centerPointsLoadedAsArray_ );
+			processData_.setLsdMatrixSink( lsdMatrixSink_ );
         	
     		errorHandler = new TdaErrorHandler( processData_ );
 	    }
@@ -589,6 +582,121 @@ public class ApplicationTda {
 	
 
 //	public ResultsContainerI getResults() throws Exception {
+	/*
+	 * Execute the (previously assigned) task for each of the supplied data sets, 
+	 * using a pool of _numberOfThreads worker threads. The assigned settings are
+	 * loaded once, and then applied to each data set, which gets its own settings,
+	 * task and results container. The results are returned in input order.
+	 */
+	public ResultsContainerI[] executeTdaBatch( final double[][][] _dataSets,
+			final int _numberOfThreads ) throws Exception {
+		
+		final Settings sharedSettings;
+		final ResultsContainerI[] batchResults = 
+				new ResultsContainerI[ _dataSets.length ];
+		final List<Future<ResultsContainerI>> pendingResults = 
+				new ArrayList<Future<ResultsContainerI>>( _dataSets.length );
+		ExecutorService workerPool;
+		
+		if ( _numberOfThreads < 1 ) {
+			
+			throw new TdaException( TDA.ERROR_APP_USERINPUT,
+					"(ApplicationTda.executeTdaBatch) " +
+					"The number of threads needs to be at least 1 " +
+					"(supplied value: " + _numberOfThreads + ")." );
+		}
+		
+		// Load and validate the assigned settings (only once for the whole batch)
+		sharedSettings = loadSharedSettings();
+		
+		workerPool = Executors.newFixedThreadPool( 
+				Math.min( _numberOfThreads, Math.max( 1, _dataSets.length ) ) );
+		
+		try {
+		
+			for ( int i=0; i<_dataSets.length; i++ ) {
+				
+				final double[][] dataSet = _dataSets[ i ];
+				
+				pendingResults.add( workerPool.submit( new Callable<ResultsContainerI>() {
+					
+					public ResultsContainerI call() throws Exception {
+						
+						return executeBatchItem( sharedSettings, dataSet );
+					}
+				} ) );
+			}
+			
+			for ( int i=0; i<_dataSets.length; i++ ) {
+				
+				batchResults[ i ] = pendingResults.get( i ).get();
+			}
+		}
+		finally {
+			
+			workerPool.shutdownNow();
+		}
+
+		resultsContainer_ = ( batchResults.length > 0 ) ? 
+				batchResults[ batchResults.length-1 ] : new ResultsContainer();
+		
+		return batchResults;
+	}
+	
+	// Load and validate the assigned settings, as the shared settings for executing
+	// the task on several data sets (see executeBatchItem)
+	protected Settings loadSharedSettings() throws Exception {
+		
+		final Settings sharedSettings;
+		
+		rawSettingsList_.remove( TDA.SETTING_DATALOADEDASARRAY.toLowerCase() );
+		sharedSettings = new Settings();
+		sharedSettings.processCommandLine( this.rawSettingsList_ );
+		rawSettingsList_ = new TreeMap<String, String>();
+		dataLoadedAsArray_ = null;
+		sharedSettings.setCenterPointsLoadedAsArray( centerPointsLoadedAsArray_ );
+		centerPointsLoadedAsArray_ = null;
+		sharedSettings.setLsdMatrixSink( lsdMatrixSink_ );
+		lsdMatrixSink_ = null;
+		
+		processData_ = sharedSettings;
+		validateRequiredData();
+		
+		return sharedSettings;
+	}
+	
+	// Execute the task for a single data set of a batch, on its own copy of the settings
+	protected ResultsContainerI executeBatchItem( final Settings _sharedSettings,
+			final double[][] _dataSet ) throws Exception {
+		
+		TdaErrorHandler errorHandler = new TdaErrorHandler();
+		SortedMap<String, String> dataSetParameters = new TreeMap<String, String>();
+		Settings dataSetSettings;
+		ApplicationTda batchItem = null;
+		
+		try {
+			
+			dataSetSettings = new Settings( _sharedSettings, dataSetParameters );
+			dataSetSettings.setDataLoadedAsArray( validateArray( _dataSet ) );
+
+			batchItem = new ApplicationTda( dataSetSettings );
+			errorHandler = new TdaErrorHandler( batchItem.processData_ );
+			
+			batchItem.validateRequiredData();
+			batchItem.executeTaskUnits();
+		}
+		catch ( final TdaException e ) {
+		    
+		    errorHandler.handleApplicationException( e );
+		}
+		catch ( final Exception e ) {
+		    
+		    errorHandler.handleGeneralException( e );
+		}
+		
+		return ( batchItem == null ) ? new ResultsContainer() : batchItem.getResults();
+	}
+
 	public ResultsContainerI getResults() {
 		
 		return resultsContainer_;
@@ -607,6 +715,12 @@ public class ApplicationTda {
     	resultsContainer_ = new ResultsContainer();
     	rawSettingsList_ = new TreeMap<String, String>(); // this is already absorbed
     	// into the processData container at this point
+    	dataLoadedAsArray_ = null;
+    	centerPointsLoadedAsArray_ = null;
+    	lsdMatrixSink_ = null;
+    	
+    	// hjs 10/18/2026 Don't let a task from a previous execution linger
+    	task_ = null;
     			
         // ---------------------------------------
         // Set up any task object that would execute before an algorithm
@@ -707,7 +821,7 @@ public class ApplicationTda {
      * @return Returns the boolean flag that indicates whether a crucial setting
      * could not be validated.
      */
-    private static boolean validateRequiredData() throws Exception {
+    private boolean validateRequiredData() throws Exception {
 
         // utility variables for validating
 		Set<String> validValues = new HashSet<String>();
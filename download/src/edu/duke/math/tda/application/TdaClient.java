@@ -0,0 +1,156 @@
+/*
+ * Created October 2026
+ *
+ * This file is part of Topological Data Analysis
+ * edu.duke.math.tda
+ * Copyright (c) 2012-2014 by John Harer
+ * All rights reserved.
+ *
+ * License Info:
+ *
+ *
+ */
+package edu.duke.math.tda.application;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.Socket;
+
+import edu.duke.math.tda.utility.TDA;
+import edu.duke.math.tda.utility.errorhandling.TdaException;
+
+/**
+ * Client for the TdaServer, e.g., for use from Matlab: connect once, then call
+ * compute(...) for each point cloud
+ *
+ * <p><strong>Details:</strong> <br>
+ *
+ * compute(...) returns the barcodes of the job, one array of ( birth, death ) rows
+ * per barcode, in the order of their result IDs (which getLastResultIDs() lists,
+ * e.g., to tell the 0-dim. from the 1-dim. intervals of an M12 job). A client
+ * object holds one connection, so it must not be used by several threads at the
+ * same time (separate clients can be used concurrently).
+ *
+ * <p><strong>Change History:</strong> <br>
+ * Created October 2026
+ *
+ *
+ * @author Jurgen Sladeczek (hjs) <br>
+ * For the latest info, please visit www.math.duke.edu.
+ */
+public class TdaClient {
+
+	protected final Socket socket_;
+	protected final DataInputStream in_;
+	protected final DataOutputStream out_;
+	protected int[] lastResultIDs_ = new int[ 0 ];
+	protected String[] lastResultDescriptions_ = new String[ 0 ];
+
+	public TdaClient() throws IOException {
+
+		this( TdaServer.DEFAULT_PORT );
+	}
+
+	public TdaClient( final int _port ) throws IOException {
+
+		socket_ = new Socket( InetAddress.getLoopbackAddress(), _port );
+		socket_.setTcpNoDelay( true );
+		in_ = new DataInputStream( new BufferedInputStream( socket_.getInputStream() ) );
+		out_ = new DataOutputStream( new BufferedOutputStream( socket_.getOutputStream() ) );
+	}
+
+	// Execute a job on the server, and return its barcodes
+	public double[][][] compute( final String[] _settings,
+			final double[][] _points ) throws Exception {
+
+		final int dimension;
+		final int numberOfBarcodes;
+		double[][][] barcodes;
+		int numberOfIntervals;
+
+		if ( _points == null || _points.length == 0 ) {
+
+            throw new TdaException(
+                    TDA.ERROR_APP_USERINPUT,
+                    "(TdaClient) The data needs to contain at least one point." );
+		}
+
+		dimension = _points[ 0 ].length;
+
+		out_.writeInt( TdaServer.PROTOCOL_MAGIC );
+		out_.writeInt( _settings.length );
+		for ( int i=0; i<_settings.length; i++ ) {
+
+			out_.writeUTF( _settings[ i ] );
+		}
+
+		out_.writeInt( _points.length );
+		out_.writeInt( dimension );
+		for ( int i=0; i<_points.length; i++ ) {
+
+			if ( _points[ i ].length != dimension ) {
+
+				// the request is incomplete, so the connection can't be used any more
+				close();
+
+	            throw new TdaException(
+	                    TDA.ERROR_APP_USERINPUT,
+	                    "(TdaClient) For line i=" + i + ", the supplied number of values " +
+	                    "is different from the expected number (" + dimension + ")." );
+			}
+
+			for ( int j=0; j<dimension; j++ ) {
+
+				out_.writeDouble( _points[ i ][ j ] );
+			}
+		}
+		out_.flush();
+
+		if ( in_.readInt() != TdaServer.STATUS_OK ) {
+
+            throw new TdaException(
+                    TDA.ERROR_APP_USERINPUT,
+                    "(TdaClient) The server could not execute the job: " + in_.readUTF() );
+		}
+
+		numberOfBarcodes = in_.readInt();
+		barcodes = new double[ numberOfBarcodes ][][];
+		lastResultIDs_ = new int[ numberOfBarcodes ];
+		lastResultDescriptions_ = new String[ numberOfBarcodes ];
+
+		for ( int b=0; b<numberOfBarcodes; b++ ) {
+
+			lastResultIDs_[ b ] = in_.readInt();
+			lastResultDescriptions_[ b ] = in_.readUTF();
+			numberOfIntervals = in_.readInt();
+			barcodes[ b ] = new double[ numberOfIntervals ][ 2 ];
+
+			for ( int i=0; i<numberOfIntervals; i++ ) {
+
+				barcodes[ b ][ i ][ 0 ] = in_.readDouble();
+				barcodes[ b ][ i ][ 1 ] = in_.readDouble();
+			}
+		}
+
+		return barcodes;
+	}
+
+	public int[] getLastResultIDs() {
+
+		return lastResultIDs_;
+	}
+
+	public String[] getLastResultDescriptions() {
+
+		return lastResultDescriptions_;
+	}
+
+	public void close() throws IOException {
+
+		socket_.close();
+	}
+}
@@ -0,0 +1,649 @@
+/*
+ * Created October 2026
+ *
+ * This file is part of Topological Data Analysis
+ * edu.duke.math.tda
+ * Copyright (c) 2012-2014 by John Harer
+ * All rights reserved.
+ *
+ * License Info:
+ *
+ *
+ */
+package edu.duke.math.tda.application;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.net.SocketException;
+import java.nio.ByteBuffer;
+import java.nio.DoubleBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.StringTokenizer;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+
+import edu.duke.math.tda.structures.results.ResultGeneric;
+import edu.duke.math.tda.structures.results.ResultsCollection;
+import edu.duke.math.tda.structures.results.ResultsContainerI;
+import edu.duke.math.tda.utility.TDA;
+import edu.duke.math.tda.utility.errorhandling.TdaException;
+import edu.duke.math.tda.utility.settings.Settings;
+
+/**
+ * Long-running server for executing Tda tasks, so that many small jobs (e.g., one
+ * per glyph) share one warmed-up JVM instead of paying for the start-up each time
+ *
+ * <p><strong>Details:</strong> <br>
+ *
+ * The server listens on a local (loopback) socket. A client can send any number of
+ * jobs over one connection, one after the other; the jobs of all connections are
+ * executed on a fixed pool of worker threads. At most MAXCONNECTIONS connections
+ * are served at a time; further clients wait until a connection is closed.
+ * Each job carries its settings (in the usual "item=value" form, e.g.,
+ * taskChoice=M12 and distanceBoundOnEdges=0.5) and a point cloud (or other data,
+ * per supplyDataAs), and is executed the same way as one data set of
+ * ApplicationTda.executeTdaBatch. The settings are loaded and validated once per
+ * distinct list of settings, and then kept for later jobs.
+ *
+ * A job can only set the settings in JOBSETTINGS, and only run the tasks in
+ * JOBTASKS: the jobs are always executed in api mode with all output suppressed,
+ * so a client can't make the server read or write any files.
+ *
+ * The protocol is binary (big-endian, as written by DataOutputStream):
+ *
+ * request:  int PROTOCOL_MAGIC, int number of settings, each setting as UTF,
+ *           int number of points, int dimension, the coordinates (doubles, row
+ *           by row; at most MAXNUMBEROFVALUES of them)
+ * response: int STATUS_OK, int number of barcodes, and for each barcode its int
+ *           result ID, its description as UTF, int number of intervals, and the
+ *           (birth, death) doubles of each interval;
+ *           or int STATUS_ERROR and the error message as UTF
+ *
+ * The barcodes are the registered ResultsCollection results of the task (with
+ * the same result IDs as for the API). After a malformed request the server
+ * closes the connection; after a failed job the connection can be used for the
+ * next job.
+ * TdaClient implements the client side.
+ *
+ * Usage: java edu.duke.math.tda.application.TdaServer [port=7913] [threads=4]
+ *
+ * <p><strong>Change History:</strong> <br>
+ * Created October 2026
+ *
+ *
+ * @author Jurgen Sladeczek (hjs) <br>
+ * For the latest info, please visit www.math.duke.edu.
+ */
+public class TdaServer {
+
+	// "TDA1", at the start of each request
+	public static final int PROTOCOL_MAGIC = 0x54444131;
+	public static final int STATUS_OK = 0;
+	public static final int STATUS_ERROR = 1;
+	public static final int DEFAULT_PORT = 7913;
+
+	protected static final int MAXCACHEDSETTINGS = 32;
+	protected static final int MAXCONNECTIONS = 64;
+	protected static final int MAXNUMBEROFSETTINGS = 1024;
+	// (i.e., 32 MB of coordinates per request)
+	protected static final int MAXNUMBEROFVALUES = 1 << 22;
+	// the coordinates are read in chunks of (at most) this many values, i.e., 64 KB
+	protected static final int CHUNKNUMBEROFVALUES = 1 << 13;
+
+	// the settings that a job can set; anything else (e.g., the directories and
+	// files for the output, or the data conversions that write files) is rejected
+	protected static final String[] JOBSETTINGS = {
+			TDA.SETTING_TASKCHOICE,
+			TDA.SETTING_METRICCHOICE,
+			TDA.SETTING_P_VALUE_FOR_LP,
+			TDA.SETTING_SUPPLYDATAAS,
+			TDA.SETTING_DISTANCEBOUND,
+			TDA.SETTING_ZP_VALUE,
+			TDA.SETTING_REDUCTIONMETHOD,
+			TDA.SETTING_USECLEARING,
+			TDA.SETTING_SWITCHTOSPARSEAT };
+	// the tasks that a job can run (the ones that compute intervals from the data)
+	protected static final String[] JOBTASKS = {
+			TDA.UI_TASK_RCA0,
+			TDA.UI_TASK_M01,
+			TDA.UI_TASK_M12,
+			TDA.UI_TASK_M12ref,
+			TDA.UI_TASK_M23 };
+	// the forms of the data that a job can supply (the binary form is read from a file)
+	protected static final String[] JOBDATAFORMS = {
+			TDA.UI_SUPPLYDATAAS_POINTCLOUD,
+			TDA.UI_SUPPLYDATAAS_DISTANCEMATRIX,
+			TDA.UI_SUPPLYDATAAS_SPARSEMATRIX,
+			TDA.UI_SUPPLYDATAAS_SPARSEMATRIX2 };
+	// (the jobs are always executed in api mode, without any output)
+	protected static final String[] JOBFORCEDSETTINGS = {
+			TDA.SETTING_APPLICATIONMODE + "=" + TDA.UI_APPLICATIONMODE_API,
+			TDA.SETTING_SUPPRESSALLOUTPUT + "=" + TDA.UI_SUPPRESSALLOUTPUT_YES };
+
+	protected final ServerSocket serverSocket_;
+	protected final ExecutorService workerPool_;
+	protected final ExecutorService connectionPool_;
+	// a permit for each connection that is being served
+	protected final Semaphore connectionPermits_;
+	// the connections that are being served (closed when the server is closed)
+	protected final Set<Socket> openConnections_ = new HashSet<Socket>();
+	// the loaded settings, by the list of settings of the job (least recently
+	// used ones are dropped first)
+	protected final Map<String, PreparedSettings> settingsCache_;
+	protected volatile boolean running_;
+
+	// The application used for loading a list of settings, and the loaded settings
+	protected static class PreparedSettings {
+
+		protected final ApplicationTda application_;
+		protected final Settings sharedSettings_;
+
+		protected PreparedSettings( final String[] _settings ) throws Exception {
+
+			validateJobSettings( _settings );
+
+			application_ = new ApplicationTda();
+			application_.assignData( _settings );
+			application_.assignData( JOBFORCEDSETTINGS );
+			sharedSettings_ = application_.loadSharedSettings();
+		}
+	}
+
+	public TdaServer( final int _port, final int _numberOfThreads ) throws Exception {
+
+		serverSocket_ = new ServerSocket( _port, 50, InetAddress.getLoopbackAddress() );
+		workerPool_ = Executors.newFixedThreadPool( Math.max( 1, _numberOfThreads ) );
+		connectionPool_ = Executors.newFixedThreadPool( MAXCONNECTIONS );
+		connectionPermits_ = new Semaphore( MAXCONNECTIONS );
+		settingsCache_ = new LinkedHashMap<String, PreparedSettings>( 16, 0.75f, true ) {
+
+			private static final long serialVersionUID = 1L;
+
+			protected boolean removeEldestEntry(
+					final Map.Entry<String, PreparedSettings> _eldest ) {
+
+				return size() > MAXCACHEDSETTINGS;
+			}
+		};
+	}
+
+	// main entry point for the server
+	public static void main( String[] _args ) {
+
+		int port = DEFAULT_PORT;
+		int numberOfThreads = Runtime.getRuntime().availableProcessors();
+		String[] setting;
+		TdaServer server;
+
+		try {
+
+			for ( int i=0; i<_args.length; i++ ) {
+
+				setting = _args[ i ].split( "=", 2 );
+
+				if ( setting.length == 2 && setting[ 0 ].equalsIgnoreCase( "port" ) ) {
+
+					port = Integer.parseInt( setting[ 1 ].trim() );
+				}
+				else if ( setting.length == 2 && setting[ 0 ].equalsIgnoreCase( "threads" ) ) {
+
+					numberOfThreads = Integer.parseInt( setting[ 1 ].trim() );
+				}
+				else {
+
+					System.out.println( "[TdaServer] Ignoring the unknown argument '" +
+							_args[ i ] + "' (use port=... and threads=...)." );
+				}
+			}
+
+			server = new TdaServer( port, numberOfThreads );
+			System.out.println( TDA.APPLICATION_NAME + " server listening on " +
+					server.serverSocket_.getInetAddress().getHostAddress() + ":" +
+					server.getPort() + ", with " + numberOfThreads + " worker thread(s)." );
+			server.run();
+		}
+		catch ( final Exception e ) {
+
+			System.out.println( "[TdaServer] Could not run the server: " + e.toString() );
+		}
+	}
+
+	public int getPort() {
+
+		return serverSocket_.getLocalPort();
+	}
+
+	// Accept connections until the server is closed
+	public void run() throws IOException {
+
+		Socket socket;
+
+		running_ = true;
+
+		try {
+
+			while ( running_ ) {
+
+				// wait for a connection to be closed, when the limit is reached
+				try {
+
+					connectionPermits_.acquire();
+				}
+				catch ( final InterruptedException e ) {
+
+					Thread.currentThread().interrupt();
+					break;
+				}
+
+				try {
+
+					socket = serverSocket_.accept();
+				}
+				catch ( final SocketException e ) {
+
+					// the server socket was closed
+					connectionPermits_.release();
+					break;
+				}
+
+				final Socket connection = socket;
+
+				try {
+
+					connectionPool_.execute( new Runnable() {
+
+						public void run() {
+
+							try {
+
+								handleConnection( connection );
+							}
+							finally {
+
+								connectionPermits_.release();
+							}
+						}
+					} );
+				}
+				catch ( final RejectedExecutionException e ) {
+
+					// the server is shutting down
+					connectionPermits_.release();
+					connection.close();
+					break;
+				}
+			}
+		}
+		finally {
+
+			close();
+		}
+	}
+
+	public void close() {
+
+		running_ = false;
+
+		try {
+
+			serverSocket_.close();
+		}
+		catch ( final IOException e ) {
+
+			// nothing left to do
+		}
+
+		// (a connection that waits for the next job doesn't notice an interrupt)
+		synchronized ( openConnections_ ) {
+
+			for ( Socket connection : openConnections_ ) {
+
+				try {
+
+					connection.close();
+				}
+				catch ( final IOException e ) {
+
+					// nothing left to do
+				}
+			}
+		}
+
+		connectionPool_.shutdownNow();
+		workerPool_.shutdownNow();
+	}
+
+	// Read and answer the jobs of a connection, until the client closes it
+	protected void handleConnection( final Socket _socket ) {
+
+		DataInputStream in;
+		DataOutputStream out;
+		int magic;
+
+		synchronized ( openConnections_ ) {
+
+			openConnections_.add( _socket );
+		}
+
+		try {
+
+			in = new DataInputStream( new BufferedInputStream( _socket.getInputStream() ) );
+			out = new DataOutputStream( new BufferedOutputStream( _socket.getOutputStream() ) );
+
+			while ( running_ ) {
+
+				try {
+
+					magic = in.readInt();
+				}
+				catch ( final EOFException e ) {
+
+					break;
+				}
+
+				if ( magic != PROTOCOL_MAGIC ) {
+
+					writeError( out, "(TdaServer) Unknown request (expected the protocol " +
+							"marker " + Integer.toHexString( PROTOCOL_MAGIC ) + ")." );
+					break;
+				}
+
+				if ( !handleRequest( in, out ) ) break;
+			}
+		}
+		catch ( final IOException e ) {
+
+			if ( TDA.DEBUG ) {
+
+				System.out.println( "[TdaServer] Connection closed: " + e.toString() );
+			}
+		}
+		finally {
+
+			synchronized ( openConnections_ ) {
+
+				openConnections_.remove( _socket );
+			}
+
+			try {
+
+				_socket.close();
+			}
+			catch ( final IOException e ) {
+
+				// nothing left to do
+			}
+		}
+	}
+
+	// Read a job, execute it on the worker pool, and send the response. Returns
+	// false when the request was malformed (so the connection can't be used further)
+	protected boolean handleRequest( final DataInputStream _in,
+			final DataOutputStream _out ) throws IOException {
+
+		final int numberOfSettings;
+		final String[] settings;
+		final int numberOfPoints;
+		final int dimension;
+		final double[][] points;
+		double[][] receivedPoints;
+		double[] point;
+		final byte[] chunk;
+		final DoubleBuffer chunkValues;
+		long numberOfValuesToRead;
+		int numberOfValuesInChunk;
+		int chunkPosition;
+		int numberOfValuesToCopy;
+		ResultsContainerI results;
+
+		numberOfSettings = _in.readInt();
+
+		if ( numberOfSettings < 0 || numberOfSettings > MAXNUMBEROFSETTINGS ) {
+
+			writeError( _out, "(TdaServer) Invalid number of settings (" +
+					numberOfSettings + ")." );
+			return false;
+		}
+
+		settings = new String[ numberOfSettings ];
+		for ( int i=0; i<numberOfSettings; i++ ) {
+
+			settings[ i ] = _in.readUTF();
+		}
+
+		numberOfPoints = _in.readInt();
+		dimension = _in.readInt();
+
+		if ( numberOfPoints < 1 || dimension < 1 ||
+				(long) numberOfPoints * dimension > MAXNUMBEROFVALUES ) {
+
+			writeError( _out, "(TdaServer) Invalid size of the data (" +
+					numberOfPoints + " points of dimension " + dimension + ")." );
+			return false;
+		}
+
+		// the points are collected as they arrive (rather than allocated up front
+		// for the size in the header), so a request only takes up the memory of
+		// the data that was actually sent: the array of rows grows (up to the number
+		// of points in the header) as the rows come in, and the coordinates are read
+		// a chunk at a time
+		numberOfValuesToRead = (long) numberOfPoints * dimension;
+		chunk = new byte[ 8 * (int) Math.min( CHUNKNUMBEROFVALUES, numberOfValuesToRead ) ];
+		chunkValues = ByteBuffer.wrap( chunk ).asDoubleBuffer();
+		numberOfValuesInChunk = 0;
+		chunkPosition = 0;
+		receivedPoints = new double[ Math.min( numberOfPoints, 
+				Math.max( 1, CHUNKNUMBEROFVALUES / dimension ) ) ][];
+		
+		for ( int i=0; i<numberOfPoints; i++ ) {
+
+			if ( i == receivedPoints.length ) {
+
+				receivedPoints = Arrays.copyOf( receivedPoints, 
+						(int) Math.min( numberOfPoints, 2L * receivedPoints.length ) );
+			}
+
+			point = new double[ dimension ];
+
+			for ( int j=0; j<dimension; j+=numberOfValuesToCopy ) {
+
+				if ( chunkPosition == numberOfValuesInChunk ) {
+
+					numberOfValuesInChunk = (int) Math.min( 
+							chunkValues.capacity(), numberOfValuesToRead );
+					_in.readFully( chunk, 0, 8 * numberOfValuesInChunk );
+					numberOfValuesToRead -= numberOfValuesInChunk;
+					chunkPosition = 0;
+				}
+
+				numberOfValuesToCopy = Math.min( 
+						dimension - j, numberOfValuesInChunk - chunkPosition );
+				chunkValues.get( chunkPosition, point, j, numberOfValuesToCopy );
+				chunkPosition += numberOfValuesToCopy;
+			}
+
+			receivedPoints[ i ] = point;
+		}
+		points = receivedPoints;
+
+		try {
+
+			results = workerPool_.submit( new Callable<ResultsContainerI>() {
+
+				public ResultsContainerI call() throws Exception {
+
+					return executeJob( settings, points );
+				}
+			} ).get();
+
+			writeResults( _out, results );
+		}
+		catch ( final ExecutionException e ) {
+
+			writeError( _out, ( e.getCause() != null ) ?
+					e.getCause().getMessage() : e.toString() );
+		}
+		catch ( final InterruptedException e ) {
+
+			writeError( _out, "(TdaServer) The server is shutting down." );
+			Thread.currentThread().interrupt();
+			return false;
+		}
+
+		return true;
+	}
+
+	// Check that a job only sets the settings it may set (see JOBSETTINGS), and
+	// only to a task and a data form it may use
+	protected static void validateJobSettings( final String[] _settings )
+			throws Exception {
+
+		StringTokenizer tokenizer;
+		String settingName;
+		String settingValue;
+
+		for ( int i=0; i<_settings.length; i++ ) {
+
+			// (split the same way as ApplicationTda.parseStringSetting)
+			tokenizer = new StringTokenizer( _settings[ i ], "=" );
+
+			if ( tokenizer.countTokens() == 0 ) continue;
+
+			settingName = tokenizer.nextToken();
+			settingValue = tokenizer.hasMoreTokens() ? tokenizer.nextToken() : "";
+
+			if ( !isListed( settingName, JOBSETTINGS ) ) {
+
+				throw new TdaException( TDA.ERROR_APP_USERINPUT,
+						"(TdaServer) The setting '" + settingName +
+						"' can't be set by a job." );
+			}
+
+			if ( settingName.equalsIgnoreCase( TDA.SETTING_TASKCHOICE ) &&
+					!isListed( settingValue.trim(), JOBTASKS ) ) {
+
+				throw new TdaException( TDA.ERROR_APP_USERINPUT,
+						"(TdaServer) The task '" + settingValue +
+						"' can't be run by a job." );
+			}
+
+			if ( settingName.equalsIgnoreCase( TDA.SETTING_SUPPLYDATAAS ) &&
+					!isListed( settingValue.trim(), JOBDATAFORMS ) ) {
+
+				throw new TdaException( TDA.ERROR_APP_USERINPUT,
+						"(TdaServer) The data can't be supplied as '" +
+						settingValue + "' by a job." );
+			}
+		}
+	}
+
+	protected static boolean isListed( final String _item, final String[] _list ) {
+
+		for ( int i=0; i<_list.length; i++ ) {
+
+			if ( _list[ i ].equalsIgnoreCase( _item ) ) return true;
+		}
+
+		return false;
+	}
+
+	// Execute the task for the job's data, with the (cached) loaded settings
+	protected ResultsContainerI executeJob( final String[] _settings,
+			final double[][] _points ) throws Exception {
+
+		final String settingsKey = String.join( "\n", _settings );
+		PreparedSettings preparedSettings;
+
+		synchronized ( settingsCache_ ) {
+
+			preparedSettings = settingsCache_.get( settingsKey );
+		}
+
+		if ( preparedSettings == null ) {
+
+			preparedSettings = new PreparedSettings( _settings );
+
+			synchronized ( settingsCache_ ) {
+
+				settingsCache_.put( settingsKey, preparedSettings );
+			}
+		}
+
+		return preparedSettings.application_.executeBatchItem(
+				preparedSettings.sharedSettings_, _points );
+	}
+
+	protected void writeResults( final DataOutputStream _out,
+			final ResultsContainerI _results ) throws IOException {
+
+		final List<ResultGeneric> barcodes = new ArrayList<ResultGeneric>();
+		ResultGeneric result;
+		double[][] intervals;
+
+		// the registered results (a missing ID gives a result without an object)
+		for ( int resultID=0; resultID<TDA.DATA_UNREGISTEREDRESULT_STARTINDEX; resultID++ ) {
+
+			result = _results.getResult( resultID );
+
+			if ( result.getResult() instanceof ResultsCollection ) {
+
+				barcodes.add( result );
+			}
+		}
+
+		if ( barcodes.size() == 0 ) {
+
+			// e.g., the task failed: pass along what the results say
+			writeError( _out, "(TdaServer) The job did not produce any intervals.\n" +
+					_results.toString() );
+			return;
+		}
+
+		_out.writeInt( STATUS_OK );
+		_out.writeInt( barcodes.size() );
+
+		for ( ResultGeneric barcode : barcodes ) {
+
+			intervals = ( (ResultsCollection) barcode.getResult() ).getIntervals();
+
+			_out.writeInt( barcode.getResultID() );
+			_out.writeUTF( barcode.getResultDescription() );
+			_out.writeInt( intervals.length );
+
+			for ( int i=0; i<intervals.length; i++ ) {
+
+				_out.writeDouble( intervals[ i ][ 0 ] );
+				_out.writeDouble( intervals[ i ][ 1 ] );
+			}
+		}
+
+		_out.flush();
+	}
+
+	protected void writeError( final DataOutputStream _out,
+			final String _message ) throws IOException {
+
+		_out.writeInt( STATUS_ERROR );
+		// (writeUTF is limited to 64K bytes)
+		_out.writeUTF( ( _message == null ) ? "(TdaServer) Unknown error." :
+				( _message.length() > 16000 ) ? _message.substring( 0, 16000 ) : _message );
+		_out.flush();
+	}
+}
@@ -14,7 +14,10 @@
 package edu.duke.math.tda.persistence;
 
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 import java.util.SortedMap;
 import java.util.TreeMap;
 
@@ -62,6 +65,9 @@ public abstract class PersistenceMatrix {
    	
 	// hjs 6/3/2014 Add to be able to report on initial size of reduction matrix
 	int initialMatrixSize_;
+	
+	// hjs 10/18/2026 Number of columns dropped by clearing before the reduction
+	int numberOfClearedColumns_;
     
 
 	// lookup array for multiplicative inverses
@@ -150,6 +156,102 @@ public abstract class PersistenceMatrix {
 		}
 	}
 	
+	// hjs 10/18/2026 Column representation for the Z2 reductions: since all 
+	// coefficients are 1, we only need the (sorted) row indices of the non-zero entries.
+	// Adding two columns is then the symmetric difference of their row indices.
+	protected static class Z2Column {
+		
+		protected int associatedEdge_;
+		protected int[] rows_;
+		protected int numberOfEntries_;
+		
+		public Z2Column( final Column _column ) {
+			
+			associatedEdge_ = _column.getAssociatedEdge();
+			numberOfEntries_ = _column.numberOfColumnEntries();
+			rows_ = new int[ numberOfEntries_ ];
+			
+			int k = 0;
+			for ( Integer row : _column.getColumnEntries().keySet() ) {
+				
+				rows_[ k++ ] = row;
+			}
+		}
+		
+		public int getAssociatedEdge() {
+			
+			return associatedEdge_;
+		}
+		
+		public int numberOfColumnEntries() {
+			
+			return numberOfEntries_;
+		}
+		
+		// the lowest entry in the matrix is the largest row index; -1 for an empty column
+		public int getLowestRow() {
+			
+			return numberOfEntries_ > 0 ? rows_[ numberOfEntries_-1 ] : -1;
+		}
+		
+		// Adds (mod 2) the supplied column to this column. The merge is written into
+		// the supplied buffer, which then becomes this column's storage; the previous 
+		// storage is returned so the caller can hand it back in as buffer next time.
+		public int[] add( final Z2Column _columnToAdd, int[] _buffer ) {
+			
+			final int[] rowsToAdd = _columnToAdd.rows_;
+			final int entriesToAdd = _columnToAdd.numberOfEntries_;
+			int[] previousRows = rows_;
+			int i = 0;
+			int j = 0;
+			int k = 0;
+			
+			if ( _buffer.length < numberOfEntries_ + entriesToAdd ) {
+				
+				_buffer = new int[ numberOfEntries_ + entriesToAdd ];
+			}
+			
+			while ( i < numberOfEntries_ && j < entriesToAdd ) {
+				
+				if ( rows_[ i ] < rowsToAdd[ j ] ) {
+					
+					_buffer[ k++ ] = rows_[ i++ ];
+				}
+				else if ( rows_[ i ] > rowsToAdd[ j ] ) {
+					
+					_buffer[ k++ ] = rowsToAdd[ j++ ];
+				}
+				else {
+					
+					// common entries cancel
+					i++;
+					j++;
+				}
+			}
+			while ( i < numberOfEntries_ ) _buffer[ k++ ] = rows_[ i++ ];
+			while ( j < entriesToAdd ) _buffer[ k++ ] = rowsToAdd[ j++ ];
+			
+			rows_ = _buffer;
+			numberOfEntries_ = k;
+			
+			return previousRows;
+		}
+		
+		public String toString() {
+			
+			StringBuffer columnAsString = new StringBuffer();
+
+			columnAsString.append( "e=" + associatedEdge_ );
+			
+			for ( int i=0; i<numberOfEntries_; i++ ) {
+				
+				columnAsString.append( ", ( " + rows_[ i ] + ", 1 )" );
+			}
+			
+			return columnAsString.toString();
+		}
+	}
+	
 	// Inner class hierarchy for the reduction implementors:
 	//		interface ReductionImplementorI
 	//		abstract base class ReductionImplementor
@@ -569,374 +671,80 @@ public abstract class PersistenceMatrix {
 		}
 	}
 		
+	// hjs 10/18/2026 Z2 reduction based on Z2Column (sorted int arrays) instead of the
+	// TreeMap-based Column: same algorithm as before (compare against all previous
+	// columns, restart after each merge), but without boxing and without copying 
+	// each column for every comparison.
 	protected class ReductionImplementorZ2 extends ReductionImplementor {
 		
 		protected ReductionImplementorZ2() {}
 		
 		public void reduce() {
-	    		    	
-	    	// To do -- Sanity check: do we have a matrix that is ready for this step?
-	    	
-	    	
-	    	
-	    	// Apply the reduction steps to the collected "matrix"
-	    	
-
-			ArrayList<Column> finalColumns = 
-						new ArrayList<Column>();
-			
-	    	Column tempColumn1;
-	    	Column tempColumn2;
-			int lastKeyInColumn1;
-			int lastKeyInColumn2;
-			int numberOfEntriesInColumn1;
-			int numberOfEntriesInColumn2;
-			boolean wasMerged;
-	    	int rowItemToCheck;
-	    	int j;
-	    	
-	    	// used as a check whether a column has been completely eliminated
-	    	boolean[] emptyColumnFlag = new boolean[ columns_.size() ];
-	    	for ( int i=0; i<emptyColumnFlag.length; i++ ) {
-	    		
-	    		emptyColumnFlag[ i ] = false;
-	    	}
-
-			Column mergedColumn;
-			
-			EdgeI originatingEdge;
-			EdgeI tmpEdge;
-			final List<EdgeI> tmpEdgelist = edgeList_.getEdges();
 
+			ArrayList<Z2Column> finalColumns = new ArrayList<Z2Column>();
+			Z2Column[] z2Columns = asZ2Columns();
+			int numberOfColumns = z2Columns.length;
+			// lowest row of each (partially) reduced column, or -1 when empty
+			int[] lowestRow = new int[ numberOfColumns ];
+			int[] mergeBuffer = new int[ 0 ];
+			int j;
 			
-			// Apply the reduction
 			if ( TDA.TRACE_FEEDBACK && TDA.TRACE_REDUCTION ) {
 		    	
 	        	strBufCollectFeedback.append( "Before reduction: \n" + asStringFormat1() );
 			}
 			
-			if ( columns_.size() > 0 ) {
+			for ( int i=0; i<numberOfColumns; i++ ) {
 				
-				// Take the last entry of the FIRST column
-				// and add it to final list
-				tempColumn1 = columns_.get( 0 ).makeColumnCopy();
-				numberOfEntriesInColumn2 = tempColumn1.numberOfColumnEntries();
-				int lastKey = tempColumn1.getColumnEntries().lastKey();
-
-//				System.out.println ( "(first column) tempColumn1.lastKey: " + lastKey );
-
-				finalColumns.add( tempColumn1 );
-
-				// set up the co-reduction:
-				setupCoreductionMatrix();
-
-//				System.out.println( "Still before starting reduction -- " +
-//						"co-reduction Matrix has form: \n" + coreductionColumns_.toString()
-//						+ "\n" );
+				lowestRow[ i ] = z2Columns[ i ].getLowestRow();
+			}
 			
+			if ( numberOfColumns > 0 ) {
 				
-				if ( TDA.TRACE_FEEDBACK && TDA.TRACE_PERSISTENCEMATRIX ) {
-			    	
-		        	strBufCollectFeedback.append( "\nfinalColumns.add[x1], i=" + 0 +
-						", j=0" + " first elem.=" + finalColumns.get( 0 ) );
-				}
-
-//				System.out.println ( "columns_.size():" + columns_.size() );
-
-
-				if ( TDA.TRACE_FEEDBACK && TDA.TRACE_PERSISTENCEMATRIX ) {
-					
-					System.out.println ( "Columns before applying reduction " );
-					System.out.println ( "---------------------------------\n" );
-					for ( int i=0; i<columns_.size(); i++ ) {
-						System.out.println ( "column " + i + ":  " + columns_.get( i ).toString() );
-					}
-	
-					System.out.println ( "\nReduction process" );
-					System.out.println ( "-----------------" );
-					
-					System.out.println ( "\nFinal columns:" );
-					for ( int k=0; k<finalColumns.size(); k++ ) {
-						System.out.println ( "       column k=" + k + ":   " + finalColumns.get( k ).toString() );
-					}
-					System.out.println ( "---------------------------------------------------------" );
-					System.out.println ();
-				}
+				// the first column can't be reduced
+				finalColumns.add( z2Columns[ 0 ] );
 				
 				// Now go through the remaining columns
-				for ( int i=1; i<columns_.size(); i++ ) {
-		
-
-					// reset the merged column
-					mergedColumn = new Column();
-					wasMerged = false;
-					tempColumn2 = columns_.get( i ).makeColumnCopy();
-					
-					numberOfEntriesInColumn2 = tempColumn2.numberOfColumnEntries();
+				for ( int i=1; i<numberOfColumns; i++ ) {
 					
-					lastKeyInColumn2 = tempColumn2.getColumnEntries().lastKey();
-
-
-					if ( TDA.TRACE_FEEDBACK && TDA.TRACE_PERSISTENCEMATRIX ) {
-						
-						System.out.println( "\nIteration i=" + i + ",   column to process:   " + tempColumn2 );
-						System.out.println();
-					}
-										
-					// do the "merge-compare" with all previous columns (and a "restart" after each merge)				
+					// do the "merge-compare" with all previous columns (and a "restart" after each merge)
 					j = 0;
-					while ( j<i && !emptyColumnFlag[ i ] ) {
-		
-						// only need to (re)visit any column that is not empty
-						if ( !emptyColumnFlag[ j ] ) {
-							
-							// Get the "current" column #2 (only if it was changed due to previous merge)
-							if ( wasMerged ) {
-							
-								// TODO: check if we actually have to reload the tempCol!!?
-								tempColumn2 = columns_.get( i ).makeColumnCopy();
-								numberOfEntriesInColumn2 = tempColumn2.numberOfColumnEntries();
-								wasMerged = false;
-							}
-							
-							// Get the next column to compare to
-							tempColumn1 = columns_.get( j ).makeColumnCopy();
-							numberOfEntriesInColumn1 = tempColumn1.numberOfColumnEntries();
-
-
-							if ( TDA.TRACE_FEEDBACK && TDA.TRACE_PERSISTENCEMATRIX ) {
-								
-								System.out.println ( "    j=" + j + ": comparing C1: " + tempColumn1 + ", C2: " + tempColumn2 );
-							}
-							
-
-							// Note: col 2 will have at least one element, so no need to check?
-							if ( numberOfEntriesInColumn1 > 0 && numberOfEntriesInColumn2 > 0 ) {
-
-								lastKeyInColumn2 = tempColumn2.getColumnEntries().lastKey();
-								lastKeyInColumn1 = tempColumn1.getColumnEntries().lastKey();
-
-								// only merge when last elements match
-								if ( lastKeyInColumn1 == lastKeyInColumn2 ) {
-
-									// set flag that we merge(d)
-									wasMerged = true;
-									
-									// first remove the last item from column 2, and column 1
-									tempColumn2.getColumnEntries().remove( lastKeyInColumn2 );
-									tempColumn1.getColumnEntries().remove( lastKeyInColumn1 );
-									
-									// if column 1 is empty, there's nothing left to do
-									if ( tempColumn1.getColumnEntries().size() > 0 ) {
-
-										int tmpValueColumn1;
-										int tmpValueColumn2;
-										// simply add all entries (multiplied by the factor) from col 1 to col2
-										do {
-
-											// get the new "last key" from column1
-											lastKeyInColumn1 = tempColumn1.getColumnEntries().lastKey();
-								
-											if ( tempColumn2.getColumnEntries().containsKey( lastKeyInColumn1 ) ) {
-																									
-												tempColumn2.getColumnEntries().remove( lastKeyInColumn1 );
-											}
-											else {
-												
-												tempColumn2.getColumnEntries().put( lastKeyInColumn1, 1 );
-											}
-												
-											// remove the last item from column 1
-											tempColumn1.getColumnEntries().remove( lastKeyInColumn1 );
-										} 
-										while ( tempColumn1.getColumnEntries().size() > 0 );
-									}
-								}
-
-								if ( TDA.TRACE_FEEDBACK && TDA.TRACE_COREDUCTION ) {
-							    	
-						        	strBufCollectFeedback.append( 
-						        			"\nCoreduction merge for i=" + i + ", j=" + j +
-						        			"\n" );
-								}
-								
-								// TODO
-								// apply the coreduction
-//									applyCoreduction( j, i );
-
-								if ( TDA.TRACE_FEEDBACK && TDA.TRACE_COREDUCTION ) {
-
-						        	strBufCollectFeedback.append( "\n\nCoreduction columns: \n" 
-						        			+ coreductionColumns_.toString() + "\n\n" );
-								}
+					while ( j<i && lowestRow[ i ] >= 0 ) {
 						
-								if ( wasMerged ) {
-				
-									// update the processed column with the merged data
-									columns_.set( i, tempColumn2 );
-									j = 0;
-								}
-								else {
-									
-									// nothing was merged, so go to next column
-									j++;
-								}
-							} // emptyColumn check
-							else {
-								
-								// one column was empty; if it was the second one, then set its flag
-								if ( numberOfEntriesInColumn2 == 0 ) {
-									
-									emptyColumnFlag[ i ] = true;
-								}
-								
-								// in either case (i.e. col 1 or 2 being empty), there is nothing to compare, 
-								// so skip ahead
-								j++;
-							}
+						// only merge when last elements match
+						if ( lowestRow[ j ] == lowestRow[ i ] ) {
+							
+							mergeBuffer = z2Columns[ i ].add( z2Columns[ j ], mergeBuffer );
+							lowestRow[ i ] = z2Columns[ i ].getLowestRow();
+							j = 0;
 						}
 						else {
 							
-							// the next column in line for comparison is empty, so skip ahead
 							j++;
 						}
-					} // while-loop for j
-		
-					if ( columns_.get( i ).numberOfColumnEntries() > 0 ) {
-
-						// when all the merging is done, and the "column 2" is still non-empty,
-						// then add it to our results
-						finalColumns.add( columns_.get( i ).makeColumnCopy() );
-						
-						if ( TDA.TRACE_FEEDBACK && TDA.TRACE_PERSISTENCEMATRIX ) {
-					    	
-				        	strBufCollectFeedback.append( "\nfinalColumns.add[x2], i=" + i +
-								", j-loop complete, lastElementInColumn2=" + lastKeyInColumn2 );
-						}
 					}
-					else {
+					
+					if ( lowestRow[ i ] >= 0 ) {
 						
-						// store the fact that we completely "merged away" a column, and won't need to
-						// deal with it anymore
-						emptyColumnFlag[ i ] = true;
+						finalColumns.add( z2Columns[ i ] );
 					}
 					
-//					System.out.println ( "   end of loop i=" + i );
-//					for ( int k=0; k<columns_.size(); k++ ) {
-//						System.out.println ( "       col k=" + k + ", " + columns_.get( k ).toString() );
-//					}
-
-
 					if ( TDA.TRACE_FEEDBACK && TDA.TRACE_PERSISTENCEMATRIX ) {
 						
-						System.out.println ( "\nFinal columns after step i=" + i +
-								":" );
-						for ( int k=0; k<finalColumns.size(); k++ ) {
-							System.out.println ( "       column k=" + k + ":   " + finalColumns.get( k ).toString() );
-						}
-						System.out.println ( "---------------------------------------------------------" );
-						System.out.println ();
+						System.out.println ( "Iteration i=" + i + ", reduced column: " + z2Columns[ i ] );
 					}
-				} // end of i-loop
-			} // condition that there are in fact any columns to process
-			
+				}
+			}
 			
 			if ( TDA.TRACE_FEEDBACK && TDA.TRACE_PERSISTENCEMATRIX ) {
 		    	
-	        	strBufCollectFeedback.append( "\n\nAfter reduction: \n" + this.toString() );
 	        	strBufCollectFeedback.append( "\n\nfinalColumns.size: " + finalColumns.size() );
 			}
 			
-			// Final step: compute the actual intervals
-			
-			Column tmpColumn;
-			int tmpEdgeIndex;
-			
-			// column contributions:
-	    	for ( int i=0; i< finalColumns.size(); i++ ) {
-				
-	    		tmpColumn = finalColumns.get( i );
-	    		tmpEdgeIndex = tmpColumn.getColumnEntries().lastKey();
-				originatingEdge = tmpEdgelist.get( tmpColumn.getAssociatedEdge() );
-
-				if ( tmpEdgeIndex >=0 ) {
-					
-					tmpEdge = tmpEdgelist.get( tmpEdgeIndex );
-					// hjs 10/13/2014 Use new constructor, set up for tracking the vertices of the edges
-					intervals_.add( 
-							new Interval( tmpColumn.getAssociatedEdge(),
-									tmpEdge, 
-									originatingEdge ));
-
-					if ( TDA.TRACE_FEEDBACK && TDA.TRACE_PERSISTENCEMATRIX ) {
-						
-						System.out.println( "col: adding interval " + new Interval( originatingEdge.getEdgeListIndex(),
-								tmpEdge.getEdgeLength(), 
-								originatingEdge.getEdgeLength() ) );
-					}
-					if ( TDA.TRACE_FEEDBACK && TDA.TRACE_PERSISTENCEMATRIX ) {
-
-			        	strBufCollectFeedback.append( "\nAdding interval from column, edge=" + finalColumns.get( i ) 
-							+ ", orig. edge=" + originatingEdge.getEdgeListIndex() );
-					}
-//					System.out.println( "Adding interval from column, edge=" + finalColumns.get( i ) 
-//							+ ", orig. edge=" + originatingEdge.edgeListIndex_ );
-				}
-	    	}
-	    	
-	    	
-	    	ArrayList<Integer> usedEdges = new ArrayList<Integer>();
-	    	for ( int k=0; k<finalColumns.size(); k++ ) {
-				
-	    		usedEdges.add( finalColumns.get( k ).columnEntries_.lastKey() );
-			}
-
-	    	// row contributions (death=infinite):
-			for ( j=0; j<rowEdgeList_.size(); j++ ) {
-				
-				rowItemToCheck = rowEdgeList_.get( j );
-
-	    		if ( !usedEdges.contains( rowItemToCheck ) ) {
-	    			
-//	    			System.out.println( "\n   rowItemToCheck=" + rowItemToCheck + 
-//	    					"\n   tmpEdgelist.size=" + tmpEdgelist.size() );
-	    			
-					tmpEdge = tmpEdgelist.get( rowItemToCheck );
-					// hjs 10/13/2014 Use new constructor, set up for tracking the vertices of the edge
-					intervals_.add( 
-							new Interval( rowItemToCheck, tmpEdge ) );
-
-
-					if ( TDA.TRACE_FEEDBACK && TDA.TRACE_PERSISTENCEMATRIX ) {
-						
-						System.out.println( "row: adding interval " + 
-								new Interval( rowItemToCheck, tmpEdge.getEdgeLength() ) );
-					}
-//					System.out.println( "\nAdding interval from row, tmpEdge.getDistance=" 
-//		        			+ tmpEdge.getEdgeLength() );
-					if ( TDA.TRACE_FEEDBACK && TDA.TRACE_PERSISTENCEMATRIX ) {
-				    	
-			        	strBufCollectFeedback.append( "\nAdding interval from row, tmpEdge.getDistance=" 
-			        			+ tmpEdge.getEdgeLength() );
-					}
-//					System.out.println( "Adding interval from row, tmpEdge.getDistance=" + tmpEdge.getDistance() );
-				}
-			}
-
-//			if ( COMPTOPO.TRACE_FEEDBACK && COMPTOPO.TRACE_PERSISTENCEMATRIX ) {
-	//
-//	        	strBufCollectFeedback.append( "\n\nFinal output (intervals): \n" 
-//	        			+ this.getIntervalsAsString() );
-	        	
-	        	strBufCollectFeedback.append( "\n\nCoreduction columns: \n" 
-	        			+ coreductionColumns_.toString() + "\n\n" );
-//			}
-	        	
-//			System.out.println( "\nFinal output (intervals): \n" + this.getIntervalsAsString() );
-	    
+			compileIntervals( finalColumns );
 		}
-
 		
+
 	    public void applyCoreduction( final int _colIndex1, final int _colIndex2 ) {
 
 //	    	// Apply the merge operation of column _colIndex1 to column _colIndex2
@@ -1028,9 +836,229 @@ public abstract class PersistenceMatrix {
 	    }
 	}
 
+	// hjs 10/18/2026 Reduction that looks up the column to merge with via a table
+	// that maps each lowest row entry to the (unique) reduced column that has it.
+	// Because the lowest entries of the already reduced columns are all distinct, the
+	// column found this way is exactly the one the standard reduction finds by scanning
+	// all previous columns, so the computed intervals are identical.
+	protected abstract class ReductionImplementorWithPivotLookup extends ReductionImplementor {
+		
+		// add the (multiple of the) pivot column that eliminates the lowest entry of
+		// the column to reduce
+		protected abstract void eliminateLowestEntry( final Column _pivotColumn, 
+				final Column _columnToReduce );
+		
+		public void reduce() {
+			
+			ArrayList<Column> finalColumns = 
+						new ArrayList<Column>();
+	    	Column columnToReduce;
+	    	int lowestRow;
+	    	int pivotColumnIndex;
+	    	int maxRow = -1;
+	    	int[] pivotColumnForRow;
+	    	
+			EdgeI originatingEdge;
+			EdgeI tmpEdge;
+			final List<EdgeI> tmpEdgelist = edgeList_.getEdges();
+			
+			if ( TDA.TRACE_FEEDBACK && TDA.TRACE_REDUCTION ) {
+		    	
+	        	strBufCollectFeedback.append( "Before reduction: \n" + asStringFormat1() );
+			}
+			
+			// the lowest entry of a column is its largest row index, so the table 
+			// only needs to cover the largest of those
+			for ( int i=0; i<columns_.size(); i++ ) {
+				
+				if ( columns_.get( i ).numberOfColumnEntries() > 0 ) {
+					
+					maxRow = Math.max( maxRow, columns_.get( i ).getColumnEntries().lastKey() );
+				}
+			}
+			
+			pivotColumnForRow = new int[ maxRow+1 ];
+			Arrays.fill( pivotColumnForRow, -1 );
+			
+			for ( int i=0; i<columns_.size(); i++ ) {
+				
+				columnToReduce = columns_.get( i ).makeColumnCopy();
+				
+				while ( columnToReduce.numberOfColumnEntries() > 0 ) {
+					
+					lowestRow = columnToReduce.getColumnEntries().lastKey();
+					pivotColumnIndex = pivotColumnForRow[ lowestRow ];
+					
+					if ( pivotColumnIndex < 0 ) break;
+					
+					eliminateLowestEntry( columns_.get( pivotColumnIndex ), columnToReduce );
+				}
+				
+				// update the processed column with the reduced data
+				columns_.set( i, columnToReduce );
+				
+				if ( columnToReduce.numberOfColumnEntries() > 0 ) {
+					
+					pivotColumnForRow[ columnToReduce.getColumnEntries().lastKey() ] = i;
+					finalColumns.add( columnToReduce );
+				}
+			}
+			
+			if ( TDA.TRACE_FEEDBACK && TDA.TRACE_PERSISTENCEMATRIX ) {
+		    	
+	        	strBufCollectFeedback.append( "\n\nAfter reduction: \n" + this.toString() );
+	        	strBufCollectFeedback.append( "\n\nfinalColumns.size: " + finalColumns.size() );
+			}
+			
+			// Final step: compute the actual intervals
+			Column tmpColumn;
+			int tmpEdgeIndex;
+			int rowItemToCheck;
+			
+			// column contributions:
+	    	for ( int i=0; i< finalColumns.size(); i++ ) {
+				
+	    		tmpColumn = finalColumns.get( i );
+	    		tmpEdgeIndex = tmpColumn.getColumnEntries().lastKey();
+				originatingEdge = tmpEdgelist.get( tmpColumn.getAssociatedEdge() );
+
+				if ( tmpEdgeIndex >=0 ) {
+					
+					tmpEdge = tmpEdgelist.get( tmpEdgeIndex );
+					intervals_.add( 
+							new Interval( tmpColumn.getAssociatedEdge(),
+									tmpEdge, 
+									originatingEdge ));
+				}
+	    	}
+
+	    	// row contributions (death=infinite), for the rows that are not the 
+	    	// lowest entry of any reduced column:
+			for ( int j=0; j<rowEdgeList_.size(); j++ ) {
+				
+				rowItemToCheck = rowEdgeList_.get( j );
+
+	    		if ( rowItemToCheck >= pivotColumnForRow.length || 
+	    				pivotColumnForRow[ rowItemToCheck ] < 0 ) {
+	    			
+					tmpEdge = tmpEdgelist.get( rowItemToCheck );
+					intervals_.add( 
+							new Interval( rowItemToCheck, tmpEdge ) );
+	    		}
+			}
+		}
+	}
+	
+	protected class ReductionImplementorPivotZ2 extends ReductionImplementor {
+		
+		protected ReductionImplementorPivotZ2() {}
+		
+		public void reduce() {
+			
+			ArrayList<Z2Column> finalColumns = new ArrayList<Z2Column>();
+			Z2Column[] z2Columns = asZ2Columns();
+			int[] mergeBuffer = new int[ 0 ];
+	    	int lowestRow;
+	    	int pivotColumnIndex;
+	    	int maxRow = -1;
+	    	int[] pivotColumnForRow;
+			
+			if ( TDA.TRACE_FEEDBACK && TDA.TRACE_REDUCTION ) {
+		    	
+	        	strBufCollectFeedback.append( "Before reduction: \n" + asStringFormat1() );
+			}
+			
+			for ( int i=0; i<z2Columns.length; i++ ) {
+				
+				maxRow = Math.max( maxRow, z2Columns[ i ].getLowestRow() );
+			}
+			
+			pivotColumnForRow = new int[ maxRow+1 ];
+			Arrays.fill( pivotColumnForRow, -1 );
+			
+			for ( int i=0; i<z2Columns.length; i++ ) {
+				
+				lowestRow = z2Columns[ i ].getLowestRow();
+				
+				while ( lowestRow >= 0 && ( pivotColumnIndex = pivotColumnForRow[ lowestRow ] ) >= 0 ) {
+					
+					mergeBuffer = z2Columns[ i ].add( z2Columns[ pivotColumnIndex ], mergeBuffer );
+					lowestRow = z2Columns[ i ].getLowestRow();
+				}
+				
+				if ( lowestRow >= 0 ) {
+					
+					pivotColumnForRow[ lowestRow ] = i;
+					finalColumns.add( z2Columns[ i ] );
+				}
+			}
+			
+			compileIntervals( finalColumns );
+		}
+	}
+	
+	protected class ReductionImplementorPivotZp extends ReductionImplementorWithPivotLookup {
+		
+		protected int p_;
+		
+		protected ReductionImplementorPivotZp( final int _p ) {
+			
+			this.p_ = _p;
+		}
+		
+		// Note: same arithmetic as in ReductionImplementorZp
+		protected void eliminateLowestEntry( final Column _pivotColumn, 
+				final Column _columnToReduce ) {
+			
+			SortedMap<Integer, Integer> pivotEntries = _pivotColumn.getColumnEntries();
+			SortedMap<Integer, Integer> entriesToReduce = _columnToReduce.getColumnEntries();
+			int lowestRow = entriesToReduce.lastKey();
+			int lastColumnValue1 = pivotEntries.get( lowestRow ) % p_;
+			int lastColumnValue2 = entriesToReduce.get( lowestRow ) % p_;
+			int columnFactor;
+			int tmpValueColumn2;
+			Integer currentValueColumn2;
+			
+			while ( lastColumnValue2 < 0 ) lastColumnValue2 += p_;
+			while ( lastColumnValue1 < 0 ) lastColumnValue1 += p_;
+			columnFactor = - inverse_[ lastColumnValue1 ] * lastColumnValue2;
+			while ( columnFactor < 0 ) columnFactor += p_;
+			
+			// the lowest entry gets eliminated by construction of the factor
+			entriesToReduce.remove( lowestRow );
+			
+			for ( SortedMap.Entry<Integer, Integer> entry : pivotEntries.headMap( lowestRow ).entrySet() ) {
+				
+				currentValueColumn2 = entriesToReduce.get( entry.getKey() );
+				
+				if ( currentValueColumn2 != null ) {
+					
+					tmpValueColumn2 = currentValueColumn2 + entry.getValue() * columnFactor;
+				}
+				else {
+					
+					tmpValueColumn2 = entry.getValue() * columnFactor;
+				}
+				
+				while ( tmpValueColumn2 < 0 ) tmpValueColumn2 += p_;
+				tmpValueColumn2 = tmpValueColumn2 % p_;
+				
+				if ( tmpValueColumn2 > 0 ) {
+					
+					entriesToReduce.put( entry.getKey(), tmpValueColumn2 );
+				}
+				else {
+					
+					entriesToReduce.remove( entry.getKey() );
+				}
+			}
+		}
+	}
+
 	public PersistenceMatrix( final RipsToPersistence _edgeList )  {
 		
 		int Zp_value = 0;
+		boolean usePivotLookup;
 
 		this.edgeList_ = _edgeList;
 		this.processData_ = edgeList_.getSettings();
@@ -1050,10 +1078,23 @@ public abstract class PersistenceMatrix {
 			}
 		}
 		
+		// hjs 10/18/2026 the pivot lookup can be selected for A/B comparisons with 
+		// the standard reduction
+		usePivotLookup = processData_.getValidatedProcessParameter(
+	            TDA.SETTING_REDUCTIONMETHOD ).equalsIgnoreCase( 
+	            		TDA.UI_REDUCTIONMETHOD_PIVOTLOOKUP );
+		
 		// logic for choosing the type of reduction (Z2 or Zp, p>2) to be used		
 		if ( Zp_value > 0 ) {
 			
-			reductionImplementor_ = new ReductionImplementorZp( Zp_value );
+			if ( usePivotLookup ) {
+				
+				reductionImplementor_ = new ReductionImplementorPivotZp( Zp_value );
+			}
+			else {
+				
+				reductionImplementor_ = new ReductionImplementorZp( Zp_value );
+			}
 
 			inverse_= new int[ Zp_value ];
 			int factor;
@@ -1068,7 +1109,14 @@ public abstract class PersistenceMatrix {
 		}
 		else {
 
-			reductionImplementor_ = new ReductionImplementorZ2();
+			if ( usePivotLookup ) {
+				
+				reductionImplementor_ = new ReductionImplementorPivotZ2();
+			}
+			else {
+				
+				reductionImplementor_ = new ReductionImplementorZ2();
+			}
 	//		reductionImplementor = new ReductionImplementorZ2Zp();
 		}
 	}
@@ -1078,6 +1126,11 @@ public abstract class PersistenceMatrix {
 		return this.columns_.size();
 	}
 	
+	public int getNumberOfClearedColumns() {
+		
+		return this.numberOfClearedColumns_;
+	}
+	
 	public int getInitialMatrixSize() {
 		
 		return this.initialMatrixSize_;
@@ -1127,6 +1180,58 @@ public abstract class PersistenceMatrix {
 		return reductionMatrixAsString.toString();
 	}
 	
+	// Set up the Z2 representation of the (unreduced) columns
+	protected Z2Column[] asZ2Columns() {
+		
+		Z2Column[] z2Columns = new Z2Column[ columns_.size() ];
+		
+		for ( int i=0; i<z2Columns.length; i++ ) {
+			
+			z2Columns[ i ] = new Z2Column( columns_.get( i ) );
+		}
+		
+		return z2Columns;
+	}
+	
+	// Compute the intervals from the reduced (non-empty) Z2 columns, and from the
+	// rows that are not the lowest entry of any of these columns (death=infinite)
+	protected void compileIntervals( final ArrayList<Z2Column> _finalColumns ) {
+		
+		final List<EdgeI> tmpEdgelist = edgeList_.getEdges();
+		Set<Integer> usedEdges = new HashSet<Integer>();
+		Z2Column tmpColumn;
+		int tmpEdgeIndex;
+		int rowItemToCheck;
+		
+		// column contributions:
+    	for ( int i=0; i<_finalColumns.size(); i++ ) {
+			
+    		tmpColumn = _finalColumns.get( i );
+    		tmpEdgeIndex = tmpColumn.getLowestRow();
+    		usedEdges.add( tmpEdgeIndex );
+
+			if ( tmpEdgeIndex >=0 ) {
+				
+				intervals_.add( 
+						new Interval( tmpColumn.getAssociatedEdge(),
+								tmpEdgelist.get( tmpEdgeIndex ), 
+								tmpEdgelist.get( tmpColumn.getAssociatedEdge() ) ));
+			}
+    	}
+    	
+    	// row contributions (death=infinite):
+		for ( int j=0; j<rowEdgeList_.size(); j++ ) {
+			
+			rowItemToCheck = rowEdgeList_.get( j );
+
+    		if ( !usedEdges.contains( rowItemToCheck ) ) {
+    			
+				intervals_.add( 
+						new Interval( rowItemToCheck, tmpEdgelist.get( rowItemToCheck ) ) );
+    		}
+		}
+	}
+	
 	public void addColumn( int _edgeIndex, SortedMap<Integer, Integer> _columnToAdd ) {
 		
 		int key;
@@ -1137,7 +1242,7 @@ public abstract class PersistenceMatrix {
 		// Instead: use columnItem:
 		this.columns_.add( new Column( _edgeIndex, _columnToAdd  ) );
 	}
-		
+	
 	public void addRowEdgeListEntry( final int _edgeIndex ) {
 		
 		this.rowEdgeList_.add( new Integer( _edgeIndex ));
@@ -1185,14 +1290,53 @@ public abstract class PersistenceMatrix {
 //		}
     }
 	
+    /*
+     * Clearing (twist): a column whose associated edge is already paired by the 
+     * 0-dim. reduction (the union-find of the edge list) can't have a non-zero
+     * reduced column, so it is dropped without being processed. This reuses the 
+     * pairing the edge list computes anyway, and leaves the intervals unchanged.
+     */
+    public int clearColumns() {
+    	
+		ArrayList<Column> keptColumns = new ArrayList<Column>( columns_.size() );
+		ArrayList<Integer> keptAssociatedEdges = new ArrayList<Integer>( columns_.size() );
+		Column tmpColumn;
+		int numberOfClearedColumns = 0;
+		
+		for ( int i=0; i<columns_.size(); i++ ) {
+			
+			tmpColumn = columns_.get( i );
+			
+			if ( edgeList_.isPairedInDimensionZero( tmpColumn.getAssociatedEdge() ) ) {
+				
+				numberOfClearedColumns++;
+			}
+			else {
+				
+				keptColumns.add( tmpColumn );
+				keptAssociatedEdges.add( associatedEdgesForColumnList_.get( i ) );
+			}
+		}
+		
+		if ( numberOfClearedColumns > 0 ) {
+			
+			columns_ = keptColumns;
+			associatedEdgesForColumnList_ = keptAssociatedEdges;
+		}
+		
+		numberOfClearedColumns_ += numberOfClearedColumns;
+		
+		return numberOfClearedColumns;
+    }
+	
     public void reduce() {
     	
     	// hjs 6/3/2014 capture the size of the reduction matrix, to be reported later
-    	initialMatrixSize_ = this.columns_.size();
+    	// hjs 10/18/2026 (including any columns that were dropped by clearing)
+    	initialMatrixSize_ = this.columns_.size() + numberOfClearedColumns_;
     	
     	// forward the reduction to the appropriate handler
     	reductionImplementor_.reduce();
-    	
     }
     
     public String getIntervalsAsString() {
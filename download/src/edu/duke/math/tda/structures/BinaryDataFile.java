@@ -0,0 +1,455 @@
+/*
+ * Created October 2026
+ *
+ * This file is part of Topological Data Analysis
+ * edu.duke.math.tda
+ * Copyright (c) 2012-2014 by John Harer
+ * All rights reserved.
+ *
+ * License Info:
+ *
+ *
+ */
+
+package edu.duke.math.tda.structures;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+
+import edu.duke.math.tda.structures.edgematrix.DistanceMatrix;
+import edu.duke.math.tda.structures.edgematrix.MappedRowStorage;
+import edu.duke.math.tda.structures.edgematrix.SparseMatrix;
+import edu.duke.math.tda.structures.pointcloud.PointCloudInRn;
+import edu.duke.math.tda.utility.TDA;
+import edu.duke.math.tda.utility.errorhandling.TdaException;
+import edu.duke.math.tda.utility.settings.Settings;
+
+/**
+ * Compact binary file format for point clouds, distance matrices and sparse
+ * matrices, read via memory-mapping
+ *
+ * <p><strong>Details:</strong> <br>
+ *
+ * All values are little-endian. The file starts with a 32 byte header:
+ *
+ *   bytes  0-3   the magic characters 'TDAB'
+ *   bytes  4-7   (int) the format version (currently 1)
+ *   bytes  8-11  (int) the data type: 1 = point cloud, 2 = distance matrix,
+ *                3 = sparse matrix
+ *   bytes 12-15  (int) reserved (0)
+ *   bytes 16-23  (long) the row count: the number of points, the number of rows
+ *                of the distance matrix, or the number of sparse matrix entries
+ *   bytes 24-31  (long) the column count: the point dimension, the number of
+ *                columns of the distance matrix, or 3 for a sparse matrix
+ *
+ * followed by the data: the coordinates of the points, or the entries of the
+ * distance matrix, as doubles in row-major order; or for a sparse matrix, one
+ * (int row, int col, double length) triple of 16 bytes per entry, with the same
+ * meaning as the lines of the text format.
+ *
+ * The data is mapped into memory in regions of whole rows, and copied into the
+ * arrays that back the point cloud or sparse matrix with bulk reads, so loading 
+ * doesn't involve any parsing. A distance matrix isn't copied at all: its rows are
+ * read straight from the mapped file (see MappedRowStorage).
+ *
+ * <p><strong>Change History:</strong> <br>
+ * Created October 2026
+ *
+ *
+ * @author Jurgen Sladeczek (hjs) <br>
+ * For the latest info, please visit www.math.duke.edu.
+ */
+
+public class BinaryDataFile {
+
+	public static final int MAGIC = ( 'T' ) | ( 'D' << 8 ) | ( 'A' << 16 ) | ( 'B' << 24 );
+	public static final int VERSION = 1;
+	public static final int DATATYPE_POINTCLOUD = 1;
+	public static final int DATATYPE_DISTANCEMATRIX = 2;
+	public static final int DATATYPE_SPARSEMATRIX = 3;
+	public static final int HEADERSIZE = 32;
+	public static final int SPARSEENTRYSIZE = 16;
+
+	// largest region of the file that we map (or write) at once
+	protected static final long MAXREGIONSIZE = 1L << 30;
+	protected static final int WRITEBUFFERSIZE = 1 << 20;
+
+	protected final File dataFile_;
+	protected final String fileName_;
+	protected final int dataType_;
+	protected final int rowCount_;
+	protected final int columnCount_;
+
+	// Open the file and validate its header (the data is read by the load methods)
+	public BinaryDataFile( final String _directory, final String _fileName ) throws Exception {
+
+		ByteBuffer header = ByteBuffer.allocate( HEADERSIZE ).order( ByteOrder.LITTLE_ENDIAN );
+		long rowCount;
+		long columnCount;
+		long expectedFileSize;
+
+		this.dataFile_ = new File( _directory, _fileName );
+		this.fileName_ = _fileName;
+
+		if ( !dataFile_.exists() ) {
+
+            throw new TdaException(
+                    TDA.ERROR_APP_USERINPUT,
+                    "(Loading binary data) " +
+                    "Cannot find the file: '"
+                    + _fileName + "' in directory '" + _directory + "'." );
+		}
+
+		try ( FileChannel channel = FileChannel.open( dataFile_.toPath(), StandardOpenOption.READ ) ) {
+
+			while ( header.hasRemaining() && channel.read( header ) > 0 ) {}
+
+			if ( header.hasRemaining() || header.getInt( 0 ) != MAGIC ) {
+
+				throw new TdaException(
+	                    TDA.ERROR_APP_USERINPUT,
+	                    "(Loading binary data) " +
+	                    "The file '" + _fileName + "' is not a binary data file." );
+			}
+
+			if ( header.getInt( 4 ) != VERSION ) {
+
+				throw new TdaException(
+	                    TDA.ERROR_APP_USERINPUT,
+	                    "(Loading binary data) " +
+	                    "The file '" + _fileName + "' uses version " + header.getInt( 4 ) +
+	                    " of the binary format, which is not supported (expected: " +
+	                    VERSION + ")." );
+			}
+
+			this.dataType_ = header.getInt( 8 );
+			rowCount = header.getLong( 16 );
+			columnCount = header.getLong( 24 );
+
+			if ( dataType_ < DATATYPE_POINTCLOUD || dataType_ > DATATYPE_SPARSEMATRIX ||
+					rowCount < 0 || rowCount > Integer.MAX_VALUE - 8 ||
+					columnCount < 1 || columnCount > Integer.MAX_VALUE - 8 ||
+					( dataType_ == DATATYPE_DISTANCEMATRIX && rowCount != columnCount ) ||
+					( dataType_ == DATATYPE_SPARSEMATRIX && columnCount != 3 ) ) {
+
+				throw new TdaException(
+	                    TDA.ERROR_APP_USERINPUT,
+	                    "(Loading binary data) " +
+	                    "The header of the file '" + _fileName + "' is invalid (type=" +
+	                    dataType_ + ", rows=" + rowCount + ", columns=" + columnCount + ")." );
+			}
+
+			expectedFileSize = HEADERSIZE + rowCount * getRowSize( dataType_, columnCount );
+
+			if ( channel.size() != expectedFileSize ) {
+
+				throw new TdaException(
+	                    TDA.ERROR_APP_USERINPUT,
+	                    "(Loading binary data) " +
+	                    "The file '" + _fileName + "' has " + channel.size() +
+	                    " bytes instead of the " + expectedFileSize +
+	                    " bytes given by its header." );
+			}
+		}
+
+		this.rowCount_ = (int) rowCount;
+		this.columnCount_ = (int) columnCount;
+	}
+
+	protected static long getRowSize( final int _dataType, final long _columnCount ) {
+
+		if ( _dataType == DATATYPE_SPARSEMATRIX ) return SPARSEENTRYSIZE;
+
+		return _columnCount * Double.BYTES;
+	}
+
+	public int getDataType() {
+
+		return this.dataType_;
+	}
+
+	public int getRowCount() {
+
+		return this.rowCount_;
+	}
+
+	public int getColumnCount() {
+
+		return this.columnCount_;
+	}
+
+	protected void checkDataType( final int _dataType ) throws Exception {
+
+		if ( dataType_ != _dataType ) {
+
+			throw new TdaException(
+                    TDA.ERROR_APP_DEV,
+                    "(BinaryDataFile) " +
+                    "The file '" + fileName_ + "' holds data of type " + dataType_ +
+                    ", not of the requested type " + _dataType + "." );
+		}
+	}
+
+	// Read the rows of doubles (the points)
+	protected double[][] loadRows() throws Exception {
+
+		final long rowSize = getRowSize( dataType_, columnCount_ );
+		final int rowsPerRegion = (int) Math.max( 1, MAXREGIONSIZE / rowSize );
+		double[][] rows = new double[ rowCount_ ][];
+		int regionRows;
+
+		try ( FileChannel channel = FileChannel.open( dataFile_.toPath(), StandardOpenOption.READ ) ) {
+
+			for ( int firstRow=0; firstRow<rowCount_; firstRow+=regionRows ) {
+
+				regionRows = Math.min( rowsPerRegion, rowCount_ - firstRow );
+
+				ByteBuffer region = channel.map( FileChannel.MapMode.READ_ONLY,
+						HEADERSIZE + firstRow * rowSize, regionRows * rowSize )
+						.order( ByteOrder.LITTLE_ENDIAN );
+
+				for ( int i=0; i<regionRows; i++ ) {
+
+					rows[ firstRow+i ] = new double[ columnCount_ ];
+					region.asDoubleBuffer().get( rows[ firstRow+i ] );
+					region.position( region.position() + (int) rowSize );
+				}
+			}
+		}
+
+		return rows;
+	}
+
+	public PointCloudInRn loadPointCloud() throws Exception {
+
+		checkDataType( DATATYPE_POINTCLOUD );
+
+		return new PointCloudInRn( loadRows() );
+	}
+
+	// hjs 10/18/2026 The rows are read straight from the mapped file (whatever the
+	// size of the matrix), so the matrix is never copied onto the heap
+	public DistanceMatrix loadDistanceMatrix() throws Exception {
+
+		checkDataType( DATATYPE_DISTANCEMATRIX );
+
+		if ( rowCount_ == 0 ) {
+
+			return new DistanceMatrix( new double[ 0 ][] );
+		}
+
+		return new DistanceMatrix( new MappedRowStorage( dataFile_, HEADERSIZE, rowCount_ ) );
+	}
+
+	public SparseMatrix loadSparseMatrix( final Settings _processData ) throws Exception {
+
+		final int entriesPerRegion = (int) ( MAXREGIONSIZE / SPARSEENTRYSIZE );
+		int[] rows = new int[ rowCount_ ];
+		int[] cols = new int[ rowCount_ ];
+		double[] lengths = new double[ rowCount_ ];
+		int regionEntries;
+		int offset;
+
+		checkDataType( DATATYPE_SPARSEMATRIX );
+
+		try ( FileChannel channel = FileChannel.open( dataFile_.toPath(), StandardOpenOption.READ ) ) {
+
+			for ( int firstEntry=0; firstEntry<rowCount_; firstEntry+=regionEntries ) {
+
+				regionEntries = Math.min( entriesPerRegion, rowCount_ - firstEntry );
+
+				ByteBuffer region = channel.map( FileChannel.MapMode.READ_ONLY,
+						HEADERSIZE + (long) firstEntry * SPARSEENTRYSIZE,
+						(long) regionEntries * SPARSEENTRYSIZE )
+						.order( ByteOrder.LITTLE_ENDIAN );
+
+				for ( int i=0; i<regionEntries; i++ ) {
+
+					offset = i * SPARSEENTRYSIZE;
+					rows[ firstEntry+i ] = region.getInt( offset );
+					cols[ firstEntry+i ] = region.getInt( offset + 4 );
+					lengths[ firstEntry+i ] = region.getDouble( offset + 8 );
+				}
+			}
+		}
+
+		return new SparseMatrix( rows, cols, lengths, rowCount_, _processData );
+	}
+
+	// Write the data (whichever of the point cloud, distance matrix or sparse matrix
+	// is supplied) to a binary file
+	public static void writeData( final String _directory,
+			final String _fileName,
+			final PointCloudInRn _pointCloud,
+			final DistanceMatrix _distanceMatrix,
+			final SparseMatrix _sparseMatrix ) throws Exception {
+
+		if ( _pointCloud != null ) {
+
+			writePointCloud( _directory, _fileName, _pointCloud );
+		}
+		else if ( _distanceMatrix != null ) {
+
+			writeDistanceMatrix( _directory, _fileName, _distanceMatrix );
+		}
+		else if ( _sparseMatrix != null ) {
+
+			writeSparseMatrix( _directory, _fileName, _sparseMatrix );
+		}
+	}
+
+	public static void writePointCloud( final String _directory,
+			final String _fileName,
+			final PointCloudInRn _pointCloud ) throws Exception {
+
+		List<PointRn> points = _pointCloud.getPoints();
+		final int dimension = points.isEmpty() ? 1 : points.get( 0 ).getDimension();
+		double[][] rows = new double[ points.size() ][];
+
+		for ( int i=0; i<points.size(); i++ ) {
+
+			rows[ i ] = points.get( i ).getCoordinates();
+
+			if ( rows[ i ].length != dimension ) {
+
+				throw new TdaException(
+	                    TDA.ERROR_APP_USERINPUT,
+	                    "(Writing binary data) " +
+	                    "The points of the point cloud need to have the same dimension " +
+	                    "(First discrepancy found at point " + (i+1) + ")." );
+			}
+		}
+
+		writeRows( _directory, _fileName, DATATYPE_POINTCLOUD, rows, dimension );
+	}
+
+	public static void writeDistanceMatrix( final String _directory,
+			final String _fileName,
+			final DistanceMatrix _distanceMatrix ) throws Exception {
+
+		final int numberOfVertices = _distanceMatrix.getNumberOfVertices();
+		double[] rowBuffer;
+		double[] row;
+
+		if ( !_distanceMatrix.isStoredOffHeap() ) {
+
+			writeRows( _directory, _fileName, DATATYPE_DISTANCEMATRIX,
+					_distanceMatrix.getDistances(), numberOfVertices );
+			return;
+		}
+
+		// hjs 10/18/2026 Only the upper triangle is stored off-heap, so we write out
+		// the symmetric matrix
+		rowBuffer = new double[ numberOfVertices ];
+
+		try ( FileChannel channel = openForWriting( _directory, _fileName ) ) {
+
+			ByteBuffer buffer = createHeader( DATATYPE_DISTANCEMATRIX,
+					numberOfVertices, numberOfVertices );
+
+			for ( int i=0; i<numberOfVertices; i++ ) {
+
+				row = _distanceMatrix.getRow( i, rowBuffer );
+
+				for ( int j=0; j<numberOfVertices; j++ ) {
+
+					if ( buffer.remaining() < Double.BYTES ) flush( channel, buffer );
+
+					buffer.putDouble( ( j < i ) ? 
+							_distanceMatrix.getDistance( j, i ) : row[ j ] );
+				}
+			}
+
+			flush( channel, buffer );
+		}
+	}
+
+	// Write the entries with their original indices (i.e., before the adjustment
+	// for a minimum index greater than 0), so that loading the binary file sets
+	// up the same sparse matrix as the text file
+	public static void writeSparseMatrix( final String _directory,
+			final String _fileName,
+			final SparseMatrix _sparseMatrix ) throws Exception {
+
+		List<EdgeI> edges = _sparseMatrix.getEdges();
+		final int indexAdjustment = _sparseMatrix.getMinIndexAdjustment();
+		EdgeI edge;
+
+		try ( FileChannel channel = openForWriting( _directory, _fileName ) ) {
+
+			ByteBuffer buffer = createHeader( DATATYPE_SPARSEMATRIX, edges.size(), 3 );
+
+			for ( int i=0; i<edges.size(); i++ ) {
+
+				if ( buffer.remaining() < SPARSEENTRYSIZE ) flush( channel, buffer );
+
+				edge = edges.get( i );
+				buffer.putInt( edge.getVertexIndex1() + indexAdjustment );
+				buffer.putInt( edge.getVertexIndex2() + indexAdjustment );
+				buffer.putDouble( edge.getEdgeLength() );
+			}
+
+			flush( channel, buffer );
+		}
+	}
+
+	protected static void writeRows( final String _directory,
+			final String _fileName,
+			final int _dataType,
+			final double[][] _rows,
+			final int _columnCount ) throws Exception {
+
+		try ( FileChannel channel = openForWriting( _directory, _fileName ) ) {
+
+			ByteBuffer buffer = createHeader( _dataType, _rows.length, _columnCount );
+
+			for ( int i=0; i<_rows.length; i++ ) {
+
+				for ( int j=0; j<_columnCount; j++ ) {
+
+					if ( buffer.remaining() < Double.BYTES ) flush( channel, buffer );
+
+					buffer.putDouble( _rows[ i ][ j ] );
+				}
+			}
+
+			flush( channel, buffer );
+		}
+	}
+
+	protected static FileChannel openForWriting( final String _directory,
+			final String _fileName ) throws IOException {
+
+		return FileChannel.open( new File( _directory, _fileName ).toPath(),
+				StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+				StandardOpenOption.TRUNCATE_EXISTING );
+	}
+
+	protected static ByteBuffer createHeader( final int _dataType,
+			final long _rowCount, final long _columnCount ) {
+
+		ByteBuffer buffer = ByteBuffer.allocate( WRITEBUFFERSIZE ).order( ByteOrder.LITTLE_ENDIAN );
+
+		buffer.putInt( MAGIC );
+		buffer.putInt( VERSION );
+		buffer.putInt( _dataType );
+		buffer.putInt( 0 );
+		buffer.putLong( _rowCount );
+		buffer.putLong( _columnCount );
+
+		return buffer;
+	}
+
+	protected static void flush( final FileChannel _channel,
+			final ByteBuffer _buffer ) throws IOException {
+
+		_buffer.flip();
+		while ( _buffer.hasRemaining() ) _channel.write( _buffer );
+		_buffer.clear();
+	}
+}
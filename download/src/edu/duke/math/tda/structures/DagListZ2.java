@@ -0,0 +1,217 @@
+/*
+ * Created October 2026
+ *
+ * This file is part of Topological Data Analysis
+ * edu.duke.math.tda
+ * Copyright (c) 2012-2014 by John Harer
+ * All rights reserved.
+ *
+ * License Info:
+ *
+ *
+ */
+
+package edu.duke.math.tda.structures;
+
+import java.util.Arrays;
+import java.util.SortedMap;
+import java.util.TreeMap;
+
+/**
+ * DagListZ2 holds the dagList of a Z2 edge or face as a sorted array of (distinct)
+ * indices
+ *
+ * <p><strong>Details:</strong> <br>
+ *
+ * Over Z2 every coefficient in a dagList is 1, so only the indices need to be kept.
+ * Merging two dagLists is then the symmetric difference of their indices, which we
+ * compute in place: the merge runs from the back of the array, so it never
+ * overwrites an entry that it still needs to read, and the only allocation is when
+ * the array has to grow.
+ *
+ * For the code that works with the map form of the dagList, asSortedMap() creates
+ * a (detached) copy with all values set to 1.
+ *
+ * <p><strong>Change History:</strong> <br>
+ * Created October 2026
+ *
+ *
+ * @author Jurgen Sladeczek (hjs) <br>
+ * For the latest info, please visit www.math.duke.edu.
+ */
+
+public class DagListZ2 {
+
+	protected static final int[] NOINDICES = new int[ 0 ];
+	protected static final int MINCAPACITY = 4;
+	protected static final Integer COEFFICIENT = Integer.valueOf( 1 );
+
+	protected int[] indices_;
+	protected int size_;
+
+	public DagListZ2() {
+
+		indices_ = NOINDICES;
+	}
+
+	public DagListZ2( final DagListZ2 _orig ) {
+
+		indices_ = ( _orig.size_ > 0 ) ?
+				Arrays.copyOf( _orig.indices_, _orig.size_ ) : NOINDICES;
+		size_ = _orig.size_;
+	}
+
+	// Set up the list from the indices _sortedIndices[ _from.._to-1 ], which are
+	// already sorted (and distinct)
+	public DagListZ2( final int[] _sortedIndices, final int _from, final int _to ) {
+
+		indices_ = ( _to > _from ) ?
+				Arrays.copyOfRange( _sortedIndices, _from, _to ) : NOINDICES;
+		size_ = _to - _from;
+	}
+
+	public int size() {
+
+		return size_;
+	}
+
+	public int get( final int _position ) {
+
+		return indices_[ _position ];
+	}
+
+	public boolean contains( final int _index ) {
+
+		return Arrays.binarySearch( indices_, 0, size_, _index ) >= 0;
+	}
+
+	// Make sure that the array can hold the specified number of indices
+	protected void ensureCapacity( final int _capacity ) {
+
+		if ( indices_.length < _capacity ) {
+
+			indices_ = Arrays.copyOf( indices_,
+					Math.max( _capacity, Math.max( MINCAPACITY, 2*indices_.length ) ) );
+		}
+	}
+
+	// Add the index (if it is not in the list already, as for a map)
+	public void add( final int _index ) {
+
+		int position = Arrays.binarySearch( indices_, 0, size_, _index );
+
+		if ( position < 0 ) {
+
+			position = -position - 1;
+			ensureCapacity( size_ + 1 );
+			System.arraycopy( indices_, position, indices_, position+1, size_ - position );
+			indices_[ position ] = _index;
+			size_++;
+		}
+	}
+
+	// Merge (i.e., add modulo 2) the sorted indices _indicesToMerge[ 0..count-1 ]
+	// into this list
+	protected void merge( final int[] _indicesToMerge, final int _count ) {
+
+		int i = size_ - 1;
+		int j = _count - 1;
+		int k;
+
+		if ( _count == 0 ) return;
+
+		ensureCapacity( size_ + _count );
+
+		// fill from the back: the write position k never falls below i, so the
+		// entries of this list that are still to be read stay intact
+		k = size_ + _count;
+		while ( i >= 0 && j >= 0 ) {
+
+			if ( indices_[ i ] > _indicesToMerge[ j ] ) {
+
+				indices_[ --k ] = indices_[ i-- ];
+			}
+			else if ( indices_[ i ] < _indicesToMerge[ j ] ) {
+
+				indices_[ --k ] = _indicesToMerge[ j-- ];
+			}
+			else {
+
+				// common entries cancel
+				i--;
+				j--;
+			}
+		}
+		while ( j >= 0 ) indices_[ --k ] = _indicesToMerge[ j-- ];
+
+		// the remaining entries of this list (0..i) are already in place; close
+		// the gap left by any cancelled entries
+		if ( k > i + 1 ) {
+
+			System.arraycopy( indices_, k, indices_, i+1, size_ + _count - k );
+		}
+
+		size_ = ( i + 1 ) + ( size_ + _count - k );
+	}
+
+	public void merge( final DagListZ2 _dagListToMerge ) {
+
+		if ( _dagListToMerge == this ) {
+
+			// adding a list to itself gives the empty list
+			size_ = 0;
+			return;
+		}
+
+		merge( _dagListToMerge.indices_, _dagListToMerge.size_ );
+	}
+
+	public void merge( final SortedMap<Integer, Integer> _dagListToMerge ) {
+
+		int[] indicesToMerge;
+		int count = 0;
+
+		if ( _dagListToMerge == null || _dagListToMerge.size() == 0 ) return;
+
+		indicesToMerge = new int[ _dagListToMerge.size() ];
+		for ( Integer key : _dagListToMerge.keySet() ) {
+
+			indicesToMerge[ count++ ] = key;
+		}
+
+		merge( indicesToMerge, count );
+	}
+
+	// A copy of the (sorted) indices
+	public int[] toArray() {
+
+		return Arrays.copyOf( indices_, size_ );
+	}
+
+	public SortedMap<Integer, Integer> asSortedMap() {
+
+		SortedMap<Integer, Integer> dagList = new TreeMap<Integer, Integer>();
+
+		for ( int i=0; i<size_; i++ ) {
+
+			dagList.put( indices_[ i ], COEFFICIENT );
+		}
+
+		return dagList;
+	}
+
+	// same format as for the map form of the dagList
+	public String toString() {
+
+		StringBuffer dagListAsString = new StringBuffer( "{" );
+
+		for ( int i=0; i<size_; i++ ) {
+
+			if ( i > 0 ) dagListAsString.append( ", " );
+			dagListAsString.append( indices_[ i ] + "=1" );
+		}
+		dagListAsString.append( "}" );
+
+		return dagListAsString.toString();
+	}
+}
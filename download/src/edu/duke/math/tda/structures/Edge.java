@@ -13,7 +13,6 @@
 package edu.duke.math.tda.structures;
 
 import java.util.SortedMap;
-import java.util.TreeMap;
 
 /**
  * Documents 
@@ -52,7 +51,9 @@ public abstract class Edge implements EdgeI  {
     // in the edgeList that it is part of
     protected int edgeListIndex_ = -1;
 
-    protected SortedMap<Integer, Integer> dagList_ = new TreeMap<Integer, Integer>();
+    // hjs 10/18/2026 (set up by the subclasses: the Z2 edges don't use the map, and
+    // keep their dagList as a sorted index array instead)
+    protected SortedMap<Integer, Integer> dagList_;
 
 
     public Edge( final Edge _orig ) {
@@ -224,6 +225,19 @@ public abstract class Edge implements EdgeI  {
     	this.dagType_ = _dagType;
     }
     
+    public int getDagListSize() {
+    	
+    	return this.getDagList().size();
+    }
+    
+    // hjs 10/18/2026 Merge the dagList of another edge; the subclasses can do this
+    // without going through the map form of the dagList
+    public void mergeIntoDagList( final EdgeI _edgeToMerge, 
+    		final int _edgeOrientation ) {
+    	
+    	this.mergeIntoDagList( _edgeToMerge.getDagList(), _edgeOrientation );
+    }
+    
     public int getOtherVertex( final int _vertexIndex ) {
     	
     	if ( _vertexIndex == this.vertexIndex1_ ) {
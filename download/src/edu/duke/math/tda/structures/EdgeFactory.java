@@ -102,6 +102,12 @@ public class EdgeFactory {
 		edgeType_ = EDGETYPEZ2_;
 	}
 	
+	// hjs 10/18/2026 Are the edges created for Z2 (rather than Zp)?
+	public boolean createsZ2Edges() {
+		
+		return edgeType_ == EDGETYPEZ2_;
+	}
+	
 	public EdgeI createEdge( final int _vertexIndex1, 
 			final int _vertexIndex2 ) {
 		
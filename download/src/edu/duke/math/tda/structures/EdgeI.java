@@ -58,6 +58,10 @@ public interface EdgeI extends Comparable<EdgeI> {
     public abstract void mergeIntoDagList( 
     		final SortedMap<Integer, Integer> _dagListToMerge,
     		final int _edgeOrientation );
+    public abstract void mergeIntoDagList( 
+    		final EdgeI _edgeToMerge,
+    		final int _edgeOrientation );
+    public abstract int getDagListSize();
     
     public abstract int getEdgeListIndex();
     
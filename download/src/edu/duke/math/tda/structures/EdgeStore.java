@@ -0,0 +1,459 @@
+/*
+ * Created October 2026
+ *
+ * This file is part of Topological Data Analysis
+ * edu.duke.math.tda
+ * Copyright (c) 2012-2014 by John Harer
+ * All rights reserved.
+ *
+ * License Info:
+ *
+ *
+ */
+
+package edu.duke.math.tda.structures;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.RandomAccess;
+import java.util.SortedMap;
+import java.util.TreeMap;
+
+/**
+ * EdgeStore class for holding the (sorted) edges of a filtration in parallel
+ * primitive arrays
+ *
+ * <p><strong>Details:</strong> <br>
+ *
+ * Holds the vertex indices, the edge length and the flags (u-positive, p-positive,
+ * union-find vertex) of each edge, indexed by the edge's position in the sorted
+ * edge list. The edges are sorted by length via an index permutation; ties keep
+ * their original order, just like sorting the edge objects with Collections.sort.
+ *
+ * EdgeI objects are only created on demand, through getEdge() or the list view
+ * returned by asList(), and are not kept by the store: they are views that read
+ * the flags from the store and write them through to it. The dagList of an edge 
+ * is kept by the store as well (created when an edge view is first asked for), so 
+ * every view of an edge works with the same dagList.
+ *
+ * <p><strong>Change History:</strong> <br>
+ * Created October 2026
+ *
+ *
+ * @author Jurgen Sladeczek (hjs) <br>
+ * For the latest info, please visit www.math.duke.edu.
+ */
+
+public class EdgeStore {
+
+	protected static final byte FLAG_UPOSITIVE = 1;
+	protected static final byte FLAG_PPOSITIVE = 2;
+
+	protected int numberOfEdges_;
+	protected int[] vertexIndex1_;
+	protected int[] vertexIndex2_;
+	protected double[] edgeLength_;
+	protected byte[] flags_;
+	protected int[] unionFindVertexIndex_;
+
+	// the dagLists of the edges (either for Z2 or for Zp, depending on the edge
+	// factory), created on demand
+	protected boolean isZ2_;
+	protected DagListZ2[] dagListsZ2_;
+	protected SortedMap<Integer, Integer>[] dagListsZp_;
+	protected EdgeFactory edgeFactory_;
+
+	// Views of a single edge: the flags go to the store, and the dagList is the
+	// one that the store keeps for the edge
+	protected class EdgeViewZ2 extends EdgeZ2 {
+
+		protected EdgeViewZ2( final int _edgeIndex ) {
+
+			super( EdgeStore.this.vertexIndex1_[ _edgeIndex ], EdgeStore.this.vertexIndex2_[ _edgeIndex ],
+					EdgeStore.this.edgeLength_[ _edgeIndex ], EdgeStore.this.getDagListZ2( _edgeIndex ) );
+			this.edgeListIndex_ = _edgeIndex;
+		}
+
+		public boolean isUPositive() {
+
+			return EdgeStore.this.isUPositive( edgeListIndex_ );
+		}
+
+		public boolean isPPositive() {
+
+			return EdgeStore.this.isPPositive( edgeListIndex_ );
+		}
+
+		public int getUnionFindVertexIndex() {
+
+			return EdgeStore.this.getUnionFindVertexIndex( edgeListIndex_ );
+		}
+
+		public void setUPositive( final boolean _uPositive ) {
+
+			EdgeStore.this.setUPositive( edgeListIndex_, _uPositive );
+		}
+
+		public void setPPositive( final boolean _pPositive ) {
+
+			EdgeStore.this.setPPositive( edgeListIndex_, _pPositive );
+		}
+
+		public void setUnionFindVertexIndex( final int _unionFindVertexIndex ) {
+
+			EdgeStore.this.setUnionFindVertexIndex( edgeListIndex_, _unionFindVertexIndex );
+		}
+	}
+
+	protected class EdgeViewZp extends EdgeZp {
+
+		protected EdgeViewZp( final int _edgeIndex ) {
+
+			super( EdgeStore.this.vertexIndex1_[ _edgeIndex ], EdgeStore.this.vertexIndex2_[ _edgeIndex ],
+					EdgeStore.this.edgeLength_[ _edgeIndex ], EdgeStore.this.getDagListZp( _edgeIndex ) );
+			this.edgeListIndex_ = _edgeIndex;
+		}
+
+		public boolean isUPositive() {
+
+			return EdgeStore.this.isUPositive( edgeListIndex_ );
+		}
+
+		public boolean isPPositive() {
+
+			return EdgeStore.this.isPPositive( edgeListIndex_ );
+		}
+
+		public int getUnionFindVertexIndex() {
+
+			return EdgeStore.this.getUnionFindVertexIndex( edgeListIndex_ );
+		}
+
+		public void setUPositive( final boolean _uPositive ) {
+
+			EdgeStore.this.setUPositive( edgeListIndex_, _uPositive );
+		}
+
+		public void setPPositive( final boolean _pPositive ) {
+
+			EdgeStore.this.setPPositive( edgeListIndex_, _pPositive );
+		}
+
+		public void setUnionFindVertexIndex( final int _unionFindVertexIndex ) {
+
+			EdgeStore.this.setUnionFindVertexIndex( edgeListIndex_, _unionFindVertexIndex );
+		}
+	}
+
+	// List view onto the store, for the code that works with EdgeI objects
+	protected class EdgeListView extends AbstractList<EdgeI> implements RandomAccess {
+
+		@Override
+		public EdgeI get( final int _edgeIndex ) {
+
+			return getEdge( _edgeIndex );
+		}
+
+		@Override
+		public int size() {
+
+			return numberOfEdges_;
+		}
+	}
+
+	// Set up the store from primitive arrays (e.g., as computed for a point cloud);
+	// the store takes ownership of arrays that are exactly sized
+	public EdgeStore( final int[] _vertexIndices1,
+			final int[] _vertexIndices2,
+			final double[] _edgeLengths,
+			final int _numberOfEdges,
+			final EdgeFactory _edgeFactory ) {
+
+		this.numberOfEdges_ = _numberOfEdges;
+		this.edgeFactory_ = _edgeFactory;
+
+		if ( _vertexIndices1.length == _numberOfEdges ) {
+
+			this.vertexIndex1_ = _vertexIndices1;
+			this.vertexIndex2_ = _vertexIndices2;
+			this.edgeLength_ = _edgeLengths;
+		}
+		else {
+
+			this.vertexIndex1_ = Arrays.copyOf( _vertexIndices1, _numberOfEdges );
+			this.vertexIndex2_ = Arrays.copyOf( _vertexIndices2, _numberOfEdges );
+			this.edgeLength_ = Arrays.copyOf( _edgeLengths, _numberOfEdges );
+		}
+
+		initializeFlags();
+		initializeDagLists();
+	}
+
+	// Set up the store from existing edge objects; the store takes over their 
+	// flags and dagLists, but doesn't keep the objects
+	public EdgeStore( final List<EdgeI> _edges,
+			final EdgeFactory _edgeFactory ) {
+
+		EdgeI tmpEdge;
+
+		this.numberOfEdges_ = _edges.size();
+		this.edgeFactory_ = _edgeFactory;
+		this.vertexIndex1_ = new int[ numberOfEdges_ ];
+		this.vertexIndex2_ = new int[ numberOfEdges_ ];
+		this.edgeLength_ = new double[ numberOfEdges_ ];
+
+		initializeFlags();
+		initializeDagLists();
+
+		for ( int i=0; i<numberOfEdges_; i++ ) {
+
+			tmpEdge = _edges.get( i );
+			vertexIndex1_[ i ] = tmpEdge.getVertexIndex1();
+			vertexIndex2_[ i ] = tmpEdge.getVertexIndex2();
+			edgeLength_[ i ] = tmpEdge.getEdgeLength();
+
+			if ( !tmpEdge.isUPositive() ) flags_[ i ] &= ~FLAG_UPOSITIVE;
+			if ( !tmpEdge.isPPositive() ) flags_[ i ] &= ~FLAG_PPOSITIVE;
+			unionFindVertexIndex_[ i ] = tmpEdge.getUnionFindVertexIndex();
+
+			if ( tmpEdge.getDagListSize() > 0 ) {
+
+				if ( tmpEdge instanceof EdgeZ2 ) {
+
+					dagListsZ2_[ i ] = ( (EdgeZ2) tmpEdge ).getDagListZ2();
+				}
+				else if ( isZ2_ ) {
+
+					dagListsZ2_[ i ] = new DagListZ2();
+					dagListsZ2_[ i ].merge( tmpEdge.getDagList() );
+				}
+				else {
+
+					dagListsZp_[ i ] = tmpEdge.getDagList();
+				}
+			}
+		}
+	}
+
+	// same defaults as for a newly created Edge
+	protected void initializeFlags() {
+
+		this.flags_ = new byte[ numberOfEdges_ ];
+		this.unionFindVertexIndex_ = new int[ numberOfEdges_ ];
+		Arrays.fill( flags_, (byte) ( FLAG_UPOSITIVE | FLAG_PPOSITIVE ) );
+		Arrays.fill( unionFindVertexIndex_, -1 );
+	}
+
+	@SuppressWarnings( "unchecked" )
+	protected void initializeDagLists() {
+
+		this.isZ2_ = edgeFactory_.createsZ2Edges();
+
+		if ( isZ2_ ) {
+
+			this.dagListsZ2_ = new DagListZ2[ numberOfEdges_ ];
+		}
+		else {
+
+			this.dagListsZp_ = new SortedMap[ numberOfEdges_ ];
+		}
+	}
+
+	// The dagList of the edge, created when first needed
+	protected DagListZ2 getDagListZ2( final int _edgeIndex ) {
+
+		if ( dagListsZ2_[ _edgeIndex ] == null ) {
+
+			dagListsZ2_[ _edgeIndex ] = new DagListZ2();
+		}
+
+		return dagListsZ2_[ _edgeIndex ];
+	}
+
+	protected SortedMap<Integer, Integer> getDagListZp( final int _edgeIndex ) {
+
+		if ( dagListsZp_[ _edgeIndex ] == null ) {
+
+			dagListsZp_[ _edgeIndex ] = new TreeMap<Integer, Integer>();
+		}
+
+		return dagListsZp_[ _edgeIndex ];
+	}
+
+	/*
+	 * Sort the edges by length (together with their flags and dagLists). The sort 
+	 * is stable (a merge sort of the index permutation), so edges of equal length 
+	 * keep their original order. Edge views obtained before the sort are not updated.
+	 */
+	public void sortByEdgeLength() {
+
+		int[] permutation = new int[ numberOfEdges_ ];
+		int[] buffer = new int[ numberOfEdges_ ];
+		int[] intValues = new int[ numberOfEdges_ ];
+		double[] doubleValues = new double[ numberOfEdges_ ];
+		byte[] byteValues = new byte[ numberOfEdges_ ];
+
+		for ( int i=0; i<numberOfEdges_; i++ ) {
+
+			permutation[ i ] = i;
+		}
+
+		mergeSort( permutation, buffer, 0, numberOfEdges_ );
+
+		// apply the permutation to each of the arrays
+		for ( int i=0; i<numberOfEdges_; i++ ) intValues[ i ] = vertexIndex1_[ permutation[ i ] ];
+		System.arraycopy( intValues, 0, vertexIndex1_, 0, numberOfEdges_ );
+		for ( int i=0; i<numberOfEdges_; i++ ) intValues[ i ] = vertexIndex2_[ permutation[ i ] ];
+		System.arraycopy( intValues, 0, vertexIndex2_, 0, numberOfEdges_ );
+		for ( int i=0; i<numberOfEdges_; i++ ) intValues[ i ] = unionFindVertexIndex_[ permutation[ i ] ];
+		System.arraycopy( intValues, 0, unionFindVertexIndex_, 0, numberOfEdges_ );
+		for ( int i=0; i<numberOfEdges_; i++ ) doubleValues[ i ] = edgeLength_[ permutation[ i ] ];
+		this.edgeLength_ = doubleValues;
+		for ( int i=0; i<numberOfEdges_; i++ ) byteValues[ i ] = flags_[ permutation[ i ] ];
+		this.flags_ = byteValues;
+
+		if ( isZ2_ ) {
+
+			DagListZ2[] dagLists = new DagListZ2[ numberOfEdges_ ];
+			for ( int i=0; i<numberOfEdges_; i++ ) dagLists[ i ] = dagListsZ2_[ permutation[ i ] ];
+			this.dagListsZ2_ = dagLists;
+		}
+		else {
+
+			SortedMap<Integer, Integer>[] dagLists = Arrays.copyOf( dagListsZp_, numberOfEdges_ );
+			for ( int i=0; i<numberOfEdges_; i++ ) dagLists[ i ] = dagListsZp_[ permutation[ i ] ];
+			this.dagListsZp_ = dagLists;
+		}
+	}
+
+	// Stable merge sort of the index range [_from, _to) by edge length
+	protected void mergeSort( final int[] _permutation, final int[] _buffer,
+			final int _from, final int _to ) {
+
+		int middle;
+		int left;
+		int right;
+		int tmpIndex;
+
+		if ( _to - _from < 2 ) return;
+
+		if ( _to - _from < 8 ) {
+
+			// insertion sort for the short ranges
+			for ( int i=_from+1; i<_to; i++ ) {
+
+				tmpIndex = _permutation[ i ];
+				left = i-1;
+
+				while ( left >= _from &&
+						edgeLength_[ _permutation[ left ] ] > edgeLength_[ tmpIndex ] ) {
+
+					_permutation[ left+1 ] = _permutation[ left ];
+					left--;
+				}
+				_permutation[ left+1 ] = tmpIndex;
+			}
+			return;
+		}
+
+		middle = ( _from + _to ) >>> 1;
+		mergeSort( _permutation, _buffer, _from, middle );
+		mergeSort( _permutation, _buffer, middle, _to );
+
+		// already in order
+		if ( edgeLength_[ _permutation[ middle-1 ] ] <= edgeLength_[ _permutation[ middle ] ] ) return;
+
+		System.arraycopy( _permutation, _from, _buffer, _from, _to - _from );
+		left = _from;
+		right = middle;
+
+		for ( int i=_from; i<_to; i++ ) {
+
+			if ( right >= _to || ( left < middle &&
+					edgeLength_[ _buffer[ left ] ] <= edgeLength_[ _buffer[ right ] ] ) ) {
+
+				_permutation[ i ] = _buffer[ left++ ];
+			}
+			else {
+
+				_permutation[ i ] = _buffer[ right++ ];
+			}
+		}
+	}
+
+	// Get a (new) view of the edge with the specified index
+	public EdgeI getEdge( final int _edgeIndex ) {
+
+		if ( isZ2_ ) {
+
+			return new EdgeViewZ2( _edgeIndex );
+		}
+
+		return new EdgeViewZp( _edgeIndex );
+	}
+
+	public List<EdgeI> asList() {
+
+		return new EdgeListView();
+	}
+
+	public int getNumberOfEdges() {
+
+		return this.numberOfEdges_;
+	}
+
+	public int getVertexIndex1( final int _edgeIndex ) {
+
+		return this.vertexIndex1_[ _edgeIndex ];
+	}
+
+	public int getVertexIndex2( final int _edgeIndex ) {
+
+		return this.vertexIndex2_[ _edgeIndex ];
+	}
+
+	public int getOtherVertex( final int _edgeIndex, final int _vertexIndex ) {
+
+		return ( vertexIndex1_[ _edgeIndex ] == _vertexIndex ) ?
+				vertexIndex2_[ _edgeIndex ] : vertexIndex1_[ _edgeIndex ];
+	}
+
+	public double getEdgeLength( final int _edgeIndex ) {
+
+		return this.edgeLength_[ _edgeIndex ];
+	}
+
+	public boolean isUPositive( final int _edgeIndex ) {
+
+		return ( flags_[ _edgeIndex ] & FLAG_UPOSITIVE ) != 0;
+	}
+
+	public boolean isPPositive( final int _edgeIndex ) {
+
+		return ( flags_[ _edgeIndex ] & FLAG_PPOSITIVE ) != 0;
+	}
+
+	public int getUnionFindVertexIndex( final int _edgeIndex ) {
+
+		return this.unionFindVertexIndex_[ _edgeIndex ];
+	}
+
+	public void setUPositive( final int _edgeIndex, final boolean _uPositive ) {
+
+		if ( _uPositive ) flags_[ _edgeIndex ] |= FLAG_UPOSITIVE;
+		else flags_[ _edgeIndex ] &= ~FLAG_UPOSITIVE;
+	}
+
+	public void setPPositive( final int _edgeIndex, final boolean _pPositive ) {
+
+		if ( _pPositive ) flags_[ _edgeIndex ] |= FLAG_PPOSITIVE;
+		else flags_[ _edgeIndex ] &= ~FLAG_PPOSITIVE;
+	}
+
+	public void setUnionFindVertexIndex( final int _edgeIndex,
+			final int _unionFindVertexIndex ) {
+
+		this.unionFindVertexIndex_[ _edgeIndex ] = _unionFindVertexIndex;
+	}
+}
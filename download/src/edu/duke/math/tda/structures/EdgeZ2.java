@@ -32,19 +32,15 @@ import java.util.*;
 
 public class EdgeZ2 extends Edge {
 
+    // hjs 10/18/2026 the dagList as a sorted index array (see DagListZ2)
+    protected DagListZ2 dagListZ2_;
+
     public EdgeZ2( final EdgeZ2 _orig ) {
 
     	super ( _orig );
     	
     	// copy the dagList
-    	Integer key;
-    	Integer value;
-		for( SortedMap.Entry<Integer,Integer> dagListItem : _orig.getDagList().entrySet() ) {
-			  
-			key = dagListItem.getKey();
-			value = dagListItem.getValue();
-			dagList_.put( key, value );
-		}
+    	this.dagListZ2_ = new DagListZ2( _orig.dagListZ2_ );
     }
 
     public EdgeZ2( final int _vertexIndex1, 
@@ -52,15 +48,28 @@ public class EdgeZ2 extends Edge {
     			final double _distance ) {
 
     	super( _vertexIndex1, _vertexIndex2, _distance );
+    	this.dagListZ2_ = new DagListZ2();
     	
     	this.uPositive_ = true;
     	this.dagType_ = -1;
     }
     
+    // hjs 10/18/2026 Edge that works directly with the supplied dagList (no copy),
+    // as used by the edge views of an EdgeStore
+    protected EdgeZ2( final int _vertexIndex1, 
+    			final int _vertexIndex2, 
+    			final double _distance,
+    			final DagListZ2 _dagList ) {
+
+    	super( _vertexIndex1, _vertexIndex2, _distance );
+    	this.dagListZ2_ = _dagList;
+    }
+    
     public EdgeZ2( final int _vertexIndex1, 
 			final int _vertexIndex2 ) {
     	
     	super( _vertexIndex1, _vertexIndex2 );
+    	this.dagListZ2_ = new DagListZ2();
 	}
     
     public EdgeZ2( final int _vertexIndex1, 
@@ -70,19 +79,32 @@ public class EdgeZ2 extends Edge {
     			final int _dagType ) {
     	
     	super( _vertexIndex1, _vertexIndex2, _distance, _edgeType, _dagType );
+    	this.dagListZ2_ = new DagListZ2();
     }
     
+    // Note: this is a copy of the dagList (all values are 1), so changing it
+    // doesn't change the edge's dagList
     public SortedMap<Integer, Integer> getDagList() {
     	
-    	return dagList_;
+    	return dagListZ2_.asSortedMap();
+    }
+    
+    public DagListZ2 getDagListZ2() {
+    	
+    	return dagListZ2_;
+    }
+    
+    public int getDagListSize() {
+    	
+    	return dagListZ2_.size();
     }
     
-    // Note: need to use Integer instead of int, so that we add a proper 'object'
+    // Note: over Z2 the value is always 1, so we only keep the index
     public void addToDagList( final Integer _index, final Integer _index2 ) {
     	
     	if ( _index != null && _index.intValue() >= 0 ) {
     	
-    		dagList_.put( _index, _index2 );
+    		dagListZ2_.add( _index.intValue() );
     	}
     	else {
     		
@@ -90,188 +112,32 @@ public class EdgeZ2 extends Edge {
     	}
     }
 
+    // (the orientation doesn't matter for Z2)
     public void mergeIntoDagList( 
     		final SortedMap<Integer, Integer> _dagListToMerge, 
     		final int _edgeOrientation ) {
 
-    	SortedMap<Integer, Integer> itemsToAdd = new TreeMap<Integer, Integer>();
-    	SortedMap<Integer, Integer> itemsToRemove = new TreeMap<Integer, Integer>();
-
-    	Integer key;
-		Integer value;
-    	
-    	// if daglist is empty, just add all items in the toMerge list
-    	if ( dagList_.size() == 0 ) {
-    		
-    		for( SortedMap.Entry<Integer,Integer> dagListItem : _dagListToMerge.entrySet()) {
-    			  
-    			key = dagListItem.getKey();
-    			value = dagListItem.getValue();
-    			dagList_.put(key, value);
-    		}
-    	}
-    	
-	    // here both lists are non-empty
-	    else {    	
-		    if ( _dagListToMerge != null && _dagListToMerge.size() > 0 ) {
-		    	
-		    	for( SortedMap.Entry<Integer,Integer> dagListItem : _dagListToMerge.entrySet()) {
-	    			  
-	    			key = dagListItem.getKey();
-	    			value = dagListItem.getValue();
-	    			
-	    			if ( dagList_.containsKey( key ) ) {
-		    			
-		    			// since any adding is done 'modulo 2', we need to remove the item (from both lists)
-		    			itemsToRemove.put( key, value );
-		    		}
-		    		else {
-		    			
-		    			itemsToAdd.put( key, value );
-		    		}
-	    		}
-		    }
-		    else {
-		    	
-		    	// may or may NOT want to throw an exception?
-		    }
-	
-		    for( SortedMap.Entry<Integer,Integer> dagListItem : itemsToRemove.entrySet()) {
-  			  
-    			key = dagListItem.getKey();
-    			value = dagListItem.getValue();
-    	
-    			dagList_.remove( key );
-		    }
-	
-		    for( SortedMap.Entry<Integer,Integer> dagListItem : itemsToAdd.entrySet()) {
-  			  
-    			key = dagListItem.getKey();
-    			value = dagListItem.getValue();
-    	
-    			dagList_.put( key, value );
-		    }
-	    }
+    	dagListZ2_.merge( _dagListToMerge );
     }
+    
+    public void mergeIntoDagList( final SortedMap<Integer, Integer> _dagListToMerge ) {
 
-    // experimental..
-    // For the Z/Zp computation, we need to include the orientation of the edge, leading
-    // to either adding or subtracting the dag list
-    public void mergeIntoDagList_actualZp_stuff( 
-    		final SortedMap<Integer, Integer> _dagListToMerge, 
+    	dagListZ2_.merge( _dagListToMerge );
+	}
+    
+    // hjs 10/18/2026 Merge the dagList of another Z2 edge directly
+    public void mergeIntoDagList( final EdgeI _edgeToMerge, 
     		final int _edgeOrientation ) {
-
-    	Integer key;
-		Integer value;
-		Integer prevValue;
-		Integer tmpValue;
     	
-    	// if daglist is empty, just add all items in the toMerge list
-    	if ( dagList_.size() == 0 ) {
+    	if ( _edgeToMerge instanceof EdgeZ2 ) {
     		
-    		for( SortedMap.Entry<Integer,Integer> dagListItem : _dagListToMerge.entrySet()) {
-    			  
-    			key = dagListItem.getKey();
-    			value = _edgeOrientation * dagListItem.getValue();
-    			dagList_.put(key, value);
-    		}
+    		dagListZ2_.merge( ( (EdgeZ2) _edgeToMerge ).dagListZ2_ );
     	}
-    	
-	    // here both lists are non-empty
-	    else {    	
-		    if ( _dagListToMerge != null && _dagListToMerge.size() > 0 ) {
-		    	
-		    	for( SortedMap.Entry<Integer,Integer> dagListItem : _dagListToMerge.entrySet()) {
-	    			  
-	    			key = dagListItem.getKey();
-	    			value = _edgeOrientation * dagListItem.getValue();
-	    			
-	    			if ( dagList_.containsKey( key ) ) {
-		    			
-	    				prevValue = dagList_.get( key );
-	    				dagList_.remove( key );
-	    				tmpValue = ( prevValue + value )%5;
-	    				// update only if not 0
-	    				if ( tmpValue != 0 ) {
-	    				
-	    					dagList_.put( key, tmpValue );
-	    				}
-		    		}
-		    		else {
-		    			
-		    			// add the merged item
-		    			dagList_.put( key, value );
-		    		}
-	    		}
-		    }
-		    else {
-		    	
-		    	// may or may NOT want to throw an exception?
-		    }
-	    }
-    }
-    
-    public void mergeIntoDagList( final SortedMap<Integer, Integer> _dagListToMerge ) {
-
-    	SortedMap<Integer, Integer> itemsToAdd = new TreeMap<Integer, Integer>();
-    	SortedMap<Integer, Integer> itemsToRemove = new TreeMap<Integer, Integer>();
-
-    	Integer key;
-		Integer value;
-    	
-    	// if daglist is empty, just add all items in the toMerge list
-    	if ( dagList_.size() == 0 ) {
+    	else {
     		
-    		for( SortedMap.Entry<Integer,Integer> dagListItem : _dagListToMerge.entrySet()) {
-    			  
-    			key = dagListItem.getKey();
-    			value = dagListItem.getValue();
-    			dagList_.put(key, value);
-    		}
+    		dagListZ2_.merge( _edgeToMerge.getDagList() );
     	}
-    	
-	    // here both lists are non-empty
-	    else {    	
-		    if ( _dagListToMerge != null && _dagListToMerge.size() > 0 ) {
-		    	
-		    	for( SortedMap.Entry<Integer,Integer> dagListItem : _dagListToMerge.entrySet()) {
-	    			  
-	    			key = dagListItem.getKey();
-	    			value = dagListItem.getValue();
-	    			
-	    			if ( dagList_.containsKey( key ) ) {
-		    			
-		    			// since any adding is done 'modulo 2', we need to remove the item (from both lists)
-		    			itemsToRemove.put( key, value );
-		    		}
-		    		else {
-		    			
-		    			itemsToAdd.put( key, value );
-		    		}
-	    		}
-		    }
-		    else {
-		    	
-		    	// may or may NOT want to throw an exception?
-		    }
-	
-		    for( SortedMap.Entry<Integer,Integer> dagListItem : itemsToRemove.entrySet()) {
-  			  
-    			key = dagListItem.getKey();
-    			value = dagListItem.getValue();
-    	
-    			dagList_.remove( key );
-		    }
-	
-		    for( SortedMap.Entry<Integer,Integer> dagListItem : itemsToAdd.entrySet()) {
-  			  
-    			key = dagListItem.getKey();
-    			value = dagListItem.getValue();
-    	
-    			dagList_.put( key, value );
-		    }
-	    }
-	}
+    }
     
     public String toString() {
 
@@ -291,6 +157,20 @@ public class EdgeZ2 extends Edge {
     	return arrayListAsString.toString();
     }
     
+    // util only: same output as printArrayList for the map form of the dagList
+    // (i.e., the values, which are all 1), without creating the map
+    public String printDagList() {
+
+		StringBuffer dagListAsString = new StringBuffer( "" );
+		
+		for ( int i=0; i<dagListZ2_.size(); i++ ) {
+
+			dagListAsString.append( "1" );
+		}
+    	
+    	return dagListAsString.toString();
+    }
+    
     public StringBuffer asString() {
 		
 		StringBuffer edgeAsString = new StringBuffer( "( edge_i=" );
@@ -326,7 +206,7 @@ public class EdgeZ2 extends Edge {
 		edgeAsString.append( ", xPos=" );
 		edgeAsString.append( Boolean.toString( this.xPositive_ ) );
 		edgeAsString.append( ", uPos=" );
-		edgeAsString.append( Boolean.toString( this.uPositive_ ) );
+		edgeAsString.append( Boolean.toString( isUPositive() ) );
 //		edgeAsString.append( ", pPos=" );
 //		edgeAsString.append( Boolean.toString( this.pPositive_ ) );
 //		edgeAsString.append( ", ufvIdx=" );
@@ -342,8 +222,7 @@ public class EdgeZ2 extends Edge {
 //		edgeAsString.append( Integer.toString( this.dagList_.size() ) );
 		edgeAsString.append( ", " );		
 		edgeAsString.append( "{" );		
-		edgeAsString.append( this.printArrayList( 
-				(TreeMap<Integer, Integer>) this.dagList_ ) );
+		edgeAsString.append( this.printDagList() );
 		edgeAsString.append( "}" );
 		edgeAsString.append( ", L=" );		
 		edgeAsString.append( Double.toString( this.edgeLength_ ) );
@@ -366,13 +245,12 @@ public class EdgeZ2 extends Edge {
 		edgeAsString.append( ", " );		
 		edgeAsString.append( Integer.toString( this.vertexIndex2_ ) );
 		edgeAsString.append( ", " );		
-		edgeAsString.append( Boolean.toString( this.uPositive_ ) );
+		edgeAsString.append( Boolean.toString( isUPositive() ) );
 //		edgeAsString.append( ", " );		
 //		edgeAsString.append( Integer.toString( this.dagList_.size() ) );
 		edgeAsString.append( ", " );		
 		edgeAsString.append( "{" );		
-		edgeAsString.append( this.printArrayList( 
-				(TreeMap<Integer, Integer>) this.dagList_ ) );
+		edgeAsString.append( this.printDagList() );
 		edgeAsString.append( "}" );
 		edgeAsString.append( ", " );		
 		edgeAsString.append( Double.toString( this.edgeLength_ ) );
@@ -35,6 +35,7 @@ public class EdgeZp extends Edge {
     public EdgeZp( final EdgeZp _orig ) {
 
     	super ( _orig );
+    	this.dagList_ = new TreeMap<Integer, Integer>();
     	
     	// copy the dagList
     	Integer key;
@@ -52,15 +53,28 @@ public class EdgeZp extends Edge {
     			final double _distance ) {
 
     	super( _vertexIndex1, _vertexIndex2, _distance );
+    	this.dagList_ = new TreeMap<Integer, Integer>();
     	
     	this.uPositive_ = true;
     	this.dagType_ = -1;
     }
     
+    // hjs 10/18/2026 Edge that works directly with the supplied dagList (no copy),
+    // as used by the edge views of an EdgeStore
+    protected EdgeZp( final int _vertexIndex1, 
+    			final int _vertexIndex2, 
+    			final double _distance,
+    			final SortedMap<Integer, Integer> _dagList ) {
+
+    	super( _vertexIndex1, _vertexIndex2, _distance );
+    	this.dagList_ = _dagList;
+    }
+    
     public EdgeZp( final int _vertexIndex1, 
 			final int _vertexIndex2 ) {
     	
     	super( _vertexIndex1, _vertexIndex2 );
+    	this.dagList_ = new TreeMap<Integer, Integer>();
 	}
     
     public EdgeZp( final int _vertexIndex1, 
@@ -70,6 +84,7 @@ public class EdgeZp extends Edge {
     			final int _dagType ) {
     	
     	super( _vertexIndex1, _vertexIndex2, _distance, _edgeType, _dagType );
+    	this.dagList_ = new TreeMap<Integer, Integer>();
     }
     
     public SortedMap<Integer, Integer> getDagList() {
@@ -330,11 +345,11 @@ public class EdgeZp extends Edge {
 		StringBuffer edgeAsString = new StringBuffer( "( edge_i=" );
 		edgeAsString.append( Integer.toString( this.edgeListIndex_ ) );
 		edgeAsString.append( ", uPos=" );		
-		edgeAsString.append( Boolean.toString( this.uPositive_ ) );
+		edgeAsString.append( Boolean.toString( isUPositive() ) );
 		edgeAsString.append( ", pPos=" );		
-		edgeAsString.append( Boolean.toString( this.pPositive_ ) );
+		edgeAsString.append( Boolean.toString( isPPositive() ) );
 		edgeAsString.append( ", vIdx=" );		
-		edgeAsString.append( Integer.toString( this.unionFindVertexIndex_ ) );
+		edgeAsString.append( Integer.toString( getUnionFindVertexIndex() ) );
 //		edgeAsString.append( ", " );		
 //		edgeAsString.append( Integer.toString( this.dagList_.size() ) );
 //		edgeAsString.append( ", " );		
@@ -361,7 +376,7 @@ public class EdgeZp extends Edge {
 		edgeAsString.append( ", " );		
 		edgeAsString.append( Integer.toString( this.vertexIndex2_ ) );
 		edgeAsString.append( ", " );		
-		edgeAsString.append( Boolean.toString( this.uPositive_ ) );
+		edgeAsString.append( Boolean.toString( isUPositive() ) );
 //		edgeAsString.append( ", " );		
 //		edgeAsString.append( Integer.toString( this.dagList_.size() ) );
 		edgeAsString.append( ", " );		
@@ -12,7 +12,6 @@
  */package edu.duke.math.tda.structures;
 
 import java.util.SortedMap;
-import java.util.TreeMap;
 
 /**
  * Abstract base class for Face hierarchy
@@ -39,7 +38,9 @@ public abstract class Face implements FaceI {
 	
 	// dag list for the face (need to decide whether to store actual faces or their
 	// indexes
-	protected SortedMap<Integer, Integer> dag2List_ = new TreeMap<Integer, Integer>();
+	// hjs 10/18/2026 (set up by the subclasses: the Z2 faces don't use the map, and
+	// keep their dagList as a sorted index array instead)
+	protected SortedMap<Integer, Integer> dag2List_;
 		
 	@Override
 	public int compareTo( final FaceI _faceToCompareTo ) {
@@ -128,6 +129,20 @@ public abstract class Face implements FaceI {
 		// TODO Auto-generated method stub
 
 	}
+	@Override
+	public int getDagListSize() {
+		
+		return getDagList().size();
+	}
+
+	// hjs 10/18/2026 Merge the dagList of another face; the subclasses can do this
+	// without going through the map form of the dagList
+	@Override
+	public void mergeIntoDagList( final FaceI _faceToMerge ) {
+		
+		mergeIntoDagList( _faceToMerge.getDagList() );
+	}
+
 	@Override
 	public int getFaceListIndex() {
 		
@@ -272,9 +287,9 @@ public abstract class Face implements FaceI {
 				", dag2List of edges = "
 				);
 		
-		if ( dag2List_ != null && this.dag2List_.size() > 0 ) {
+		if ( getDagList() != null && getDagListSize() > 0 ) {
 		
-				faceAsString.append( dag2List_.toString() );
+				faceAsString.append( getDagList().toString() );
 		}
 		else {
 			
@@ -68,6 +68,8 @@ public interface FaceI extends Comparable<FaceI> {
     public abstract void mergeIntoDagList( 
     		final SortedMap<Integer, Integer> _dagListToMerge,
     		final int _edgeOrientation );
+    public abstract void mergeIntoDagList( final FaceI _faceToMerge );
+    public abstract int getDagListSize();
 
     // Utility methods
     public abstract StringBuffer asString();
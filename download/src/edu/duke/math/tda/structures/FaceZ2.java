@@ -1,7 +1,6 @@
 package edu.duke.math.tda.structures;
 
 import java.util.SortedMap;
-import java.util.TreeMap;
 
 /**
  * Face implementation class FaceZ2
@@ -20,6 +19,9 @@ import java.util.TreeMap;
 
 public class FaceZ2 extends Face {
 	
+	// hjs 10/18/2026 the dagList as a sorted index array (see DagListZ2)
+	protected DagListZ2 dagListZ2_ = new DagListZ2();
+	
 	// hjs 1/9/2015
 	// Constructor with explicit listing of the vertices that describe the face
 	// and the specified index of the face in the tracking list
@@ -38,7 +40,7 @@ public class FaceZ2 extends Face {
 		arrVertices_[ 2 ] = _vertexIndex3;
 		
 		faceListIndex_ = _faceListIndex;
-		dag2List_.put( _faceListIndex, 1 );
+		dagListZ2_.add( _faceListIndex );
 	}
 
 	// keep only for legacy test code
@@ -54,7 +56,25 @@ public class FaceZ2 extends Face {
 		arrVertices_[ 2 ] = _vertexIndex3;
 		
 		faceListIndex_ = _faceListIndex;
-		dag2List_.put( _faceListIndex, 1 );
+		dagListZ2_.add( _faceListIndex );
+	}
+	
+	// hjs 10/18/2026 Constructor for a face whose attributes are kept elsewhere
+	// (e.g., by the FaceTrackerAsHashMap); the face takes over the dagList
+	public FaceZ2( final int _vertexIndex1, 
+				final int _vertexIndex2, 
+				final int _vertexIndex3,
+				final int _faceListIndex,
+				final DagListZ2 _dagList ) {
+		
+		arrVertices_ = new int[ 3 ];
+
+		arrVertices_[ 0 ] = _vertexIndex1;
+		arrVertices_[ 1 ] = _vertexIndex2;
+		arrVertices_[ 2 ] = _vertexIndex3;
+		
+		faceListIndex_ = _faceListIndex;
+		dagListZ2_ = _dagList;
 	}
 	
 	// 
@@ -69,22 +89,36 @@ public class FaceZ2 extends Face {
 		faceListIndex_ = _orig.getFaceListIndex();
 		
 		// What to do with dag2List in this case?
-		dag2List_.put( faceListIndex_, 1 );
+		dagListZ2_.add( faceListIndex_ );
+	}
+
+	// Note: this is a copy of the dagList (all values are 1), so changing it
+	// doesn't change the face's dagList
+	@Override
+	public SortedMap<Integer, Integer> getDagList() {
+		
+		return dagListZ2_.asSortedMap();
+	}
+	
+	public DagListZ2 getDagListZ2() {
+		
+		return dagListZ2_;
+	}
+	
+	@Override
+	public int getDagListSize() {
+		
+		return dagListZ2_.size();
 	}
 
+	// Note: over Z2 the value is always 1, so we only keep the key
 	@Override
 	public void addToDagList( final Integer _key, final Integer _value ) {
     	
     	if ( _key != null && _key.intValue() >= 0 ) {
     	
-    		if ( dag2List_.containsKey( _key )) {
-    			
-    			// TODO: throw exception if there's already an entry?
-    		}
-    		else {
-    		
-    			dag2List_.put( _key, _value );
-    		}
+    		// (an existing entry is left alone)
+    		dagListZ2_.add( _key.intValue() );
     	}
     	else {
     		
@@ -95,132 +129,28 @@ public class FaceZ2 extends Face {
 	@Override
 	public void mergeIntoDagList( final SortedMap<Integer, Integer> _dagListToMerge ) {
 
-    	SortedMap<Integer, Integer> itemsToAdd = new TreeMap<Integer, Integer>();
-    	SortedMap<Integer, Integer> itemsToRemove = new TreeMap<Integer, Integer>();
-
-    	Integer key;
-		Integer value;
-    	
-    	// if daglist is empty, just add all items in the toMerge list
-    	if ( dag2List_.size() == 0 ) {
-    		
-    		for( SortedMap.Entry<Integer,Integer> dagListItem : 
-    				_dagListToMerge.entrySet()) {
-    			  
-    			key = dagListItem.getKey();
-    			value = dagListItem.getValue();
-    			dag2List_.put( key, value );
-    			  
-//    			System.out.println( "[mergeIntoDagList 1] Adding to dag2List: " + key + " => " + value );
-    		}
-    	}
-    	
-	    // here both lists are non-empty
-	    else {    	
-		    if ( _dagListToMerge != null && _dagListToMerge.size() > 0 ) {
-		    	
-		    	for( SortedMap.Entry<Integer,Integer> dagListItem : _dagListToMerge.entrySet()) {
-	    			  
-	    			key = dagListItem.getKey();
-	    			value = dagListItem.getValue();
-	    			
-	    			if ( dag2List_.containsKey( key ) ) {
-		    			
-		    			// since any adding is done 'modulo 2', we need to remove the item (from both lists)
-		    			itemsToRemove.put( key, value );
-		    		}
-		    		else {
-		    			
-		    			itemsToAdd.put( key, value );
-		    		}
-	    		}
-		    }
-		    else {
-		    	
-		    	// may or may NOT want to throw an exception?
-		    }
-	
-		    for( SortedMap.Entry<Integer,Integer> dagListItem : itemsToRemove.entrySet()) {
-  			  
-    			key = dagListItem.getKey();
-    			value = dagListItem.getValue();
-    	
-    			dag2List_.remove( key );
-		    }
-	
-		    for( SortedMap.Entry<Integer,Integer> dagListItem : itemsToAdd.entrySet()) {
-  			  
-    			key = dagListItem.getKey();
-    			value = dagListItem.getValue();
-    	
-    			dag2List_.put( key, value );
-		    }
-	    }
+		dagListZ2_.merge( _dagListToMerge );
 	}
 
+	// (the orientation doesn't matter for Z2)
 	@Override
 	public void mergeIntoDagList( final SortedMap<Integer, Integer> _dagListToMerge,
 				final int _edgeOrientation ) {
 	
-		SortedMap<Integer, Integer> itemsToAdd = new TreeMap<Integer, Integer>();
-		SortedMap<Integer, Integer> itemsToRemove = new TreeMap<Integer, Integer>();
-	
-		Integer key;
-		Integer value;
+		dagListZ2_.merge( _dagListToMerge );
+	}
+
+	// hjs 10/18/2026 Merge the dagList of another Z2 face directly
+	@Override
+	public void mergeIntoDagList( final FaceI _faceToMerge ) {
 		
-		// if daglist is empty, just add all items in the toMerge list
-		if ( dag2List_.size() == 0 ) {
+		if ( _faceToMerge instanceof FaceZ2 ) {
 			
-			for( SortedMap.Entry<Integer,Integer> dagListItem : _dagListToMerge.entrySet()) {
-				  
-				key = dagListItem.getKey();
-				value = dagListItem.getValue();
-				dag2List_.put(key, value);
-				  
-//    			System.out.println( "[mergeIntoDagList 2] Adding to dag2List: " + key + " => " + value );
-			}
+			dagListZ2_.merge( ( (FaceZ2) _faceToMerge ).dagListZ2_ );
+		}
+		else {
+			
+			dagListZ2_.merge( _faceToMerge.getDagList() );
 		}
-		
-	    // here both lists are non-empty
-	    else {
-		    if ( _dagListToMerge != null && _dagListToMerge.size() > 0 ) {
-		    	
-		    	for( SortedMap.Entry<Integer,Integer> dagListItem : _dagListToMerge.entrySet()) {
-	    			  
-	    			key = dagListItem.getKey();
-	    			value = dagListItem.getValue();
-	    			
-	    			if ( dag2List_.containsKey( key ) ) {
-		    			
-		    			// since any adding is done 'modulo 2', we need to remove the item (from both lists)
-		    			itemsToRemove.put( key, value );
-		    		}
-		    		else {
-		    			
-		    			itemsToAdd.put( key, value );
-		    		}
-	    		}
-		    }
-		    else {
-		    	
-		    	// may or may NOT want to throw an exception?
-		    }
-	
-		    for( SortedMap.Entry<Integer,Integer> dagListItem : itemsToRemove.entrySet()) {
-				  
-				key = dagListItem.getKey();
-				value = dagListItem.getValue();
-		
-				dag2List_.remove( key );
-		    }
-	
-		    for( SortedMap.Entry<Integer,Integer> dagListItem : itemsToAdd.entrySet()) {
-				  
-				key = dagListItem.getKey();
-				value = dagListItem.getValue();
-		
-				dag2List_.put( key, value );
-		    }
-	    }
 	}
 }
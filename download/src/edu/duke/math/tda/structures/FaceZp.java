@@ -38,6 +38,7 @@ public class FaceZp extends Face {
 		arrVertices_[ 2 ] = _vertexIndex3;
 		
 		faceListIndex_ = _faceListIndex;
+		dag2List_ = new TreeMap<Integer, Integer>();
 		dag2List_.put( _faceListIndex, 1 );
 	}
 
@@ -54,9 +55,28 @@ public class FaceZp extends Face {
 		arrVertices_[ 2 ] = _vertexIndex3;
 		
 		faceListIndex_ = _faceListIndex;		
+		dag2List_ = new TreeMap<Integer, Integer>();
 		dag2List_.put( _faceListIndex, 1 );
 	}
 	
+	// hjs 10/18/2026 Constructor for a face whose attributes are kept elsewhere
+	// (e.g., by the FaceTrackerAsHashMap), with a copy of its dagList
+	public FaceZp( final int _vertexIndex1, 
+				final int _vertexIndex2, 
+				final int _vertexIndex3,
+				final int _faceListIndex,
+				final SortedMap<Integer, Integer> _dagList ) {
+		
+		arrVertices_ = new int[ 3 ];
+
+		arrVertices_[ 0 ] = _vertexIndex1;
+		arrVertices_[ 1 ] = _vertexIndex2;
+		arrVertices_[ 2 ] = _vertexIndex3;
+		
+		faceListIndex_ = _faceListIndex;		
+		dag2List_ = new TreeMap<Integer, Integer>( _dagList );
+	}
+	
 	// 
 	public FaceZp( final FaceI _orig ) {
 		
@@ -69,6 +89,7 @@ public class FaceZp extends Face {
 		faceListIndex_ = _orig.getFaceListIndex();
 
 		// What to do with dag2List in this case?
+		dag2List_ = new TreeMap<Integer, Integer>();
 		dag2List_.put( faceListIndex_, 1 );
 	}
 	
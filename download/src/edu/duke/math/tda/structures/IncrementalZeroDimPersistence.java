@@ -0,0 +1,758 @@
+/*
+ * Created October 2026
+ *
+ * This file is part of Topological Data Analysis
+ * edu.duke.math.tda
+ * Copyright (c) 2012-2014 by John Harer
+ * All rights reserved.
+ *
+ * License Info:
+ *
+ *
+ */
+
+package edu.duke.math.tda.structures;
+
+import java.util.Arrays;
+
+import edu.duke.math.tda.structures.metric.MetricI;
+import edu.duke.math.tda.structures.pointcloud.SpatialIndexAsGrowingGrid;
+import edu.duke.math.tda.structures.results.Interval;
+import edu.duke.math.tda.structures.results.ResultsCollection;
+import edu.duke.math.tda.structures.results.ResultsContainer;
+import edu.duke.math.tda.structures.results.ResultsContainerI;
+import edu.duke.math.tda.utility.TDA;
+import edu.duke.math.tda.utility.errorhandling.TdaException;
+
+/**
+ * IncrementalZeroDimPersistence computes the 0-dim. persistence (RCA-0) of a point
+ * cloud that grows over time, e.g., the points of a pen stroke as they come in
+ *
+ * <p><strong>Details:</strong> <br>
+ *
+ * Each new point is connected to the existing points within the distance bound
+ * (with the same metric kernel and the same strict bound as the edge generation for
+ * RipsToPersistence). The existing points within the bound are found with a growing
+ * grid (SpatialIndexAsGrowingGrid) when the metric and dimension allow it, and by
+ * comparing against all of them otherwise.
+ *
+ * Only the edges of the minimum spanning forest matter for the 0-dim. persistence
+ * (edges are ordered by length, then by their (smaller, larger) vertex indices,
+ * which is the order of the batch computation), so that's all we keep. The forest
+ * is stored as rooted trees (parent pointers), and a UnionFind tracks which tree
+ * each vertex is in. A new edge
+ * - between 2 trees joins them: the tree of the endpoint that is closer to its
+ *   root is re-rooted at that endpoint, and hung off the other endpoint;
+ * - within a tree closes a cycle: when it comes before the last edge on the tree
+ *   path between its endpoints, it replaces that edge (the part of the path below
+ *   the removed edge is re-rooted), and otherwise it is dropped.
+ * The work for an edge is thus bounded by the tree path it touches (and the
+ * re-rooting along it), so it doesn't depend on the edges outside that tree; in a
+ * path-shaped tree, however, the path can be as long as the number of points. It
+ * doesn't matter in which order the edges arrive.
+ *
+ * The forest edges are kept in filtration order (a sorted array of edge slots).
+ * The elder rule (as in applyUnionFind) is applied along them with a second
+ * union-find that can be rolled back: it doesn't compress paths, and records for
+ * each position which root it linked. When a forest edge is added or removed at
+ * some position, the union-find is rolled back to that position, and only the
+ * edges from there on are applied again (when the intervals are requested next).
+ * The elders of the components are kept in a sorted array as well, for the
+ * infinite intervals. The intervals are the ones that the batch computation for
+ * all the points finds, except that the associated edge index of an interval is
+ * its edge's position in the forest, not in the full edge list.
+ *
+ * This class is not thread-safe: the caller needs to serialize the updates.
+ *
+ * <p><strong>Change History:</strong> <br>
+ * Created October 2026
+ *
+ *
+ * @author Jurgen Sladeczek (hjs) <br>
+ * For the latest info, please visit www.math.duke.edu.
+ */
+
+public class IncrementalZeroDimPersistence {
+
+	protected static final int MINCAPACITY = 16;
+
+	protected final MetricI metric_;
+	protected final int dimension_;
+	protected final double distanceBound_;
+
+	// the points as a flat (row-major) coordinate buffer, and their birth values
+	// (all zero for a point cloud)
+	protected double[] coordinates_;
+	protected double[] birthValues_;
+	protected int numberOfPoints_;
+	// number of all edges within the distance bound, including the ones we don't keep
+	protected int numberOfEdges_;
+
+	// null when the neighbors are found by comparing against all points
+	protected SpatialIndexAsGrowingGrid spatialIndex_;
+
+	// the forest as rooted trees: the parent of each vertex (-1 for a root), and
+	// the (forest) edge to its parent
+	protected int[] parent_;
+	protected int[] parentEdges_;
+	// the forest edges, in slots that get reused once an edge is replaced
+	protected int[] edgeVertexIndices1_;
+	protected int[] edgeVertexIndices2_;
+	protected double[] edgeLengths_;
+	protected int numberOfEdgeSlots_;
+	protected int[] freeEdgeSlots_;
+	protected int numberOfFreeEdgeSlots_;
+	// the slots of the forest edges, in filtration order
+	protected int[] forestEdgeOrder_;
+	protected int numberOfForestEdges_;
+
+	// marks for finding the tree path between the endpoints of an edge
+	protected int[] pathMarks1_;
+	protected int[] pathMarks2_;
+	protected int pathMark_;
+
+	// the trees of the forest
+	protected UnionFind unionFind_;
+	// the elders of the trees, in increasing order
+	protected int[] elders_;
+	protected int numberOfElders_;
+
+	// the elder rule along the forest edges (in filtration order), applied up to
+	// the position numberOfAppliedForestEdges_: the components (without path
+	// compression, so they can be rolled back), and for each applied position the
+	// root that got linked, whether that raised the rank of the surviving root,
+	// the previous elder of the surviving root, and the elder that died
+	protected int[] componentParents_;
+	protected byte[] componentRanks_;
+	protected int[] componentElders_;
+	protected int[] linkedRoots_;
+	protected boolean[] rankIncreased_;
+	protected int[] previousElders_;
+	protected int[] dyingVertices_;
+	protected int numberOfAppliedForestEdges_;
+
+	// the current intervals, composed on request
+	protected ResultsCollection zeroDimIntervals_;
+
+	public IncrementalZeroDimPersistence( final MetricI _metric,
+			final int _dimension,
+			final double _distanceBound ) throws Exception {
+
+		if ( _metric == null || _dimension < 1 ) {
+
+            throw new TdaException(
+                    TDA.ERROR_APP_USERINPUT,
+                    "(IncrementalZeroDimPersistence) " +
+                    "A metric and a positive dimension are required for the points " +
+                    "(dimension: " + _dimension + ")." );
+		}
+
+		metric_ = _metric;
+		dimension_ = _dimension;
+		distanceBound_ = _distanceBound;
+
+		coordinates_ = new double[ MINCAPACITY * dimension_ ];
+		birthValues_ = new double[ MINCAPACITY ];
+
+		spatialIndex_ = SpatialIndexAsGrowingGrid.createSpatialIndex(
+				metric_, dimension_, distanceBound_ );
+
+		parent_ = new int[ MINCAPACITY ];
+		parentEdges_ = new int[ MINCAPACITY ];
+		pathMarks1_ = new int[ MINCAPACITY ];
+		pathMarks2_ = new int[ MINCAPACITY ];
+
+		edgeVertexIndices1_ = new int[ MINCAPACITY ];
+		edgeVertexIndices2_ = new int[ MINCAPACITY ];
+		edgeLengths_ = new double[ MINCAPACITY ];
+		freeEdgeSlots_ = new int[ MINCAPACITY ];
+		forestEdgeOrder_ = new int[ MINCAPACITY ];
+
+		elders_ = new int[ MINCAPACITY ];
+		componentParents_ = new int[ MINCAPACITY ];
+		componentRanks_ = new byte[ MINCAPACITY ];
+		componentElders_ = new int[ MINCAPACITY ];
+		linkedRoots_ = new int[ MINCAPACITY ];
+		rankIncreased_ = new boolean[ MINCAPACITY ];
+		previousElders_ = new int[ MINCAPACITY ];
+		dyingVertices_ = new int[ MINCAPACITY ];
+
+		unionFind_ = new UnionFind( 0, birthValues_ );
+	}
+
+	// Add a point, and return its (vertex) index
+	public int addPoint( final double[] _coordinates ) throws Exception {
+
+		return addPoints( new double[][] { _coordinates } );
+	}
+
+	// Add several points at once (e.g., a stroke), and return the index of the first
+	// one
+	public int addPoints( final double[][] _points ) throws Exception {
+
+		final int firstNewPoint = numberOfPoints_;
+		final double[] center = new double[ dimension_ ];
+		int[] candidates;
+		int numberOfCandidates;
+		int i;
+		int j;
+		double distanceBetweenPoints;
+		int capacity;
+
+		for ( int p=0; p<_points.length; p++ ) {
+
+			if ( _points[ p ] == null || _points[ p ].length != dimension_ ) {
+
+	            throw new TdaException(
+	                    TDA.ERROR_APP_USERINPUT,
+	                    "(IncrementalZeroDimPersistence) " +
+	                    "Each point needs to have " + dimension_ + " coordinates " +
+	                    "(point " + ( firstNewPoint + p ) + ")." );
+			}
+		}
+
+		if ( numberOfPoints_ + _points.length > birthValues_.length ) {
+
+			capacity = Math.max( numberOfPoints_ + _points.length, 2*birthValues_.length );
+			coordinates_ = Arrays.copyOf( coordinates_, capacity * dimension_ );
+			birthValues_ = Arrays.copyOf( birthValues_, capacity );
+			parent_ = Arrays.copyOf( parent_, capacity );
+			parentEdges_ = Arrays.copyOf( parentEdges_, capacity );
+			pathMarks1_ = Arrays.copyOf( pathMarks1_, capacity );
+			pathMarks2_ = Arrays.copyOf( pathMarks2_, capacity );
+
+			// (a forest has fewer edges than points)
+			forestEdgeOrder_ = Arrays.copyOf( forestEdgeOrder_, capacity );
+			elders_ = Arrays.copyOf( elders_, capacity );
+			componentParents_ = Arrays.copyOf( componentParents_, capacity );
+			componentRanks_ = Arrays.copyOf( componentRanks_, capacity );
+			componentElders_ = Arrays.copyOf( componentElders_, capacity );
+			linkedRoots_ = Arrays.copyOf( linkedRoots_, capacity );
+			rankIncreased_ = Arrays.copyOf( rankIncreased_, capacity );
+			previousElders_ = Arrays.copyOf( previousElders_, capacity );
+			dyingVertices_ = Arrays.copyOf( dyingVertices_, capacity );
+		}
+
+		for ( int p=0; p<_points.length; p++ ) {
+
+			j = numberOfPoints_;
+
+			System.arraycopy( _points[ p ], 0, coordinates_, j * dimension_, dimension_ );
+			System.arraycopy( _points[ p ], 0, center, 0, dimension_ );
+			parent_[ j ] = -1;
+			parentEdges_[ j ] = -1;
+			numberOfPoints_++;
+			unionFind_.addVertex( birthValues_ );
+
+			// a new point is a component of its own, and has the highest index
+			elders_[ numberOfElders_++ ] = j;
+			componentParents_[ j ] = j;
+			componentRanks_[ j ] = 0;
+			componentElders_[ j ] = j;
+
+			// the points before this one that may be within the distance bound
+			if ( spatialIndex_ != null ) {
+
+				candidates = spatialIndex_.findCandidates( center, distanceBound_, -1 );
+				numberOfCandidates = candidates.length;
+				spatialIndex_.addPoint( center );
+			}
+			else {
+
+				candidates = null;
+				numberOfCandidates = j;
+			}
+
+			for ( int c=0; c<numberOfCandidates; c++ ) {
+
+				i = ( candidates != null ) ? candidates[ c ] : c;
+
+				distanceBetweenPoints = metric_.computeDistanceWithinBound(
+						coordinates_, i*dimension_,
+						coordinates_, j*dimension_, dimension_, distanceBound_ );
+
+				if ( distanceBetweenPoints < distanceBound_ ) {
+
+					numberOfEdges_++;
+					addEdge( i, j, distanceBetweenPoints );
+				}
+			}
+		}
+
+		zeroDimIntervals_ = null;
+
+		return firstNewPoint;
+	}
+
+	// Update the forest for a new edge (with _vertexIndex1 < _vertexIndex2)
+	protected void addEdge( final int _vertexIndex1,
+			final int _vertexIndex2,
+			final double _edgeLength ) {
+
+		int vertex1;
+		int vertex2;
+		int commonVertex;
+		int longestEdgeChild;
+		int pathEndpoint;
+		int otherEndpoint;
+		int dyingElder;
+		int elderPosition;
+
+		dyingElder = unionFind_.union( _vertexIndex1, _vertexIndex2 );
+
+		if ( dyingElder != -1 ) {
+
+			elderPosition = Arrays.binarySearch( elders_, 0, numberOfElders_, dyingElder );
+			System.arraycopy( elders_, elderPosition+1, elders_, elderPosition, 
+					numberOfElders_ - elderPosition - 1 );
+			numberOfElders_--;
+
+			// the edge joins 2 trees: re-root the tree of the endpoint that is closer
+			// to its root (walking up from both endpoints in step)
+			vertex1 = _vertexIndex1;
+			vertex2 = _vertexIndex2;
+			while ( parent_[ vertex1 ] != -1 && parent_[ vertex2 ] != -1 ) {
+
+				vertex1 = parent_[ vertex1 ];
+				vertex2 = parent_[ vertex2 ];
+			}
+
+			if ( parent_[ vertex1 ] == -1 ) {
+
+				hangTree( _vertexIndex1, _vertexIndex2,
+						createForestEdge( _vertexIndex1, _vertexIndex2, _edgeLength ) );
+			}
+			else {
+
+				hangTree( _vertexIndex2, _vertexIndex1,
+						createForestEdge( _vertexIndex1, _vertexIndex2, _edgeLength ) );
+			}
+
+			return;
+		}
+
+		// the edge closes a cycle: find the common ancestor of its endpoints, by
+		// walking up from both in step, and marking the vertices along the way
+		if ( pathMark_ == Integer.MAX_VALUE ) {
+
+			Arrays.fill( pathMarks1_, 0 );
+			Arrays.fill( pathMarks2_, 0 );
+			pathMark_ = 0;
+		}
+		pathMark_++;
+
+		vertex1 = _vertexIndex1;
+		vertex2 = _vertexIndex2;
+		pathMarks1_[ vertex1 ] = pathMark_;
+		pathMarks2_[ vertex2 ] = pathMark_;
+
+		while ( true ) {
+
+			if ( pathMarks2_[ vertex1 ] == pathMark_ ) {
+
+				commonVertex = vertex1;
+				break;
+			}
+			if ( pathMarks1_[ vertex2 ] == pathMark_ ) {
+
+				commonVertex = vertex2;
+				break;
+			}
+			if ( parent_[ vertex1 ] != -1 ) {
+
+				vertex1 = parent_[ vertex1 ];
+				pathMarks1_[ vertex1 ] = pathMark_;
+			}
+			if ( parent_[ vertex2 ] != -1 ) {
+
+				vertex2 = parent_[ vertex2 ];
+				pathMarks2_[ vertex2 ] = pathMark_;
+			}
+		}
+
+		// the last edge on the path (it is the edge to its parent of the vertex
+		// longestEdgeChild, which lies below the common vertex on either side)
+		longestEdgeChild = findLongestEdgeChild( _vertexIndex1, commonVertex, -1 );
+		longestEdgeChild = findLongestEdgeChild( _vertexIndex2, commonVertex, longestEdgeChild );
+
+		if ( compareEdges( _edgeLength, _vertexIndex1, _vertexIndex2,
+				edgeLengths_[ parentEdges_[ longestEdgeChild ] ],
+				edgeVertexIndices1_[ parentEdges_[ longestEdgeChild ] ],
+				edgeVertexIndices2_[ parentEdges_[ longestEdgeChild ] ] ) > 0 ) {
+
+			// the new edge is the last one on the cycle, so the forest doesn't change
+			return;
+		}
+
+		// find the side of the path the replaced edge is on
+		pathEndpoint = _vertexIndex1;
+		otherEndpoint = _vertexIndex2;
+		vertex1 = _vertexIndex1;
+		while ( vertex1 != commonVertex && vertex1 != longestEdgeChild ) {
+
+			vertex1 = parent_[ vertex1 ];
+		}
+		if ( vertex1 != longestEdgeChild ) {
+
+			pathEndpoint = _vertexIndex2;
+			otherEndpoint = _vertexIndex1;
+		}
+
+		// cut the replaced edge, and hang the part below it off the other endpoint
+		removeForestEdge( parentEdges_[ longestEdgeChild ] );
+		parent_[ longestEdgeChild ] = -1;
+		parentEdges_[ longestEdgeChild ] = -1;
+
+		hangTree( pathEndpoint, otherEndpoint,
+				createForestEdge( _vertexIndex1, _vertexIndex2, _edgeLength ) );
+	}
+
+	// Walk up from the vertex to the common vertex, and return the vertex whose edge
+	// to its parent is the last one (in filtration order) so far
+	protected int findLongestEdgeChild( final int _vertexIndex,
+			final int _commonVertex,
+			final int _longestEdgeChild ) {
+
+		int longestEdgeChild = _longestEdgeChild;
+		int edgeSlot;
+		int longestEdgeSlot;
+
+		for ( int v=_vertexIndex; v!=_commonVertex; v=parent_[ v ] ) {
+
+			edgeSlot = parentEdges_[ v ];
+
+			if ( longestEdgeChild == -1 ) {
+
+				longestEdgeChild = v;
+				continue;
+			}
+
+			longestEdgeSlot = parentEdges_[ longestEdgeChild ];
+
+			if ( compareEdges( edgeLengths_[ edgeSlot ],
+					edgeVertexIndices1_[ edgeSlot ], edgeVertexIndices2_[ edgeSlot ],
+					edgeLengths_[ longestEdgeSlot ],
+					edgeVertexIndices1_[ longestEdgeSlot ],
+					edgeVertexIndices2_[ longestEdgeSlot ] ) > 0 ) {
+
+				longestEdgeChild = v;
+			}
+		}
+
+		return longestEdgeChild;
+	}
+
+	// Make the vertex the root of its tree (by reversing the parent pointers on the
+	// path up to the current root), and hang it off the new parent via the edge
+	protected void hangTree( final int _vertexIndex,
+			final int _newParent,
+			final int _edgeSlot ) {
+
+		int vertex = _vertexIndex;
+		int newParent = _newParent;
+		int edgeSlot = _edgeSlot;
+		int nextVertex;
+		int nextEdgeSlot;
+
+		while ( vertex != -1 ) {
+
+			nextVertex = parent_[ vertex ];
+			nextEdgeSlot = parentEdges_[ vertex ];
+
+			parent_[ vertex ] = newParent;
+			parentEdges_[ vertex ] = edgeSlot;
+
+			newParent = vertex;
+			edgeSlot = nextEdgeSlot;
+			vertex = nextVertex;
+		}
+	}
+
+	protected int createForestEdge( final int _vertexIndex1,
+			final int _vertexIndex2,
+			final double _edgeLength ) {
+
+		final int edgeSlot;
+		final int position;
+		int capacity;
+
+		if ( numberOfFreeEdgeSlots_ > 0 ) {
+
+			edgeSlot = freeEdgeSlots_[ --numberOfFreeEdgeSlots_ ];
+		}
+		else {
+
+			if ( numberOfEdgeSlots_ == edgeLengths_.length ) {
+
+				capacity = 2 * numberOfEdgeSlots_;
+				edgeVertexIndices1_ = Arrays.copyOf( edgeVertexIndices1_, capacity );
+				edgeVertexIndices2_ = Arrays.copyOf( edgeVertexIndices2_, capacity );
+				edgeLengths_ = Arrays.copyOf( edgeLengths_, capacity );
+			}
+
+			edgeSlot = numberOfEdgeSlots_++;
+		}
+
+		edgeVertexIndices1_[ edgeSlot ] = _vertexIndex1;
+		edgeVertexIndices2_[ edgeSlot ] = _vertexIndex2;
+		edgeLengths_[ edgeSlot ] = _edgeLength;
+
+		// insert the edge into the filtration order
+		position = -( findForestEdgePosition( _edgeLength, _vertexIndex1, _vertexIndex2 ) + 1 );
+		rollBackComponents( position );
+		System.arraycopy( forestEdgeOrder_, position, forestEdgeOrder_, position+1, 
+				numberOfForestEdges_ - position );
+		forestEdgeOrder_[ position ] = edgeSlot;
+		numberOfForestEdges_++;
+
+		return edgeSlot;
+	}
+
+	protected void removeForestEdge( final int _edgeSlot ) {
+
+		final int position = findForestEdgePosition( edgeLengths_[ _edgeSlot ],
+				edgeVertexIndices1_[ _edgeSlot ], edgeVertexIndices2_[ _edgeSlot ] );
+
+		rollBackComponents( position );
+		System.arraycopy( forestEdgeOrder_, position+1, forestEdgeOrder_, position, 
+				numberOfForestEdges_ - position - 1 );
+		numberOfForestEdges_--;
+
+		if ( numberOfFreeEdgeSlots_ == freeEdgeSlots_.length ) {
+
+			freeEdgeSlots_ = Arrays.copyOf( freeEdgeSlots_, 2 * numberOfFreeEdgeSlots_ );
+		}
+
+		freeEdgeSlots_[ numberOfFreeEdgeSlots_++ ] = _edgeSlot;
+	}
+
+	// The position of the edge in the filtration order of the forest edges, or
+	// (-(insertion point) - 1) if it isn't a forest edge
+	protected int findForestEdgePosition( final double _edgeLength,
+			final int _vertexIndex1,
+			final int _vertexIndex2 ) {
+
+		int low = 0;
+		int high = numberOfForestEdges_ - 1;
+		int middle;
+		int edgeSlot;
+		int comparison;
+
+		while ( low <= high ) {
+
+			middle = ( low + high ) >>> 1;
+			edgeSlot = forestEdgeOrder_[ middle ];
+			comparison = compareEdges( edgeLengths_[ edgeSlot ],
+					edgeVertexIndices1_[ edgeSlot ], edgeVertexIndices2_[ edgeSlot ],
+					_edgeLength, _vertexIndex1, _vertexIndex2 );
+
+			if ( comparison < 0 ) {
+
+				low = middle + 1;
+			}
+			else if ( comparison > 0 ) {
+
+				high = middle - 1;
+			}
+			else {
+
+				return middle;
+			}
+		}
+
+		return -( low + 1 );
+	}
+
+	// Undo the elder rule for the forest edges from the position on
+	protected void rollBackComponents( final int _position ) {
+
+		int linkedRoot;
+		int survivingRoot;
+
+		while ( numberOfAppliedForestEdges_ > _position ) {
+
+			numberOfAppliedForestEdges_--;
+
+			linkedRoot = linkedRoots_[ numberOfAppliedForestEdges_ ];
+			survivingRoot = componentParents_[ linkedRoot ];
+
+			componentElders_[ survivingRoot ] = previousElders_[ numberOfAppliedForestEdges_ ];
+			if ( rankIncreased_[ numberOfAppliedForestEdges_ ] ) componentRanks_[ survivingRoot ]--;
+			componentParents_[ linkedRoot ] = linkedRoot;
+		}
+	}
+
+	protected int findComponentRoot( final int _vertexIndex ) {
+
+		int v = _vertexIndex;
+
+		while ( componentParents_[ v ] != v ) v = componentParents_[ v ];
+
+		return v;
+	}
+
+	// Apply the elder rule to the forest edges that haven't been applied yet (each
+	// forest edge joins 2 components, since the forest has no cycles)
+	protected void applyForestEdges() {
+
+		int k;
+		int edgeSlot;
+		int rootA;
+		int rootB;
+		int elderA;
+		int elderB;
+		int survivingElder;
+		int survivingRoot;
+		int linkedRoot;
+
+		while ( numberOfAppliedForestEdges_ < numberOfForestEdges_ ) {
+
+			k = numberOfAppliedForestEdges_;
+			edgeSlot = forestEdgeOrder_[ k ];
+
+			rootA = findComponentRoot( edgeVertexIndices1_[ edgeSlot ] );
+			rootB = findComponentRoot( edgeVertexIndices2_[ edgeSlot ] );
+			elderA = componentElders_[ rootA ];
+			elderB = componentElders_[ rootB ];
+
+			// the elder rule, as in UnionFind: the smaller birth value survives,
+			// and for equal birth values the lower vertex index
+			if ( birthValues_[ elderA ] < birthValues_[ elderB ] ||
+					( birthValues_[ elderA ] == birthValues_[ elderB ] && elderA < elderB ) ) {
+
+				survivingElder = elderA;
+				dyingVertices_[ k ] = elderB;
+			}
+			else {
+
+				survivingElder = elderB;
+				dyingVertices_[ k ] = elderA;
+			}
+
+			if ( componentRanks_[ rootA ] < componentRanks_[ rootB ] ) {
+
+				linkedRoot = rootA;
+				survivingRoot = rootB;
+			}
+			else {
+
+				linkedRoot = rootB;
+				survivingRoot = rootA;
+			}
+
+			rankIncreased_[ k ] = ( componentRanks_[ rootA ] == componentRanks_[ rootB ] );
+			if ( rankIncreased_[ k ] ) componentRanks_[ survivingRoot ]++;
+			componentParents_[ linkedRoot ] = survivingRoot;
+			linkedRoots_[ k ] = linkedRoot;
+			previousElders_[ k ] = componentElders_[ survivingRoot ];
+			componentElders_[ survivingRoot ] = survivingElder;
+
+			numberOfAppliedForestEdges_++;
+		}
+	}
+
+	// Filtration order of the edges: by length, then by vertex indices
+	protected static int compareEdges( final double _edgeLength1,
+			final int _vertexIndex11, final int _vertexIndex12,
+			final double _edgeLength2,
+			final int _vertexIndex21, final int _vertexIndex22 ) {
+
+		if ( _edgeLength1 != _edgeLength2 ) {
+
+			return ( _edgeLength1 < _edgeLength2 ) ? -1 : 1;
+		}
+		if ( _vertexIndex11 != _vertexIndex21 ) {
+
+			return ( _vertexIndex11 < _vertexIndex21 ) ? -1 : 1;
+		}
+
+		return Integer.compare( _vertexIndex12, _vertexIndex22 );
+	}
+
+	// The current 0-dim. intervals, in the same form as the batch computation: the
+	// finite intervals in filtration order (without the ones of zero length), then
+	// the infinite ones, one for each component
+	public ResultsCollection getZeroDimIntervals() throws Exception {
+
+		ResultsCollection zeroDimIntervals;
+		int edgeSlot;
+		int dyingVertexIndex;
+
+		if ( zeroDimIntervals_ == null ) {
+
+			zeroDimIntervals = new ResultsCollection();
+
+			// the elder rule for the forest edges that changed since the last time
+			// (the other edges don't join any components)
+			applyForestEdges();
+
+			for ( int k=0; k<numberOfForestEdges_; k++ ) {
+
+				edgeSlot = forestEdgeOrder_[ k ];
+				dyingVertexIndex = dyingVertices_[ k ];
+
+				if ( birthValues_[ dyingVertexIndex ] != edgeLengths_[ edgeSlot ] ) {
+
+					zeroDimIntervals.addResult(
+							new Interval(
+									k,
+									birthValues_[ dyingVertexIndex ],
+									edgeLengths_[ edgeSlot ],
+									dyingVertexIndex ) );
+				}
+			}
+
+			for ( int e=0; e<numberOfElders_; e++ ) {
+
+				zeroDimIntervals.addResult(
+						new Interval(
+								-1,
+								birthValues_[ elders_[ e ] ],
+								TDA.INTERVAL_VALUEINFINITY,
+								elders_[ e ] ) );
+			}
+
+			zeroDimIntervals_ = zeroDimIntervals;
+		}
+
+		return zeroDimIntervals_;
+	}
+
+	// The current results, registered the same way as for the RCA0 task
+	public ResultsContainerI getResultsContainer() throws Exception {
+
+		ResultsContainerI resultsContainer = new ResultsContainer();
+
+    	resultsContainer.addRegisteredResult(
+    			TDA.DATA_REGISTEREDRESULT_RCA0_0,
+    			getZeroDimIntervals(),
+    			"0-dim. intervals" );
+
+    	resultsContainer.addRegisteredResult(
+    			TDA.DATA_REGISTEREDRESULT_RCA0_2,
+    			numberOfEdges_,
+    			"Number of edges" );
+
+		return resultsContainer;
+	}
+
+	public int getNumberOfPoints() {
+
+		return numberOfPoints_;
+	}
+
+	public int getNumberOfEdges() {
+
+		return numberOfEdges_;
+	}
+
+	public int getNumberOfComponents() {
+
+		return unionFind_.getNumberOfComponents();
+	}
+
+	public int getNumberOfForestEdges() {
+
+		return numberOfForestEdges_;
+	}
+}
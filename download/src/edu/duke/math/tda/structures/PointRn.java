@@ -58,6 +58,21 @@ public class PointRn implements PointI {
     	}
     }
     
+    // hjs 10/18/2026 Create the point on top of the supplied coordinates (without
+    // a copy when _copyCoords is false), e.g., for the rows of an api-supplied array
+    public PointRn( final double[] _coords, final boolean _copyCoords ) {
+
+    	if ( _copyCoords ) {
+    		
+    		coordinates_ = new double[ _coords.length ];
+    		System.arraycopy( _coords, 0, coordinates_, 0, _coords.length );
+    	}
+    	else {
+    		
+    		coordinates_ = _coords;
+    	}
+    }
+    
     // hjs 11/14/2013 Add constructor for creating PointRn from a string
     // (of its coordinate values)0
     public PointRn( final String _pointAsString ) {
@@ -14,7 +14,7 @@
 package edu.duke.math.tda.structures;
 
 import java.util.ArrayList;
-import java.util.Collections;
+import java.util.Arrays;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
@@ -26,13 +26,14 @@ import edu.duke.math.tda.persistence.M12PersistenceMatrix;
 import edu.duke.math.tda.persistence.PersistenceMatrix;
 import edu.duke.math.tda.structures.edgematrix.DistanceMatrix;
 import edu.duke.math.tda.structures.edgematrix.EdgeMatrixAsMultiDimArray;
-import edu.duke.math.tda.structures.edgematrix.EdgeMatrixAsSortedMap;
+import edu.duke.math.tda.structures.edgematrix.EdgeMatrixAsHashMap;
 import edu.duke.math.tda.structures.edgematrix.EdgeMatrixI;
-import edu.duke.math.tda.structures.edgematrix.FaceTrackerAsSortedMap;
+import edu.duke.math.tda.structures.edgematrix.FaceTrackerAsHashMap;
 import edu.duke.math.tda.structures.edgematrix.FaceTrackerI;
 import edu.duke.math.tda.structures.edgematrix.SparseMatrix;
 import edu.duke.math.tda.structures.metric.MetricI;
 import edu.duke.math.tda.structures.pointcloud.PointCloudInRn;
+import edu.duke.math.tda.structures.pointcloud.ParallelEdgeBuilder;
 import edu.duke.math.tda.structures.results.Interval;
 import edu.duke.math.tda.structures.results.ResultsCollection;
 import edu.duke.math.tda.utility.TDA;
@@ -63,23 +64,29 @@ public class RipsToPersistence {
 
 	// set of edges as supplied by the user
 	protected List<EdgeI> edges_ = new ArrayList<EdgeI>();
+	// hjs 10/18/2026 primitive (struct-of-arrays) storage of the sorted edges; edges_
+	// is a view onto it that creates the edge objects on demand
+	protected EdgeStore edgeStore_;
 	// set of edges as being build up by the assembly process
 	protected List<EdgeI> builtUpEdges_ = new ArrayList<EdgeI>();
 	// helper variables, so we don't have to 'look up' these values all the time
 	protected int numberOfEdges_;
 	protected int numberOfVertices_;
 	
-	// List of edges connected to each vertex
-	protected ArrayList<ArrayList<Integer>> localListL_;
-	// May want to use a sorted collection for this one instead (?):
-	// List of vertices connected to each vertex
-	protected ArrayList<ArrayList<Integer>> localListLv_;
+	// hjs 10/18/2026 Edges and vertices connected to each vertex (the local lists L
+	// and Lv), in compressed sparse row form sized for all edges; the rows are filled
+	// as the edges are processed, so they hold the edges processed so far
+	protected VertexAdjacency adjacency_;
+	// (reused by the union-find over the edge pair candidates)
+	protected int[] edgePairParents_ = new int[ 0 ];
 	protected List<PointRn> vertices_ = new ArrayList<PointRn>();
 	protected double distanceBound_;
 	protected MetricI metric_;
 	protected PointCloudInRn pointCloud_;
 	
-	protected StringBuffer strBufSparseMat_ = new StringBuffer();
+	// hjs 10/18/2026 Whether the edges came from a point cloud or distance matrix,
+	// in which case getPointCloudAsSparseMatrix lists them (composed on request)
+	protected boolean isSparseMatrixFromEdgeStore_ = false;
 	
 	// data structure for quick look-up of edge indices
 	protected EdgeMatrixI edgeMatrix_;
@@ -91,16 +98,26 @@ public class RipsToPersistence {
 	protected M01PersistenceMatrix matrixM01_;
 	
 	protected int[] p_;
-	protected int[] U_;
+	// hjs 10/18/2026 components of the 0-dim. union-find
+	protected UnionFind unionFind_;
 	// array used for tracking non-zero diagonal elements (sparse matrix data)
 	protected double[] diag_;
 
 	// data structures for tracking results for different output targets
 	protected ResultsCollection resCollZeroDimPers_ = new ResultsCollection();
-	protected String zeroDimPers_ = new String( "" );
-	protected String zeroDimPersPlain_ = new String( "" );
-	protected String zeroDimPersForDiagram_ = new String( "" );
-	protected String zeroDimPersForDiagramZeros_ = new String( "" );
+	// hjs 10/18/2026 the 0-dim. intervals are kept in primitive arrays (the finite
+	// intervals first, then the infinite ones, with death value -1). The string
+	// forms are only composed when they are requested (e.g., for the output files).
+	protected int numberOfZeroDimIntervals_;
+	protected int numberOfFiniteZeroDimIntervals_;
+	protected int[] zeroDimEdgeIndices_;
+	protected double[] zeroDimBirthValues_;
+	protected double[] zeroDimDeathValues_;
+	protected int[] zeroDimVertexIndices_;
+	protected String zeroDimPers_;
+	protected String zeroDimPersPlain_;
+	protected String zeroDimPersForDiagram_;
+	protected String zeroDimPersForDiagramZeros_;
 
 	// internal tracking for later feedback
 	protected StringBuffer strBufCollectFeedback_ = 
@@ -379,8 +396,8 @@ public class RipsToPersistence {
     	if ( switchToSparseAt < _pointCloud.getNumberOfPoints() ) {    	
     	
     		// "preprocessing": get a sparse matrix from the point cloud
-	    	String strPointCloudAsSparseMatrix = _pointCloud.asSparseMatrix( _metric, _distanceBound ).toString();
-	    	SparseMatrix sparseMatrix = new SparseMatrix( strPointCloudAsSparseMatrix, _processData );
+    		// hjs 10/18/2026 Build it directly from the computed edges (no text round-trip)
+	    	SparseMatrix sparseMatrix = _pointCloud.asSparseMatrix( _metric, _distanceBound, _processData );
 	    	
 	    	this.edges_ = computeEdges( sparseMatrix );
     	}
@@ -609,25 +626,30 @@ public class RipsToPersistence {
 	        return isDataValid;
 	}
 
+	// Get the adjacency of the vertices, building it (for the current edge list) if needed
+	protected VertexAdjacency getAdjacency() {
+		
+		if ( adjacency_ == null ) {
+			
+			adjacency_ = new VertexAdjacency( numberOfVertices_, edgeStore_ );
+		}
+		
+		return adjacency_;
+	}
+
 	public void setup() {		
 
     	p_ = new int[ numberOfVertices_ ];
-
-    	this.localListL_ = new ArrayList<ArrayList<Integer>>( numberOfVertices_ );
-    	this.localListLv_ = new ArrayList<ArrayList<Integer>>( numberOfVertices_ );
-    	// set up an empty arrayList for collecting the edges per vertex
-    	// (trivially indexed by vertex index)
-    	for ( int i=0; i<numberOfVertices_; i++ ) {
-
-    		this.localListL_.add( new ArrayList<Integer>() );
-    		this.localListLv_.add( new ArrayList<Integer>() );
-    	}
+    	
+    	// (the adjacency of the vertices is built on first use, once the edges are known)
+    	this.adjacency_ = null;
     	
     	// set up the FaceFactory
     	faceFactory_ = new FaceFactory( this.processData_ );
     	
     	// set up the tracking of the faces
-    	faceTracker_ = new FaceTrackerAsSortedMap( numberOfVertices_ );
+    	// hjs 10/18/2026 use the primitive map (its key doesn't overflow for large data)
+    	faceTracker_ = new FaceTrackerAsHashMap( numberOfVertices_ );
 	}
 	
 	public Settings getSettings() {
@@ -641,8 +663,11 @@ public class RipsToPersistence {
 
     	double L2Distance;
     	int numberOfPoints;
-    	List<EdgeI> computedEdges = new ArrayList<EdgeI>();
-    	EdgeI tmpEdge;
+    	int entryCount = 0;
+    	int capacity;
+    	int[] vertexIndices1;
+    	int[] vertexIndices2;
+    	double[] edgeLengths;
 
         if ( TDA.DEBUG && TDA.TRACE_EDGELIST ) {
     	
@@ -653,51 +678,76 @@ public class RipsToPersistence {
     	
         numberOfPoints = _distMatrix.getNumberOfVertices();
         this.numberOfVertices_ = _distMatrix.getNumberOfVertices();
-        double[][] edgeLengths = _distMatrix.getDistances();
+        // hjs 10/18/2026 Read the matrix row by row (sequentially for a matrix stored
+        // off-heap, via the row buffer)
+        double[] rowBuffer = _distMatrix.isStoredOffHeap() ? new double[ numberOfPoints ] : null;
+        double[] distances;
         diag_ = new double[ numberOfPoints ];
+        capacity = Math.max( 16, numberOfPoints );
+        vertexIndices1 = new int[ capacity ];
+        vertexIndices2 = new int[ capacity ];
+        edgeLengths = new double[ capacity ];
     	
     	// compare the points pair-wise
     	for ( int i=0; i<numberOfPoints; i++ ) {
     		
+    		distances = _distMatrix.getRow( i, rowBuffer );
+    		
     		// for "special' distance matrices, we allow non-zero values on the diagonal
-    		diag_[ i ] = edgeLengths[ i ][ i ];
+    		diag_[ i ] = distances[ i ];
     		
     		for ( int j=i+1; j<numberOfPoints; j++ ) {
     			
     			// Get the edge length from the supplied value    	
-    			L2Distance = edgeLengths[ i ][ j ];
+    			L2Distance = distances[ j ];
     	    	
     	    	// Note: by comparing the supplied value to 0, we can easily supply
     	    	// only those edges that we want to use:
     	    	if ( L2Distance > 0 && L2Distance < this.distanceBound_ ) {
 
-    	    		computedEdges.add( edgeFactory_.createEdge( i, j, L2Distance ) );
+    	    		if ( entryCount == capacity ) {
+    	    			
+    	    			capacity = capacity + ( capacity >> 1 );
+    	    			vertexIndices1 = Arrays.copyOf( vertexIndices1, capacity );
+    	    			vertexIndices2 = Arrays.copyOf( vertexIndices2, capacity );
+    	    			edgeLengths = Arrays.copyOf( edgeLengths, capacity );
+    	    		}
+    	    		
+    	    		vertexIndices1[ entryCount ] = i;
+    	    		vertexIndices2[ entryCount ] = j;
+    	    		edgeLengths[ entryCount ] = L2Distance;
+    	    		entryCount++;
     	    	}
     		}
     	}
     	
     	// ------------------------
-    	// Before returning the edge list, SORT it by the distance (done via
-    	// default comparator implementation in Edge class)
+    	// Before returning the edge list, SORT it by the distance
     	// ------------------------
-    	Collections.sort( computedEdges );
-
+    	edgeStore_ = new EdgeStore( vertexIndices1, vertexIndices2, edgeLengths, 
+    			entryCount, edgeFactory_ );
+    	edgeStore_.sortByEdgeLength();
 
-    	this.edgeMatrix_ = new EdgeMatrixAsMultiDimArray( numberOfPoints );
+    	// hjs 10/18/2026 For a matrix stored off-heap, don't set up an n x n edge matrix
+    	if ( _distMatrix.isStoredOffHeap() ) {
+    		
+    		this.edgeMatrix_ = new EdgeMatrixAsHashMap( numberOfPoints, entryCount );
+    	}
+    	else {
+    		
+    		this.edgeMatrix_ = new EdgeMatrixAsMultiDimArray( numberOfPoints );
+    	}
     	
     	// now assign the index values to each edge
     	// and store 
 
-    	for ( int i=0; i<computedEdges.size(); i++ ) {
+    	for ( int i=0; i<edgeStore_.getNumberOfEdges(); i++ ) {
     		
-    		tmpEdge = computedEdges.get( i );
-    		tmpEdge.setEdgeListIndex( i );
-    		edgeMatrix_.setEdgeIndex( tmpEdge.getVertexIndex1(), 
-				    				tmpEdge.getVertexIndex2(), 
-				    				tmpEdge.getEdgeListIndex() );
-    		strBufSparseMat_.append( tmpEdge.getVertexIndex1() + " \t" +
-    				tmpEdge.getVertexIndex2() + " \t" +  tmpEdge.getEdgeLength() + "\n" );
+    		edgeMatrix_.setEdgeIndex( edgeStore_.getVertexIndex1( i ), 
+				    				edgeStore_.getVertexIndex2( i ), 
+				    				i );
     	}
+    	isSparseMatrixFromEdgeStore_ = true;
     	// this would set the edge length
 //    	for ( int i=0; i<edgesToCompute.size(); i++ ) {
 //    		
@@ -721,7 +771,7 @@ public class RipsToPersistence {
 		
 //		edgeListStatistics.recordSpecifiedData( strBufCollectFeedback );
 
-    	return computedEdges;
+    	return edgeStore_.asList();
     }
 	
 	// Compute the sorted list of edges (subject to the distance bound)
@@ -771,29 +821,32 @@ public class RipsToPersistence {
 //				"\n\nIn computeEdges [1]," )));
     	
     	// ------------------------
-    	// Before returning the edge list, SORT it by the distance (done via
-    	// default comparator implementation in Edge class)
+    	// Before returning the edge list, SORT it by the distance
+    	// (the supplied edge objects are kept as the views of their edges, since
+    	// the edge matrix refers to them)
     	// ------------------------
-    	Collections.sort( edgesToCompute );
+    	edgeStore_ = new EdgeStore( edgesToCompute, edgeFactory_ );
+    	edgeStore_.sortByEdgeLength();
     	
 //		System.out.println( new StringBuffer( StringUtil.compileMemoryInfo( 
 //				"\n\nIn computeEdges [after sort]," )));
 
-    	this.edgeMatrix_ = new EdgeMatrixAsSortedMap( _sparseMatrix );
+    	// hjs 10/18/2026 Look up the edge indices in a primitive hash map (instead of
+    	// going through the sparse matrix's tree maps for every lookup)
+    	this.edgeMatrix_ = new EdgeMatrixAsHashMap( numberOfPoints, 
+    			edgeStore_.getNumberOfEdges() );
     	
 //		System.out.println( new StringBuffer( StringUtil.compileMemoryInfo( 
-//				"\n\nIn computeEdges [after new EdgeMatrixAsSortedMap]," )));
+//				"\n\nIn computeEdges [after new EdgeMatrixAsHashMap]," )));
     	
     	// now assign the index values to each edge
     	// and store 
 
-    	for ( int i=0; i<edgesToCompute.size(); i++ ) {
+    	for ( int i=0; i<edgeStore_.getNumberOfEdges(); i++ ) {
     		
-    		tmpEdge = edgesToCompute.get( i );
-    		tmpEdge.setEdgeListIndex( i );
-    		edgeMatrix_.setEdgeIndex( tmpEdge.getVertexIndex1(), 
-				    				tmpEdge.getVertexIndex2(), 
-				    				tmpEdge.getEdgeListIndex() );
+    		edgeMatrix_.setEdgeIndex( edgeStore_.getVertexIndex1( i ), 
+				    				edgeStore_.getVertexIndex2( i ), 
+				    				i );
     	}
     	
 //		System.out.println( new StringBuffer( StringUtil.compileMemoryInfo( 
@@ -823,19 +876,14 @@ public class RipsToPersistence {
 		
 //		edgeListStatistics.recordSpecifiedData( strBufCollectFeedback );
 
-    	return edgesToCompute;
+    	return edgeStore_.asList();
     }
 
     // Compute the sorted list of edges (subject to the distance bound)
     protected List<EdgeI> computeEdges( final PointCloudInRn _pointCloud ) throws Exception {
 
-    	PointRn p1;
-    	PointRn p2;
-    	double distanceBetweenPoints;
     	int numberOfPoints;
-    	List<EdgeI> edgesToCompute = new ArrayList<EdgeI>();
-    	List<PointRn> pointsInPointCloud = new ArrayList<PointRn>();
-    	EdgeI tmpEdge;
+    	ParallelEdgeBuilder edgeBuilder;
 
         if ( TDA.DEBUG && TDA.TRACE_EDGELIST ) {
     	
@@ -844,33 +892,22 @@ public class RipsToPersistence {
 
 		startTime_ = System.currentTimeMillis();
     	
-    	pointsInPointCloud = _pointCloud.getPoints();
-    	numberOfPoints = pointsInPointCloud.size();
+    	numberOfPoints = _pointCloud.getPoints().size();
     	
     	// compare the points pair-wise
-    	for ( int i=0; i<numberOfPoints; i++ ) {
-    		
-			p1 = pointsInPointCloud.get( i );
-			
-    		for ( int j=i+1; j<numberOfPoints; j++ ) {
-    			
-    	    	p2 = pointsInPointCloud.get( j );
-    	    	distanceBetweenPoints = metric_.computeDistance( p1, p2 );
-    	    	
-    	    	if ( distanceBetweenPoints < this.distanceBound_ ) {
-
-    	    		edgesToCompute.add( edgeFactory_.createEdge( i, j, distanceBetweenPoints ) );
-    	    		
-//    	    		strBufSparseMat_.append( i + " \t" + j + " \t" +  distanceBetweenPoints + "\n" );
-    	    	}
-    		}
-    	}
+    	// hjs 10/18/2026 The distances are computed on the number of threads given by
+    	// the 'threads' setting; the edges come back in the order of the serial loop
+    	edgeBuilder = new ParallelEdgeBuilder( _pointCloud, metric_, 
+    			this.distanceBound_, ParallelEdgeBuilder.getNumberOfThreads( processData_ ) );
+    	edgeBuilder.build();
     	
     	// ------------------------
-    	// Before returning the edge list, SORT it by the distance (done via
-    	// default comparator implementation in Edge class)
+    	// Before returning the edge list, SORT it by the distance
     	// ------------------------
-    	Collections.sort( edgesToCompute );
+    	edgeStore_ = new EdgeStore( edgeBuilder.getVertexIndices1(), 
+    			edgeBuilder.getVertexIndices2(), edgeBuilder.getEdgeLengths(), 
+    			edgeBuilder.getNumberOfEdges(), edgeFactory_ );
+    	edgeStore_.sortByEdgeLength();
     	
     	// TODO: examine if the sparse matrix would be better (storage vs perf trade off)
     	this.edgeMatrix_ = new EdgeMatrixAsMultiDimArray( numberOfPoints );
@@ -878,16 +915,13 @@ public class RipsToPersistence {
     	// now assign the index values to each edge
     	// and store 
 
-    	for ( int i=0; i<edgesToCompute.size(); i++ ) {
+    	for ( int i=0; i<edgeStore_.getNumberOfEdges(); i++ ) {
     		
-    		tmpEdge = edgesToCompute.get( i );
-    		tmpEdge.setEdgeListIndex( i );
-    		edgeMatrix_.setEdgeIndex( tmpEdge.getVertexIndex1(), 
-				    				tmpEdge.getVertexIndex2(), 
-				    				tmpEdge.getEdgeListIndex() );
-    		strBufSparseMat_.append( tmpEdge.getVertexIndex1() + " \t" +
-    				tmpEdge.getVertexIndex2() + " \t" +  tmpEdge.getEdgeLength() + "\n" );
+    		edgeMatrix_.setEdgeIndex( edgeStore_.getVertexIndex1( i ), 
+				    				edgeStore_.getVertexIndex2( i ), 
+				    				i );
     	}
+    	isSparseMatrixFromEdgeStore_ = true;
     	
     	
     	
@@ -914,7 +948,7 @@ public class RipsToPersistence {
 		
 //		edgeListStatistics.recordSpecifiedData( strBufCollectFeedback );
 
-    	return edgesToCompute;
+    	return edgeStore_.asList();
     }
     
     public double getDistanceBound() {
@@ -947,6 +981,13 @@ public class RipsToPersistence {
     	return this.p_;
     }
     
+    // hjs 10/18/2026 Is the edge paired (negative) in the 0-dim. union-find, i.e., a
+    // pivot of the lower-dimensional reduction (used for clearing)
+    public boolean isPairedInDimensionZero( final int _edgeIndex ) {
+    	
+    	return edgeStore_.getUnionFindVertexIndex( _edgeIndex ) != -1;
+    }
+    
     public List<EdgeI> getEdges() {
     	    	
     	return this.edges_;
@@ -1009,48 +1050,27 @@ public class RipsToPersistence {
     
     public StringBuffer printL() {
     	
+    	return printL( builtUpEdges_.size() );
+    }
+    
+    // hjs 10/18/2026 Print the local lists L for the edges with index below the limit
+    // (i.e., the edges processed so far)
+    public StringBuffer printL( final int _edgeIndexLimit ) {
+    	
     	StringBuffer LAsString = new StringBuffer( "" );
+    	final VertexAdjacency adjacency = getAdjacency();
 
     	LAsString.append( "local list L:" );
-    	for ( int j=0; j<localListL_.size(); j++ ) {
-    	
-	    	ArrayList<Integer> tempL = (ArrayList<Integer>) this.localListL_.get( j );
-	    	Integer edgeIndex;
+    	for ( int j=0; j<numberOfVertices_; j++ ) {
 	    	
 	    	LAsString.append( "\n			L(" + Integer.toString( j ) 
 					+ ") = " );
-			for ( int i=0; i< tempL.size(); i++ ) {
-				
-				edgeIndex = (Integer) tempL.get( i );
-				LAsString.append( "  " + edgeIndex.toString() + "" );
-			}
+			LAsString.append( adjacency.printEdgeIndices( j, _edgeIndexLimit ) );
     	}
     	LAsString.append( "\n" );
 		
 		return LAsString;
     }
-    
-    public StringBuffer printL( final int vertexIndex_ ) {
-    	
-    	// for now, always print entire list
-    	if (true) return printL();
-    	
-    	
-
-		StringBuffer LAsString = new StringBuffer( "" );
-    	ArrayList<Integer> tempL = (ArrayList<Integer>) this.localListL_.get( vertexIndex_);
-    	Integer edgeIndex;
-    	
-    	LAsString.append( "(local list L(vertexIndex=" + Integer.toString( vertexIndex_ ) 
-				+ ")   " );
-		for ( int i=0; i< tempL.size(); i++ ) {
-			
-			edgeIndex = (Integer) tempL.get( i );
-			LAsString.append( "  " + edgeIndex.toString() );
-		}
-		
-		return LAsString;
-    }
 
     public String toString() {
     	
@@ -1101,29 +1121,15 @@ public class RipsToPersistence {
     	final int vertex1 = _edge.getVertexIndex1();
     	final int vertex2 = _edge.getVertexIndex2();
     	final int edgeIndex = _edge.getEdgeListIndex();
-    	final ArrayList<Integer> indexesOfEdgesConnectedToVertex1 = 
-    				( ArrayList<Integer> ) localListL_.get( vertex1 );    	
-    	final ArrayList<Integer> indexesOfEdgesConnectedToVertex2 = 
-    				( ArrayList<Integer> ) localListL_.get( vertex2 );
-
-    	final ArrayList<Integer> verticesConnectedToVertex1 = 
-    				( ArrayList<Integer> ) localListLv_.get( vertex1 );    	
-    	final ArrayList<Integer> verticesConnectedToVertex2 = 
-    				( ArrayList<Integer> ) localListLv_.get( vertex2 );
-    	
-    	final int numberOfEdgesConnectedToVertex1 = indexesOfEdgesConnectedToVertex1.size();
-    	final int numberOfEdgesConnectedToVertex2 = indexesOfEdgesConnectedToVertex2.size();
 
     	EdgeI edge1;
     	EdgeI edge2;
 
     	int oppositeVertex;
-    	ArrayList<Integer> oppositeVertexList = new ArrayList<Integer>();
 
     	boolean isCandidate;
     	EdgePair edgePairCandidate;
     	ArrayList<EdgePair> edgePairCandidateList;
-    	ArrayList<EdgePair> edgePairListToReturn;
     
     	int tmpEdgeIndex;
     	int otherVertexIndex1;
@@ -1167,36 +1173,30 @@ public class RipsToPersistence {
 
     	edgePairCandidateList = new ArrayList<EdgePair>();
 
-		int indexPointerForList1 = 0;
-		int indexPointerForList2 = 0;
-		int listSize1;
-		int listSize2;    		
+		// hjs 10/18/2026 Intersect the neighbors of the two vertices in the adjacency
+		// structure, whose rows hold the edges processed so far (i.e., the local lists Lv)
+		final VertexAdjacency adjacency = getAdjacency();
+		final int[] neighbors = adjacency.getNeighbors();
+		final int[] edgeIndices = adjacency.getEdgeIndices();
+		final int listEnd1 = adjacency.getRowEnd( vertex1 );
+		final int listEnd2 = adjacency.getRowEnd( vertex2 );
+		int indexPointerForList1 = adjacency.getRowStart( vertex1 );
+		int indexPointerForList2 = adjacency.getRowStart( vertex2 );
 		int vertexIndex1;
 		int vertexIndex2;
 		int edgeIndex1;
 		int edgeIndex2;
-		ArrayList<Integer> vertexIntersectList = new ArrayList<Integer>();
-		ArrayList<Integer> vertexList1;
-		ArrayList<Integer> vertexList2;
-		
-		vertexList1 = this.localListLv_.get( vertex1 );
-		vertexList2 = this.localListLv_.get( vertex2 );
-		listSize1 = vertexList1.size();
-		listSize2 = vertexList2.size();
 
 		// Find the intersection between the two lists
-		while ( indexPointerForList1<listSize1 && indexPointerForList2<listSize2 ) {
+		while ( indexPointerForList1<listEnd1 && indexPointerForList2<listEnd2 ) {
 			
-			vertexIndex1 = vertexList1.get( indexPointerForList1 );
-			vertexIndex2 = vertexList2.get( indexPointerForList2 );
+			vertexIndex1 = neighbors[ indexPointerForList1 ];
+			vertexIndex2 = neighbors[ indexPointerForList2 ];
 			
 			if ( vertexIndex1 == vertexIndex2 ) {
 				
-				vertexIntersectList.add( new Integer( vertexIndex1 ) );
-				
-
-	    		edgeIndex1 = this.edgeMatrix_.getEdgeIndex( vertex1, vertexIndex1 );
-	    		edgeIndex2 = this.edgeMatrix_.getEdgeIndex( vertex2, vertexIndex1 );
+				edgeIndex1 = edgeIndices[ indexPointerForList1 ];
+				edgeIndex2 = edgeIndices[ indexPointerForList2 ];
 				
 				edgePairCandidate = new EdgePair( 
 						this.edges_.get( edgeIndex1 ), 
@@ -1275,7 +1275,11 @@ public class RipsToPersistence {
     	// such edgePair in the edgePairCandidateList)
     	// ---------
     	numberOfEdgePairCandidates = edgePairCandidateList.size();    	
-    	U = new int[ numberOfEdgePairCandidates ];
+    	if ( edgePairParents_.length < numberOfEdgePairCandidates ) {
+    		
+    		edgePairParents_ = new int[ 2 * numberOfEdgePairCandidates ];
+    	}
+    	U = edgePairParents_;
     	        	    	
     	// Point each vertex (EdgePair) to itself
     	for ( int ii=0; ii<numberOfEdgePairCandidates; ii++ ) {
@@ -1326,17 +1330,17 @@ public class RipsToPersistence {
 		}
 		
 
-    	edgePairListToReturn = new ArrayList<EdgePair>();
-    	
 		// Union-Find is complete
 		// Final step: get the actual "non-redundant" edgePairs, corresponding to those
 		// "opposite" vertices that have U(a)==a        			
+		// hjs 10/18/2026 (collected in place at the front of the candidate list)
+		int numberOfAcceptedPairs = 0;
 		for ( int ii=0; ii<numberOfEdgePairCandidates; ii++ ) {
 			
 			if ( U[ ii ] == ii ) {
 				
 				// add the ii-th edgePair
-				edgePairListToReturn.add( edgePairCandidateList.get( ii ) );
+				edgePairCandidateList.set( numberOfAcceptedPairs++, edgePairCandidateList.get( ii ) );
 
 //				System.out.println( "\n		" +
 //						">> edgePairCandidate accepted: " + edgePairCandidateList.get( ii ).toString() );
@@ -1359,18 +1363,19 @@ public class RipsToPersistence {
 				}
 			}
 		}
+		edgePairCandidateList.subList( numberOfAcceptedPairs, numberOfEdgePairCandidates ).clear();
 
 
 //					System.out.println( "\n		" +
-//							"*** edgePairList to be returned: " + edgePairListToReturn.toString() );
+//							"*** edgePairList to be returned: " + edgePairCandidateList.toString() );
 					
 		if ( TDA.DEBUG && TDA.TRACE_EDGELIST ) {
 	    	
         	strBufCollectFeedback_.append( "\n\n		" +
-							"*** edgePairList to be returned: " + edgePairListToReturn.toString() );
+							"*** edgePairList to be returned: " + edgePairCandidateList.toString() );
 		}
     	
-    	return edgePairListToReturn;
+    	return edgePairCandidateList;
     }
     
 
@@ -1447,36 +1452,30 @@ public class RipsToPersistence {
 
     	edgePairCandidateList = new ArrayList<EdgePair>();
 
-		int indexPointerForList1 = 0;
-		int indexPointerForList2 = 0;
-		int listSize1;
-		int listSize2;    		
+		// hjs 10/18/2026 Intersect the neighbors of the two vertices in the adjacency
+		// structure, whose rows hold the edges processed so far (i.e., the local lists Lv)
+		final VertexAdjacency adjacency = getAdjacency();
+		final int[] neighbors = adjacency.getNeighbors();
+		final int[] edgeIndices = adjacency.getEdgeIndices();
+		final int listEnd1 = adjacency.getRowEnd( vertex1 );
+		final int listEnd2 = adjacency.getRowEnd( vertex2 );
+		int indexPointerForList1 = adjacency.getRowStart( vertex1 );
+		int indexPointerForList2 = adjacency.getRowStart( vertex2 );
 		int vertexIndex1;
 		int vertexIndex2;
 		int edgeIndex1;
 		int edgeIndex2;
-		ArrayList<Integer> vertexIntersectList = new ArrayList<Integer>();
-		ArrayList<Integer> vertexList1;
-		ArrayList<Integer> vertexList2;
-		
-		vertexList1 = this.localListLv_.get( vertex1 );
-		vertexList2 = this.localListLv_.get( vertex2 );
-		listSize1 = vertexList1.size();
-		listSize2 = vertexList2.size();
 
 		// Find the intersection between the two lists
-		while ( indexPointerForList1<listSize1 && indexPointerForList2<listSize2 ) {
+		while ( indexPointerForList1<listEnd1 && indexPointerForList2<listEnd2 ) {
 			
-			vertexIndex1 = vertexList1.get( indexPointerForList1 );
-			vertexIndex2 = vertexList2.get( indexPointerForList2 );
+			vertexIndex1 = neighbors[ indexPointerForList1 ];
+			vertexIndex2 = neighbors[ indexPointerForList2 ];
 			
 			if ( vertexIndex1 == vertexIndex2 ) {
 				
-				vertexIntersectList.add( new Integer( vertexIndex1 ) );
-				
-
-	    		edgeIndex1 = this.edgeMatrix_.getEdgeIndex( vertex1, vertexIndex1 );
-	    		edgeIndex2 = this.edgeMatrix_.getEdgeIndex( vertex2, vertexIndex1 );
+				edgeIndex1 = edgeIndices[ indexPointerForList1 ];
+				edgeIndex2 = edgeIndices[ indexPointerForList2 ];
 				
 				edgePairCandidate = new EdgePair( 
 						this.edges_.get( edgeIndex1 ), 
@@ -1555,7 +1554,7 @@ public class RipsToPersistence {
     public M01PersistenceMatrix computeMatrixM01() throws Exception {
 
 //    	final int numberOfVertices = numberOfVertices_;
-    	final int numberOfEdges = this.edges_.size();
+    	final int numberOfEdges = edgeStore_.getNumberOfEdges();
     	int vertex1;
     	int vertex2;
     	int boundaryVertex1;
@@ -1564,7 +1563,6 @@ public class RipsToPersistence {
 //    	int tmpVertex2 = -1;
 //    	int tmpVertex3 = -1;
     	int tmpEdgeIndex;
-    	EdgeI edgeToProcess;
 //    	EdgeZ2 edgeToProcess;
     	boolean isPPositiveValue;
 		SortedMap<Integer, Integer> tmpColumnList;
@@ -1595,8 +1593,8 @@ public class RipsToPersistence {
     	for ( int currentEdgeIndex=0; currentEdgeIndex<numberOfEdges; currentEdgeIndex++ ) {
 //    	for ( int currentEdgeIndex=0; currentEdgeIndex<0; currentEdgeIndex++ ) {
 			
-    		// get the edge to process from the loop index
-    		edgeToProcess = edges_.get( currentEdgeIndex );
+    		// the edge data is read from the edge store (the edge object is only 
+    		// needed for the trace output)
     		    		
     		// crucial: build up the entity //// NOT USED for M01
 //    		builtUpEdges_.add( edgeToProcess );
@@ -1615,9 +1613,9 @@ public class RipsToPersistence {
 				abc=1;
 			}
     		
-    		vertex1 = edgeToProcess.getVertexIndex1();
-    		vertex2 = edgeToProcess.getVertexIndex2();
-    		isPPositiveValue = edgeToProcess.isPPositive();
+    		vertex1 = edgeStore_.getVertexIndex1( currentEdgeIndex );
+    		vertex2 = edgeStore_.getVertexIndex2( currentEdgeIndex );
+    		isPPositiveValue = edgeStore_.isPPositive( currentEdgeIndex );
 //    		isUPositiveValue = edgeToProcess.isUPositive();
     		
     		// reset the column list
@@ -1632,7 +1630,7 @@ public class RipsToPersistence {
     		    	
     	        	strBufCollectFeedback_.append( 
     	        				"\n+ 'p-Positive': Edge (index=" + currentEdgeIndex + ")"
-			    				+ edgeToProcess.asStringComplete() );
+			    				+ edges_.get( currentEdgeIndex ).asStringComplete() );
     			}
     			
 //    			if ( currentEdgeIndex == 78 ) {
@@ -1673,7 +1671,7 @@ public class RipsToPersistence {
 //        				tmpEdgeIndex = this.getP( tmpVertex2 );	
 
 //	    				boundaryVertex1 = vertex1;
-    					boundaryVertex1 = this.edges_.get( tmpEdgeIndex ).getOtherVertex( boundaryVertex1 );
+    					boundaryVertex1 = edgeStore_.getOtherVertex( tmpEdgeIndex, boundaryVertex1 );
 	    				tmpEdgeIndex = this.getP( boundaryVertex1 );
 	    				
 	    				if ( TDA.TRACE_FEEDBACK && TDA.TRACE_EDGELIST ) {
@@ -1725,7 +1723,7 @@ public class RipsToPersistence {
 //	    				tmpEdgeIndex = this.getP( tmpVertex2 );
 	    				
 //	    				boundaryVertex2 = vertex2;
-    					boundaryVertex2 = this.edges_.get( tmpEdgeIndex ).getOtherVertex( boundaryVertex2 );
+    					boundaryVertex2 = edgeStore_.getOtherVertex( tmpEdgeIndex, boundaryVertex2 );
 	    				tmpEdgeIndex = this.getP( boundaryVertex2 );
 	    				
 	    				if ( TDA.TRACE_FEEDBACK && TDA.TRACE_EDGELIST ) {
@@ -1770,7 +1768,7 @@ public class RipsToPersistence {
 		    	
     				strBufCollectFeedback_.append( 
 	        				"\n+ 'p-Negative': Edge (index=" + currentEdgeIndex + ")"
-		    				+ edgeToProcess.asStringComplete() );
+		    				+ edges_.get( currentEdgeIndex ).asStringComplete() );
     				
     				strBufCollectFeedback_.append( "\n	Nothing to be done. " );
     			}
@@ -2388,6 +2386,10 @@ public class RipsToPersistence {
 //		}
     	
 		
+    	// hjs 10/18/2026 the local lists start out empty, and take up each edge once
+    	// it has been processed
+    	getAdjacency().clear();
+    	
     	// now go through edges based on the edgeType
     	for ( int currentEdgeIndex=0; currentEdgeIndex<numberOfEdges; currentEdgeIndex++ ) {
 			
@@ -2644,7 +2646,6 @@ public class RipsToPersistence {
 								
 								FaceI tmpFace;
 								int tmpFaceIndex;
-								SortedMap<Integer, Integer> tmpDagList;
 								
 								System.out.println( "localDag0[ " + j + " ]= " + localDag0[j] );
 								System.out.println( "   [before] Merging daglists for face=" + currentFace );
@@ -2657,14 +2658,13 @@ public class RipsToPersistence {
 								if ( tmpFaceIndex != -1 ) {
 								
 									tmpFace = faceList.get( tmpFaceIndex );
-									tmpDagList = tmpFace.getDagList();
-									if ( !tmpDagList.isEmpty() ) {
+									if ( tmpFace.getDagListSize() > 0 ) {
 									
-										currentFace.mergeIntoDagList( tmpDagList );
+										currentFace.mergeIntoDagList( tmpFace );
 									}
 	//								System.out.println( "   with face=" + tmpFace );
 	//								System.out.println( "   - currentFace.dagList=" + currentFace.getDagList() );
-	//								System.out.println( "   - tmpDagList=" + tmpDagList );
+	//								System.out.println( "   - tmpDagList=" + tmpFace.getDagList() );
 								}
 	//							else {
 	//								
@@ -2685,14 +2685,13 @@ public class RipsToPersistence {
 								if ( tmpFaceIndex != -1 ) {
 								
 									tmpFace = faceList.get( tmpFaceIndex );
-									tmpDagList = tmpFace.getDagList();
-									if ( !tmpDagList.isEmpty() ) {
+									if ( tmpFace.getDagListSize() > 0 ) {
 									
-										currentFace.mergeIntoDagList( tmpDagList );
+										currentFace.mergeIntoDagList( tmpFace );
 									}
 	//								System.out.println( "   with face=" + tmpFace );
 	//								System.out.println( "   - currentFace.dagList=" + currentFace.getDagList() );
-	//								System.out.println( "   - tmpDagList=" + tmpDagList );
+	//								System.out.println( "   - tmpDagList=" + tmpFace.getDagList() );
 								}
 	//							else {
 	//								
@@ -2707,14 +2706,13 @@ public class RipsToPersistence {
 								if ( tmpFaceIndex != -1 ) {
 								
 									tmpFace = faceList.get( tmpFaceIndex );
-									tmpDagList = tmpFace.getDagList();
-									if ( !tmpDagList.isEmpty() ) {
+									if ( tmpFace.getDagListSize() > 0 ) {
 									
-										currentFace.mergeIntoDagList( tmpDagList );
+										currentFace.mergeIntoDagList( tmpFace );
 									}
 	//								System.out.println( "   with face=" + tmpFace );
 	//								System.out.println( "   - currentFace.dagList=" + currentFace.getDagList() );
-	//								System.out.println( "   - tmpDagList=" + tmpDagList );
+	//								System.out.println( "   - tmpDagList=" + tmpFace.getDagList() );
 								}
 	//							else {
 	//								
@@ -2834,53 +2832,24 @@ public class RipsToPersistence {
 //			}	
 				
 
-	    	// TODO: check on the "timing" of these calls: (may need to be placed earlier?)
-
-			// Add the current edge's index to the local lists of each of its vertices
-			((ArrayList<Integer>) localListL_.get( vertex1 )).add( new Integer(currentEdgeIndex) );
-			((ArrayList<Integer>) localListL_.get( vertex2 )).add( new Integer(currentEdgeIndex) );
-			
-			// Add the current edge's OTHER VERTEX to the local lists Lv of each of its vertices
-			((ArrayList<Integer>) localListLv_.get( vertex1 )).add( new Integer(
-					edgeToProcess.getOtherVertex( vertex1 ) ) );
-			((ArrayList<Integer>) localListLv_.get( vertex2 )).add( new Integer( 
-					edgeToProcess.getOtherVertex( vertex2 ) ) );
-			Collections.sort( localListLv_.get( vertex1 ) );
-			Collections.sort( localListLv_.get( vertex2 ) );
+			// hjs 10/18/2026 The current edge now counts towards the local lists of each of
+			// its vertices
+			getAdjacency().addEdge( currentEdgeIndex, vertex1, vertex2 );
 
 
         	strBufCollectFeedback_.append( "\n" +
-				"\n-- localListL(" + vertex1 + ") = " );
-        	if ( localListL_.get( vertex1 ).size()>0 ) {
-	        	strBufCollectFeedback_.append( 
-						this.printArrayList( ( ArrayList<Integer> ) localListL_.get( vertex1 ) ) );
-        	}
-        	strBufCollectFeedback_.append( "\n-- localListL(" + vertex2 + ") = " );
-        	if ( localListL_.get( vertex2 ).size()>0 ) {
-	        	strBufCollectFeedback_.append( 
-						this.printArrayList( ( ArrayList<Integer> ) localListL_.get( vertex2 ) ) );
-        	} 
-        	strBufCollectFeedback_.append( 
-//        			this.printArrayList( ( ArrayList<Integer> )localListL_.get( vertex2 ) ) +
+				"\n-- localListL(" + vertex1 + ") = " + 
+					getAdjacency().printEdgeIndices( vertex1, currentEdgeIndex+1 ) +
+				"\n-- localListL(" + vertex2 + ") = " + 
+					getAdjacency().printEdgeIndices( vertex2, currentEdgeIndex+1 ) +
 				"\n-- localListL = " + 
-					this.printArrayList( localListL_ ) );
+					this.printL( currentEdgeIndex+1 ) );
 	    	
-        	
         	strBufCollectFeedback_.append( "\n" +
-				"\n-- localListLv(" + vertex1 + ") = " );
-        	if ( localListL_.get( vertex1 ).size()>0 ) {
-        		strBufCollectFeedback_.append( 
-        				this.printArrayList( ( ArrayList<Integer> ) localListLv_.get( vertex1 ) ) );
-        	};
-        	strBufCollectFeedback_.append( "\n-- localListLv(" + vertex2 + ") = " ); 
-        	if ( localListL_.get( vertex2 ).size()>0 ) {
-        		strBufCollectFeedback_.append( 
-        				this.printArrayList( ( ArrayList<Integer> )localListLv_.get( vertex2 ) )  );
-        	}
-        	strBufCollectFeedback_.append( 
-//        			this.printArrayList( ( ArrayList<Integer> )localListL_.get( vertex2 ) ) +
-				"\n-- localListLv = " + 
-					this.printArrayList( localListLv_ ) );
+				"\n-- localListLv(" + vertex1 + ") = " + 
+					getAdjacency().printNeighbors( vertex1, currentEdgeIndex+1 ) +
+				"\n-- localListLv(" + vertex2 + ") = " + 
+					getAdjacency().printNeighbors( vertex2, currentEdgeIndex+1 ) );
         	System.out.println( strBufCollectFeedback_.toString() );
         	strBufCollectFeedback_ = new StringBuffer( TDA.BUFFERLENGTH_STAT );
     	}
@@ -2953,6 +2922,10 @@ public class RipsToPersistence {
 		}
     	
 		
+    	// hjs 10/18/2026 the local lists start out empty, and take up each edge once
+    	// it has been processed
+    	getAdjacency().clear();
+    	
     	// now go through edges based on the edgeType
     	for ( int currentEdgeIndex=0; currentEdgeIndex<numberOfEdges; currentEdgeIndex++ ) {
 			
@@ -3191,7 +3164,6 @@ public class RipsToPersistence {
 							
 							FaceI tmpFace;
 							int tmpFaceIndex;
-							SortedMap<Integer, Integer> tmpDagList;
 							
 //							System.out.println( "localDag0[ " + j + " ]= " + localDag0[j] );
 							System.out.println( "   [before] Merging daglists for face=" + currentFace );
@@ -3204,14 +3176,13 @@ public class RipsToPersistence {
 							if ( tmpFaceIndex != -1 ) {
 							
 								tmpFace = faceList.get( tmpFaceIndex );
-								tmpDagList = tmpFace.getDagList();
-								if ( !tmpDagList.isEmpty() ) {
+								if ( tmpFace.getDagListSize() > 0 ) {
 								
-									currentFace.mergeIntoDagList( tmpDagList );
+									currentFace.mergeIntoDagList( tmpFace );
 								}
 								System.out.println( "   with face=" + tmpFace );
 								System.out.println( "   - currentFace.dagList=" + currentFace.getDagList() );
-								System.out.println( "   - tmpDagList=" + tmpDagList );
+								System.out.println( "   - tmpDagList=" + tmpFace.getDagList() );
 							}
 							else {
 								
@@ -3232,14 +3203,13 @@ public class RipsToPersistence {
 							if ( tmpFaceIndex != -1 ) {
 							
 								tmpFace = faceList.get( tmpFaceIndex );
-								tmpDagList = tmpFace.getDagList();
-								if ( !tmpDagList.isEmpty() ) {
+								if ( tmpFace.getDagListSize() > 0 ) {
 								
-									currentFace.mergeIntoDagList( tmpDagList );
+									currentFace.mergeIntoDagList( tmpFace );
 								}
 								System.out.println( "   with face=" + tmpFace );
 								System.out.println( "   - currentFace.dagList=" + currentFace.getDagList() );
-								System.out.println( "   - tmpDagList=" + tmpDagList );
+								System.out.println( "   - tmpDagList=" + tmpFace.getDagList() );
 							}
 							else {
 								
@@ -3254,14 +3224,13 @@ public class RipsToPersistence {
 							if ( tmpFaceIndex != -1 ) {
 							
 								tmpFace = faceList.get( tmpFaceIndex );
-								tmpDagList = tmpFace.getDagList();
-								if ( !tmpDagList.isEmpty() ) {
+								if ( tmpFace.getDagListSize() > 0 ) {
 								
-									currentFace.mergeIntoDagList( tmpDagList );
+									currentFace.mergeIntoDagList( tmpFace );
 								}
 								System.out.println( "   with face=" + tmpFace );
 								System.out.println( "   - currentFace.dagList=" + currentFace.getDagList() );
-								System.out.println( "   - tmpDagList=" + tmpDagList );
+								System.out.println( "   - tmpDagList=" + tmpFace.getDagList() );
 							}
 							else {
 								
@@ -3339,29 +3308,19 @@ public class RipsToPersistence {
 				
 				
 
-	    	// TODO: check on the "timing" of these calls: (may need to be placed earlier?)
-
-			// Add the current edge's index to the local lists of each of its vertices
-			((ArrayList<Integer>) localListL_.get( vertex1 )).add( new Integer(currentEdgeIndex) );
-			((ArrayList<Integer>) localListL_.get( vertex2 )).add( new Integer(currentEdgeIndex) );
-			
-			// Add the current edge's OTHER VERTEX to the local lists Lv of each of its vertices
-			((ArrayList<Integer>) localListLv_.get( vertex1 )).add( new Integer(
-					edgeToProcess.getOtherVertex( vertex1 ) ) );
-			((ArrayList<Integer>) localListLv_.get( vertex2 )).add( new Integer( 
-					edgeToProcess.getOtherVertex( vertex2 ) ) );
-			Collections.sort( localListLv_.get( vertex1 ) );
-			Collections.sort( localListLv_.get( vertex2 ) );
+			// hjs 10/18/2026 The current edge now counts towards the local lists of each of
+			// its vertices
+			getAdjacency().addEdge( currentEdgeIndex, vertex1, vertex2 );
 			
 			if ( TDA.DEBUG && TDA.TRACE_EDGELIST ) {
 		    	
 	        	strBufCollectFeedback_.append( "\n" +
 					"\n-- localListL(" + vertex1 + ") = " + 
-						this.printArrayList( ( ArrayList<Integer> ) localListL_.get( vertex1 ) ) +
+						getAdjacency().printEdgeIndices( vertex1, currentEdgeIndex+1 ) +
 					"\n-- localListL(" + vertex2 + ") = " + 
-						this.printArrayList( ( ArrayList<Integer> )localListL_.get( vertex2 ) ) +
+						getAdjacency().printEdgeIndices( vertex2, currentEdgeIndex+1 ) +
 					"\n-- localListL = " + 
-						this.printArrayList( localListL_ ) );
+						this.printL( currentEdgeIndex+1 ) );
 			}
     	}
     		
@@ -3425,6 +3384,10 @@ public class RipsToPersistence {
 		}
     	
 		
+    	// hjs 10/18/2026 the local lists start out empty, and take up each edge once
+    	// it has been processed
+    	getAdjacency().clear();
+    	
     	// now go through edges based on the edgeType
     	for ( int currentEdgeIndex=0; currentEdgeIndex<numberOfEdges; currentEdgeIndex++ ) {
 	
@@ -3503,9 +3466,10 @@ public class RipsToPersistence {
 				    					"DagList of Edge " + edgeToProcess.asString() + ":  " );
 	    			}
 	    			
-	    			dagList = edgeToProcess.getDagList();
 	    			if ( TDA.DEBUG && TDA.TRACE_EDGELIST ) {
 	    		    	
+	    				// (the map form of the dagList is a copy, so only get it when needed)
+	    				dagList = edgeToProcess.getDagList();
 	    	        	strBufCollectFeedback_.append( dagList );
 	    			
 	    				strBufCollectFeedback_.append( "\n\n	*** " +
@@ -3535,7 +3499,9 @@ public class RipsToPersistence {
 		    		if ( !edge1.isUPositive() && !edge2.isUPositive() ) {
 		    			
 		    			// 7/15/2013 hjs 	fix
-		    	    	edgeToProcess.setUPositive( false );
+		    			// hjs 10/18/2026 write through the store, so the flag isn't
+		    			// only changed on the (cached) edge object
+		    	    	edgeStore_.setUPositive( currentEdgeIndex, false );
 									
 		    	    	if ( TDA.DEBUG && TDA.TRACE_EDGELIST ) {
 		    	        	
@@ -3550,7 +3516,7 @@ public class RipsToPersistence {
 	    	    		if ( edge1.isUPositive() ) { 	    			
 
 	    	    			// hjs 9/25/2013	adjust the orientation by -1, per requirement change
-	    	    			edgeToProcess.mergeIntoDagList( edge1.getDagList(), 
+	    	    			edgeToProcess.mergeIntoDagList( edge1, 
 	    	    					-1 * edgePairToProcess.getEdgeOrientation( edge1.getEdgeListIndex() ) );
 	    	    			
 	    	    			if ( oppositeVertex > vertex1 && oppositeVertex > vertex2 ) {
@@ -3575,7 +3541,7 @@ public class RipsToPersistence {
 	    	    		if ( edge2.isUPositive() ) { 	    			
 
 	    	    			// hjs 9/25/2013	adjust the orientation by -1, per requirement change
-	    	    			edgeToProcess.mergeIntoDagList( edge2.getDagList(), 
+	    	    			edgeToProcess.mergeIntoDagList( edge2, 
 	    	    					-1 * edgePairToProcess.getEdgeOrientation( edge2.getEdgeListIndex() ) );
 //	    	    			edgeToProcess.mergeIntoDagList( edge2.getDagList(), 
 //	    	    					edgePairToProcess.getEdgeOrientation( 2 ) );
@@ -3634,7 +3600,7 @@ public class RipsToPersistence {
 			    	    		// merge any positive edge's dagList into the edgeToProcess' dagList
 			    	    		if ( edge1.isUPositive() ) { 	    			
 
-			    	    			tmpEdge.mergeIntoDagList( edge1.getDagList(), 
+			    	    			tmpEdge.mergeIntoDagList( edge1, 
 			    	    					edgePairToProcess.getEdgeOrientation( edge1.getEdgeListIndex() ) );
 //			    	    			tmpEdge.mergeIntoDagList( edge1.getDagList(), 
 //			    	    					edgePairToProcess.getEdgeOrientation( 1 ) );
@@ -3650,7 +3616,7 @@ public class RipsToPersistence {
 		
 			    	    		if ( edge2.isUPositive() ) { 	    			
 
-			    	    			tmpEdge.mergeIntoDagList( edge2.getDagList(), 
+			    	    			tmpEdge.mergeIntoDagList( edge2, 
 			    	    					edgePairToProcess.getEdgeOrientation( edge2.getEdgeListIndex() ) );
 //			    	    			tmpEdge.mergeIntoDagList( edge2.getDagList(), 
 //			    	    					edgePairToProcess.getEdgeOrientation( 2 ) );
@@ -3703,7 +3669,7 @@ public class RipsToPersistence {
 					    	}
 				
 							// only add the column if the dagList is non-empty
-							if ( tmpEdge.getDagList().size() > 0 ) {
+							if ( tmpEdge.getDagListSize() > 0 ) {
 							
 								// Add dagList to reductionMatrix
 								this.matrixM12_.addColumn( currentEdgeIndex, 
@@ -3739,27 +3705,19 @@ public class RipsToPersistence {
     		
 //    		strBufCollectFeedback.append( "\n" );
 
-    		// Add the current edge's index to the local lists of each of its vertices
-			((ArrayList<Integer>) localListL_.get( vertex1 )).add( new Integer(currentEdgeIndex) );
-			((ArrayList<Integer>) localListL_.get( vertex2 )).add( new Integer(currentEdgeIndex) );
-			
-    		// Add the current edge's OTHER VERTEX to the local lists Lv of each of its vertices
-			((ArrayList<Integer>) localListLv_.get( vertex1 )).add( new Integer(
-					edgeToProcess.getOtherVertex( vertex1 ) ) );
-			((ArrayList<Integer>) localListLv_.get( vertex2 )).add( new Integer( 
-					edgeToProcess.getOtherVertex( vertex2 ) ) );
-			Collections.sort( localListLv_.get( vertex1 ) );
-			Collections.sort( localListLv_.get( vertex2 ) );
+    		// hjs 10/18/2026 The current edge now counts towards the local lists of each of
+    		// its vertices
+    		getAdjacency().addEdge( currentEdgeIndex, vertex1, vertex2 );
 			
 			if ( TDA.DEBUG && TDA.TRACE_EDGELIST ) {
 		    	
 	        	strBufCollectFeedback_.append( "\n" +
 					"\n-- localListL(" + vertex1 + ") = " + 
-						this.printArrayList( ( ArrayList<Integer> ) localListL_.get( vertex1 ) ) +
+						getAdjacency().printEdgeIndices( vertex1, currentEdgeIndex+1 ) +
 					"\n-- localListL(" + vertex2 + ") = " + 
-						this.printArrayList( ( ArrayList<Integer> )localListL_.get( vertex2 ) ) +
+						getAdjacency().printEdgeIndices( vertex2, currentEdgeIndex+1 ) +
 					"\n-- localListL = " + 
-						this.printArrayList( localListL_ ) );
+						this.printL( currentEdgeIndex+1 ) );
 			}
 			
 			// hjs 10/10/2013 quick dump of local lists
@@ -3842,6 +3800,10 @@ public class RipsToPersistence {
 		}
     	
 		
+    	// hjs 10/18/2026 the local lists start out empty, and take up each edge once
+    	// it has been processed
+    	getAdjacency().clear();
+    	
     	// now go through edges based on the edgeType
     	for ( int currentEdgeIndex=0; currentEdgeIndex<numberOfEdges; currentEdgeIndex++ ) {
 			
@@ -3861,12 +3823,12 @@ public class RipsToPersistence {
     		
     		vertex1 = edgeToProcess.getVertexIndex1();
     		vertex2 = edgeToProcess.getVertexIndex2();
-    		isPositiveValue = edgeToProcess.isUPositive();
+    		isPositiveValue = edgeStore_.isUPositive( currentEdgeIndex );
     		
     		// if edge is positive:
     		if ( isPositiveValue ) {
     		
-    			if ( TDA.TRACE_FEEDBACK && TDA.TRACE_EDGELIST ) {
+    			if ( TDA.DEBUG && TDA.TRACE_FEEDBACK && TDA.TRACE_EDGELIST ) {
     		    	
     	        	strBufCollectFeedback_.append( "\n+ 'Positive': Edge (index=" + currentEdgeIndex + ")"
 			    					+ edgeToProcess.asStringComplete() );
@@ -3922,9 +3884,10 @@ public class RipsToPersistence {
 				    					"DagList of Edge " + edgeToProcess.asString() + ":  " );
 	    			}
 	    			
-	    			dagList = edgeToProcess.getDagList();
 	    			if ( TDA.DEBUG && TDA.TRACE_EDGELIST ) {
 	    		    	
+	    				// (the map form of the dagList is a copy, so only get it when needed)
+	    				dagList = edgeToProcess.getDagList();
 	    	        	strBufCollectFeedback_.append( dagList );
 	    			
 	    				strBufCollectFeedback_.append( "\n\n	*** " +
@@ -3954,7 +3917,7 @@ public class RipsToPersistence {
 		    		if ( !edge1.isUPositive() && !edge2.isUPositive() ) {
 		    			
 		    			// 7/15/2013 hjs 	fix
-		    	    	edgeToProcess.setUPositive( false );
+		    	    	edgeStore_.setUPositive( currentEdgeIndex, false );
 									
 		    	    	if ( TDA.DEBUG && TDA.TRACE_EDGELIST ) {
 		    	        	
@@ -3969,7 +3932,7 @@ public class RipsToPersistence {
 	    	    		if ( edge1.isUPositive() ) { 	    			
 
 	    	    			// hjs 9/25/2013	adjust the orientation by -1, per requirement change
-	    	    			edgeToProcess.mergeIntoDagList( edge1.getDagList(), 
+	    	    			edgeToProcess.mergeIntoDagList( edge1, 
 	    	    					-1 * edgePairToProcess.getEdgeOrientation( edge1.getEdgeListIndex() ) );
 	    	    			
 	    	    			if ( oppositeVertex > vertex1 && oppositeVertex > vertex2 ) {
@@ -3994,7 +3957,7 @@ public class RipsToPersistence {
 	    	    		if ( edge2.isUPositive() ) { 	    			
 
 	    	    			// hjs 9/25/2013	adjust the orientation by -1, per requirement change
-	    	    			edgeToProcess.mergeIntoDagList( edge2.getDagList(), 
+	    	    			edgeToProcess.mergeIntoDagList( edge2, 
 	    	    					-1 * edgePairToProcess.getEdgeOrientation( edge2.getEdgeListIndex() ) );
 //	    	    			edgeToProcess.mergeIntoDagList( edge2.getDagList(), 
 //	    	    					edgePairToProcess.getEdgeOrientation( 2 ) );
@@ -4053,7 +4016,7 @@ public class RipsToPersistence {
 			    	    		// merge any positive edge's dagList into the edgeToProcess' dagList
 			    	    		if ( edge1.isUPositive() ) { 	    			
 
-			    	    			tmpEdge.mergeIntoDagList( edge1.getDagList(), 
+			    	    			tmpEdge.mergeIntoDagList( edge1, 
 			    	    					edgePairToProcess.getEdgeOrientation( edge1.getEdgeListIndex() ) );
 //			    	    			tmpEdge.mergeIntoDagList( edge1.getDagList(), 
 //			    	    					edgePairToProcess.getEdgeOrientation( 1 ) );
@@ -4069,7 +4032,7 @@ public class RipsToPersistence {
 		
 			    	    		if ( edge2.isUPositive() ) { 	    			
 
-			    	    			tmpEdge.mergeIntoDagList( edge2.getDagList(), 
+			    	    			tmpEdge.mergeIntoDagList( edge2, 
 			    	    					edgePairToProcess.getEdgeOrientation( edge2.getEdgeListIndex() ) );
 //			    	    			tmpEdge.mergeIntoDagList( edge2.getDagList(), 
 //			    	    					edgePairToProcess.getEdgeOrientation( 2 ) );
@@ -4122,7 +4085,7 @@ public class RipsToPersistence {
 					    	}
 				
 							// only add the column if the dagList is non-empty
-							if ( tmpEdge.getDagList().size() > 0 ) {
+							if ( tmpEdge.getDagListSize() > 0 ) {
 							
 								// Add dagList to reductionMatrix
 								this.matrixM12_.addColumn( currentEdgeIndex, 
@@ -4158,27 +4121,19 @@ public class RipsToPersistence {
     		
 //    		strBufCollectFeedback.append( "\n" );
 
-    		// Add the current edge's index to the local lists of each of its vertices
-			((ArrayList<Integer>) localListL_.get( vertex1 )).add( new Integer(currentEdgeIndex) );
-			((ArrayList<Integer>) localListL_.get( vertex2 )).add( new Integer(currentEdgeIndex) );
-			
-    		// Add the current edge's OTHER VERTEX to the local lists Lv of each of its vertices
-			((ArrayList<Integer>) localListLv_.get( vertex1 )).add( new Integer(
-					edgeToProcess.getOtherVertex( vertex1 ) ) );
-			((ArrayList<Integer>) localListLv_.get( vertex2 )).add( new Integer( 
-					edgeToProcess.getOtherVertex( vertex2 ) ) );
-			Collections.sort( localListLv_.get( vertex1 ) );
-			Collections.sort( localListLv_.get( vertex2 ) );
+    		// hjs 10/18/2026 The current edge now counts towards the local lists of each of
+    		// its vertices
+    		getAdjacency().addEdge( currentEdgeIndex, vertex1, vertex2 );
 			
 			if ( TDA.DEBUG && TDA.TRACE_EDGELIST ) {
 		    	
 	        	strBufCollectFeedback_.append( "\n" +
 					"\n-- localListL(" + vertex1 + ") = " + 
-						this.printArrayList( ( ArrayList<Integer> ) localListL_.get( vertex1 ) ) +
+						getAdjacency().printEdgeIndices( vertex1, currentEdgeIndex+1 ) +
 					"\n-- localListL(" + vertex2 + ") = " + 
-						this.printArrayList( ( ArrayList<Integer> )localListL_.get( vertex2 ) ) +
+						getAdjacency().printEdgeIndices( vertex2, currentEdgeIndex+1 ) +
 					"\n-- localListL = " + 
-						this.printArrayList( localListL_ ) );
+						this.printL( currentEdgeIndex+1 ) );
 			}
 			
 			// hjs 10/10/2013 quick dump of local lists
@@ -4396,7 +4351,7 @@ public class RipsToPersistence {
 
 		final int numberOfVertices = this.getNumberOfVertices();
 
-    	U_ = new int[ numberOfVertices ];
+    	unionFind_ = new UnionFind( numberOfVertices, diag_ );
     	
 		int a;
 		int b;
@@ -4414,10 +4369,6 @@ public class RipsToPersistence {
 			
 			p_[ i ] = -1;
 		}
-		for ( int i=0; i<numberOfVertices; i++ ) {
-				
-			U_[ i ] = i;
-		}
 		
 		for ( int i=0; i<numberOfEdges; i++ ) {
 		
@@ -4429,56 +4380,21 @@ public class RipsToPersistence {
 			a = aa;
 			b = bb;
 
-			System.out.println( "U[]= " + StringUtil.arrayAsString( U_ ) );
+			System.out.println( "elders[]= " + unionFind_ );
 			System.out.println( "componentList= " + componentList );
 			
-			// U portion
-			while ( U_[ a ] != a ) { a = U_[ a ]; }
-			while ( U_[ b ] != b ) { b = U_[ b ]; }
-					
-			if ( a != b ) {
-
-				// hjs 10/21/2013 Mod to adjust for use of non-zero Mii values
-				// Per John, this will allow us to keep the correct ordering
-				if ( diag_[ a ] < diag_[ b ] ) {
-					
-					U_[ b ] = a;
-					System.out.println( "setting uf-vertex: pointing b=" + b + " to a=" + a 
-							+ ", aa=" + aa + ", bb=" + bb );
-					tempEdge.setUnionFindVertexIndex( b );
-					maintainComponentLists( a, b );
-				}
-				else if ( diag_[ a ] > diag_[ b ] ) {
+			// U portion: a is the elder that survives and b the one that dies
+			// (see UnionFind for the elder rule)
+			b = unionFind_.union( aa, bb );
 					
-					U_[ a ] = b;
-					System.out.println( "setting uf-vertex: pointing a=" + a + " to b=" + b  
-							+ ", aa=" + aa + ", bb=" + bb );
-					tempEdge.setUnionFindVertexIndex( a );
-					maintainComponentLists( b, a );
-				}
-				else {
+			if ( b != -1 ) {
 
-					// hjs 6/21/2013, 6/26/2013 changes for Paul to provide the
-					// associated vertex index in our 0-dim intervals
-					// hjs 7/25/2013 Mod working with Paul:
-					if ( a<b ) {
-
-						U_[ b ] = a;
-						System.out.println( "setting uf-vertex: pointing b=" + b + " to a=" + a  
-								+ ", aa=" + aa + ", bb=" + bb );
-						tempEdge.setUnionFindVertexIndex( b );
-						maintainComponentLists( a, b );
-					}
-					else {
-
-						U_[ a ] = b;
-						System.out.println( "setting uf-vertex: pointing a=" + a + " to b=" + b  
-								+ ", aa=" + aa + ", bb=" + bb );
-						tempEdge.setUnionFindVertexIndex( a );
-						maintainComponentLists( b, a );
-					}
-				}
-				tempEdge.setUPositive( false );
+				a = unionFind_.getElder( aa );
+				System.out.println( "setting uf-vertex: pointing b=" + b + " to a=" + a 
+						+ ", aa=" + aa + ", bb=" + bb );
+				edgeStore_.setUnionFindVertexIndex( i, b );
+				maintainComponentLists( a, b );
+				edgeStore_.setUPositive( i, false );
 
 				conditionFlag = false;
 				
@@ -4495,13 +4411,13 @@ public class RipsToPersistence {
 				}
 				if( conditionFlag == true ){
 				 
-					tempEdge.setPPositive( false );
+					edgeStore_.setPPositive( i, false );
 				}
 				
 				count--;
 			}
 
-			System.out.println( "U[]= " + StringUtil.arrayAsString( U_ ) );
+			System.out.println( "elders[]= " + unionFind_ );
 			System.out.println( "componentList= " + componentList );
 			System.out.println( "intermediateComponentList= " + intermediateComponentList );
 			
@@ -4592,7 +4508,7 @@ public class RipsToPersistence {
     		
 	    	// filter out all edges that "point to themselves" (i.e., represent a component)
 	    	if ( !processedVertices.contains( tmpEdge.getVertexIndex1() ) &&
-	    			U_[ tmpEdge.getVertexIndex1() ] == tmpEdge.getVertexIndex1() ) {
+	    			unionFind_.isElder( tmpEdge.getVertexIndex1() ) ) {
 	    		
 	    		
 	    		strBuf0dimPersPlain.append( " " + diag_[ tmpEdge.getVertexIndex1() ] + 
@@ -4652,15 +4568,13 @@ public class RipsToPersistence {
 
 		final int numberOfVertices = this.getNumberOfVertices();
 
-    	U_ = new int[ numberOfVertices ];
+    	unionFind_ = new UnionFind( numberOfVertices, diag_ );
     	
-		int a;
 		int b;
 		int aa;
 		int bb;
 		int count;
-		final int numberOfEdges = edges_.size();
-    	EdgeI tempEdge;
+		final int numberOfEdges = edgeStore_.getNumberOfEdges();
 		
 		boolean conditionFlag;
 		
@@ -4669,55 +4583,20 @@ public class RipsToPersistence {
 			
 			p_[ i ] = -1;
 		}
-		for ( int i=0; i<numberOfVertices; i++ ) {
-				
-			U_[ i ] = i;
-		}
 		
 		for ( int i=0; i<numberOfEdges; i++ ) {
 		
-			tempEdge = edges_.get( i );
-			aa = tempEdge.getVertexIndex1();
-			bb = tempEdge.getVertexIndex2();
+			aa = edgeStore_.getVertexIndex1( i );
+			bb = edgeStore_.getVertexIndex2( i );
 			
-			a = aa;
-			b = bb;
-			
-			// U portion
-			while ( U_[ a ] != a ) { a = U_[ a ]; }
-			while ( U_[ b ] != b ) { b = U_[ b ]; }
+			// U portion: the union returns the elder that dies (see UnionFind
+			// for the elder rule)
+			b = unionFind_.union( aa, bb );
 			
-			if ( a != b ) {
-
-				// hjs 10/21/2013 Mod to adjust for use of non-zero Mii values
-				// Per John, this will allow us to keep the correct ordering
-				if ( diag_[ a ] < diag_[ b ] ) {
-					
-					U_[ b ] = a;
-					tempEdge.setUnionFindVertexIndex( b );
-				}
-				else if ( diag_[ a ] > diag_[ b ] ) {
-					
-					U_[ a ] = b;
-					tempEdge.setUnionFindVertexIndex( a );
-				}
-				else {
-
-					// hjs 6/21/2013, 6/26/2013 changes for Paul to provide the
-					// associated vertex index in our 0-dim intervals
-					// hjs 7/25/2013 Mod working with Paul:
-					if ( a<b ) {
+			if ( b != -1 ) {
 
-						U_[ b ] = a;
-						tempEdge.setUnionFindVertexIndex( b );
-					}
-					else {
-
-						U_[ a ] = b;
-						tempEdge.setUnionFindVertexIndex( a );
-					}
-				}
-				tempEdge.setUPositive( false );
+				edgeStore_.setUnionFindVertexIndex( i, b );
+				edgeStore_.setUPositive( i, false );
 
 				conditionFlag = false;
 				
@@ -4734,7 +4613,7 @@ public class RipsToPersistence {
 				}
 				if( conditionFlag == true ){
 				 
-					tempEdge.setPPositive( false );
+					edgeStore_.setPPositive( i, false );
 				}
 				
 				count--;
@@ -4745,38 +4624,37 @@ public class RipsToPersistence {
 	    
 		
 	    // Store the edges with uPos<0 as 0-dim. persistence
-    	EdgeI tmpEdge;
-    	StringBuffer strBuf0dimPers = new StringBuffer( "" );
-    	StringBuffer strBuf0dimPersPlain = new StringBuffer( "" );
-    	StringBuffer strBuf0dimPersForDiagramDeaths = new StringBuffer( "" );
-    	StringBuffer strBuf0dimPersForDiagramBirths = new StringBuffer( "" );
-    	ArrayList<Double> deathValues = new ArrayList<Double>();
-    	ArrayList<Double> birthValues = new ArrayList<Double>();
+    	int unionFindVertexIndex;
+    	double edgeLength;
     	
-	    for ( int i=0; i< this.edges_.size(); i++ ) {
-	    	
-	    	tmpEdge = this.edges_.get( i );
+    	// (there are at most as many intervals as there are vertices)
+    	numberOfZeroDimIntervals_ = 0;
+    	zeroDimEdgeIndices_ = new int[ numberOfVertices ];
+    	zeroDimBirthValues_ = new double[ numberOfVertices ];
+    	zeroDimDeathValues_ = new double[ numberOfVertices ];
+    	zeroDimVertexIndices_ = new int[ numberOfVertices ];
+    	zeroDimPers_ = null;
+    	zeroDimPersPlain_ = null;
+    	zeroDimPersForDiagram_ = null;
+    	zeroDimPersForDiagramZeros_ = null;
+    	
+	    for ( int i=0; i< edgeStore_.getNumberOfEdges(); i++ ) {
 	    	
-	    	if ( !tmpEdge.isUPositive() ) {
+	    	if ( !edgeStore_.isUPositive( i ) ) {
+	    		
+	    		unionFindVertexIndex = edgeStore_.getUnionFindVertexIndex( i );
+	    		edgeLength = edgeStore_.getEdgeLength( i );
 
 	    		// hjs 10/25/2013 Eliminate all 0-dim. intervals of zero length 
 	    		// from being reported
-	    		if ( diag_[ tmpEdge.getUnionFindVertexIndex() ] != tmpEdge.getEdgeLength() ) {
+	    		if ( diag_[ unionFindVertexIndex ] != edgeLength ) {
 	    			
-		    		strBuf0dimPersPlain.append( " " + diag_[ tmpEdge.getUnionFindVertexIndex() ] + 
-		    				", " + tmpEdge.getEdgeLength() + "\n"  );
-		    		strBuf0dimPers.append( tmpEdge.getEdgeListIndex() + ": " +
-		    				"( "  + diag_[ tmpEdge.getUnionFindVertexIndex() ] + 
-		    				", " + tmpEdge.getEdgeLength() + " ), " +
-		    				tmpEdge.getUnionFindVertexIndex() + 
-		    				"\n"  );
-		    		
 		    		resCollZeroDimPers_.addResult( 
 		    				new Interval( 
-		    						tmpEdge.getEdgeListIndex(), 
-		    						diag_[ tmpEdge.getUnionFindVertexIndex() ], 
-		    						tmpEdge.getEdgeLength(),
-		    						tmpEdge.getUnionFindVertexIndex() ) );
+		    						i, 
+		    						diag_[ unionFindVertexIndex ], 
+		    						edgeLength,
+		    						unionFindVertexIndex ) );
 	    		
 //	    		strBuf0dimPersPlain.append( " 0, " + tmpEdge.getEdgeLength() + "\n"  );
 //	    		strBuf0dimPers.append( tmpEdge.getEdgeListIndex() + ": " +
@@ -4791,10 +4669,9 @@ public class RipsToPersistence {
 //	    						tmpEdge.getEdgeLength(),
 //	    						tmpEdge.getUnionFindVertexIndex() ) );
 
-		    		// record the birth and death values, for drawing routines
-	    			
-		    		birthValues.add( new Double( diag_[ tmpEdge.getUnionFindVertexIndex() ] ) );
-		    		deathValues.add( new Double( tmpEdge.getEdgeLength() ) );
+		    		// record the interval, for the output files and drawing routines
+		    		addZeroDimInterval( i, diag_[ unionFindVertexIndex ], 
+		    				edgeLength, unionFindVertexIndex );
 		    		
 //		    		System.out.println( "Component: [" + diag_[ tmpEdge.getUnionFindVertexIndex() ] 
 //		    				+ ", " + tmpEdge.getEdgeLength() + ")" );
@@ -4802,6 +4679,8 @@ public class RipsToPersistence {
 	    	}
 	    }
 	    
+	    numberOfFiniteZeroDimIntervals_ = numberOfZeroDimIntervals_;
+	    
 	    // hjs 11/1/2013 Add "infinite" 0-dim intervals for indicating connected components
 	    ArrayList<Integer> processedVertices = new ArrayList<Integer>();
 //	    for ( int i=0; i< this.edges_.size(); i++ ) {
@@ -4841,10 +4720,9 @@ public class RipsToPersistence {
 	    // (->Paul and Ellen's work; 0-dim. generators)
 	    for ( int i=0; i<numberOfVertices; i++ ) {
 	    	
-	    	if ( U_[ i ] == i ) {
+	    	if ( unionFind_.isElder( i ) ) {
 	    		
-	    		birthValues.add( new Double( diag_[ i ] ) );
-	    		deathValues.add( new Double( -1 ) );
+	    		addZeroDimInterval( -1, diag_[ i ], -1, i );
 
 	    		// TODO: check to make sure the extra "default" values don't get us in trouble down the road
 	    		resCollZeroDimPers_.addResult( 
@@ -4860,59 +4738,119 @@ public class RipsToPersistence {
 	    	}
 	    }
 	    
-	    zeroDimPers_ = strBuf0dimPers.toString();
-	    zeroDimPersPlain_ = strBuf0dimPersPlain.toString();
-
-    	// Compose the proper "v, v, v, ..., v" format to pass to drawing routine
-	    // hjs 10/21/2013: add possible non-zero birth values to strings (instead of all zeros)
-    	if ( deathValues.size() > 0 ) {
-    	
-    		strBuf0dimPersForDiagramDeaths.append( Double.toString( deathValues.get( 0 ) ) );
-    		strBuf0dimPersForDiagramBirths.append( Double.toString( birthValues.get( 0 ) ) );
-		    for ( int i=1; i< deathValues.size(); i++ ) {    	
-	
-		    	strBuf0dimPersForDiagramDeaths.append( 
-	    				", " + Double.toString( deathValues.get( i ) ) );
-	    		
-		    	strBuf0dimPersForDiagramBirths.append( 
-						", " + Double.toString( birthValues.get( i ) ) );
-		    }
-    	}
-	    
-	    zeroDimPersForDiagram_ = strBuf0dimPersForDiagramDeaths.toString();
-	    zeroDimPersForDiagramZeros_ = strBuf0dimPersForDiagramBirths.toString();
-    	
 	    return;
 	}
+	
+	protected void addZeroDimInterval( final int _edgeIndex, 
+			final double _birthValue, 
+			final double _deathValue, 
+			final int _vertexIndex ) {
+		
+		zeroDimEdgeIndices_[ numberOfZeroDimIntervals_ ] = _edgeIndex;
+		zeroDimBirthValues_[ numberOfZeroDimIntervals_ ] = _birthValue;
+		zeroDimDeathValues_[ numberOfZeroDimIntervals_ ] = _deathValue;
+		zeroDimVertexIndices_[ numberOfZeroDimIntervals_ ] = _vertexIndex;
+		numberOfZeroDimIntervals_++;
+	}
     
     public ResultsCollection getZeroDimemsionalIntervals() {
     	
     	return resCollZeroDimPers_;
     }
     
+    // The finite intervals as "edge index: ( birth, death ), vertex index" lines
     public String get0DimPers() {
     	
+    	if ( zeroDimPers_ == null ) {
+    		
+        	StringBuffer strBuf0dimPers = new StringBuffer( "" );
+
+        	for ( int i=0; i<numberOfFiniteZeroDimIntervals_; i++ ) {
+        		
+        		strBuf0dimPers.append( zeroDimEdgeIndices_[ i ] ).append( ": ( " )
+        				.append( zeroDimBirthValues_[ i ] ).append( ", " )
+        				.append( zeroDimDeathValues_[ i ] ).append( " ), " )
+        				.append( zeroDimVertexIndices_[ i ] ).append( "\n" );
+        	}
+        	
+        	zeroDimPers_ = strBuf0dimPers.toString();
+    	}
+    	
     	return zeroDimPers_;
     }
     
+    // The finite intervals as " birth, death" lines
     public String get0DimPersPlain() {
     	
+    	if ( zeroDimPersPlain_ == null ) {
+    		
+        	StringBuffer strBuf0dimPersPlain = new StringBuffer( "" );
+
+        	for ( int i=0; i<numberOfFiniteZeroDimIntervals_; i++ ) {
+        		
+        		strBuf0dimPersPlain.append( " " ).append( zeroDimBirthValues_[ i ] )
+        				.append( ", " ).append( zeroDimDeathValues_[ i ] ).append( "\n" );
+        	}
+        	
+        	zeroDimPersPlain_ = strBuf0dimPersPlain.toString();
+    	}
+    	
     	return zeroDimPersPlain_;
     }
     
+	// Compose the proper "v, v, v, ..., v" format to pass to drawing routine
+    // (the death values of all intervals)
     public String get0DimPersForDiagram() {
     	
+    	if ( zeroDimPersForDiagram_ == null ) {
+    		
+    		zeroDimPersForDiagram_ = asDiagramString( zeroDimDeathValues_ );
+    	}
+    	
     	return zeroDimPersForDiagram_;
     }
     
+    // hjs 10/21/2013: add possible non-zero birth values to strings (instead of all zeros)
     public String get0DimPersForDiagramZeros() {
     	
+    	if ( zeroDimPersForDiagramZeros_ == null ) {
+    		
+    		zeroDimPersForDiagramZeros_ = asDiagramString( zeroDimBirthValues_ );
+    	}
+    	
     	return zeroDimPersForDiagramZeros_;
     }
     
+    protected String asDiagramString( final double[] _values ) {
+    	
+    	StringBuffer strBufForDiagram = new StringBuffer( "" );
+    	
+    	for ( int i=0; i<numberOfZeroDimIntervals_; i++ ) {
+    		
+    		if ( i > 0 ) strBufForDiagram.append( ", " );
+    		strBufForDiagram.append( _values[ i ] );
+    	}
+    	
+    	return strBufForDiagram.toString();
+    }
+    
     public String getPointCloudAsSparseMatrix() {
     	
-    	return strBufSparseMat_.toString();
+    	StringBuffer strBufSparseMat = new StringBuffer();
+    	
+    	if ( !isSparseMatrixFromEdgeStore_ ) return strBufSparseMat.toString();
+    	
+    	for ( int i=0; i<edgeStore_.getNumberOfEdges(); i++ ) {
+    		
+    		strBufSparseMat.append( edgeStore_.getVertexIndex1( i ) );
+    		strBufSparseMat.append( " \t" );
+    		strBufSparseMat.append( edgeStore_.getVertexIndex2( i ) );
+    		strBufSparseMat.append( " \t" );
+    		strBufSparseMat.append( edgeStore_.getEdgeLength( i ) );
+    		strBufSparseMat.append( "\n" );
+    	}
+    	
+    	return strBufSparseMat.toString();
     }
 }
 
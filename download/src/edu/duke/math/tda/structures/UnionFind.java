@@ -0,0 +1,202 @@
+/*
+ * Created October 2026
+ *
+ * This file is part of Topological Data Analysis
+ * edu.duke.math.tda
+ * Copyright (c) 2012-2014 by John Harer
+ * All rights reserved.
+ *
+ * License Info:
+ *
+ *
+ */
+
+package edu.duke.math.tda.structures;
+
+import java.util.Arrays;
+
+/**
+ * UnionFind tracks the connected components of the vertices for the 0-dim.
+ * persistence, following the elder rule
+ *
+ * <p><strong>Details:</strong> <br>
+ *
+ * Each component has an elder, i.e., its vertex with the smallest birth value (and,
+ * for equal birth values, the lowest index). When two components are joined, the
+ * younger of the two elders dies, and union() returns it as the vertex associated
+ * with the 0-dim. interval.
+ *
+ * Which vertex is the root of a component's tree is decoupled from the elder: the
+ * trees are linked by rank and flattened by path halving on each find(), so a long
+ * chain of unions can't turn into a long walk to the root. The elder of each
+ * component is stored with its root.
+ *
+ * Vertices can be added after the fact (addVertex), for building up the components
+ * incrementally.
+ *
+ * <p><strong>Change History:</strong> <br>
+ * Created October 2026
+ *
+ *
+ * @author Jurgen Sladeczek (hjs) <br>
+ * For the latest info, please visit www.math.duke.edu.
+ */
+
+public class UnionFind {
+
+	protected int numberOfVertices_;
+	// birth values of the vertices (the diagonal of the distance matrix)
+	protected double[] birthValues_;
+	protected int[] parent_;
+	protected byte[] rank_;
+	// elder vertex of the component, stored at the component's root
+	protected int[] elder_;
+	protected int numberOfComponents_;
+
+	public UnionFind( final int _numberOfVertices, final double[] _birthValues ) {
+
+		numberOfVertices_ = _numberOfVertices;
+		birthValues_ = _birthValues;
+		parent_ = new int[ numberOfVertices_ ];
+		rank_ = new byte[ numberOfVertices_ ];
+		elder_ = new int[ numberOfVertices_ ];
+		numberOfComponents_ = numberOfVertices_;
+
+		for ( int i=0; i<numberOfVertices_; i++ ) {
+
+			parent_[ i ] = i;
+			elder_[ i ] = i;
+		}
+	}
+
+	// Add a vertex as a component of its own, and return its index. The birth values
+	// need to include the new vertex (they may be a new, larger array).
+	public int addVertex( final double[] _birthValues ) {
+
+		final int vertexIndex = numberOfVertices_;
+
+		if ( vertexIndex == parent_.length ) {
+
+			final int capacity = Math.max( 16, 2*parent_.length );
+
+			parent_ = Arrays.copyOf( parent_, capacity );
+			rank_ = Arrays.copyOf( rank_, capacity );
+			elder_ = Arrays.copyOf( elder_, capacity );
+		}
+
+		birthValues_ = _birthValues;
+		parent_[ vertexIndex ] = vertexIndex;
+		rank_[ vertexIndex ] = 0;
+		elder_[ vertexIndex ] = vertexIndex;
+		numberOfVertices_++;
+		numberOfComponents_++;
+
+		return vertexIndex;
+	}
+
+	// Find the root of the vertex's component, halving the path along the way
+	public int find( final int _vertexIndex ) {
+
+		int v = _vertexIndex;
+
+		while ( parent_[ v ] != v ) {
+
+			parent_[ v ] = parent_[ parent_[ v ] ];
+			v = parent_[ v ];
+		}
+
+		return v;
+	}
+
+	public int getElder( final int _vertexIndex ) {
+
+		return elder_[ find( _vertexIndex ) ];
+	}
+
+	public boolean isElder( final int _vertexIndex ) {
+
+		return elder_[ find( _vertexIndex ) ] == _vertexIndex;
+	}
+
+	// Join the components of the 2 vertices, and return the elder that dies, or -1
+	// when the vertices are already in the same component
+	public int union( final int _vertexIndex1, final int _vertexIndex2 ) {
+
+		final int rootA = find( _vertexIndex1 );
+		final int rootB = find( _vertexIndex2 );
+		final int elderA;
+		final int elderB;
+		final int survivingElder;
+		final int dyingElder;
+		final int root;
+
+		if ( rootA == rootB ) return -1;
+
+		elderA = elder_[ rootA ];
+		elderB = elder_[ rootB ];
+
+		// hjs 10/21/2013 Mod to adjust for use of non-zero Mii values
+		// hjs 7/25/2013 for equal birth values, the lower vertex index survives
+		if ( birthValues_[ elderA ] < birthValues_[ elderB ] ) {
+
+			survivingElder = elderA;
+			dyingElder = elderB;
+		}
+		else if ( birthValues_[ elderA ] > birthValues_[ elderB ] ) {
+
+			survivingElder = elderB;
+			dyingElder = elderA;
+		}
+		else if ( elderA < elderB ) {
+
+			survivingElder = elderA;
+			dyingElder = elderB;
+		}
+		else {
+
+			survivingElder = elderB;
+			dyingElder = elderA;
+		}
+
+		if ( rank_[ rootA ] < rank_[ rootB ] ) {
+
+			parent_[ rootA ] = rootB;
+			root = rootB;
+		}
+		else {
+
+			parent_[ rootB ] = rootA;
+			if ( rank_[ rootA ] == rank_[ rootB ] ) rank_[ rootA ]++;
+			root = rootA;
+		}
+
+		elder_[ root ] = survivingElder;
+		numberOfComponents_--;
+
+		return dyingElder;
+	}
+
+	public int getNumberOfComponents() {
+
+		return numberOfComponents_;
+	}
+
+	public int getNumberOfVertices() {
+
+		return numberOfVertices_;
+	}
+
+	// List the elder of each vertex's component
+	public String toString() {
+
+		StringBuffer eldersAsString = new StringBuffer( "" );
+
+		for ( int i=0; i<numberOfVertices_; i++ ) {
+
+			if ( i > 0 ) eldersAsString.append( ", " );
+			eldersAsString.append( getElder( i ) );
+		}
+
+		return eldersAsString.toString();
+	}
+}
@@ -0,0 +1,195 @@
+/*
+ * Created October 2026
+ *
+ * This file is part of Topological Data Analysis
+ * edu.duke.math.tda
+ * Copyright (c) 2012-2014 by John Harer
+ * All rights reserved.
+ *
+ * License Info:
+ *
+ *
+ */
+
+package edu.duke.math.tda.structures;
+
+import java.util.Arrays;
+
+import edu.duke.math.tda.utility.TDA;
+import edu.duke.math.tda.utility.errorhandling.TdaException;
+
+/**
+ * Adjacency of the vertices in compressed sparse row form: for each vertex, its
+ * neighbors and the indices of the connecting edges, sorted by neighbor
+ *
+ * <p><strong>Details:</strong> <br>
+ *
+ * The rows are sized once for all edges of the (sorted) edge list, and filled as
+ * the edges are processed: addEdge inserts an edge into the rows of its two
+ * vertices (at its place by neighbor), and clear empties all rows again. The
+ * entries of vertex v are at the positions getRowStart( v ) to getRowEnd( v )-1
+ * of the neighbor and edge index arrays, so they are the local lists of the
+ * vertex (i.e., its neighbors via the edges processed so far).
+ *
+ * <p><strong>Change History:</strong> <br>
+ * Created October 2026
+ *
+ *
+ * @author Jurgen Sladeczek (hjs) <br>
+ * For the latest info, please visit www.math.duke.edu.
+ */
+
+public class VertexAdjacency {
+
+	protected final int numberOfVertices_;
+	// the row of vertex v is [ rowOffsets_[ v ], rowOffsets_[ v+1 ] ), of which the
+	// first rowFill_[ v ] positions hold entries
+	protected final int[] rowOffsets_;
+	protected final int[] rowFill_;
+	protected final int[] neighbors_;
+	protected final int[] edgeIndices_;
+
+	public VertexAdjacency( final int _numberOfVertices, final EdgeStore _edgeStore ) {
+
+		final int numberOfEdges = _edgeStore.getNumberOfEdges();
+
+		this.numberOfVertices_ = _numberOfVertices;
+		this.rowOffsets_ = new int[ numberOfVertices_ + 1 ];
+		this.rowFill_ = new int[ numberOfVertices_ ];
+		this.neighbors_ = new int[ 2 * numberOfEdges ];
+		this.edgeIndices_ = new int[ 2 * numberOfEdges ];
+
+		for ( int i=0; i<numberOfEdges; i++ ) {
+
+			rowOffsets_[ _edgeStore.getVertexIndex1( i ) + 1 ]++;
+			rowOffsets_[ _edgeStore.getVertexIndex2( i ) + 1 ]++;
+		}
+
+		for ( int v=0; v<numberOfVertices_; v++ ) {
+
+			rowOffsets_[ v+1 ] += rowOffsets_[ v ];
+		}
+	}
+
+	// Empty all rows (before the edges are processed from the start)
+	public void clear() {
+
+		Arrays.fill( rowFill_, 0 );
+	}
+
+	// Add the processed edge to the rows of both of its vertices
+	public void addEdge( final int _edgeIndex, final int _vertexIndex1, 
+			final int _vertexIndex2 ) throws Exception {
+
+		insertEntry( _vertexIndex1, _vertexIndex2, _edgeIndex );
+		insertEntry( _vertexIndex2, _vertexIndex1, _edgeIndex );
+	}
+
+	// Insert the entry after the entries with a smaller or equal neighbor, so the row
+	// stays sorted by neighbor (and by edge index for the same neighbor)
+	protected void insertEntry( final int _vertexIndex, final int _neighbor, 
+			final int _edgeIndex ) throws Exception {
+
+		final int rowStart = rowOffsets_[ _vertexIndex ];
+		final int rowEnd = rowStart + rowFill_[ _vertexIndex ];
+		int low = rowStart;
+		int high = rowEnd;
+		int middle;
+
+		if ( rowEnd == rowOffsets_[ _vertexIndex + 1 ] ) {
+
+		    throw new TdaException( TDA.ERROR_APP_DEV, 
+		            "(VertexAdjacency) The row of vertex " + _vertexIndex +
+		            " is already full, so edge " + _edgeIndex + " can't be added." );
+		}
+
+		while ( low < high ) {
+
+			middle = ( low + high ) >>> 1;
+
+			if ( neighbors_[ middle ] <= _neighbor ) low = middle + 1;
+			else high = middle;
+		}
+
+		System.arraycopy( neighbors_, low, neighbors_, low + 1, rowEnd - low );
+		System.arraycopy( edgeIndices_, low, edgeIndices_, low + 1, rowEnd - low );
+		neighbors_[ low ] = _neighbor;
+		edgeIndices_[ low ] = _edgeIndex;
+		rowFill_[ _vertexIndex ]++;
+	}
+
+	public int getRowStart( final int _vertexIndex ) {
+
+		return rowOffsets_[ _vertexIndex ];
+	}
+
+	// (the end of the filled part of the row)
+	public int getRowEnd( final int _vertexIndex ) {
+
+		return rowOffsets_[ _vertexIndex ] + rowFill_[ _vertexIndex ];
+	}
+
+	public int[] getNeighbors() {
+
+		return this.neighbors_;
+	}
+
+	public int[] getEdgeIndices() {
+
+		return this.edgeIndices_;
+	}
+
+	public int getNumberOfVertices() {
+
+		return this.numberOfVertices_;
+	}
+
+	// List the local list L of the vertex, i.e., the indices (in increasing order) of
+	// its added edges with index below _edgeIndexLimit
+	public String printEdgeIndices( final int _vertexIndex, final int _edgeIndexLimit ) {
+
+		final int rowStart = rowOffsets_[ _vertexIndex ];
+		final int rowEnd = getRowEnd( _vertexIndex );
+		int[] rowEdgeIndices = new int[ rowEnd - rowStart ];
+		int count = 0;
+
+		for ( int i=rowStart; i<rowEnd; i++ ) {
+
+			if ( edgeIndices_[ i ] < _edgeIndexLimit ) rowEdgeIndices[ count++ ] = edgeIndices_[ i ];
+		}
+
+		Arrays.sort( rowEdgeIndices, 0, count );
+
+		return asString( rowEdgeIndices, count );
+	}
+
+	// List the local list Lv of the vertex, i.e., its neighbors (in increasing order)
+	// via the added edges with index below _edgeIndexLimit
+	public String printNeighbors( final int _vertexIndex, final int _edgeIndexLimit ) {
+
+		final int rowStart = rowOffsets_[ _vertexIndex ];
+		final int rowEnd = getRowEnd( _vertexIndex );
+		int[] rowNeighbors = new int[ rowEnd - rowStart ];
+		int count = 0;
+
+		for ( int i=rowStart; i<rowEnd; i++ ) {
+
+			if ( edgeIndices_[ i ] < _edgeIndexLimit ) rowNeighbors[ count++ ] = neighbors_[ i ];
+		}
+
+		return asString( rowNeighbors, count );
+	}
+
+	protected static String asString( final int[] _values, final int _count ) {
+
+		StringBuffer valuesAsString = new StringBuffer( "" );
+
+		for ( int i=0; i<_count; i++ ) {
+
+			if ( i > 0 ) valuesAsString.append( ", " );
+			valuesAsString.append( _values[ i ] );
+		}
+
+		return valuesAsString.toString();
+	}
+}
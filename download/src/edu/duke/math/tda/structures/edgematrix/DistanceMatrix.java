@@ -12,14 +12,9 @@
  */
 package edu.duke.math.tda.structures.edgematrix;
 
-import java.io.BufferedReader;
 import java.io.File;
-import java.io.FileReader;
-import java.io.IOException;
-import java.io.StringReader;
-import java.util.StringTokenizer;
-import java.util.regex.Pattern;
 
+import edu.duke.math.tda.utility.NumericDataReader;
 import edu.duke.math.tda.utility.TDA;
 import edu.duke.math.tda.utility.errorhandling.TdaException;
 
@@ -37,9 +32,13 @@ import edu.duke.math.tda.utility.errorhandling.TdaException;
 public class DistanceMatrix {
 
 	protected double[][] distances_;
+	// hjs 10/18/2026 For large matrices, only the upper triangle is kept, off-heap
+	// (distances_ is null then); a binary file is read straight from its mapping
+	protected OffHeapDistancesI offHeapDistances_;
+	// number of vertices above which the matrix is stored off-heap
+	protected int switchToOffHeapAt_ = TDA.DEFAULT_SWITCHTOOFFHEAPAT;
 	protected int numberOfVertices_;
-	protected BufferedReader bufferedReader_;
-	protected String strDistanceMatrixAsString_ = new String();
+	protected NumericDataReader dataReader_;
 
 	protected int observedRowCount_;
 	protected int observedColumnCount_;
@@ -47,10 +46,17 @@ public class DistanceMatrix {
 	public DistanceMatrix ( 
 			final String _distanceMatrixAsString ) throws Exception {
 
+		this( _distanceMatrixAsString, TDA.DEFAULT_SWITCHTOOFFHEAPAT );
+	}
+
+	public DistanceMatrix ( 
+			final String _distanceMatrixAsString,
+			final int _switchToOffHeapAt ) throws Exception {
+
 		// load the distance matrix from the string
 		
-		strDistanceMatrixAsString_ = new String( _distanceMatrixAsString );
-    	bufferedReader_ = new BufferedReader( new StringReader( _distanceMatrixAsString ) );
+		this.switchToOffHeapAt_ = _switchToOffHeapAt;
+    	dataReader_ = new NumericDataReader( _distanceMatrixAsString );
 		
         distances_ = loadDistanceMatrix();
 	}
@@ -59,6 +65,14 @@ public class DistanceMatrix {
 			final String _directory, 
 			final String _fileName ) throws Exception {
 		
+		this( _directory, _fileName, TDA.DEFAULT_SWITCHTOOFFHEAPAT );
+	}
+
+	public DistanceMatrix ( 
+			final String _directory, 
+			final String _fileName,
+			final int _switchToOffHeapAt ) throws Exception {
+		
 		// load the distance matrix from the file
 		
         File dataFile = new File(_directory, _fileName);
@@ -72,243 +86,212 @@ public class DistanceMatrix {
                     + _fileName + "' in directory '" + _directory + "'." );
         }
         
-        bufferedReader_ = new BufferedReader(
-                new FileReader( _directory + File.separator + _fileName ) );
+		this.switchToOffHeapAt_ = _switchToOffHeapAt;
+        dataReader_ = new NumericDataReader( _directory, _fileName );
         
         distances_ = loadDistanceMatrix();
 	}
 	
-	protected double[][] loadDistanceMatrix() throws Exception {
-			
-		double[][] edgeLength;
+	// hjs 10/18/2026 Set up the distance matrix directly from an array, e.g., as 
+	// supplied via the api. The array is used as is (no copy).
+	public DistanceMatrix ( 
+			final double[][] _distances ) throws Exception {
 		
-		findMatrixDimension();
-		this.numberOfVertices_ = this.observedRowCount_;
+		if ( _distances == null ) {
+			
+        	throw new TdaException( 
+                    TDA.ERROR_APP_USERINPUT, 
+                    "(Loading distance matrix) " +
+                    "The supplied data for the distance matrix cannot be empty!" );
+		}
 		
-		// Set the pattern for the data parsing
-		// Note we allow comments at the end of a line (via Pattern.COMMENTS)
-		Pattern pattern = Pattern.compile( 
-	          TDA.PATTERN_PARSING_WHITESPACE, Pattern.COMMENTS );
-	  	
-		try {
+		for ( int i=0; i<_distances.length; i++ ) {
 			
-			int i;
-			String strCurrentObservedValue;
-		    double dblCurrentObservedValue;
-		    String textline;
-		    int suppliedPointDimension = observedRowCount_;
-		    int observedPointDimensionOnCurrentLine;
-	      
-	
-		    edgeLength = new double[ observedRowCount_ ][ observedRowCount_ ];
-	  	
-			// Now read the data
-		    bufferedReader_ = new BufferedReader( new StringReader( strDistanceMatrixAsString_ ) );
-			i = 0;
-			while ( ( textline = bufferedReader_.readLine()) != null ) {
-	          				
-				// ---------------------------------------
-				// Process the entries on the current line
-				// ---------------------------------------
+			if ( _distances[ i ] == null || _distances[ i ].length != _distances.length ) {
 				
-	          textline = textline.trim();
-	          String[] lineComponents = pattern.split( textline );
-	          observedPointDimensionOnCurrentLine = lineComponents.length;
-	          
-				// Ignore blank or commented out lines
-				if ( observedPointDimensionOnCurrentLine > 0 && 
-	                  !( textline.startsWith( "#" ) ) && !( textline.equals( "" ) ) ) {
+            	throw new TdaException( 
+                        TDA.ERROR_APP_USERINPUT, 
+                        "(Loading distance matrix) " +
+                        "The data for the distance matrix" +
+                        " needs to have the same number of rows as columns " +
+                        "(First discrepancy found at line " + (i+1) + ")." );
+			}
+		}
+		
+		this.distances_ = _distances;
+		this.numberOfVertices_ = _distances.length;
+		this.observedRowCount_ = _distances.length;
+		this.observedColumnCount_ = _distances.length;
+	}
 	
-					// We can never (even in debug mode) indicate more entries than
-	                // there are in the file, so apply sanity check:
-	                if ( observedPointDimensionOnCurrentLine < suppliedPointDimension ) {
-	                      
-	                	throw new TdaException( 
-	                              TDA.ERROR_APP_USERINPUT,
-	                              "(Loading distance matrix) " + "Line #" + (i+1) + 
-						            " in the data for the distance matrix" +
-	                              " contains fewer (namely, " + observedPointDimensionOnCurrentLine + 
-	                              ") coordinate values than the expected " + this.numberOfVertices_ + "." );
-	                }
+	// hjs 10/18/2026 Set up the distance matrix from (already filled) off-heap storage
+	public DistanceMatrix ( 
+			final OffHeapDistancesI _offHeapDistances ) throws Exception {
+		
+		this.offHeapDistances_ = _offHeapDistances;
+		this.numberOfVertices_ = _offHeapDistances.getNumberOfVertices();
+		this.observedRowCount_ = numberOfVertices_;
+		this.observedColumnCount_ = numberOfVertices_;
+	}
 	
-				    // Next "Sanity" cross-check on the data: The rows need to have
-				    // exactly as many data points as the separately user-supplied
-				    // count - HOWEVER, we allow exceptions in debug mode, so we
-                  	// can run multiple tests from a single data set
-					if ( observedPointDimensionOnCurrentLine > suppliedPointDimension && !TDA.DEBUG ) {
-					    
-  					// Note: this allows for the data file to contain more data
-  					// points than there are specified entries (the extra values are ignored),
-  					// but we throw an exception when there are less data points
-					    throw new TdaException( 
-					            TDA.ERROR_APP_USERINPUT,
-                              "(Loading distance matrix) " + "Line #" + (i+1) + 
-					            " in the data for the distance matrix" +
-					            " contains " + observedPointDimensionOnCurrentLine + 
-					            " coordinate values instead of the expected " + this.numberOfVertices_ + "." );
+	// hjs 10/18/2026 Read the data in a single pass: the first data line sets the
+	// number of vertices, and the entries are parsed straight into the matrix rows
+	// (or, above the switchToOffHeapAt size, into the off-heap storage, in which case
+	// null is returned)
+	protected double[][] loadDistanceMatrix() throws Exception {
+			
+		double[][] edgeLength = new double[ 0 ][];
+		double[] rowBuffer = null;
+		UpperTriangleStorage upperTriangle = null;
+		int entriesOnCurrentLine;
+		int invalidValueIndex;
+		int i = 0;
+		
+		try {
+			
+			while ( ( entriesOnCurrentLine = dataReader_.readLine() ) >= 0 ) {
+				
+				// as before, a line with a single entry is not treated as data
+				if ( entriesOnCurrentLine < 2 ) continue;
+				
+				if ( i == 0 ) {
+					
+					this.numberOfVertices_ = entriesOnCurrentLine;
+					
+					if ( switchToOffHeapAt_ < numberOfVertices_ ) {
+						
+						upperTriangle = new UpperTriangleStorage( numberOfVertices_ );
+						offHeapDistances_ = upperTriangle;
+						rowBuffer = new double[ numberOfVertices_ ];
+						edgeLength = null;
 					}
-	                  
-					// Use pointDimension as loop conditions
-					for ( int j=0; j<suppliedPointDimension; j++ ) {
-					    
-					    strCurrentObservedValue = lineComponents[j];
-					    
-					    if ( strCurrentObservedValue.length() == 0 || 
-					            strCurrentObservedValue.equalsIgnoreCase( "" ) ) {
-					        
-					        // flag invalid (missing) value
-					        throw new TdaException( 
-					                TDA.ERROR_APP_USERINPUT,
-					                "Line '" + (i+1) + "'" +
-  					            " in the data for the distance matrix is" +
-					                " missing a value for entry '" + j + "'." );
-					    }
-					    else {
-					        
-					        // Check if non-numeric. If so, tell the user
-					        try {
-					            
-					            dblCurrentObservedValue = 
-					                Double.parseDouble( strCurrentObservedValue );
-	    					    edgeLength[i][j] = dblCurrentObservedValue;
-					        }
-							catch (Exception e) {
-							    
-							    throw new TdaException( e,
-							            TDA.ERROR_APP_USERINPUT,
-						                "Line '" + (i+1) + "'" +
-      					            " in the data for the distance matrix" +
-      					            " contains an invalid value ('" +
-						                strCurrentObservedValue +
-						                "') for entry '" +
-						                j + "'." );
-							}
-					    }
+					else {
+						
+						edgeLength = new double[ numberOfVertices_ ][];
 					}
-                  
-					i++;
 				}
+				else if ( entriesOnCurrentLine != numberOfVertices_ ) {
+					
+                    // This violates the stipulation that the data needs to be in
+                    // rectangular form
+                    throw new TdaException( 
+                            TDA.ERROR_APP_USERINPUT, 
+                            "(Loading distance matrix) " +
+                            "The data file for the distance matrix" +
+                            " needs to have the same number of entries for all rows " +
+                            "(First discrepancy found at line " + 
+                            (i+1) + 
+                            ")." );
+				}
+				
+				if ( i == numberOfVertices_ ) {
+					
+	            	throw new TdaException( 
+	                        TDA.ERROR_APP_USERINPUT, 
+	                        "(Loading distance matrix) " +
+	                        "The data file for the distance matrix" +
+	                        " needs to have the same number of rows as columns." );
+				}
+
+				invalidValueIndex = dataReader_.getInvalidValueIndex();
+				if ( invalidValueIndex >= 0 ) {
+					
+				    throw new TdaException( 
+				            TDA.ERROR_APP_USERINPUT,
+			                "Line '" + (i+1) + "'" +
+  				            " in the data for the distance matrix" +
+  				            " contains an invalid value ('" +
+  				            dataReader_.getInvalidValue() +
+			                "') for entry '" +
+			                invalidValueIndex + "'." );
+				}
+				
+				if ( upperTriangle != null ) {
+					
+					dataReader_.copyLineValues( rowBuffer, 0, numberOfVertices_ );
+					upperTriangle.setRow( i, rowBuffer );
+				}
+				else {
+					
+					edgeLength[ i ] = new double[ numberOfVertices_ ];
+					dataReader_.copyLineValues( edgeLength[ i ], 0, numberOfVertices_ );
+				}
+				i++;
 			}
-			
-			return edgeLength;
 		}
-		catch (IOException e) {
-		   
-		    throw new Exception( e );
-		}		
-		catch (TdaException e) {
-	
-			throw new TdaException( e );
-		}		
 		finally {
-			try {
-				
-				if (bufferedReader_ != null ) bufferedReader_.close();
-			} 
-			catch( IOException e ) {
-	          // nothing else to do?
-	      };
+			
+			dataReader_.close();
 		}
-	}
-	    
-	protected void findMatrixDimension() throws Exception {
-        
-
-    	// TODO: Fix this
-    	// Sad kludge: can't seem to re-open the file after first read..., so store the contents
-    	StringBuffer strBufDistanceMatrixAsString = new StringBuffer();
-    	
-        FileReader fileReader = null;
-        StringTokenizer tokenizer;
-        
-        try {
-
-            int rowCountInDataFile = 0;
-            int columnCountInDataFile = 0;
-                               
-            boolean columnsCounted = false;
-            String line;
-            // Now start reading the data
-            while ( ( line = bufferedReader_.readLine()) != null ) {
-                
-                
-                // ---------------------------------------
-                // Process the entries on the current line
-                // ---------------------------------------
-
-                // Set the pattern for the data parsing
-                Pattern pattern = Pattern.compile( 
-                        TDA.PATTERN_PARSING_WHITESPACE, Pattern.COMMENTS );
-                
-                line = line.trim();
-                String[] lineComponents = pattern.split( line );
-                int columnCountForCurrentLine = lineComponents.length;
-                
-                
-                // this allows us to have a blank line or one that starts with #
-                // without upsetting the observation loading
-                if ( !line.startsWith( "#" ) && columnCountForCurrentLine > 1 ) {
-                    
-                    if ( columnCountInDataFile > 0 && 
-                            columnCountForCurrentLine != columnCountInDataFile ) {
-                        
-                        // This violates the stipulation that the observations data needs to be in
-                        // rectangular form
-                        throw new TdaException( 
-                                TDA.ERROR_APP_USERINPUT, 
-                                "(Loading distance matrix) " +
-                                "The data file for the distance matrix" +
-                                " needs to have the same number of entries for all rows " +
-                                "(First discrepancy found at line " + 
-                                (rowCountInDataFile+1) + 
-                                ")." );
-                        
-                    }
-                    strBufDistanceMatrixAsString.append( line + "\n" );
-                    columnCountInDataFile = lineComponents.length;
-                    
-                    rowCountInDataFile++;
-                }
-            }
-
-            // Check that the matrix is square
-            if ( rowCountInDataFile != columnCountInDataFile ) {
-            	
-            	throw new TdaException( 
-                        TDA.ERROR_APP_USERINPUT, 
-                        "(Loading distance matrix) " +
-                        "The data file for the distance matrix" +
-                        " needs to have the same number of rows as columns." );
-            }
-
-            strDistanceMatrixAsString_ = strBufDistanceMatrixAsString.toString();
-            
-            
-            // finally assign results to data members
-            observedRowCount_ = rowCountInDataFile;
-            observedColumnCount_ = columnCountInDataFile;
-        }
-        catch (IOException e) {
-               
-            throw new Exception( e );
-        }       
-        catch (TdaException e) {
-
-            throw new TdaException( e );
-        }       
-        finally {
-                                
-//            if (fileReader != null ) fileReader.close();
-//            if (bufferedReader != null ) bufferedReader.close();
+		
+        // Check that the matrix is square
+        if ( i != numberOfVertices_ ) {
+        	
+        	throw new TdaException( 
+                    TDA.ERROR_APP_USERINPUT, 
+                    "(Loading distance matrix) " +
+                    "The data file for the distance matrix" +
+                    " needs to have the same number of rows as columns." );
         }
-    }
+        
+        observedRowCount_ = i;
+        observedColumnCount_ = numberOfVertices_;
+		
+		return edgeLength;
+	}
 
 	
-	public double[][] getDistances() {
+	public double[][] getDistances() throws Exception {
+		
+		if ( offHeapDistances_ != null ) {
+			
+        	throw new TdaException( 
+                    TDA.ERROR_APP_DEV, 
+                    "(DistanceMatrix) " +
+                    "The distances of a matrix stored off-heap are only available " +
+                    "by row (see getRow)." );
+		}
 	                
 	     return distances_;
 	}
 	
+	public boolean isStoredOffHeap() {
+		
+		return ( offHeapDistances_ != null );
+	}
+	
+	// hjs 10/18/2026 Get row _row of the matrix, for reading the entries from 
+	// column _row to the end (i.e., the diagonal entry and the upper triangle).
+	// For a matrix stored off-heap, the entries are copied into the supplied buffer
+	// (of length n), which is returned; otherwise the stored row itself is returned.
+	public double[] getRow( final int _row, final double[] _rowBuffer ) {
+		
+		if ( offHeapDistances_ != null ) {
+			
+			offHeapDistances_.getRow( _row, _rowBuffer );
+			return _rowBuffer;
+		}
+		
+		return distances_[ _row ];
+	}
+	
+	// Get the distance between two vertices (for a matrix stored off-heap, only the
+	// upper triangle is stored, i.e., the matrix is taken to be symmetric)
+	public double getDistance( final int _vertexIndex1, final int _vertexIndex2 ) {
+		
+		if ( offHeapDistances_ != null ) {
+			
+			if ( _vertexIndex1 <= _vertexIndex2 ) {
+				
+				return offHeapDistances_.getEntry( _vertexIndex1, _vertexIndex2 );
+			}
+			
+			return offHeapDistances_.getEntry( _vertexIndex2, _vertexIndex1 );
+		}
+		
+		return distances_[ _vertexIndex1 ][ _vertexIndex2 ];
+	}
+	
 	// TODO: get rid of one method
 	public int getNumberOfVertices() {
 	
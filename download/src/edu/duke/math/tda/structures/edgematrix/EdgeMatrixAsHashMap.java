@@ -0,0 +1,208 @@
+/*
+ * Created October 2026
+ *
+ * This file is part of Topological Data Analysis
+ * edu.duke.math.tda
+ * Copyright (c) 2012-2014 by John Harer
+ * All rights reserved.
+ *
+ * License Info:
+ *
+ *
+ */
+
+package edu.duke.math.tda.structures.edgematrix;
+
+import java.util.Arrays;
+
+import edu.duke.math.tda.structures.EdgeI;
+
+/**
+ * Edge matrix that only stores the actual edges, in a primitive hash map keyed by
+ * the (ordered) pair of vertex indices
+ *
+ * <p><strong>Details:</strong> <br>
+ *
+ * The key packs the smaller vertex index into the upper and the larger one into
+ * the lower 32 bits of a long, so it can't overflow for any number of vertices.
+ * Keys, edge indices and edge lengths are kept in parallel arrays, with open
+ * addressing (linear probing) and a load factor of at most 1/2, so a lookup
+ * touches only a few adjacent array slots and doesn't create any objects.
+ *
+ * As for the array-based matrix, an unknown vertex pair has the edge index -1 and
+ * the edge length 0.
+ *
+ * This is the edge matrix for the sparse path (sparse matrix input, and point
+ * clouds above the switchToSparseAt size), and for distance matrices stored
+ * off-heap, where an n x n array would be too large.
+ *
+ * <p><strong>Change History:</strong> <br>
+ * Created October 2026
+ *
+ *
+ * @author Jurgen Sladeczek (hjs) <br>
+ * For the latest info, please visit www.math.duke.edu.
+ */
+
+public class EdgeMatrixAsHashMap extends EdgeMatrix {
+
+	protected static final long EMPTYKEY = -1L;
+	protected static final long HASHMULTIPLIER = 0x9E3779B97F4A7C15L;
+	protected static final int MINCAPACITY = 16;
+
+	protected long[] keys_;
+	protected int[] edgeIndices_;
+	protected double[] edgeLengths_;
+	protected int numberOfEntries_;
+	protected int shift_;
+
+	public EdgeMatrixAsHashMap( final int _numberOfVertices,
+			final int _expectedNumberOfEdges ) throws Exception {
+
+		// call the super-class constructor
+		super( _numberOfVertices );
+
+		this.numberOfVertices_ = _numberOfVertices;
+
+		allocate( computeCapacity( _expectedNumberOfEdges ) );
+	}
+
+	// Smallest power of 2 that holds the entries at a load factor of at most 1/2
+	protected static int computeCapacity( final int _numberOfEntries ) {
+
+		int capacity = MINCAPACITY;
+
+		while ( capacity < 2L * _numberOfEntries ) capacity <<= 1;
+
+		return capacity;
+	}
+
+	protected void allocate( final int _capacity ) {
+
+		keys_ = new long[ _capacity ];
+		edgeIndices_ = new int[ _capacity ];
+		edgeLengths_ = new double[ _capacity ];
+		Arrays.fill( keys_, EMPTYKEY );
+		shift_ = Long.numberOfLeadingZeros( _capacity - 1 );
+	}
+
+	protected static long computeKey( final int _vertexIndex1, final int _vertexIndex2 ) {
+
+		if ( _vertexIndex1 < _vertexIndex2 ) {
+
+			return ( (long) _vertexIndex1 << 32 ) | _vertexIndex2;
+		}
+
+		return ( (long) _vertexIndex2 << 32 ) | _vertexIndex1;
+	}
+
+	// Find the slot holding the key, or else the (empty) slot where it belongs
+	protected int findSlot( final long _key ) {
+
+		final int mask = keys_.length - 1;
+		int slot = (int) ( ( _key * HASHMULTIPLIER ) >>> shift_ );
+
+		while ( keys_[ slot ] != _key && keys_[ slot ] != EMPTYKEY ) {
+
+			slot = ( slot + 1 ) & mask;
+		}
+
+		return slot;
+	}
+
+	// Find (or add) the slot for the vertex pair
+	protected int findOrAddSlot( final int _vertexIndex1, final int _vertexIndex2 ) {
+
+		final long key = computeKey( _vertexIndex1, _vertexIndex2 );
+		int slot = findSlot( key );
+
+		if ( keys_[ slot ] == EMPTYKEY ) {
+
+			if ( 2 * ( numberOfEntries_ + 1 ) > keys_.length ) {
+
+				rehash( 2 * keys_.length );
+				slot = findSlot( key );
+			}
+
+			keys_[ slot ] = key;
+			edgeIndices_[ slot ] = -1;
+			numberOfEntries_++;
+			connectionsPerVertex[ Math.min( _vertexIndex1, _vertexIndex2 ) ]++;
+		}
+
+		return slot;
+	}
+
+	protected void rehash( final int _capacity ) {
+
+		final long[] oldKeys = keys_;
+		final int[] oldEdgeIndices = edgeIndices_;
+		final double[] oldEdgeLengths = edgeLengths_;
+		int slot;
+
+		allocate( _capacity );
+
+		for ( int i=0; i<oldKeys.length; i++ ) {
+
+			if ( oldKeys[ i ] != EMPTYKEY ) {
+
+				slot = findSlot( oldKeys[ i ] );
+				keys_[ slot ] = oldKeys[ i ];
+				edgeIndices_[ slot ] = oldEdgeIndices[ i ];
+				edgeLengths_[ slot ] = oldEdgeLengths[ i ];
+			}
+		}
+	}
+
+	public void setEdgeIndex( final int _vertexIndex1,
+							final int _vertexIndex2,
+							final int _edgeIndex ) throws Exception {
+
+		edgeIndices_[ findOrAddSlot( _vertexIndex1, _vertexIndex2 ) ] = _edgeIndex;
+	}
+
+	public int getEdgeIndex( final int _vertexIndex1,
+							final int _vertexIndex2 ) throws Exception {
+
+		final int slot = findSlot( computeKey( _vertexIndex1, _vertexIndex2 ) );
+
+		return ( keys_[ slot ] == EMPTYKEY ) ? -1 : edgeIndices_[ slot ];
+	}
+
+	public void setEdgeLength( final int _vertexIndex1,
+							final int _vertexIndex2,
+							final double _edgeLength ) throws Exception {
+
+		edgeLengths_[ findOrAddSlot( _vertexIndex1, _vertexIndex2 ) ] = _edgeLength;
+	}
+
+	public double getEdgeLength( final int _vertexIndex1,
+							final int _vertexIndex2 ) throws Exception {
+
+		final int slot = findSlot( computeKey( _vertexIndex1, _vertexIndex2 ) );
+
+		return ( keys_[ slot ] == EMPTYKEY ) ? 0 : edgeLengths_[ slot ];
+	}
+
+	public int getNumberOfEntries() {
+
+		return this.numberOfEntries_;
+	}
+
+	public int getNumberOfConnections( final int _vertexIndex ) {
+
+		return connectionsPerVertex[ _vertexIndex ];
+	}
+
+	public int getDimension() {
+
+		return this.numberOfVertices_;
+	}
+
+	// as for the array-based matrix, the edges themselves are not stored
+	@Override
+	public EdgeI getEdge( final int _vertexIndex1, final int _vertexIndex2 ) throws Exception {
+
+		return null;
+	}
+}
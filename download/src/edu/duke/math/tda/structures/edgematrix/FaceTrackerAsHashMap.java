@@ -0,0 +1,362 @@
+/*
+ * Created October 2026
+ *
+ * This file is part of Topological Data Analysis
+ * edu.duke.math.tda
+ * Copyright (c) 2012-2014 by John Harer
+ * All rights reserved.
+ *
+ * License Info:
+ *
+ *
+ */
+
+package edu.duke.math.tda.structures.edgematrix;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.SortedMap;
+import java.util.TreeMap;
+
+import edu.duke.math.tda.structures.DagListZ2;
+import edu.duke.math.tda.structures.Face;
+import edu.duke.math.tda.structures.FaceI;
+import edu.duke.math.tda.structures.FaceZ2;
+import edu.duke.math.tda.structures.FaceZp;
+import edu.duke.math.tda.utility.TDA;
+import edu.duke.math.tda.utility.errorhandling.TdaException;
+
+/**
+ * FaceTrackerAsHashMap is an implementation for the FaceTrackerI interface that
+ * keeps the attributes of the faces in primitive arrays, with a primitive hash map
+ * keyed by the (ordered) triple of vertex indices
+ *
+ * <p><strong>Details:</strong> <br>
+ *
+ * The key packs the sorted vertex indices into 3 x 21 bits of a long, so it
+ * doesn't depend on the number of vertices and can't overflow for vertex indices
+ * below 2^21 (larger indices are rejected). The hash map uses open addressing
+ * (linear probing) with a load factor of at most 1/2, and maps a key to the
+ * position of the face in the attribute arrays, so a lookup doesn't create any
+ * objects.
+ *
+ * A face is stored by its attributes only: its index, whether it is positive, and
+ * its dagList (the entries of all dagLists are appended to one shared array, with
+ * their coefficients in a parallel array for Zp faces). The tracker takes a copy of
+ * these when the face is added, so the face object itself isn't kept; getFace
+ * creates a new face (with the vertices in sorted order) from the attributes.
+ *
+ * <p><strong>Change History:</strong> <br>
+ * Created October 2026
+ *
+ *
+ * @author Jurgen Sladeczek (hjs) <br>
+ * For the latest info, please visit www.math.duke.edu.
+ */
+
+public class FaceTrackerAsHashMap implements FaceTrackerI {
+
+	protected static final int BITSPERVERTEX = 21;
+	protected static final int MAXVERTEXINDEX = ( 1 << BITSPERVERTEX ) - 1;
+	protected static final long EMPTYKEY = -1L;
+	protected static final long HASHMULTIPLIER = 0x9E3779B97F4A7C15L;
+	protected static final int MINCAPACITY = 16;
+
+	// number of vertices in the underlying data
+	protected final int numberOfVertices_;
+
+	// the hash map: the key of each slot, and the position of its face
+	protected long[] keys_;
+	protected int[] positions_;
+	protected int shift_;
+
+	// the attributes of the faces, by position (i.e., in the order they were added)
+	protected int numberOfFaces_;
+	protected long[] faceKeys_;
+	protected int[] faceIndices_;
+	protected boolean[] isPositive_;
+	protected boolean[] isZp_;
+	// the dagList of the face at position i is dagListEntries_[ start..end-1 ],
+	// with start = dagListStarts_[ i ] and end = dagListStarts_[ i+1 ]
+	protected int[] dagListStarts_;
+	protected int[] dagListEntries_;
+	// the coefficients of the dagList entries (only allocated once a Zp face is added)
+	protected int[] dagListCoefficients_;
+	protected int numberOfDagListEntries_;
+
+	// Initialize the map with the number of vertices in the underlying data
+	public FaceTrackerAsHashMap( final int _numberOfVertices ) {
+
+		numberOfVertices_ = _numberOfVertices;
+
+		allocate( MINCAPACITY );
+
+		faceKeys_ = new long[ MINCAPACITY ];
+		faceIndices_ = new int[ MINCAPACITY ];
+		isPositive_ = new boolean[ MINCAPACITY ];
+		isZp_ = new boolean[ MINCAPACITY ];
+		dagListStarts_ = new int[ MINCAPACITY + 1 ];
+		dagListEntries_ = new int[ MINCAPACITY ];
+	}
+
+	protected void allocate( final int _capacity ) {
+
+		keys_ = new long[ _capacity ];
+		positions_ = new int[ _capacity ];
+		Arrays.fill( keys_, EMPTYKEY );
+		shift_ = Long.numberOfLeadingZeros( _capacity - 1 );
+	}
+
+	// compute a single value to be used for the lookup, based on the values
+	// of the 3 vertices that make up the face (in ascending order, so that any
+	// order of the vertices finds the same face)
+	public static long computeKey( final int _vertexIndex1,
+			final int _vertexIndex2,
+			final int _vertexIndex3 ) throws Exception {
+
+		final int minVertex = Math.min( _vertexIndex1, Math.min( _vertexIndex2, _vertexIndex3 ) );
+		final int maxVertex = Math.max( _vertexIndex1, Math.max( _vertexIndex2, _vertexIndex3 ) );
+		final int midVertex = _vertexIndex1 + _vertexIndex2 + _vertexIndex3 - minVertex - maxVertex;
+
+		if ( minVertex < 0 || maxVertex > MAXVERTEXINDEX ) {
+
+            throw new TdaException(
+                    TDA.ERROR_APP_DEV,
+                    "(FaceTrackerAsHashMap) " +
+                    "The vertex indices of a face need to be between 0 and " +
+                    MAXVERTEXINDEX + " (face: " + _vertexIndex1 + ", " +
+                    _vertexIndex2 + ", " + _vertexIndex3 + ")." );
+		}
+
+		return ( (long) minVertex << ( 2*BITSPERVERTEX ) ) |
+				( (long) midVertex << BITSPERVERTEX ) |
+				maxVertex;
+	}
+
+	// Find the slot holding the key, or else the (empty) slot where it belongs
+	protected int findSlot( final long _key ) {
+
+		final int mask = keys_.length - 1;
+		int slot = (int) ( ( _key * HASHMULTIPLIER ) >>> shift_ );
+
+		while ( keys_[ slot ] != _key && keys_[ slot ] != EMPTYKEY ) {
+
+			slot = ( slot + 1 ) & mask;
+		}
+
+		return slot;
+	}
+
+	protected void rehash( final int _capacity ) {
+
+		final long[] oldKeys = keys_;
+		final int[] oldPositions = positions_;
+		int slot;
+
+		allocate( _capacity );
+
+		for ( int i=0; i<oldKeys.length; i++ ) {
+
+			if ( oldKeys[ i ] != EMPTYKEY ) {
+
+				slot = findSlot( oldKeys[ i ] );
+				keys_[ slot ] = oldKeys[ i ];
+				positions_[ slot ] = oldPositions[ i ];
+			}
+		}
+	}
+
+	// The position of the face in the attribute arrays, or -1 if it isn't tracked
+	protected int findPosition( final int _vertexIndex1,
+			final int _vertexIndex2,
+			final int _vertexIndex3 ) throws Exception {
+
+		final int slot = findSlot( computeKey( _vertexIndex1, _vertexIndex2, _vertexIndex3 ) );
+
+		return ( keys_[ slot ] == EMPTYKEY ) ? -1 : positions_[ slot ];
+	}
+
+	// Create a face from its attributes (the face isn't tracked itself, so changing
+	// it doesn't change the tracked attributes)
+	@Override
+	public FaceI getFace( final int _vertexIndex1,
+			final int _vertexIndex2,
+			final int _vertexIndex3 ) throws Exception {
+
+		final int position = findPosition( _vertexIndex1, _vertexIndex2, _vertexIndex3 );
+		final long vertexMask = MAXVERTEXINDEX;
+		final int start;
+		final int end;
+		final long key;
+		SortedMap<Integer, Integer> dagList;
+		Face face;
+
+		if ( position == -1 ) return null;
+
+		key = faceKeys_[ position ];
+		start = dagListStarts_[ position ];
+		end = dagListStarts_[ position+1 ];
+
+		if ( isZp_[ position ] ) {
+
+			dagList = new TreeMap<Integer, Integer>();
+			for ( int i=start; i<end; i++ ) {
+
+				dagList.put( dagListEntries_[ i ], dagListCoefficients_[ i ] );
+			}
+
+			face = new FaceZp( (int) ( key >>> ( 2*BITSPERVERTEX ) ),
+					(int) ( ( key >>> BITSPERVERTEX ) & vertexMask ),
+					(int) ( key & vertexMask ),
+					faceIndices_[ position ], dagList );
+		}
+		else {
+
+			face = new FaceZ2( (int) ( key >>> ( 2*BITSPERVERTEX ) ),
+					(int) ( ( key >>> BITSPERVERTEX ) & vertexMask ),
+					(int) ( key & vertexMask ),
+					faceIndices_[ position ],
+					new DagListZ2( dagListEntries_, start, end ) );
+		}
+
+		face.setfPositive( isPositive_[ position ] );
+
+		return face;
+	}
+
+	@Override
+	public int getFaceIndex( final int _vertexIndex1,
+			final int _vertexIndex2,
+			final int _vertexIndex3 ) throws Exception {
+
+		final int position = findPosition( _vertexIndex1, _vertexIndex2, _vertexIndex3 );
+
+		return ( position == -1 ) ? -1 : faceIndices_[ position ];
+	}
+
+	@Override
+	public void addFace( final int _vertexIndex1,
+			final int _vertexIndex2,
+			final int _vertexIndex3,
+			final FaceI _face ) throws Exception {
+
+		final long key = computeKey( _vertexIndex1, _vertexIndex2, _vertexIndex3 );
+		int slot = findSlot( key );
+
+		// (as for the sorted map, a face that we already track is left alone)
+		if ( keys_[ slot ] == EMPTYKEY ) {
+
+			if ( 2 * ( numberOfFaces_ + 1 ) > keys_.length ) {
+
+				rehash( 2 * keys_.length );
+				slot = findSlot( key );
+			}
+
+			keys_[ slot ] = key;
+			positions_[ slot ] = numberOfFaces_;
+			addAttributes( key, _face );
+		}
+	}
+
+	// Append the attributes of the face (at the next position)
+	protected void addAttributes( final long _key, final FaceI _face ) {
+
+		final int position = numberOfFaces_;
+		final SortedMap<Integer, Integer> dagList;
+		int[] dagListIndices = null;
+		int dagListSize;
+
+		if ( position == faceIndices_.length ) {
+
+			faceKeys_ = Arrays.copyOf( faceKeys_, 2 * position );
+			faceIndices_ = Arrays.copyOf( faceIndices_, 2 * position );
+			isPositive_ = Arrays.copyOf( isPositive_, 2 * position );
+			isZp_ = Arrays.copyOf( isZp_, 2 * position );
+			dagListStarts_ = Arrays.copyOf( dagListStarts_, 2 * position + 1 );
+		}
+
+		faceKeys_[ position ] = _key;
+		faceIndices_[ position ] = _face.getFaceListIndex();
+		isPositive_[ position ] = !( _face instanceof Face ) || ( (Face) _face ).isfPositive();
+		isZp_[ position ] = !( _face instanceof FaceZ2 );
+
+		// the Z2 faces hand over their indices directly, the others their map
+		if ( _face instanceof FaceZ2 ) {
+
+			dagListIndices = ( (FaceZ2) _face ).getDagListZ2().toArray();
+			dagList = null;
+			dagListSize = dagListIndices.length;
+		}
+		else {
+
+			dagList = _face.getDagList();
+			dagListSize = ( dagList == null ) ? 0 : dagList.size();
+		}
+
+		ensureDagListCapacity( numberOfDagListEntries_ + dagListSize, isZp_[ position ] );
+
+		if ( dagListIndices != null ) {
+
+			System.arraycopy( dagListIndices, 0, dagListEntries_,
+					numberOfDagListEntries_, dagListSize );
+			numberOfDagListEntries_ += dagListSize;
+		}
+		else if ( dagList != null ) {
+
+			for ( Map.Entry<Integer, Integer> entry : dagList.entrySet() ) {
+
+				dagListEntries_[ numberOfDagListEntries_ ] = entry.getKey();
+				dagListCoefficients_[ numberOfDagListEntries_ ] = entry.getValue();
+				numberOfDagListEntries_++;
+			}
+		}
+
+		numberOfFaces_++;
+		dagListStarts_[ numberOfFaces_ ] = numberOfDagListEntries_;
+	}
+
+	// Make sure that the dagList arrays can hold the specified number of entries
+	protected void ensureDagListCapacity( final int _capacity,
+			final boolean _needsCoefficients ) {
+
+		final int newCapacity;
+
+		if ( dagListEntries_.length < _capacity ) {
+
+			newCapacity = Math.max( _capacity, 2 * dagListEntries_.length );
+			dagListEntries_ = Arrays.copyOf( dagListEntries_, newCapacity );
+
+			if ( dagListCoefficients_ != null ) {
+
+				dagListCoefficients_ = Arrays.copyOf( dagListCoefficients_, newCapacity );
+			}
+		}
+
+		if ( _needsCoefficients && dagListCoefficients_ == null ) {
+
+			dagListCoefficients_ = new int[ dagListEntries_.length ];
+		}
+	}
+
+	@Override
+	public int getFaceCount() {
+
+		return numberOfFaces_;
+	}
+
+	public String toString() {
+
+		StringBuffer faceList = new StringBuffer( "\nFaceList:" );
+		final long vertexMask = MAXVERTEXINDEX;
+
+		for ( int i=0; i<numberOfFaces_; i++ ) {
+
+			faceList.append( "\n   i=" + faceIndices_[ i ] + ", vertices=(" +
+					( faceKeys_[ i ] >>> ( 2*BITSPERVERTEX ) ) + ", " +
+					( ( faceKeys_[ i ] >>> BITSPERVERTEX ) & vertexMask ) + ", " +
+					( faceKeys_[ i ] & vertexMask ) + ")" );
+		}
+
+		return faceList.toString();
+	}
+}
@@ -0,0 +1,112 @@
+/*
+ * Created October 2026
+ *
+ * This file is part of Topological Data Analysis
+ * edu.duke.math.tda
+ * Copyright (c) 2012-2014 by John Harer
+ * All rights reserved.
+ *
+ * License Info:
+ *
+ *
+ */
+
+package edu.duke.math.tda.structures.edgematrix;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteOrder;
+import java.nio.DoubleBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.StandardOpenOption;
+
+import edu.duke.math.tda.utility.TDA;
+import edu.duke.math.tda.utility.errorhandling.TdaException;
+
+/**
+ * Read-only access to a square matrix of (little-endian) doubles that is stored
+ * in row-major order in a file, such as the data of a binary distance matrix file
+ *
+ * <p><strong>Details:</strong> <br>
+ *
+ * The file is mapped in regions of whole rows (of at most MAXREGIONSIZE bytes
+ * each), and the rows are read straight from the mapped regions, so the matrix
+ * is neither copied onto the Java heap nor into another file. Only the upper
+ * triangle (including the diagonal) is read, i.e., the matrix is taken to be
+ * symmetric, as for UpperTriangleStorage.
+ *
+ * <p><strong>Change History:</strong> <br>
+ * Created October 2026
+ *
+ *
+ * @author Jurgen Sladeczek (hjs) <br>
+ * For the latest info, please visit www.math.duke.edu.
+ */
+
+public class MappedRowStorage implements OffHeapDistancesI {
+
+	// largest region of the file that we map at once
+	protected static final long MAXREGIONSIZE = 1L << 30;
+
+	protected final int numberOfVertices_;
+	protected final int rowsPerRegion_;
+	protected final DoubleBuffer[] regions_;
+
+	// Map the n x n matrix that starts at byte _dataOffset of the file
+	public MappedRowStorage( final File _dataFile,
+			final long _dataOffset,
+			final int _numberOfVertices ) throws Exception {
+
+		final long rowSize = (long) _numberOfVertices * Double.BYTES;
+		int regionRows;
+
+		if ( _numberOfVertices < 1 ) {
+
+            throw new TdaException(
+                    TDA.ERROR_APP_DEV,
+                    "(MappedRowStorage) " +
+                    "The number of vertices needs to be positive." );
+		}
+
+		this.numberOfVertices_ = _numberOfVertices;
+		this.rowsPerRegion_ = (int) Math.max( 1, MAXREGIONSIZE / rowSize );
+		this.regions_ = new DoubleBuffer[ 
+				( numberOfVertices_ + rowsPerRegion_ - 1 ) / rowsPerRegion_ ];
+
+		try ( FileChannel channel = FileChannel.open( _dataFile.toPath(), StandardOpenOption.READ ) ) {
+
+			for ( int r=0; r<regions_.length; r++ ) {
+
+				regionRows = Math.min( rowsPerRegion_, numberOfVertices_ - r * rowsPerRegion_ );
+
+				regions_[ r ] = channel.map( FileChannel.MapMode.READ_ONLY,
+						_dataOffset + (long) r * rowsPerRegion_ * rowSize, regionRows * rowSize )
+						.order( ByteOrder.LITTLE_ENDIAN ).asDoubleBuffer();
+			}
+		}
+		catch ( IOException e ) {
+
+			throw new TdaException( e, TDA.ERROR_APP_USERINPUT,
+					"(MappedRowStorage) " +
+					"Cannot map the file '" + _dataFile.getPath() + "'." );
+		}
+	}
+
+	public void getRow( final int _row, final double[] _rowValues ) {
+
+		regions_[ _row / rowsPerRegion_ ].get( 
+				( _row % rowsPerRegion_ ) * numberOfVertices_ + _row,
+				_rowValues, _row, numberOfVertices_ - _row );
+	}
+
+	public double getEntry( final int _row, final int _column ) {
+
+		return regions_[ _row / rowsPerRegion_ ].get( 
+				( _row % rowsPerRegion_ ) * numberOfVertices_ + _column );
+	}
+
+	public int getNumberOfVertices() {
+
+		return this.numberOfVertices_;
+	}
+}
@@ -0,0 +1,38 @@
+/*
+ * Created October 2026
+ *
+ * This file is part of Topological Data Analysis
+ * edu.duke.math.tda
+ * Copyright (c) 2012-2014 by John Harer
+ * All rights reserved.
+ *
+ * License Info:
+ *
+ *
+ */
+
+package edu.duke.math.tda.structures.edgematrix;
+
+/**
+ * OffHeapDistancesI interface, for the storage of a (symmetric) distance matrix
+ * outside the Java heap, read by row or by entry of the upper triangle.
+ *
+ * <p><strong>Change History:</strong> <br>
+ * Created October 2026
+ *
+ *
+ * @author Jurgen Sladeczek (hjs) <br>
+ * For the latest info, please visit www.math.duke.edu.
+ */
+
+public interface OffHeapDistancesI {
+
+	// Copy the entries of a row into _rowValues[ _row ], ..., _rowValues[ n-1 ]
+	// (the remaining entries of _rowValues are left alone)
+	public abstract void getRow( final int _row, final double[] _rowValues );
+
+	// Get the entry for _row <= _column
+	public abstract double getEntry( final int _row, final int _column );
+
+	public abstract int getNumberOfVertices();
+}
@@ -12,23 +12,19 @@
  */
 package edu.duke.math.tda.structures.edgematrix;
 
-import java.io.BufferedReader;
 import java.io.File;
-import java.io.FileReader;
-import java.io.IOException;
-import java.io.StringReader;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.SortedMap;
-import java.util.StringTokenizer;
 import java.util.TreeMap;
-import java.util.regex.Pattern;
 
 import edu.duke.math.tda.structures.EdgeFactory;
 import edu.duke.math.tda.structures.EdgeI;
 import edu.duke.math.tda.structures.PointRn;
 import edu.duke.math.tda.structures.metric.MetricI;
 import edu.duke.math.tda.structures.pointcloud.PointCloudInRn;
+import edu.duke.math.tda.utility.NumericDataReader;
 import edu.duke.math.tda.utility.TDA;
 import edu.duke.math.tda.utility.errorhandling.TdaException;
 import edu.duke.math.tda.utility.settings.Settings;
@@ -47,17 +43,18 @@ import edu.duke.math.tda.utility.settings.Settings;
 public class SparseMatrix {
 	
 	// sparse matrix implementation
-	protected SortedMap<Integer, Double> sparseEdgeLengths_ = new TreeMap<Integer, Double>();
+	// hjs 10/18/2026 The row-col based index is a long, since it overflows an int
+	// for more than 46340 vertices
+	protected SortedMap<Long, Double> sparseEdgeLengths_ = new TreeMap<Long, Double>();
 	protected int numberOfVertices_;
 	// map the (sorted) edges from their row-col based index to their sequential number
 	protected int[] edgeIndexes_;
-	protected SortedMap<Integer, Integer> sparseEdgeIndexes_ = new TreeMap<Integer, Integer>();
+	protected SortedMap<Long, Integer> sparseEdgeIndexes_ = new TreeMap<Long, Integer>();
 	
 
 	protected List<EdgeI> edges_ = new ArrayList<EdgeI>();
 	
-	protected BufferedReader bufferedReader_;
-	protected String strSparseMatrixAsString_ = new String();
+	protected NumericDataReader dataReader_;
 
 	protected int observedRowCount_;
 	protected int observedColumnCount_;
@@ -75,8 +72,7 @@ public class SparseMatrix {
 		processData_ = _processData;
 
 		// load the sparse matrix from the string
-		strSparseMatrixAsString_ = new String( _distanceMatrixAsString );
-    	bufferedReader_ = new BufferedReader( new StringReader( _distanceMatrixAsString ) );
+    	dataReader_ = new NumericDataReader( _distanceMatrixAsString );
 		
         sparseEdgeLengths_ = loadSparseMatrix();
 	}
@@ -101,302 +97,234 @@ public class SparseMatrix {
                     + _fileName + "' in directory '" + _directory + "'." );
         }
         
-        bufferedReader_ = new BufferedReader(
-                new FileReader( _directory + File.separator + _fileName ) );
+        dataReader_ = new NumericDataReader( _directory, _fileName );
         
         sparseEdgeLengths_ = loadSparseMatrix();
 	}
 	
-	protected SortedMap<Integer, Double> loadSparseMatrix() throws Exception {
+	// hjs 10/18/2026 Build the sparse matrix directly from (row, col, length) triples,
+	// e.g., as computed from a point cloud, so we don't have to go through the
+	// text representation (and parse it back in) on the switchToSparseAt path.
+	// The first _entryCount entries of the arrays are used, in the supplied order.
+	public SparseMatrix ( 
+			final int[] _rows,
+			final int[] _cols,
+			final double[] _lengths,
+			final int _entryCount,
+			Settings _processData ) throws Exception {
+
+		// we need the process data, so we can pass the info on to the edgeFactory
+		processData_ = _processData;
 		
-		SortedMap<Integer, Double> sparseEdges = new TreeMap<Integer, Double>();
+        sparseEdgeLengths_ = loadSparseMatrix( _rows, _cols, _lengths, _entryCount );
+	}
+	
+	// hjs 10/18/2026 Set up the sparse matrix directly from an array with one
+	// (row, col, length) entry per row, e.g., as supplied via the api
+	public SparseMatrix ( 
+			final double[][] _entries,
+			Settings _processData ) throws Exception {
+		
+		int[] rows = new int[ _entries.length ];
+		int[] cols = new int[ _entries.length ];
+		double[] lengths = new double[ _entries.length ];
+
+		// we need the process data, so we can pass the info on to the edgeFactory
+		processData_ = _processData;
+		
+		for ( int i=0; i<_entries.length; i++ ) {
+			
+			if ( _entries[ i ] == null || _entries[ i ].length != 3 ) {
+			      
+				throw new TdaException( 
+			              TDA.ERROR_APP_USERINPUT,
+			              "(Loading sparse matrix) " + "Line #" + (i+1) + 
+			            " in the data for the sparse matrix" +
+			          " does not contain the 3 expected values (instead: " + 
+			          ( ( _entries[ i ] == null ) ? 0 : _entries[ i ].length ) + ")." );
+			}
+			
+			// same rounding as for the text-based input
+			rows[ i ] = (int) Math.round( _entries[ i ][ 0 ] );
+			cols[ i ] = (int) Math.round( _entries[ i ][ 1 ] );
+			lengths[ i ] = _entries[ i ][ 2 ];
+		}
+		
+        sparseEdgeLengths_ = loadSparseMatrix( rows, cols, lengths, _entries.length );
+	}
+	
+	protected SortedMap<Long, Double> loadSparseMatrix( 
+			final int[] _rows,
+			final int[] _cols,
+			final double[] _lengths,
+			final int _entryCount ) throws Exception {
 		
-		findMatrixDimension(); // _directory, _fileName );
+		SortedMap<Long, Double> sparseEdges = new TreeMap<Long, Double>();
+		int row;
+		int col;
+		int tmpVertexIndex;
+		long tmpEdgeIndex;
+		int maxIndex = -1;
+		int minIndex = 1000;
+		
+		// first pass: same dimension logic as for the text-based input
+		for ( int i=0; i<_entryCount; i++ ) {
+			
+			if ( _rows[ i ] > maxIndex ) maxIndex = _rows[ i ];
+			if ( _cols[ i ] > maxIndex ) maxIndex = _cols[ i ];
+			if ( _rows[ i ] < minIndex ) minIndex = _rows[ i ];
+			if ( _cols[ i ] < minIndex ) minIndex = _cols[ i ];
+		}
+		
+		assignMatrixDimension( minIndex, maxIndex );
 		edgeIndexes_ = new int [ this.observedRowCount_ ];
 		
 		edgeFactory_ = new EdgeFactory( processData_ );
 		
-		// Set the pattern for the data parsing
-		// Note we allow comments at the end of a line (via Pattern.COMMENTS)
-		Pattern pattern = Pattern.compile( 
-	          TDA.PATTERN_PARSING_WHITESPACE, Pattern.COMMENTS );
+		for ( int i=0; i<_entryCount; i++ ) {
+			
+			row = _rows[ i ];
+			col = _cols[ i ];
+			
+            if ( row > col ) {
+            	
+            	// swap the vertex indices
+            	tmpVertexIndex = row;
+            	row = col;
+            	col = tmpVertexIndex;
+            }
+            
+            // adjust for min index being greater than 0
+            if ( minIndexAdjustment_ > 0 ) {
+
+            	row = row - minIndexAdjustment_;
+            	col = col - minIndexAdjustment_;
+            }
+            
+            tmpEdgeIndex = (long) row * this.observedRowCount_ + col;
+            
+            if ( sparseEdgeIndexes_.containsKey( tmpEdgeIndex )) {
+            	
+            	throw new TdaException(
+			            TDA.ERROR_APP_USERINPUT,
+		                "Entry '" + (i+1) + "'" +
+				            " in the data for the sparse matrix" +
+				            " specifies another value for the same " +
+				            "row-column combination (namely '" +
+		                row + ", " + col + "').\n" );
+            }
+            
+            sparseEdges.put( tmpEdgeIndex, _lengths[ i ] );
+            edges_.add( edgeFactory_.createEdge( row, col, _lengths[ i ] ));
+            sparseEdgeIndexes_.put( tmpEdgeIndex, i );
+		}
+		
+		return sparseEdges;
+	}
 	
+	// hjs 10/18/2026 Read the (row, col, length) entries in a single pass into primitive
+	// buffers, and set up the matrix from them (see above)
+	protected SortedMap<Long, Double> loadSparseMatrix() throws Exception {
+		
+		int entriesOnCurrentLine;
+		int invalidValueIndex;
+		int capacity = 16;
+		int i = 0;
+		int[] rows = new int[ capacity ];
+		int[] cols = new int[ capacity ];
+		double[] lengths = new double[ capacity ];
+		
 		try {
 			
-			int i;
-			int row = -1;
-			int col = -1;
-			double dblCurrentObservedValue = -1;
-			String textline;
-			int entriesOnCurrentLine;
-			int tmpVertexIndex;
-			int tmpEdgeIndex = 1;
-	      
-			// Now read the data
-			bufferedReader_ = new BufferedReader( new StringReader( strSparseMatrixAsString_ ) );
-			i = 0;
-			while ( ( textline = bufferedReader_.readLine()) != null ) {
-	          				
-				// ---------------------------------------
-				// Process the entries on the current line
-				// ---------------------------------------
+			while ( ( entriesOnCurrentLine = dataReader_.readLine() ) >= 0 ) {
 				
-	        	textline = textline.trim();
-	        	String[] lineComponents = pattern.split( textline );
-	        	entriesOnCurrentLine = lineComponents.length;
-	          
-				// Ignore blank or commented out lines
-				if ( entriesOnCurrentLine > 0 && 
-	                  !( textline.startsWith( "#" ) ) && !( textline.equals( "" ) ) ) {
-	
-					// We can never (even in debug mode) indicate more entries than
-					// there are in the file, so apply sanity check:
-					if ( entriesOnCurrentLine != 3 ) {
-					      
-						throw new TdaException( 
-					              TDA.ERROR_APP_USERINPUT,
-					              "(Loading sparse matrix) " + "Line #" + (i+1) + 
-					            " in the data for the sparse matrix" +
-					          " does not contain the 3 expected values (instead: " + entriesOnCurrentLine + 
-					          ")." );
-					}
-							        
-			        // Check if non-numeric. If so, tell the user
-                    // hjs 7/19/2013  strange fix necessary for the api-mode's call
-                    // where the sparse matrix is loaded from a 2-dim double array (Matlab)
-			        try {
-
-			        	row = (int) Math.round( Double.parseDouble( lineComponents[ 0 ] ));
-			        	col = (int) Math.round( Double.parseDouble( lineComponents[ 1 ] ));
-//			        	row = Integer.parseInt( lineComponents[ 0 ] );
-//			        	col = Integer.parseInt( lineComponents[ 1 ] );
-			            dblCurrentObservedValue = 
-			                Double.parseDouble( lineComponents[ 2 ] );
-			            
-			            if ( row > col ) {
-			            	
-			            	// swap the vertex indices
-			            	tmpVertexIndex = row;
-			            	row = col;
-			            	col = tmpVertexIndex;
-			            }
-			            
-			            // adjust for min index being greater than 0
-			            if ( minIndexAdjustment_ > 0 ) {
-
-			            	row = row - minIndexAdjustment_;
-			            	col = col - minIndexAdjustment_;
-			            }
-			        }
-					catch ( Exception e ) {
-					    
-					    throw new TdaException( e,
-					            TDA.ERROR_APP_USERINPUT,
-				                "Line '" + (i+1) + "'" +
-  					            " in the data for the sparse matrix" +
-  					            " contains an invalid value ('" +
-				                row + "  " + col + "  " + 
-				                dblCurrentObservedValue + "'.\n" );
-					}
-												
-		            tmpEdgeIndex = row * this.observedRowCount_ + col;
-		            sparseEdges.put( tmpEdgeIndex,
-		            		dblCurrentObservedValue );
-
-		            edges_.add( edgeFactory_.createEdge( row, col, dblCurrentObservedValue ));
-		            
-		            if ( sparseEdgeIndexes_.containsKey( tmpEdgeIndex )) {
-		            	
-		            	throw new TdaException(
-					            TDA.ERROR_APP_USERINPUT,
-				                "Line '" + (i+1) + "'" +
-  					            " in the data for the sparse matrix" +
-  					            " specifies another value for the same " +
-  					            "row-column combination (namely '" +
-				                row + ", " + col + "').\n" );
-		            }
-		            
-		            sparseEdgeIndexes_.put( tmpEdgeIndex, i );
-	                  
-	                i++;
+				// as before, a line with a single entry is not treated as data
+				if ( entriesOnCurrentLine < 2 ) continue;
+				
+				if ( entriesOnCurrentLine != 3 ) {
+				      
+					throw new TdaException( 
+				              TDA.ERROR_APP_USERINPUT,
+				              "(Loading sparse matrix) " + "Line #" + (i+1) + 
+				            " in the data for the sparse matrix" +
+				          " does not contain the 3 expected values (instead: " + entriesOnCurrentLine + 
+				          ")." );
+				}
+				
+				invalidValueIndex = dataReader_.getInvalidValueIndex();
+				if ( invalidValueIndex >= 0 && invalidValueIndex < 2 ) {
+					
+				    throw new TdaException( 
+				            TDA.ERROR_APP_USERINPUT,
+			                "Line '" + (i+1) + "'" +
+				            " in the data for the sparse matrix" +
+				            " contains an invalid index entry: '" +
+				            dataReader_.getInvalidValue() + "' needs to be an integer.\n" );
+				}
+				else if ( invalidValueIndex == 2 ) {
+					
+				    throw new TdaException( 
+				            TDA.ERROR_APP_USERINPUT,
+			                "Line '" + (i+1) + "'" +
+				            " in the data for the sparse matrix" +
+				            " contains an invalid value ('" +
+				            dataReader_.getInvalidValue() + "').\n" );
+				}
+				
+				if ( i == capacity ) {
+					
+					capacity = 2*capacity;
+					rows = Arrays.copyOf( rows, capacity );
+					cols = Arrays.copyOf( cols, capacity );
+					lengths = Arrays.copyOf( lengths, capacity );
 				}
+				
+                // hjs 7/19/2013  strange fix necessary for the api-mode's call
+                // where the sparse matrix is loaded from a 2-dim double array (Matlab)
+				rows[ i ] = (int) Math.round( dataReader_.getLineValue( 0 ) );
+				cols[ i ] = (int) Math.round( dataReader_.getLineValue( 1 ) );
+				lengths[ i ] = dataReader_.getLineValue( 2 );
+				i++;
 			}
-			
-			return sparseEdges;
 		}
-		catch (IOException e) {
-		   
-		    throw new Exception( e );
-		}		
-		catch (TdaException e) {
-	
-			throw new TdaException( e );
-		}		
 		finally {
-			try {
-								
-				if (bufferedReader_ != null ) bufferedReader_.close();
-			} 
-			catch( IOException e ) {
-	          // nothing else to do?
-	      };
+			
+			dataReader_.close();
 		}
+		
+		return loadSparseMatrix( rows, cols, lengths, i );
 	}
-	    
-	// preprocess the raw input data
-	protected void findMatrixDimension() throws Exception {        
-
-    	// TODO: Fix this
-    	// Sad kludge: can't seem to re-open the file after first read..., so store the contents
-    	StringBuffer strBufSparseMatrixAsString = new StringBuffer();
-    	
-        FileReader fileReader = null;
-        StringTokenizer tokenizer;
-        
-        int maxIndex = -1;
-        int minIndex = 1000; // this is not bullet-proof; if our min at the end is still not
-        // smaller than this, then throw an exception, and let user deal with their mess
-
-        double component0;
-        double component1;
-        
-        try {
-
-            int rowCountInDataFile = 0;
-            int columnCountInDataFile = 0;
-            String itemDelimiter = TDA.DELIMITER_DEFAULT_MATRIXDATA; //(currently: \t)
-                                                               
-            boolean columnsCounted = false;
-            String line;
-            // Now start reading the data
-            while ( ( line = bufferedReader_.readLine()) != null ) {
-                
-                
-                // ---------------------------------------
-                // Process the entries on the current line
-                // ---------------------------------------
-
-                // Set the pattern for the data parsing
-                Pattern pattern = Pattern.compile( 
-                        TDA.PATTERN_PARSING_WHITESPACE, Pattern.COMMENTS );
-                
-                line = line.trim();
-                String[] lineComponents = pattern.split( line );
-                int columnCountForCurrentLine = lineComponents.length;
-                
-                
-                // this allows us to have a blank line or one that starts with #
-                // without upsetting the observation loading
-                if ( !line.startsWith( "#" ) && columnCountForCurrentLine > 1 ) {
-                    
-                    if ( columnCountInDataFile > 0 && 
-                            columnCountForCurrentLine != 3 ) {
-                        
-                        // This violates the stipulation that the observations data needs to be in
-                        // rectangular form
-                        throw new TdaException( 
-                                TDA.ERROR_APP_USERINPUT, 
-                                "(Loading sparse matrix) " +
-                                "The data file for the sparse matrix" +
-                                " needs to have 3 entries for all rows " +
-                                "(First discrepancy found at line " + 
-                                (rowCountInDataFile+1) + 
-                                ", '" + line +
-                                "')." );
-                        
-                    }
-                    strBufSparseMatrixAsString.append( line + "\n" );
-                    columnCountInDataFile = lineComponents.length;
-
-                    // hjs 7/19/2013  strange-looking fix necessary for the api-mode's call
-                    // where the sparse matrix is loaded from a 2-dim doubles array (Matlab)
-			        try {
-
-			        	component0 = Math.round( Double.valueOf( lineComponents[ 0 ] ));
-			        	component1 = Math.round( Double.valueOf( lineComponents[ 1 ] ));
-
-//	                    if ( Integer.valueOf( lineComponents[ 0 ] ) > maxIndex ) {
-	                    if ( Math.round( component0 ) > maxIndex ) {
-
-//	                    	maxIndex = Integer.parseInt( lineComponents[ 0 ] );
-	                    	maxIndex = (int) component0;
-	                    }
-//	                    else if ( Integer.valueOf( lineComponents[ 1 ] ) > maxIndex ) {
-//	                    else 
-	                    if ( Math.round( component1 ) > maxIndex ) {
-
-//	                    	maxIndex = Integer.parseInt( lineComponents[ 1 ] );
-	                    	maxIndex = (int) component1;
-	                    }
-	                    
-	                    if ( Math.round( component0 ) < minIndex ) {
-
-	                    	minIndex = (int) component0;
-	                    }
-	                    
-	                    if ( Math.round( component1 ) < minIndex ) {
-
-	                    	minIndex = (int) component1;
-	                    }
-			        }
-					catch (Exception e) {
-					    
-					    throw new TdaException( e,
-					            TDA.ERROR_APP_USERINPUT,
-				                "Line '" + line + "'" +
-					            " in the data for the sparse matrix" +
-					            " contains an invalid index entry: '" +
-					            lineComponents[ 0 ] + "' and '" + 
-					            lineComponents[ 1 ] + "' need to be integers.\n" );
-					}
-                    
-                    rowCountInDataFile++;
-                }
-            }
+	
+	protected void assignMatrixDimension( final int _minIndex, 
+			final int _maxIndex ) throws Exception {
 
-            if ( minIndex > 999 ) {
-			    
-			    throw new TdaException( TDA.ERROR_APP_USERINPUT,
-		                "The sparse matrix input relies on the vertex indices to start at close values, "
-		                + "which we 'correct' internally to start at 0. The values you provide are "
-		                + "larger than 999, which we refuse to handle. Sorry -- You will need to "
-		                + "fix this before using "
-		                + TDA.APPLICATION_NAME
-		                + ".\n" );
-            }
-            else {
-            	
-            	// hjs 10/25/2013 Add adjustment for min vertex indexes being greater than 0
-            	// TODO:
-            	minIndexAdjustment_ = minIndex;
-            }
-            
-            this.strSparseMatrixAsString_ = strBufSparseMatrixAsString.toString();
-            
-            // TODO: clean-up
-            // finally assign results to data members
-            this.observedRowCount_ = maxIndex+1;
-            this.observedColumnCount_ = maxIndex+1;
-            
-            // TODO? (this is not a vertex count)
-    		this.numberOfVertices_ = maxIndex+1;
+        if ( _minIndex > 999 ) {
+		    
+		    throw new TdaException( TDA.ERROR_APP_USERINPUT,
+	                "The sparse matrix input relies on the vertex indices to start at close values, "
+	                + "which we 'correct' internally to start at 0. The values you provide are "
+	                + "larger than 999, which we refuse to handle. Sorry -- You will need to "
+	                + "fix this before using "
+	                + TDA.APPLICATION_NAME
+	                + ".\n" );
         }
-        catch (IOException e) {
-               
-            throw new Exception( e );
-        }       
-        catch (TdaException e) {
-
-            throw new TdaException( e );
-        }       
-        finally {
-                                
-//            if (fileReader != null ) fileReader.close();
-//            if (bufferedReader != null ) bufferedReader.close();
+        else {
+        	
+        	// hjs 10/25/2013 Add adjustment for min vertex indexes being greater than 0
+        	// TODO:
+        	minIndexAdjustment_ = _minIndex;
         }
-    }
+        
+        // TODO: clean-up
+        // finally assign results to data members
+        this.observedRowCount_ = _maxIndex+1;
+        this.observedColumnCount_ = _maxIndex+1;
+        
+        // TODO? (this is not a vertex count)
+		this.numberOfVertices_ = _maxIndex+1;
+	}
 	
-	public SortedMap<Integer, Double> getSparseEdgeLengths() {
+	public SortedMap<Long, Double> getSparseEdgeLengths() {
 		
 		return sparseEdgeLengths_; 
 	}
@@ -428,10 +356,10 @@ public class SparseMatrix {
 	
 	public int getSparseEdgeIndex( int _row, int _col ) {
 		
-		return sparseEdgeIndexes_.get( _row * this.observedColumnCount_ + _col );
+		return sparseEdgeIndexes_.get( (long) _row * this.observedColumnCount_ + _col );
 	}
 	
-	public int getSparseEdgeIndex( int _index ) {
+	public int getSparseEdgeIndex( long _index ) {
 		
 		return sparseEdgeIndexes_.get( _index );
 	}
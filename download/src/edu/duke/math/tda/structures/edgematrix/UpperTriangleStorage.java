@@ -0,0 +1,165 @@
+/*
+ * Created October 2026
+ *
+ * This file is part of Topological Data Analysis
+ * edu.duke.math.tda
+ * Copyright (c) 2012-2014 by John Harer
+ * All rights reserved.
+ *
+ * License Info:
+ *
+ *
+ */
+
+package edu.duke.math.tda.structures.edgematrix;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteOrder;
+import java.nio.DoubleBuffer;
+import java.nio.channels.FileChannel;
+
+import edu.duke.math.tda.utility.TDA;
+import edu.duke.math.tda.utility.errorhandling.TdaException;
+
+/**
+ * Off-heap storage for the upper triangle (including the diagonal) of a square
+ * matrix of doubles, backed by a memory-mapped temporary file
+ *
+ * <p><strong>Details:</strong> <br>
+ *
+ * Row i holds the entries for columns i to n-1, and the rows are stored one after
+ * the other, so that reading the rows in order reads the file sequentially. The file
+ * is mapped in regions of whole rows (of at most MAXREGIONSIZE bytes each), so a
+ * row can always be copied with a single bulk read or write.
+ *
+ * Only the n*(n+1)/2 stored entries take up space, and none of it is on the Java
+ * heap: the operating system pages the data in and out as needed. The temporary
+ * file is deleted right after it is mapped (where the platform allows this, and
+ * otherwise when the JVM exits).
+ *
+ * <p><strong>Change History:</strong> <br>
+ * Created October 2026
+ *
+ *
+ * @author Jurgen Sladeczek (hjs) <br>
+ * For the latest info, please visit www.math.duke.edu.
+ */
+
+public class UpperTriangleStorage implements OffHeapDistancesI {
+
+	// largest region of the storage file that we map at once
+	protected static final long MAXREGIONSIZE = 1L << 30;
+	protected static final String STORAGEFILEPREFIX = "tdaDistances";
+
+	protected final int numberOfVertices_;
+	protected final DoubleBuffer[] regions_;
+	// the region holding each row, and the position of the row's diagonal entry in it
+	protected final int[] rowRegion_;
+	protected final int[] rowPosition_;
+
+	public UpperTriangleStorage( final int _numberOfVertices ) throws Exception {
+
+		final long maxRegionLength = MAXREGIONSIZE / Double.BYTES;
+		int[] regionLengths = new int[ Math.max( 1, _numberOfVertices ) ];
+		int regionCount = 0;
+		int rowLength;
+		long regionStart;
+		File storageFile;
+
+		if ( _numberOfVertices < 1 ) {
+
+            throw new TdaException(
+                    TDA.ERROR_APP_DEV,
+                    "(UpperTriangleStorage) " +
+                    "The number of vertices needs to be positive." );
+		}
+
+		this.numberOfVertices_ = _numberOfVertices;
+		this.rowRegion_ = new int[ numberOfVertices_ ];
+		this.rowPosition_ = new int[ numberOfVertices_ ];
+
+		// assign the rows to the regions
+		for ( int i=0; i<numberOfVertices_; i++ ) {
+
+			rowLength = numberOfVertices_ - i;
+
+			if ( i == 0 || regionLengths[ regionCount-1 ] + (long) rowLength > maxRegionLength ) {
+
+				regionCount++;
+			}
+
+			rowRegion_[ i ] = regionCount - 1;
+			rowPosition_[ i ] = regionLengths[ regionCount-1 ] - i;
+			regionLengths[ regionCount-1 ] += rowLength;
+		}
+
+		this.regions_ = new DoubleBuffer[ regionCount ];
+
+		try {
+
+			storageFile = File.createTempFile( STORAGEFILEPREFIX, ".tmp" );
+		}
+		catch ( IOException e ) {
+
+			throw new TdaException( e, TDA.ERROR_APP_USERINPUT,
+					"(UpperTriangleStorage) " +
+					"Cannot create the temporary file for storing the distance matrix " +
+					"off-heap (in directory '" + System.getProperty( "java.io.tmpdir" ) + "')." );
+		}
+
+		try ( RandomAccessFile storage = new RandomAccessFile( storageFile, "rw" ) ) {
+
+			FileChannel channel = storage.getChannel();
+			regionStart = 0;
+
+			for ( int r=0; r<regionCount; r++ ) {
+
+				regions_[ r ] = channel.map( FileChannel.MapMode.READ_WRITE,
+						regionStart, (long) regionLengths[ r ] * Double.BYTES )
+						.order( ByteOrder.nativeOrder() ).asDoubleBuffer();
+
+				regionStart += (long) regionLengths[ r ] * Double.BYTES;
+			}
+		}
+		catch ( IOException e ) {
+
+			throw new TdaException( e, TDA.ERROR_APP_USERINPUT,
+					"(UpperTriangleStorage) " +
+					"Cannot map the temporary file '" + storageFile.getPath() +
+					"' for storing the distance matrix off-heap." );
+		}
+		finally {
+
+			// the mapped regions stay valid after the file is deleted
+			if ( !storageFile.delete() ) storageFile.deleteOnExit();
+		}
+	}
+
+	// Store the entries _rowValues[ _row ], ..., _rowValues[ n-1 ] of a (full) row
+	public void setRow( final int _row, final double[] _rowValues ) {
+
+		regions_[ rowRegion_[ _row ] ].put( rowPosition_[ _row ] + _row,
+				_rowValues, _row, numberOfVertices_ - _row );
+	}
+
+	// Copy the stored entries of a row into _rowValues[ _row ], ..., _rowValues[ n-1 ]
+	// (the remaining entries of _rowValues are left alone)
+	public void getRow( final int _row, final double[] _rowValues ) {
+
+		regions_[ rowRegion_[ _row ] ].get( rowPosition_[ _row ] + _row,
+				_rowValues, _row, numberOfVertices_ - _row );
+	}
+
+	// Get the entry for _row <= _column
+	public double getEntry( final int _row, final int _column ) {
+
+		return regions_[ rowRegion_[ _row ] ].get( rowPosition_[ _row ] + _column );
+	}
+
+	public int getNumberOfVertices() {
+
+		return this.numberOfVertices_;
+	}
+}
@@ -16,7 +16,6 @@ package edu.duke.math.tda.structures.metric;
 import edu.duke.math.tda.structures.PointI;
 import edu.duke.math.tda.structures.PointRn;
 import edu.duke.math.tda.utility.TDA;
-import edu.duke.math.tda.utility.StringUtil;
 import edu.duke.math.tda.utility.errorhandling.TdaException;
 
 /**
@@ -47,14 +46,12 @@ public class L1Metric extends Metric {
 		
 		// Implement for each specific class that implements the metricI interface, and
 		// for which we can compute the distance
-		if ( StringUtil.getClassName( _p1 ).equals( "PointRn" )
-				&& StringUtil.getClassName( _p2 ).equals( "PointRn" ) ) {
+		if ( _p1 instanceof PointRn && _p2 instanceof PointRn ) {
 
 			// it's valid to cast to PointRn, so we compute the distance
 			p1 = ( PointRn ) _p1;
 			p2 = ( PointRn ) _p2;
 			
-			double distance = 0;
 			int dimension1 = p1.getDimension();
 			int dimension2 = p2.getDimension();
 			
@@ -69,13 +66,8 @@ public class L1Metric extends Metric {
 				        "have different dimension." );
 			}
 		
-			// Now add up the absolute values of the coordinate differences
-			for ( int i=0; i< dimension1; i++ ) {
-				
-				distance += Math.abs( p1.getCoordinates()[ i ] - p2.getCoordinates()[ i ] );
-			}
-			
-			return distance;
+			return computeDistance( p1.getCoordinates(), 0, 
+					p2.getCoordinates(), 0, dimension1 );
 		}
 		else {
 			
@@ -96,20 +88,14 @@ public class L1Metric extends Metric {
 
 		// Implement for each specific class that implements the metricI interface, and
 		// for which we can compute the distance
-		if ( StringUtil.getClassName( _p ).equals( "PointRn" ) ) {
+		if ( _p instanceof PointRn ) {
 
 			// it's valid to cast to PointRn, so we compute the distance
 			p = ( PointRn ) _p;
 			
-			double distance = 0;
 			int dimension = p.getDimension();
 		
-			for ( int i=0; i< dimension; i++ ) {
-
-				distance += Math.abs( p.getCoordinates()[ i ] );
-			}
-			
-			return distance;
+			return compute( p.getCoordinates(), 0, dimension );
 		}
 		else {
 			
@@ -121,4 +107,54 @@ public class L1Metric extends Metric {
 			        "for which we can compute the L2 distance." );
 		}
 	}
+
+	@Override
+	public double computeDistance( 
+			final double[] _coords1, final int _offset1,
+			final double[] _coords2, final int _offset2, 
+			final int _dimension ) {
+
+		double distance = 0;
+
+		// Now add up the absolute values of the coordinate differences
+		for ( int i=0; i<_dimension; i++ ) {
+			
+			distance += Math.abs( _coords1[ _offset1+i ] - _coords2[ _offset2+i ] );
+		}
+		
+		return distance;
+	}
+
+	@Override
+	public double compute( 
+			final double[] _coords, final int _offset, final int _dimension ) {
+
+		double distance = 0;
+
+		for ( int i=0; i<_dimension; i++ ) {
+			
+			distance += Math.abs( _coords[ _offset+i ] );
+		}
+		
+		return distance;
+	}
+
+	@Override
+	public double computeDistanceWithinBound( 
+			final double[] _coords1, final int _offset1,
+			final double[] _coords2, final int _offset2, 
+			final int _dimension, final double _bound ) {
+
+		double distance = 0;
+
+		// the partial sums only grow, so we can stop once we reach the bound
+		for ( int i=0; i<_dimension; i++ ) {
+			
+			distance += Math.abs( _coords1[ _offset1+i ] - _coords2[ _offset2+i ] );
+			
+			if ( distance >= _bound ) return Double.POSITIVE_INFINITY;
+		}
+		
+		return distance;
+	}
 }
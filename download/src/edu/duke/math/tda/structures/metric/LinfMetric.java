@@ -15,7 +15,6 @@ package edu.duke.math.tda.structures.metric;
 import edu.duke.math.tda.structures.PointI;
 import edu.duke.math.tda.structures.PointRn;
 import edu.duke.math.tda.utility.TDA;
-import edu.duke.math.tda.utility.StringUtil;
 import edu.duke.math.tda.utility.errorhandling.TdaException;
 
 /**
@@ -37,18 +36,15 @@ public class LinfMetric extends Metric {
 
 		PointRn p1;
 		PointRn p2;
-		double tmpDistance;
 
 		// Implement for each specific class that implements the metricI interface, and
 		// for which we can compute the distance
-		if ( StringUtil.getClassName( _p1 ).equals( "PointRn" )
-				&& StringUtil.getClassName( _p2 ).equals( "PointRn" ) ) {
+		if ( _p1 instanceof PointRn && _p2 instanceof PointRn ) {
 
 			// it's valid to cast to PointRn, so we compute the distance
 			p1 = ( PointRn ) _p1;
 			p2 = ( PointRn ) _p2;
 			
-			double distance = 0;
 			int dimension1 = p1.getDimension();
 			int dimension2 = p2.getDimension();
 			
@@ -62,17 +58,8 @@ public class LinfMetric extends Metric {
 				        "have different dimension." );
 			}
 		
-			distance = Math.abs( p1.getCoordinates()[ 0 ] - p2.getCoordinates()[ 0 ] );
-			for ( int i=1; i< dimension1; i++ ) {
-				
-				tmpDistance = Math.abs( p1.getCoordinates()[ i ] - p2.getCoordinates()[ i ] );
-				if ( tmpDistance > distance ) {
-					
-					distance = tmpDistance; 
-				}
-			}
-			
-			return distance;
+			return computeDistance( p1.getCoordinates(), 0, 
+					p2.getCoordinates(), 0, dimension1 );
 		}
 		else {
 			
@@ -90,29 +77,17 @@ public class LinfMetric extends Metric {
 			final PointI _p ) throws Exception {
 
 		PointRn p;
-		double tmpDistance;
 
 		// Implement for each specific class that implements the metricI interface, and
 		// for which we can compute the distance
-		if ( StringUtil.getClassName( _p ).equals( "PointRn" ) ) {
+		if ( _p instanceof PointRn ) {
 
 			// it's valid to cast to PointRn, so we compute the distance
 			p = ( PointRn ) _p;
 			
-			double distance = 0;
 			int dimension = p.getDimension();
-
-			distance = Math.abs( p.getCoordinates()[ 0 ] );
-			for ( int i=1; i< dimension; i++ ) {
-				
-				tmpDistance = Math.abs( p.getCoordinates()[ i ] );
-				if ( tmpDistance > distance ) {
-					
-					distance = tmpDistance; 
-				}
-			}
-			
-			return distance;
+		
+			return compute( p.getCoordinates(), 0, dimension );
 		}
 		else {
 			
@@ -124,4 +99,69 @@ public class LinfMetric extends Metric {
 			        "for which we can compute the L-infinity distance." );
 		}
 	}
+
+	@Override
+	public double computeDistance( 
+			final double[] _coords1, final int _offset1,
+			final double[] _coords2, final int _offset2, 
+			final int _dimension ) {
+
+		double tmpDistance;
+		double distance = Math.abs( _coords1[ _offset1 ] - _coords2[ _offset2 ] );
+
+		for ( int i=1; i<_dimension; i++ ) {
+			
+			tmpDistance = Math.abs( _coords1[ _offset1+i ] - _coords2[ _offset2+i ] );
+			if ( tmpDistance > distance ) {
+				
+				distance = tmpDistance; 
+			}
+		}
+		
+		return distance;
+	}
+
+	@Override
+	public double compute( 
+			final double[] _coords, final int _offset, final int _dimension ) {
+
+		double tmpDistance;
+		double distance = Math.abs( _coords[ _offset ] );
+
+		for ( int i=1; i<_dimension; i++ ) {
+			
+			tmpDistance = Math.abs( _coords[ _offset+i ] );
+			if ( tmpDistance > distance ) {
+				
+				distance = tmpDistance; 
+			}
+		}
+		
+		return distance;
+	}
+
+	@Override
+	public double computeDistanceWithinBound( 
+			final double[] _coords1, final int _offset1,
+			final double[] _coords2, final int _offset2, 
+			final int _dimension, final double _bound ) {
+
+		double tmpDistance;
+		double distance = Math.abs( _coords1[ _offset1 ] - _coords2[ _offset2 ] );
+
+		// the maximum only grows, so we can stop once we reach the bound
+		if ( distance >= _bound ) return Double.POSITIVE_INFINITY;
+		
+		for ( int i=1; i<_dimension; i++ ) {
+			
+			tmpDistance = Math.abs( _coords1[ _offset1+i ] - _coords2[ _offset2+i ] );
+			if ( tmpDistance > distance ) {
+				
+				distance = tmpDistance; 
+				if ( distance >= _bound ) return Double.POSITIVE_INFINITY;
+			}
+		}
+		
+		return distance;
+	}
 }
@@ -15,7 +15,6 @@ package edu.duke.math.tda.structures.metric;
 import edu.duke.math.tda.structures.PointI;
 import edu.duke.math.tda.structures.PointRn;
 import edu.duke.math.tda.utility.TDA;
-import edu.duke.math.tda.utility.StringUtil;
 import edu.duke.math.tda.utility.errorhandling.TdaException;
 
 /**
@@ -59,14 +58,12 @@ public class LpMetric extends Metric {
 
 		// Implement for each specific class that implements the metricI interface, and
 		// for which we can compute the distance
-		if ( StringUtil.getClassName( _p1 ).equals( "PointRn" )
-				&& StringUtil.getClassName( _p2 ).equals( "PointRn" ) ) {
+		if ( _p1 instanceof PointRn && _p2 instanceof PointRn ) {
 
 			// it's valid to cast to PointRn, so we compute the distance
 			p1 = ( PointRn ) _p1;
 			p2 = ( PointRn ) _p2;
 			
-			double distance = 0;
 			int dimension1 = p1.getDimension();
 			int dimension2 = p2.getDimension();
 			
@@ -80,13 +77,8 @@ public class LpMetric extends Metric {
 				        "have different dimension." );
 			}
 		
-			for ( int i=0; i< dimension1; i++ ) {
-				
-				distance += Math.pow( Math.abs( 
-						p1.getCoordinates()[ i ] - p2.getCoordinates()[ i ] ), this.power_ );
-			}
-
-			return Math.pow( distance, 1/power_ );
+			return computeDistance( p1.getCoordinates(), 0, 
+					p2.getCoordinates(), 0, dimension1 );
 		}
 		else {
 			
@@ -107,20 +99,14 @@ public class LpMetric extends Metric {
 
 		// Implement for each specific class that implements the metricI interface, and
 		// for which we can compute the distance
-		if ( StringUtil.getClassName( _p ).equals( "PointRn" ) ) {
+		if ( _p instanceof PointRn ) {
 
 			// it's valid to cast to PointRn, so we compute the distance
 			p = ( PointRn ) _p;
 			
-			double distance = 0;
 			int dimension = p.getDimension();
 		
-			for ( int i=0; i< dimension; i++ ) {
-				
-				distance += Math.pow( Math.abs( p.getCoordinates()[ i ] ), this.power_ );
-			}
-			
-			return Math.pow( distance, 1/power_ );
+			return compute( p.getCoordinates(), 0, dimension );
 		}
 		else {
 			
@@ -132,4 +118,56 @@ public class LpMetric extends Metric {
 			        "for which we can compute the Lp distance." );
 		}
 	}
+
+	@Override
+	public double computeDistance( 
+			final double[] _coords1, final int _offset1,
+			final double[] _coords2, final int _offset2, 
+			final int _dimension ) {
+
+		double distance = 0;
+
+		for ( int i=0; i<_dimension; i++ ) {
+			
+			distance += Math.pow( Math.abs( 
+					_coords1[ _offset1+i ] - _coords2[ _offset2+i ] ), this.power_ );
+		}
+
+		return Math.pow( distance, 1/power_ );
+	}
+
+	@Override
+	public double compute( 
+			final double[] _coords, final int _offset, final int _dimension ) {
+
+		double distance = 0;
+
+		for ( int i=0; i<_dimension; i++ ) {
+			
+			distance += Math.pow( Math.abs( _coords[ _offset+i ] ), this.power_ );
+		}
+		
+		return Math.pow( distance, 1/power_ );
+	}
+
+	@Override
+	public double computeDistanceWithinBound( 
+			final double[] _coords1, final int _offset1,
+			final double[] _coords2, final int _offset2, 
+			final int _dimension, final double _bound ) {
+
+		// compare the sum of the powers, and only take the root at the end
+		final double threshold = getPartialSumThreshold( Math.pow( _bound, this.power_ ) );
+		double distance = 0;
+
+		for ( int i=0; i<_dimension; i++ ) {
+			
+			distance += Math.pow( Math.abs( 
+					_coords1[ _offset1+i ] - _coords2[ _offset2+i ] ), this.power_ );
+			
+			if ( distance > threshold ) return Double.POSITIVE_INFINITY;
+		}
+
+		return Math.pow( distance, 1/power_ );
+	}
 }
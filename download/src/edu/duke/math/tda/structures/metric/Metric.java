@@ -34,6 +34,9 @@ import edu.duke.math.tda.structures.PointI;
 
 public abstract class Metric implements MetricI {
 
+	// relative slack on a bound that is compared in the metric's power
+	protected static final double BOUNDSLACK = 1e-9;
+	
 	public Metric() {}
 
 	public abstract double computeDistance(  
@@ -41,4 +44,32 @@ public abstract class Metric implements MetricI {
 
 	public abstract double compute( 
 			final PointI _p ) throws Exception;
+
+	public abstract double computeDistance( 
+			final double[] _coords1, final int _offset1,
+			final double[] _coords2, final int _offset2, 
+			final int _dimension );
+
+	public abstract double compute( 
+			final double[] _coords, final int _offset, final int _dimension );
+
+	public abstract double computeDistanceWithinBound( 
+			final double[] _coords1, final int _offset1,
+			final double[] _coords2, final int _offset2, 
+			final int _dimension, final double _bound );
+
+	// Get the threshold for the partial sums of a metric that takes a root at the end,
+	// given the bound raised to the metric's power: the small slack makes sure that the
+	// rounding of the power and the root can never drop a pair that is within the bound.
+	// When the raised bound isn't a positive normal number (e.g., it under- or overflows)
+	// we don't exit early at all.
+	protected static double getPartialSumThreshold( final double _raisedBound ) {
+		
+		if ( !( _raisedBound >= Double.MIN_NORMAL ) || Double.isInfinite( _raisedBound ) ) {
+			
+			return Double.POSITIVE_INFINITY;
+		}
+		
+		return _raisedBound + _raisedBound * BOUNDSLACK;
+	}
 }
@@ -37,4 +37,26 @@ public interface MetricI {
 
 	public abstract double compute( 
 			final PointI _p ) throws Exception;
+
+	// hjs 10/18/2026 Kernels over flat (row-major) coordinate buffers, for the pairwise
+	// loops: a point is given by its buffer, the offset of its first coordinate, and
+	// the dimension. There are no type or dimension checks (and no allocations), so
+	// the caller needs to make sure that both points have _dimension coordinates.
+	public abstract double computeDistance( 
+			final double[] _coords1, final int _offset1,
+			final double[] _coords2, final int _offset2, 
+			final int _dimension );
+
+	public abstract double compute( 
+			final double[] _coords, final int _offset, final int _dimension );
+
+	// hjs 10/18/2026 Bounded variant of the flat kernel, for the edge generation: 
+	// returns the distance when it is below _bound, and stops as soon as the partial
+	// sum shows that it can't be (returning Double.POSITIVE_INFINITY). Any value 
+	// returned for a pair within the bound is identical to computeDistance, so the 
+	// caller still compares the result to the bound exactly as before.
+	public abstract double computeDistanceWithinBound( 
+			final double[] _coords1, final int _offset1,
+			final double[] _coords2, final int _offset2, 
+			final int _dimension, final double _bound );
 }
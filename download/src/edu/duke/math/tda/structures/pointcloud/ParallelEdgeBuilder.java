@@ -0,0 +1,341 @@
+/*
+ * Created October 2026
+ *
+ * This file is part of Topological Data Analysis
+ * edu.duke.math.tda
+ * Copyright (c) 2012-2014 by John Harer
+ * All rights reserved.
+ *
+ * License Info:
+ *
+ *
+ */
+
+package edu.duke.math.tda.structures.pointcloud;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+import edu.duke.math.tda.structures.PointRn;
+import edu.duke.math.tda.structures.metric.MetricI;
+import edu.duke.math.tda.utility.TDA;
+import edu.duke.math.tda.utility.settings.Settings;
+
+/**
+ * Computes the edges (pairs of points within the distance bound) of a point cloud,
+ * using a pool of worker threads
+ *
+ * <p><strong>Details:</strong> <br>
+ *
+ * The upper-triangular index space (i<j) is split into blocks of consecutive rows,
+ * each holding about the same number of point pairs. Each block collects its edges
+ * into its own primitive buffers, and the buffers are concatenated in block order.
+ * The edges are therefore listed in exactly the order of the serial double loop
+ * (by i, then by j), independent of the number of threads, so sorting them
+ * afterwards gives the same edge list as a single-threaded run.
+ *
+ * The metric implementations are stateless, so the workers can share them.
+ *
+ * When a spatial index can be set up for the points (see SpatialIndex), each row
+ * only computes the distances to the candidates returned by a radius query, so
+ * the work grows with the number of edges instead of the number of pairs. The
+ * candidates of a row come back in increasing order, and are a superset of the
+ * points within the distance bound, so the edge list stays the same.
+ *
+ * When the points share a common dimension, the distances are computed with the
+ * metric's bounded flat kernel, directly on the point cloud's flat coordinate array,
+ * so that pairs beyond the distance bound are dropped without finishing the sum.
+ *
+ * <p><strong>Change History:</strong> <br>
+ * Created October 2026
+ *
+ *
+ * @author Jurgen Sladeczek (hjs) <br>
+ * For the latest info, please visit www.math.duke.edu.
+ */
+
+public class ParallelEdgeBuilder {
+
+	// number of blocks per thread, so that uneven blocks can still be balanced
+	protected static final int BLOCKSPERTHREAD = 4;
+	// below this number of point pairs we don't bother with the thread pool
+	protected static final long MINPAIRSFORPARALLEL = 50000;
+
+	protected final List<PointRn> points_;
+	protected final MetricI metric_;
+	protected final double distanceBound_;
+	protected final int numberOfThreads_;
+	protected SpatialIndexI spatialIndex_;
+	// flat coordinates of the points (null when the points have mixed dimensions)
+	protected final double[] coordinates_;
+	protected final int dimension_;
+
+	// the computed edges
+	protected int numberOfEdges_;
+	protected int[] vertexIndices1_;
+	protected int[] vertexIndices2_;
+	protected double[] edgeLengths_;
+
+	// Edges of a block of rows [firstRow, lastRow), collected into primitive buffers
+	protected class EdgeBlock extends RecursiveAction {
+
+		private static final long serialVersionUID = 1L;
+
+		protected final int firstRow_;
+		protected final int lastRow_;
+
+		protected int entryCount_;
+		protected int[] vertexIndices1_;
+		protected int[] vertexIndices2_;
+		protected double[] edgeLengths_;
+
+		protected Exception exception_;
+
+		protected EdgeBlock( final int _firstRow, final int _lastRow ) {
+
+			this.firstRow_ = _firstRow;
+			this.lastRow_ = _lastRow;
+		}
+
+		@Override
+		protected void compute() {
+
+			try {
+
+				collectEdges();
+			}
+			catch ( Exception e ) {
+
+				// hand the exception back to the calling thread
+				this.exception_ = e;
+			}
+		}
+
+		protected void collectEdges() throws Exception {
+
+			final int numberOfPoints = points_.size();
+			PointRn p1;
+			int[] candidates;
+
+			vertexIndices1_ = new int[ 16 ];
+			vertexIndices2_ = new int[ 16 ];
+			edgeLengths_ = new double[ 16 ];
+
+			for ( int i=firstRow_; i<lastRow_; i++ ) {
+
+				p1 = points_.get( i );
+
+				if ( spatialIndex_ == null ) {
+
+					for ( int j=i+1; j<numberOfPoints; j++ ) {
+
+						addEdgeIfWithinBound( i, p1, j );
+					}
+				}
+				else {
+
+					candidates = spatialIndex_.findCandidates( 
+							p1.getCoordinates(), distanceBound_, i );
+
+					for ( int c=0; c<candidates.length; c++ ) {
+
+						addEdgeIfWithinBound( i, p1, candidates[ c ] );
+					}
+				}
+			}
+		}
+
+		protected void addEdgeIfWithinBound( final int _i, final PointRn _p1,
+				final int _j ) throws Exception {
+
+			final double distanceBetweenPoints = ( coordinates_ != null ) ?
+					metric_.computeDistanceWithinBound( coordinates_, _i*dimension_, 
+							coordinates_, _j*dimension_, dimension_, distanceBound_ ) :
+					metric_.computeDistance( _p1, points_.get( _j ) );
+
+			if ( distanceBetweenPoints < distanceBound_ ) {
+
+				if ( entryCount_ == vertexIndices1_.length ) {
+
+					int capacity = entryCount_ + ( entryCount_ >> 1 );
+					vertexIndices1_ = Arrays.copyOf( vertexIndices1_, capacity );
+					vertexIndices2_ = Arrays.copyOf( vertexIndices2_, capacity );
+					edgeLengths_ = Arrays.copyOf( edgeLengths_, capacity );
+				}
+
+				vertexIndices1_[ entryCount_ ] = _i;
+				vertexIndices2_[ entryCount_ ] = _j;
+				edgeLengths_[ entryCount_ ] = distanceBetweenPoints;
+				entryCount_++;
+			}
+		}
+	}
+
+	public ParallelEdgeBuilder( final PointCloudInRn _pointCloud,
+			final MetricI _metric,
+			final double _distanceBound,
+			final int _numberOfThreads ) {
+
+		this.points_ = _pointCloud.getPoints();
+		this.metric_ = _metric;
+		this.distanceBound_ = _distanceBound;
+		this.numberOfThreads_ = Math.max( 1, _numberOfThreads );
+		this.coordinates_ = _pointCloud.getFlatCoordinates();
+		this.dimension_ = _pointCloud.getFlatCoordinatesDimension();
+	}
+
+	// Get the number of threads from the (optional) 'threads' setting
+	public static int getNumberOfThreads( final Settings _processData ) {
+
+		int numberOfThreads = TDA.SETTING_DEFAULT_THREADS;
+
+		if ( _processData != null ) {
+
+			String strThreads = _processData.getValidatedProcessParameter(
+					TDA.SETTING_THREADS );
+
+			if ( !strThreads.equalsIgnoreCase( TDA.DATA_SETTINGNOTFOUND ) ) {
+
+				try {
+
+					numberOfThreads = Integer.parseInt( strThreads.trim() );
+				}
+				catch ( Exception e ) {
+
+					// keep the default; the setting itself is validated elsewhere
+				}
+			}
+		}
+
+		return Math.max( 1, numberOfThreads );
+	}
+
+	public void build() throws Exception {
+
+		final int numberOfPoints = points_.size();
+		final long numberOfPairs = ( (long) numberOfPoints * ( numberOfPoints-1 ) ) / 2;
+		List<EdgeBlock> blocks;
+		EdgeBlock block;
+		int offset;
+		
+		spatialIndex_ = SpatialIndex.createSpatialIndex( points_, metric_, distanceBound_ );
+
+		if ( numberOfThreads_ == 1 || numberOfPairs < MINPAIRSFORPARALLEL ) {
+
+			blocks = new ArrayList<EdgeBlock>( 1 );
+			blocks.add( new EdgeBlock( 0, numberOfPoints ) );
+			blocks.get( 0 ).compute();
+		}
+		else {
+
+			final List<EdgeBlock> parallelBlocks = splitIntoBlocks( numberOfPoints, 
+					numberOfPairs, numberOfThreads_ * BLOCKSPERTHREAD );
+			ForkJoinPool pool = new ForkJoinPool( numberOfThreads_ );
+			blocks = parallelBlocks;
+
+			try {
+
+				pool.invoke( new RecursiveAction() {
+
+					private static final long serialVersionUID = 1L;
+
+					@Override
+					protected void compute() {
+
+						invokeAll( parallelBlocks );
+					}
+				});
+			}
+			finally {
+
+				pool.shutdown();
+			}
+		}
+
+		// merge the blocks, in order
+		numberOfEdges_ = 0;
+		for ( int b=0; b<blocks.size(); b++ ) {
+
+			block = blocks.get( b );
+
+			if ( block.exception_ != null ) {
+
+				throw block.exception_;
+			}
+
+			numberOfEdges_ += block.entryCount_;
+		}
+
+		vertexIndices1_ = new int[ numberOfEdges_ ];
+		vertexIndices2_ = new int[ numberOfEdges_ ];
+		edgeLengths_ = new double[ numberOfEdges_ ];
+
+		offset = 0;
+		for ( int b=0; b<blocks.size(); b++ ) {
+
+			block = blocks.get( b );
+			System.arraycopy( block.vertexIndices1_, 0, vertexIndices1_, offset, block.entryCount_ );
+			System.arraycopy( block.vertexIndices2_, 0, vertexIndices2_, offset, block.entryCount_ );
+			System.arraycopy( block.edgeLengths_, 0, edgeLengths_, offset, block.entryCount_ );
+			offset += block.entryCount_;
+
+			// let go of the block buffers as we go
+			blocks.set( b, null );
+		}
+	}
+
+	// Split the rows into consecutive blocks with (roughly) equal numbers of pairs:
+	// row i contributes (numberOfPoints-1-i) pairs
+	protected List<EdgeBlock> splitIntoBlocks( final int _numberOfPoints,
+			final long _numberOfPairs, final int _numberOfBlocks ) {
+
+		List<EdgeBlock> blocks = new ArrayList<EdgeBlock>( _numberOfBlocks );
+		final long pairsPerBlock = Math.max( 1, _numberOfPairs / _numberOfBlocks );
+		long pairsInBlock = 0;
+		int firstRow = 0;
+
+		for ( int i=0; i<_numberOfPoints; i++ ) {
+
+			// with a spatial index, the work per row doesn't depend on its position
+			pairsInBlock += ( spatialIndex_ == null ) ? _numberOfPoints-1-i : 
+					_numberOfPairs / _numberOfPoints;
+
+			if ( pairsInBlock >= pairsPerBlock ) {
+
+				blocks.add( new EdgeBlock( firstRow, i+1 ) );
+				firstRow = i+1;
+				pairsInBlock = 0;
+			}
+		}
+
+		if ( firstRow < _numberOfPoints ) {
+
+			blocks.add( new EdgeBlock( firstRow, _numberOfPoints ) );
+		}
+
+		return blocks;
+	}
+
+	public int getNumberOfEdges() {
+
+		return this.numberOfEdges_;
+	}
+
+	public int[] getVertexIndices1() {
+
+		return this.vertexIndices1_;
+	}
+
+	public int[] getVertexIndices2() {
+
+		return this.vertexIndices2_;
+	}
+
+	public double[] getEdgeLengths() {
+
+		return this.edgeLengths_;
+	}
+}
@@ -13,17 +13,14 @@
 
 package edu.duke.math.tda.structures.pointcloud;
 
-import java.io.BufferedReader;
-import java.io.File;
-import java.io.FileReader;
-import java.io.IOException;
 import java.util.ArrayList;
-import java.util.regex.Pattern;
 
 import edu.duke.math.tda.structures.PointRn;
+import edu.duke.math.tda.structures.edgematrix.SparseMatrix;
 import edu.duke.math.tda.structures.metric.MetricI;
 import edu.duke.math.tda.utility.TDA;
 import edu.duke.math.tda.utility.errorhandling.TdaException;
+import edu.duke.math.tda.utility.settings.Settings;
 
 /**
  * PointCloud class for representing a set of points in R^n
@@ -54,6 +51,12 @@ public class PointCloudInRn extends PointCloud {
 	protected ArrayList<PointRn> points_ = new ArrayList<PointRn>();
 	
 	protected int pointDimension_ = TDA.UNKNOWNPOINTDIMENSION;    
+	
+	// hjs 10/18/2026 The coordinates of all points in one flat (row-major) array,
+	// for the pairwise distance loops (set up on first use)
+	protected double[] flatCoordinates_;
+	protected int flatCoordinatesDimension_;
+	protected int flatCoordinatesPointCount_ = -1;
 	    
 	public PointCloudInRn() {
 		
@@ -86,6 +89,41 @@ public class PointCloudInRn extends PointCloud {
 		setupPointCloudInRn();		
 	}
 	
+	// hjs 10/18/2026 Set up the point cloud directly from an array of coordinates
+	// (one row per point), e.g., as supplied via the api. The points use the rows 
+	// of the array as their coordinates, so the array must not be changed afterwards.
+	public PointCloudInRn( final double[][] _pointCoordinates ) throws Exception {
+
+        if ( _pointCoordinates == null || _pointCoordinates.length == 0 ) {
+            
+            throw new TdaException( 
+                    TDA.ERROR_APP_USERINPUT,
+                    "(PointCloudInRn[double[][]] Loading point cloud) " +
+                    "The supplied data for the point cloud cannot be empty!" );
+        }
+		
+		pointDimension_ = _pointCoordinates[ 0 ].length;
+		this.points_ = new ArrayList<PointRn>( _pointCoordinates.length );
+		
+		for ( int i=0; i<_pointCoordinates.length; i++ ) {
+			
+			if ( _pointCoordinates[ i ] == null || 
+					_pointCoordinates[ i ].length != pointDimension_ ) {
+				
+			    throw new TdaException( 
+			            TDA.ERROR_APP_USERINPUT,
+                        "(Loading point cloud) " + "Point #" + (i+1) + 
+			            " in the supplied data contains " + 
+			            ( ( _pointCoordinates[ i ] == null ) ? 0 : _pointCoordinates[ i ].length ) + 
+			            " coordinate values instead of the expected " + pointDimension_ + "." );
+			}
+			
+			this.points_.add( new PointRn( _pointCoordinates[ i ], false ) );
+		}
+
+		this.numberOfPoints_ = this.points_.size();
+	}
+	
 	public PointCloudInRn( final String _directory, 
 							final String _fileName, 
 							final int _M ) throws Exception {
@@ -112,11 +150,13 @@ public class PointCloudInRn extends PointCloud {
 //				Integer.toString( dblLoadedPoints[ 0 ].length ) );
 		
 		PointRn pointToAdd;
-		this.points_ = new ArrayList<PointRn>();
+		this.points_ = new ArrayList<PointRn>( numberOfPointsLoaded );
 		// Now create the array of points from the loaded data:
+		// hjs 10/18/2026 The loaded rows are freshly allocated, so the points can use
+		// them directly
 		for ( int j=0; j<numberOfPointsLoaded; j++ ) {
 			
-			pointToAdd = new PointRn( dblLoadedPoints[ j ] );
+			pointToAdd = new PointRn( dblLoadedPoints[ j ], false );
 			this.points_.add( pointToAdd );
 		}
 
@@ -158,6 +198,55 @@ public class PointCloudInRn extends PointCloud {
 		return points_.get( index_ );
 	}
 	
+	/*
+	 * Get the coordinates of all points in a single array, with coordinate k of 
+	 * point i at [ i*dimension + k ] (for the dimension see getFlatCoordinatesDimension),
+	 * so that the metrics' flat kernels can be applied. Returns null when the points
+	 * don't all have the same dimension. The array is set up on first use (and again
+	 * when points have been added since), and must not be changed by the caller.
+	 */
+	public synchronized double[] getFlatCoordinates() {
+		
+		final int numberOfPoints = points_.size();
+		int dimension;
+		double[] flatCoordinates;
+		double[] pointCoordinates;
+		
+		if ( flatCoordinatesPointCount_ == numberOfPoints ) {
+			
+			return flatCoordinates_;
+		}
+		
+		dimension = ( numberOfPoints == 0 ) ? 0 : points_.get( 0 ).getDimension();
+		flatCoordinates = new double[ numberOfPoints * dimension ];
+		
+		for ( int i=0; i<numberOfPoints; i++ ) {
+			
+			pointCoordinates = points_.get( i ).getCoordinates();
+			
+			if ( pointCoordinates.length != dimension ) {
+				
+				flatCoordinates = null;
+				break;
+			}
+			
+			System.arraycopy( pointCoordinates, 0, flatCoordinates, i*dimension, dimension );
+		}
+		
+		flatCoordinates_ = flatCoordinates;
+		flatCoordinatesDimension_ = dimension;
+		flatCoordinatesPointCount_ = numberOfPoints;
+		
+		return flatCoordinates_;
+	}
+	
+	public synchronized int getFlatCoordinatesDimension() {
+		
+		getFlatCoordinates();
+		
+		return flatCoordinatesDimension_;
+	}
+	
 	public StringBuffer asSparseMatrix( final MetricI _metric,
 			final double _distanceBound ) throws Exception {
 
@@ -167,6 +256,9 @@ public class PointCloudInRn extends PointCloud {
 				"# sparse matrix generated from point cloud\n\n" );
 		int numberOfPoints = points_.size();
 		double distanceBetweenPoints;
+		// hjs 10/18/2026 Use the bounded flat kernel when the points share a dimension
+		final double[] flatCoordinates = getFlatCoordinates();
+		final int dimension = getFlatCoordinatesDimension();
 		
 		for ( int i=0; i<numberOfPoints; i++ ) {
     		
@@ -175,7 +267,10 @@ public class PointCloudInRn extends PointCloud {
     		for ( int j=i+1; j<numberOfPoints; j++ ) {
     			
     	    	p2 = points_.get( j );
-    	    	distanceBetweenPoints = _metric.computeDistance( p1, p2 );
+    	    	distanceBetweenPoints = ( flatCoordinates != null ) ?
+    	    			_metric.computeDistanceWithinBound( flatCoordinates, i*dimension,
+    	    					flatCoordinates, j*dimension, dimension, _distanceBound ) :
+    	    			_metric.computeDistance( p1, p2 );
     	    	
     	    	if ( distanceBetweenPoints < _distanceBound ) {
 
@@ -188,6 +283,26 @@ public class PointCloudInRn extends PointCloud {
 		return pointCloudAsString;
 	}
 	
+	// hjs 10/18/2026 Compute the sparse matrix for the edges within the distance bound
+	// directly, i.e., without rendering the edges to text first (see asSparseMatrix above).
+	// The pairwise distances are computed on the number of threads given by the 
+	// 'threads' setting.
+	public SparseMatrix asSparseMatrix( final MetricI _metric,
+			final double _distanceBound,
+			Settings _processData ) throws Exception {
+
+		ParallelEdgeBuilder edgeBuilder = new ParallelEdgeBuilder( this, 
+				_metric, _distanceBound, 
+				ParallelEdgeBuilder.getNumberOfThreads( _processData ) );
+		
+		edgeBuilder.build();
+		
+		return new SparseMatrix( edgeBuilder.getVertexIndices1(), 
+				edgeBuilder.getVertexIndices2(), 
+				edgeBuilder.getEdgeLengths(), 
+				edgeBuilder.getNumberOfEdges(), _processData );
+	}
+	
 	public StringBuffer asString() {
 		
 		StringBuffer pointCloudAsString = new StringBuffer( "" );
@@ -239,186 +354,83 @@ public class PointCloudInRn extends PointCloud {
 	//	      (f(n-M), f(n-M+1), ..., f(n))
     //		  where M is an integer << n
     //
+    // hjs 10/18/2026 Read the data in a single pass (as before, the time series is 
+    // given by the values on the last data line)
     protected void loadPointCloudFromTimeSeriesFile( final String _directoryName,
             final String _fileName, final int _M ) throws Exception {
 
-        // Find (and check) the number of data rows and columns in the specified file
-        findDataRowAndColumnCounts();
+        int observedTimeSeriesPointsOnLine;
+        int nbrTimeSeriesPoints = 0;
+        int invalidValueIndex;
+        int i = 0;
+        double[] timeSeriesPoints = new double[ 0 ];
 
-        // Find the number of data rows in the specified file
-        int lineCountInDataFile = observedRowCount; // this needs to be 1!!
-        
-        if ( lineCountInDataFile != 1 ) {
-        	
-        	// throw an exception
-        	
-        	
-        }
-        
-        int observedNbrTimeSeriesPoints = observedColumnCount;
         this.pointDimension = _M;
-               
-        // Set the pattern for the data parsing
-        // Note we allow comments at the end of a line (via Pattern.COMMENTS)
-        Pattern pattern = Pattern.compile( 
-                TDA.PATTERN_PARSING_WHITESPACE, Pattern.COMMENTS );
-        
-		final File dataFile = new File( _directoryName, _fileName);
-		FileReader fileReader = null;
 
 		try {
-		
-			if ( !dataFile.exists() ) {
-			    
-				throw new TdaException( 
-				        TDA.ERROR_APP_USERINPUT, 
-                        "(Loading point cloud) " +
-				        "Cannot find the data file: '" 
-				        + _fileName + "' in directory '" + _directoryName + "'." );
-			}
-			
-			
-			int i;
-			String strCurrentObservedValue;
-		    double dblCurrentObservedValue;
-		    String textline;
-            int nbrTimeSeriesPoints = observedNbrTimeSeriesPoints; //pointDimension;
-            int observedTimeSeriesPointsOnLine;
-            
-            // compute the array dimension for the number of points to create:
-            numberOfPointsLoaded = lineCountInDataFile;
-            
-            double[] timeSeriesPoints = new double[ nbrTimeSeriesPoints ];
-            
-			// Set up the file loading:
-			bufferedReader_ = new BufferedReader(
-			        new FileReader(_directoryName + File.separator + _fileName));
-					
-			// Now read the data (single line from file)
-			i = 0;
-			while ( ( textline = bufferedReader_.readLine()) != null ) {
-                				
-				// ---------------------------------------
-				// Process the entries on the current line
-				// ---------------------------------------
-				
-                textline = textline.trim();
-                String[] lineComponents = pattern.split( textline );
-                observedTimeSeriesPointsOnLine = lineComponents.length;
-                
-				// Ignore blank or commented out lines
-				if ( observedTimeSeriesPointsOnLine > 0 && 
-                        !( textline.startsWith( "#" ) ) && !( textline.equals( "" ) ) ) {
 
-                    // We can never (even in debug mode) indicate more entries than
-                    // there are in the file, so apply sanity check:
-                    if ( observedTimeSeriesPointsOnLine < nbrTimeSeriesPoints ) {
-                        
-                        throw new TdaException( 
-                                TDA.ERROR_APP_USERINPUT,
-                                "(Loading time series) " + "The time series supplied " + 
-                                " in data file '" + _fileName +
-                                "' contains fewer (namely, " + observedTimeSeriesPointsOnLine + 
-                                ") values than the expected number (namely, " + nbrTimeSeriesPoints + ")." );
-                    }
+			while ( ( observedTimeSeriesPointsOnLine = dataReader_.readLine() ) >= 0 ) {
+
+				if ( i == 0 ) {
 
-				    // Next "Sanity" cross-check on the data: The data needs to have
-				    // exactly as many data points as the separately user-supplied
-				    // count - HOWEVER, we allow exceptions in debug mode, so we
-                    // can run multiple tests from a single data set
-					if ( observedTimeSeriesPointsOnLine > nbrTimeSeriesPoints && !TDA.DEBUG ) {
-					    
-    					// Note: this allows for the data file to contain more data
-    					// points than there are specified variables (the extra values are ignored),
-    					// but we throw an exception when there are less data points
-					    throw new TdaException( 
-					            TDA.ERROR_APP_USERINPUT,
-                                "(Loading time series) " + "The time series supplied" + 
-					            " in data file '" + _fileName +
-					            "' contains only " + observedTimeSeriesPointsOnLine + 
-					            " values, so we cannot create points of dimension " + 
-					            pointDimension + "." );
-					}
-                    
-					// Use pointDimension as loop conditions
-					for ( int j=0; j<nbrTimeSeriesPoints; j++ ) {
-					    
-					    strCurrentObservedValue = lineComponents[j];
-					    
-					    if ( strCurrentObservedValue.length() == 0 || 
-					            strCurrentObservedValue.equalsIgnoreCase( "" ) ) {
-					        
-					        // flag invalid (missing) observation value
-					        throw new TdaException( 
-					                TDA.ERROR_APP_USERINPUT,
-					                "Line '" + (i+1) + "' of the data file '" +
-                                    _fileName + "' is " +
-					                "missing a value for coordinate '" + j + "'." );
-					    }
-					    else { //if ( strCurrentObservedValue.length() > 1  ) {
-					        
-					        // Check if non-numeric. If so, tell the user
-					        try {
-					            
-					            dblCurrentObservedValue = 
-					                Double.parseDouble( strCurrentObservedValue );
-					            timeSeriesPoints[ j ] = dblCurrentObservedValue;
-					        }
-							catch (Exception e) {
-							    
-							    throw new TdaException( e,
-							            TDA.ERROR_APP_USERINPUT,
-						                "Time series value '" + (i+1) + "' of the data file '" +
-                                        _fileName + "' contains an invalid value ('" +
-						                strCurrentObservedValue +
-						                "') for coordinate '" +
-						                j + "'." );
-							}
-					    }
-					}
-                    
-                    i++;
+					nbrTimeSeriesPoints = observedTimeSeriesPointsOnLine;
+					timeSeriesPoints = new double[ nbrTimeSeriesPoints ];
 				}
-			}
-			
-			
-			PointRn pointToAdd;
-			this.points_ = new ArrayList<PointRn>();
-            double[] dblPointCoordinates = new double[ pointDimension ];
-			
-			// now that we have the time series loaded, we can compute the point cloud
-			for ( int k=0; k<nbrTimeSeriesPoints-pointDimension+1; k++ ) {
-				
-				// set the point's coordinates
-				for ( int l=0; l<pointDimension; l++ ) {
-					
-					dblPointCoordinates[ l ] = timeSeriesPoints[ k+l ];
+				else if ( observedTimeSeriesPointsOnLine != nbrTimeSeriesPoints ) {
+
+                    throw new TdaException( 
+                            TDA.ERROR_APP_USERINPUT, 
+                            "(Loading time series) " +
+                            "The data file '" + _fileName + "'" +
+                            " needs to have the same number of values on all lines " +
+                            "(First discrepancy found at line " + 
+                            (i+1) + 
+                            ")." );
 				}
-				
-				// create the point, and add it to the set of points
-				pointToAdd = new PointRn( dblPointCoordinates );
-				this.points_.add( pointToAdd );
+
+				invalidValueIndex = dataReader_.getInvalidValueIndex();
+				if ( invalidValueIndex >= 0 ) {
+
+				    throw new TdaException( 
+				            TDA.ERROR_APP_USERINPUT,
+			                "Time series value '" + (i+1) + "' of the data file '" +
+                            _fileName + "' contains an invalid value ('" +
+                            dataReader_.getInvalidValue() +
+			                "') for coordinate '" +
+			                invalidValueIndex + "'." );
+				}
+
+				dataReader_.copyLineValues( timeSeriesPoints, 0, nbrTimeSeriesPoints );
+				i++;
 			}
+		}
+		finally {
 
-			this.numberOfPoints_ = this.points_.size();
+			dataReader_.close();
 		}
-		catch (IOException e) {
-		   
-		    throw new Exception( e );
-		}		
-		catch (TdaException e) {
 
-			throw new TdaException( e );
-		}		
-		finally {
-			try { 
-								
-				if (fileReader != null ) fileReader.close();
-				if (bufferedReader_ != null ) bufferedReader_.close();
-			} 
-			catch( IOException e ) {
-                // nothing else to do?
-            };
+        observedRowCount = i;
+        observedColumnCount = nbrTimeSeriesPoints;
+        numberOfPointsLoaded = i;
+
+		PointRn pointToAdd;
+		this.points_ = new ArrayList<PointRn>();
+        double[] dblPointCoordinates = new double[ pointDimension ];
+		
+		// now that we have the time series loaded, we can compute the point cloud
+		for ( int k=0; k<nbrTimeSeriesPoints-pointDimension+1; k++ ) {
+			
+			// set the point's coordinates
+			for ( int l=0; l<pointDimension; l++ ) {
+				
+				dblPointCoordinates[ l ] = timeSeriesPoints[ k+l ];
+			}
+			
+			// create the point, and add it to the set of points
+			pointToAdd = new PointRn( dblPointCoordinates );
+			this.points_.add( pointToAdd );
 		}
+
+		this.numberOfPoints_ = this.points_.size();
     }
 }
@@ -0,0 +1,199 @@
+/*
+ * Created October 2026
+ *
+ * This file is part of Topological Data Analysis
+ * edu.duke.math.tda
+ * Copyright (c) 2012-2014 by John Harer
+ * All rights reserved.
+ *
+ * License Info:
+ *
+ *
+ */
+
+package edu.duke.math.tda.structures.pointcloud;
+
+import java.util.Arrays;
+import java.util.List;
+
+import edu.duke.math.tda.structures.PointRn;
+import edu.duke.math.tda.structures.metric.L1Metric;
+import edu.duke.math.tda.structures.metric.L2Metric;
+import edu.duke.math.tda.structures.metric.LinfMetric;
+import edu.duke.math.tda.structures.metric.LpMetric;
+import edu.duke.math.tda.structures.metric.MetricI;
+
+/**
+ * Base class for the spatial indexes, holding the coordinates of the indexed
+ * points in a single flat array
+ *
+ * <p><strong>Details:</strong> <br>
+ *
+ * The coordinate check uses a small relative slack on the radius, so that a
+ * point whose computed distance ends up just below the radius (due to rounding)
+ * is never dropped from the candidates.
+ *
+ * <p><strong>Change History:</strong> <br>
+ * Created October 2026
+ *
+ *
+ * @author Jurgen Sladeczek (hjs) <br>
+ * For the latest info, please visit www.math.duke.edu.
+ */
+
+public abstract class SpatialIndex implements SpatialIndexI {
+
+	protected static final double RADIUSSLACK = 1e-9;
+	// for small point clouds, comparing all pairs is just as fast
+	protected static final int MINPOINTSFORINDEX = 64;
+
+	protected final int numberOfPoints_;
+	protected final int dimension_;
+	// coordinate k of point i is at coordinates_[ i*dimension_ + k ]
+	protected final double[] coordinates_;
+
+	// Growable list of candidate indices, collected during a query
+	protected static class CandidateList {
+
+		protected int[] indices_ = new int[ 16 ];
+		protected int size_;
+
+		protected void add( final int _index ) {
+
+			if ( size_ == indices_.length ) {
+
+				indices_ = Arrays.copyOf( indices_, size_ + ( size_ >> 1 ) );
+			}
+			indices_[ size_++ ] = _index;
+		}
+
+		protected int[] asSortedArray() {
+
+			int[] sortedIndices = Arrays.copyOf( indices_, size_ );
+			Arrays.sort( sortedIndices );
+
+			return sortedIndices;
+		}
+	}
+
+	protected SpatialIndex( final List<PointRn> _points, final int _dimension ) {
+
+		double[] pointCoordinates;
+
+		this.numberOfPoints_ = _points.size();
+		this.dimension_ = _dimension;
+		this.coordinates_ = new double[ numberOfPoints_ * dimension_ ];
+
+		for ( int i=0; i<numberOfPoints_; i++ ) {
+
+			pointCoordinates = _points.get( i ).getCoordinates();
+			System.arraycopy( pointCoordinates, 0, coordinates_, i*dimension_, dimension_ );
+		}
+	}
+
+	/*
+	 * Set up the spatial index that fits the points and the (largest) query radius:
+	 * a uniform grid for up to 3 dimensions, and a k-d tree otherwise. Returns null
+	 * when an index can't be used (a metric other than L1, L2, Linf or Lp, points 
+	 * without a common dimension or with non-finite coordinates), or when it wouldn't
+	 * pay off (few points, or a radius that covers the whole point cloud); the caller
+	 * then compares all pairs.
+	 */
+	public static SpatialIndexI createSpatialIndex( final List<PointRn> _points,
+			final MetricI _metric,
+			final double _radius ) {
+
+		final int numberOfPoints = _points.size();
+		int dimension;
+		double[] pointCoordinates;
+		double[] minCoordinates;
+		double[] maxCoordinates;
+		boolean isRadiusCoveringAll = true;
+
+		if ( numberOfPoints < MINPOINTSFORINDEX ) return null;
+
+		if ( !( _metric instanceof L1Metric || _metric instanceof L2Metric ||
+				_metric instanceof LinfMetric || _metric instanceof LpMetric ) ) {
+
+			return null;
+		}
+
+		if ( !( _radius > 0 ) || Double.isInfinite( _radius ) ) return null;
+
+		dimension = _points.get( 0 ).getDimension();
+		if ( dimension < 1 ) return null;
+
+		minCoordinates = new double[ dimension ];
+		maxCoordinates = new double[ dimension ];
+		Arrays.fill( minCoordinates, Double.POSITIVE_INFINITY );
+		Arrays.fill( maxCoordinates, Double.NEGATIVE_INFINITY );
+
+		for ( int i=0; i<numberOfPoints; i++ ) {
+
+			pointCoordinates = _points.get( i ).getCoordinates();
+
+			if ( pointCoordinates.length != dimension ) return null;
+
+			for ( int k=0; k<dimension; k++ ) {
+
+				if ( Double.isNaN( pointCoordinates[ k ] ) || 
+						Double.isInfinite( pointCoordinates[ k ] ) ) {
+
+					return null;
+				}
+
+				minCoordinates[ k ] = Math.min( minCoordinates[ k ], pointCoordinates[ k ] );
+				maxCoordinates[ k ] = Math.max( maxCoordinates[ k ], pointCoordinates[ k ] );
+			}
+		}
+
+		for ( int k=0; k<dimension; k++ ) {
+
+			if ( maxCoordinates[ k ] - minCoordinates[ k ] > _radius ) {
+
+				isRadiusCoveringAll = false;
+			}
+		}
+
+		if ( isRadiusCoveringAll ) return null;
+
+		if ( SpatialIndexAsGrid.isSuitable( _points, dimension, _radius ) ) {
+
+			return new SpatialIndexAsGrid( _points, dimension, _radius );
+		}
+
+		return new SpatialIndexAsKdTree( _points, dimension );
+	}
+
+	protected static double addSlack( final double _radius ) {
+
+		return _radius + _radius * RADIUSSLACK + Double.MIN_NORMAL;
+	}
+
+	// Check if all coordinates of the point are within the radius of the center
+	protected boolean isWithinBox( final int _pointIndex,
+			final double[] _center, final double _radius ) {
+
+		final int offset = _pointIndex * dimension_;
+
+		for ( int k=0; k<dimension_; k++ ) {
+
+			if ( Math.abs( coordinates_[ offset+k ] - _center[ k ] ) > _radius ) {
+
+				return false;
+			}
+		}
+
+		return true;
+	}
+
+	public int getNumberOfPoints() {
+
+		return this.numberOfPoints_;
+	}
+
+	public int getDimension() {
+
+		return this.dimension_;
+	}
+}
@@ -0,0 +1,222 @@
+/*
+ * Created October 2026
+ *
+ * This file is part of Topological Data Analysis
+ * edu.duke.math.tda
+ * Copyright (c) 2012-2014 by John Harer
+ * All rights reserved.
+ *
+ * License Info:
+ *
+ *
+ */
+
+package edu.duke.math.tda.structures.pointcloud;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import edu.duke.math.tda.structures.PointRn;
+import edu.duke.math.tda.utility.TDA;
+import edu.duke.math.tda.utility.errorhandling.TdaException;
+
+/**
+ * Spatial index as a uniform grid, for points of low dimension (up to 3)
+ *
+ * <p><strong>Details:</strong> <br>
+ *
+ * The cell size is the radius the grid is built for, so a radius query (with at
+ * most that radius) only needs to look at the cell of the center and at its direct
+ * neighbors (3^dim cells). Only the occupied cells are stored, keyed by their
+ * packed cell coordinates; the points in a cell are kept in increasing order.
+ *
+ * <p><strong>Change History:</strong> <br>
+ * Created October 2026
+ *
+ *
+ * @author Jurgen Sladeczek (hjs) <br>
+ * For the latest info, please visit www.math.duke.edu.
+ */
+
+public class SpatialIndexAsGrid extends SpatialIndex {
+
+	// number of bits per packed cell coordinate
+	protected static final int BITSPERDIMENSION = 21;
+	public static final int MAXDIMENSION = 3;
+	public static final long MAXCELLSPERDIMENSION = 1L << BITSPERDIMENSION;
+
+	protected final double cellSize_;
+	protected final double[] minCoordinates_;
+	protected Map<Long, int[]> cells_ = new HashMap<Long, int[]>();
+
+	public SpatialIndexAsGrid( final List<PointRn> _points,
+			final int _dimension,
+			final double _cellSize ) {
+
+		super( _points, _dimension );
+
+		Map<Long, Integer> cellCounts = new HashMap<Long, Integer>();
+		Map<Long, Integer> cellFill = new HashMap<Long, Integer>();
+		long[] cellKeys = new long[ numberOfPoints_ ];
+		Integer tmpCount;
+		int[] cellPoints;
+
+		this.cellSize_ = addSlack( _cellSize );
+		this.minCoordinates_ = new double[ dimension_ ];
+
+		for ( int k=0; k<dimension_; k++ ) {
+
+			minCoordinates_[ k ] = Double.POSITIVE_INFINITY;
+
+			for ( int i=0; i<numberOfPoints_; i++ ) {
+
+				minCoordinates_[ k ] = Math.min( minCoordinates_[ k ],
+						coordinates_[ i*dimension_ + k ] );
+			}
+		}
+
+		// first pass: size the cells
+		for ( int i=0; i<numberOfPoints_; i++ ) {
+
+			cellKeys[ i ] = getCellKey( coordinates_, i*dimension_ );
+			tmpCount = cellCounts.get( cellKeys[ i ] );
+			cellCounts.put( cellKeys[ i ], ( tmpCount == null ) ? 1 : tmpCount + 1 );
+		}
+
+		for ( Map.Entry<Long, Integer> cell : cellCounts.entrySet() ) {
+
+			cells_.put( cell.getKey(), new int[ cell.getValue() ] );
+			cellFill.put( cell.getKey(), 0 );
+		}
+
+		// second pass: fill the cells, in increasing point order
+		for ( int i=0; i<numberOfPoints_; i++ ) {
+
+			cellPoints = cells_.get( cellKeys[ i ] );
+			tmpCount = cellFill.get( cellKeys[ i ] );
+			cellPoints[ tmpCount ] = i;
+			cellFill.put( cellKeys[ i ], tmpCount + 1 );
+		}
+	}
+
+	// Check if the extent of the point cloud can be covered by a grid with the
+	// specified cell size
+	public static boolean isSuitable( final List<PointRn> _points,
+			final int _dimension, final double _cellSize ) {
+
+		double minCoordinate;
+		double maxCoordinate;
+		double[] pointCoordinates;
+
+		if ( _dimension > MAXDIMENSION || !( _cellSize > 0 ) ) return false;
+
+		for ( int k=0; k<_dimension; k++ ) {
+
+			minCoordinate = Double.POSITIVE_INFINITY;
+			maxCoordinate = Double.NEGATIVE_INFINITY;
+
+			for ( int i=0; i<_points.size(); i++ ) {
+
+				pointCoordinates = _points.get( i ).getCoordinates();
+				minCoordinate = Math.min( minCoordinate, pointCoordinates[ k ] );
+				maxCoordinate = Math.max( maxCoordinate, pointCoordinates[ k ] );
+			}
+
+			// we need room for one extra cell on either side of the occupied range
+			if ( ( maxCoordinate - minCoordinate ) / _cellSize + 3 >= MAXCELLSPERDIMENSION ) {
+
+				return false;
+			}
+		}
+
+		return true;
+	}
+
+	// Pack the cell coordinates (shifted by one cell in every dimension, so that the
+	// neighbor cells below the minimum remain non-negative)
+	protected long getCellKey( final double[] _coordinates, final int _from ) {
+
+		long cellKey = 0;
+
+		for ( int k=0; k<dimension_; k++ ) {
+
+			cellKey |= ( getCellCoordinate( _coordinates[ _from+k ], k ) + 1 )
+					<< ( k * BITSPERDIMENSION );
+		}
+
+		return cellKey;
+	}
+
+	protected long getCellCoordinate( final double _coordinate, final int _dimension ) {
+
+		return (long) Math.floor( ( _coordinate - minCoordinates_[ _dimension ] ) / cellSize_ );
+	}
+
+	public int[] findCandidates( final double[] _center,
+			final double _radius,
+			final int _minIndex ) throws Exception {
+
+		final double radius = addSlack( _radius );
+		CandidateList candidates = new CandidateList();
+		long[] centerCell = new long[ dimension_ ];
+		long[] neighborCell = new long[ dimension_ ];
+		int numberOfNeighborCells = 1;
+		int cellOffset;
+		long cellKey;
+		int[] cellPoints;
+		boolean isValidCell;
+
+		if ( radius > cellSize_ ) {
+
+			throw new TdaException( TDA.ERROR_APP_DEV, 
+					"(SpatialIndexAsGrid.findCandidates) " +
+					"The query radius exceeds the cell size of the grid." );
+		}
+
+		for ( int k=0; k<dimension_; k++ ) {
+
+			centerCell[ k ] = getCellCoordinate( _center[ k ], k );
+			numberOfNeighborCells *= 3;
+		}
+
+		// visit the 3^dim cells around (and including) the center cell
+		for ( int n=0; n<numberOfNeighborCells; n++ ) {
+
+			cellOffset = n;
+			cellKey = 0;
+			isValidCell = true;
+
+			for ( int k=0; k<dimension_; k++ ) {
+
+				neighborCell[ k ] = centerCell[ k ] + ( cellOffset % 3 ) - 1;
+				cellOffset /= 3;
+
+				if ( neighborCell[ k ] < -1 || neighborCell[ k ] + 1 >= MAXCELLSPERDIMENSION ) {
+
+					isValidCell = false;
+					break;
+				}
+
+				cellKey |= ( neighborCell[ k ] + 1 ) << ( k * BITSPERDIMENSION );
+			}
+
+			if ( !isValidCell ) continue;
+
+			cellPoints = cells_.get( cellKey );
+
+			if ( cellPoints == null ) continue;
+
+			for ( int j=0; j<cellPoints.length; j++ ) {
+
+				if ( cellPoints[ j ] > _minIndex &&
+						isWithinBox( cellPoints[ j ], _center, radius ) ) {
+
+					candidates.add( cellPoints[ j ] );
+				}
+			}
+		}
+
+		return candidates.asSortedArray();
+	}
+}
@@ -0,0 +1,256 @@
+/*
+ * Created October 2026
+ *
+ * This file is part of Topological Data Analysis
+ * edu.duke.math.tda
+ * Copyright (c) 2012-2014 by John Harer
+ * All rights reserved.
+ *
+ * License Info:
+ *
+ *
+ */
+
+package edu.duke.math.tda.structures.pointcloud;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+import edu.duke.math.tda.structures.metric.L1Metric;
+import edu.duke.math.tda.structures.metric.L2Metric;
+import edu.duke.math.tda.structures.metric.LinfMetric;
+import edu.duke.math.tda.structures.metric.LpMetric;
+import edu.duke.math.tda.structures.metric.MetricI;
+import edu.duke.math.tda.utility.TDA;
+import edu.duke.math.tda.utility.errorhandling.TdaException;
+
+/**
+ * Spatial index as a uniform grid that points can be added to, for point clouds
+ * that grow over time (of low dimension, up to 3)
+ *
+ * <p><strong>Details:</strong> <br>
+ *
+ * As for SpatialIndexAsGrid, the cell size is the largest query radius, so a
+ * query only looks at the 3^dim cells around the center. Since the extent of the
+ * points isn't known up front, the cells aren't packed relative to a minimum, but
+ * hashed from their (unbounded) cell coordinates. Two cells that end up with the
+ * same key just share their list of points, which only adds candidates that the
+ * box check then drops.
+ *
+ * Points are added in increasing index order, so each cell's list stays sorted.
+ *
+ * <p><strong>Change History:</strong> <br>
+ * Created October 2026
+ *
+ *
+ * @author Jurgen Sladeczek (hjs) <br>
+ * For the latest info, please visit www.math.duke.edu.
+ */
+
+public class SpatialIndexAsGrowingGrid implements SpatialIndexI {
+
+	protected static final int MINCAPACITY = 16;
+	// multipliers for hashing the cell coordinates into a single key
+	protected static final long[] CELLKEYMULTIPLIERS =
+		{ 73856093L, 19349663L, 83492791L };
+
+	protected final int dimension_;
+	protected final double cellSize_;
+	// coordinate k of point i is at coordinates_[ i*dimension_ + k ]
+	protected double[] coordinates_;
+	protected int numberOfPoints_;
+
+	// the points of each (occupied) cell, and how many of them there are
+	protected Map<Long, int[]> cells_ = new HashMap<Long, int[]>();
+	protected Map<Long, Integer> cellSizes_ = new HashMap<Long, Integer>();
+
+	public SpatialIndexAsGrowingGrid( final int _dimension,
+			final double _cellSize ) {
+
+		this.dimension_ = _dimension;
+		this.cellSize_ = SpatialIndex.addSlack( _cellSize );
+		this.coordinates_ = new double[ MINCAPACITY * dimension_ ];
+	}
+
+	/*
+	 * Set up a growing grid for points of the dimension and the (largest) query
+	 * radius. Returns null when the grid can't be used (a metric other than L1, L2,
+	 * Linf or Lp, more than 3 dimensions, or a radius that isn't positive and
+	 * finite); the caller then compares all pairs.
+	 */
+	public static SpatialIndexAsGrowingGrid createSpatialIndex( final MetricI _metric,
+			final int _dimension,
+			final double _radius ) {
+
+		if ( !( _metric instanceof L1Metric || _metric instanceof L2Metric ||
+				_metric instanceof LinfMetric || _metric instanceof LpMetric ) ) {
+
+			return null;
+		}
+
+		if ( _dimension < 1 || _dimension > SpatialIndexAsGrid.MAXDIMENSION ) return null;
+
+		if ( !( _radius > 0 ) || Double.isInfinite( _radius ) ) return null;
+
+		return new SpatialIndexAsGrowingGrid( _dimension, _radius );
+	}
+
+	// Add a point (with the next index), and return its index
+	public int addPoint( final double[] _coordinates ) {
+
+		final int pointIndex = numberOfPoints_;
+		final long cellKey;
+		int[] cellPoints;
+		Integer cellSize;
+		int numberOfCellPoints;
+
+		if ( ( pointIndex+1 ) * dimension_ > coordinates_.length ) {
+
+			coordinates_ = Arrays.copyOf( coordinates_, 2 * coordinates_.length );
+		}
+
+		System.arraycopy( _coordinates, 0, coordinates_, pointIndex * dimension_, dimension_ );
+		numberOfPoints_++;
+
+		cellKey = getCellKey( getCellCoordinates( _coordinates ) );
+		cellPoints = cells_.get( cellKey );
+		cellSize = cellSizes_.get( cellKey );
+		numberOfCellPoints = ( cellSize == null ) ? 0 : cellSize;
+
+		if ( cellPoints == null ) {
+
+			cellPoints = new int[ 4 ];
+		}
+		else if ( numberOfCellPoints == cellPoints.length ) {
+
+			cellPoints = Arrays.copyOf( cellPoints, 2 * numberOfCellPoints );
+		}
+
+		cellPoints[ numberOfCellPoints ] = pointIndex;
+		cells_.put( cellKey, cellPoints );
+		cellSizes_.put( cellKey, numberOfCellPoints + 1 );
+
+		return pointIndex;
+	}
+
+	protected long[] getCellCoordinates( final double[] _coordinates ) {
+
+		final long[] cellCoordinates = new long[ dimension_ ];
+
+		for ( int k=0; k<dimension_; k++ ) {
+
+			cellCoordinates[ k ] = (long) Math.floor( _coordinates[ k ] / cellSize_ );
+		}
+
+		return cellCoordinates;
+	}
+
+	protected static long getCellKey( final long[] _cellCoordinates ) {
+
+		long cellKey = 0;
+
+		for ( int k=0; k<_cellCoordinates.length; k++ ) {
+
+			cellKey ^= _cellCoordinates[ k ] * CELLKEYMULTIPLIERS[ k ];
+		}
+
+		return cellKey;
+	}
+
+	public int[] findCandidates( final double[] _center,
+			final double _radius,
+			final int _minIndex ) throws Exception {
+
+		final double radius = SpatialIndex.addSlack( _radius );
+		final long[] centerCell;
+		final long[] neighborCell = new long[ dimension_ ];
+		SpatialIndex.CandidateList candidates = new SpatialIndex.CandidateList();
+		// cells whose key is shared are only visited once
+		long[] visitedCellKeys;
+		int numberOfNeighborCells = 1;
+		int numberOfVisitedCells = 0;
+		int cellOffset;
+		long cellKey;
+		int[] cellPoints;
+		int numberOfCellPoints;
+		boolean isVisitedCell;
+
+		if ( radius > cellSize_ ) {
+
+			throw new TdaException( TDA.ERROR_APP_DEV,
+					"(SpatialIndexAsGrowingGrid.findCandidates) " +
+					"The query radius exceeds the cell size of the grid." );
+		}
+
+		centerCell = getCellCoordinates( _center );
+		for ( int k=0; k<dimension_; k++ ) numberOfNeighborCells *= 3;
+		visitedCellKeys = new long[ numberOfNeighborCells ];
+
+		// visit the 3^dim cells around (and including) the center cell
+		for ( int n=0; n<numberOfNeighborCells; n++ ) {
+
+			cellOffset = n;
+
+			for ( int k=0; k<dimension_; k++ ) {
+
+				neighborCell[ k ] = centerCell[ k ] + ( cellOffset % 3 ) - 1;
+				cellOffset /= 3;
+			}
+
+			cellKey = getCellKey( neighborCell );
+			cellPoints = cells_.get( cellKey );
+
+			if ( cellPoints == null ) continue;
+
+			isVisitedCell = false;
+			for ( int v=0; v<numberOfVisitedCells; v++ ) {
+
+				if ( visitedCellKeys[ v ] == cellKey ) isVisitedCell = true;
+			}
+
+			if ( isVisitedCell ) continue;
+
+			visitedCellKeys[ numberOfVisitedCells++ ] = cellKey;
+			numberOfCellPoints = cellSizes_.get( cellKey );
+
+			for ( int j=0; j<numberOfCellPoints; j++ ) {
+
+				if ( cellPoints[ j ] > _minIndex &&
+						isWithinBox( cellPoints[ j ], _center, radius ) ) {
+
+					candidates.add( cellPoints[ j ] );
+				}
+			}
+		}
+
+		return candidates.asSortedArray();
+	}
+
+	// Check if all coordinates of the point are within the radius of the center
+	protected boolean isWithinBox( final int _pointIndex,
+			final double[] _center, final double _radius ) {
+
+		final int offset = _pointIndex * dimension_;
+
+		for ( int k=0; k<dimension_; k++ ) {
+
+			if ( Math.abs( coordinates_[ offset+k ] - _center[ k ] ) > _radius ) {
+
+				return false;
+			}
+		}
+
+		return true;
+	}
+
+	public int getNumberOfPoints() {
+
+		return this.numberOfPoints_;
+	}
+
+	public int getDimension() {
+
+		return this.dimension_;
+	}
+}
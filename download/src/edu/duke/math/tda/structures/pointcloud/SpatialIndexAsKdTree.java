@@ -0,0 +1,198 @@
+/*
+ * Created October 2026
+ *
+ * This file is part of Topological Data Analysis
+ * edu.duke.math.tda
+ * Copyright (c) 2012-2014 by John Harer
+ * All rights reserved.
+ *
+ * License Info:
+ *
+ *
+ */
+
+package edu.duke.math.tda.structures.pointcloud;
+
+import java.util.List;
+
+import edu.duke.math.tda.structures.PointRn;
+
+/**
+ * Spatial index as a k-d tree, for points of any dimension
+ *
+ * <p><strong>Details:</strong> <br>
+ *
+ * The tree is stored implicitly in a permutation of the point indices: a node
+ * covers a range [from, to) of the permutation, and is split at the median of the
+ * coordinate with the largest spread, so that the points in [from, middle) have
+ * coordinates no larger than the split value, and the points in [middle, to) have
+ * coordinates no smaller than it. The split of a node is recorded at its middle
+ * position. Ranges of at most LEAFSIZE points are not split any further.
+ *
+ * Unlike the grid, the tree doesn't depend on the query radius.
+ *
+ * <p><strong>Change History:</strong> <br>
+ * Created October 2026
+ *
+ *
+ * @author Jurgen Sladeczek (hjs) <br>
+ * For the latest info, please visit www.math.duke.edu.
+ */
+
+public class SpatialIndexAsKdTree extends SpatialIndex {
+
+	protected static final int LEAFSIZE = 8;
+
+	protected final int[] permutation_;
+	protected final int[] splitDimension_;
+	protected final double[] splitValue_;
+
+	public SpatialIndexAsKdTree( final List<PointRn> _points, final int _dimension ) {
+
+		super( _points, _dimension );
+
+		this.permutation_ = new int[ numberOfPoints_ ];
+		this.splitDimension_ = new int[ numberOfPoints_ ];
+		this.splitValue_ = new double[ numberOfPoints_ ];
+
+		for ( int i=0; i<numberOfPoints_; i++ ) {
+
+			permutation_[ i ] = i;
+		}
+
+		buildTree( 0, numberOfPoints_ );
+	}
+
+	protected void buildTree( final int _from, final int _to ) {
+
+		int middle;
+		int splitDimension = 0;
+		double largestSpread = -1;
+		double minCoordinate;
+		double maxCoordinate;
+		double coordinate;
+
+		if ( _to - _from <= LEAFSIZE ) return;
+
+		// split along the coordinate with the largest spread
+		for ( int k=0; k<dimension_; k++ ) {
+
+			minCoordinate = Double.POSITIVE_INFINITY;
+			maxCoordinate = Double.NEGATIVE_INFINITY;
+
+			for ( int i=_from; i<_to; i++ ) {
+
+				coordinate = coordinates_[ permutation_[ i ]*dimension_ + k ];
+				minCoordinate = Math.min( minCoordinate, coordinate );
+				maxCoordinate = Math.max( maxCoordinate, coordinate );
+			}
+
+			if ( maxCoordinate - minCoordinate > largestSpread ) {
+
+				largestSpread = maxCoordinate - minCoordinate;
+				splitDimension = k;
+			}
+		}
+
+		middle = ( _from + _to ) >>> 1;
+		selectMedian( _from, _to, middle, splitDimension );
+
+		splitDimension_[ middle ] = splitDimension;
+		splitValue_[ middle ] = coordinates_[ permutation_[ middle ]*dimension_ + splitDimension ];
+
+		buildTree( _from, middle );
+		buildTree( middle, _to );
+	}
+
+	// Partially order the range [_from, _to) of the permutation (quickselect), so that
+	// position _k holds the point that would be there if the range was sorted by the
+	// specified coordinate
+	protected void selectMedian( int _from, int _to, final int _k, final int _dimension ) {
+
+		int left;
+		int right;
+		int tmpIndex;
+		double pivotValue;
+
+		while ( _to - _from > 1 ) {
+
+			pivotValue = coordinates_[ permutation_[ ( _from + _to ) >>> 1 ]*dimension_ + _dimension ];
+			left = _from;
+			right = _to - 1;
+
+			while ( left <= right ) {
+
+				while ( coordinates_[ permutation_[ left ]*dimension_ + _dimension ] < pivotValue ) left++;
+				while ( coordinates_[ permutation_[ right ]*dimension_ + _dimension ] > pivotValue ) right--;
+
+				if ( left <= right ) {
+
+					tmpIndex = permutation_[ left ];
+					permutation_[ left ] = permutation_[ right ];
+					permutation_[ right ] = tmpIndex;
+					left++;
+					right--;
+				}
+			}
+
+			// now [_from, right] <= pivot <= [left, _to)
+			if ( _k <= right ) {
+
+				_to = right + 1;
+			}
+			else if ( _k >= left ) {
+
+				_from = left;
+			}
+			else {
+
+				return;
+			}
+		}
+	}
+
+	public int[] findCandidates( final double[] _center,
+			final double _radius,
+			final int _minIndex ) throws Exception {
+
+		CandidateList candidates = new CandidateList();
+
+		collectCandidates( 0, numberOfPoints_, _center, addSlack( _radius ),
+				_minIndex, candidates );
+
+		return candidates.asSortedArray();
+	}
+
+	protected void collectCandidates( final int _from, final int _to,
+			final double[] _center, final double _radius, final int _minIndex,
+			final CandidateList _candidates ) {
+
+		int middle;
+		int splitDimension;
+
+		if ( _to - _from <= LEAFSIZE ) {
+
+			for ( int i=_from; i<_to; i++ ) {
+
+				if ( permutation_[ i ] > _minIndex &&
+						isWithinBox( permutation_[ i ], _center, _radius ) ) {
+
+					_candidates.add( permutation_[ i ] );
+				}
+			}
+			return;
+		}
+
+		middle = ( _from + _to ) >>> 1;
+		splitDimension = splitDimension_[ middle ];
+
+		if ( _center[ splitDimension ] - _radius <= splitValue_[ middle ] ) {
+
+			collectCandidates( _from, middle, _center, _radius, _minIndex, _candidates );
+		}
+		if ( _center[ splitDimension ] + _radius >= splitValue_[ middle ] ) {
+
+			collectCandidates( middle, _to, _center, _radius, _minIndex, _candidates );
+		}
+	}
+}
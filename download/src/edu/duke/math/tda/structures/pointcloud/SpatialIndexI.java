@@ -0,0 +1,48 @@
+/*
+ * Created October 2026
+ *
+ * This file is part of Topological Data Analysis
+ * edu.duke.math.tda
+ * Copyright (c) 2012-2014 by John Harer
+ * All rights reserved.
+ *
+ * License Info:
+ *
+ *
+ */
+
+package edu.duke.math.tda.structures.pointcloud;
+
+/**
+ * SpatialIndexI is an interface for the spatial indexes over the points of a
+ * point cloud, used for distance-bounded neighbor searches
+ *
+ * <p><strong>Details:</strong> <br>
+ *
+ * A radius query returns the candidate points whose coordinates all lie within
+ * the radius of the center's coordinates (i.e., the points within the L-infinity
+ * ball). Since the Lp-distance (p>=1) between two points is never smaller than
+ * their largest coordinate difference, this is a superset of the points within
+ * the radius for any of our metrics, and the caller still checks the actual
+ * distance of each candidate.
+ *
+ * <p><strong>Change History:</strong> <br>
+ * Created October 2026
+ *
+ *
+ * @author Jurgen Sladeczek (hjs) <br>
+ * For the latest info, please visit www.math.duke.edu.
+ */
+
+public interface SpatialIndexI {
+
+	// Get the indices (in increasing order) of the points with index greater than
+	// _minIndex, whose coordinates all lie within _radius of _center
+	public abstract int[] findCandidates( final double[] _center,
+							final double _radius,
+							final int _minIndex ) throws Exception;
+
+	public abstract int getNumberOfPoints();
+
+	public abstract int getDimension();
+}
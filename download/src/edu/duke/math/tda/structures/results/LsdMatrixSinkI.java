@@ -0,0 +1,34 @@
+/*
+ * Created October 2026
+ * 
+ * This file is part of Topological Data Analysis
+ * edu.duke.math.tda
+ * TDA is licensed from Duke University.
+ * Copyright (c) 2012-2014 by John Harer
+ * All rights reserved.
+ * 
+ */
+
+package edu.duke.math.tda.structures.results;
+
+/**
+ * LsdMatrixSinkI interface, for taking the LSD matrices of the multi-center LSD
+ * one center point at a time (instead of collecting all of them in the results).
+ *   
+ * <p><strong>Change History:</strong> <br>
+ * Created October 2026
+ * 
+ * @author Jurgen Sladeczek (hjs) <br>
+ * For the latest info, please visit www.math.duke.edu.
+ */
+
+public interface LsdMatrixSinkI {
+
+	// Takes the LSD matrix (as double[][]) of the center point with the specified
+	// index. The matrices arrive in the order of the center points, on the thread
+	// that executes the task, and aren't referenced by the task afterwards.
+	public abstract void addLsdMatrix( 
+			final int _centerPointIndex,
+			final double[] _centerPoint, 
+			final double[][] _distanceMatrix ) throws Exception;
+}
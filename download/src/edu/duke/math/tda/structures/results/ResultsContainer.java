@@ -11,6 +11,7 @@
 package edu.duke.math.tda.structures.results;
 
 import java.util.ArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import edu.duke.math.tda.utility.TDA;
 
@@ -34,7 +35,9 @@ public class ResultsContainer implements ResultsContainerI {
 	// Use static counter to ensure that any result added via the 'quick' addResult method 
 	// to this container has a unique ID (starting at [100] should be very generous with respect
 	// to future 'fixed' ID requirements)
-	protected static int currentUnregisteredResultID_ = TDA.DATA_UNREGISTEREDRESULT_STARTINDEX;
+	// hjs 10/18/2026 Atomic, since containers may be filled on several threads at once
+	protected static final AtomicInteger currentUnregisteredResultID_ = 
+			new AtomicInteger( TDA.DATA_UNREGISTEREDRESULT_STARTINDEX );
 	
 	
 	// Method for adding a result that is associated with a "fixed" ID, as defined in TDA.jar.
@@ -53,14 +56,14 @@ public class ResultsContainer implements ResultsContainerI {
 		}
 		else {
 			
+			final int resultID = currentUnregisteredResultID_.getAndIncrement();
+			
 			// 'Save' explanation to user and developer
-			listOfResults_.add( new ResultGeneric( currentUnregisteredResultID_, 
+			listOfResults_.add( new ResultGeneric( resultID, 
 					null, 
 					"[Dev Error] Trying to add a null object (with description '" +
 					_resultDescription +
-					"') to the results (id=" + currentUnregisteredResultID_  + ")!" ) );
-			
-			currentUnregisteredResultID_++;
+					"') to the results (id=" + resultID  + ")!" ) );
 		}
 	}
 	
@@ -71,24 +74,22 @@ public class ResultsContainer implements ResultsContainerI {
 		final Object _objectToAdd, 
 		final String _resultDescription ) {
 	
+		final int resultID = currentUnregisteredResultID_.getAndIncrement();
+	
 		if ( _objectToAdd != null ) {
 		
-			listOfResults_.add( new ResultGeneric( currentUnregisteredResultID_, 
+			listOfResults_.add( new ResultGeneric( resultID, 
 									_objectToAdd, 
 									_resultDescription ) );
-			
-			currentUnregisteredResultID_++;
 		}
 		else {
 			
 			// 'save' explanation to user/developer
-			listOfResults_.add( new ResultGeneric( currentUnregisteredResultID_, 
+			listOfResults_.add( new ResultGeneric( resultID, 
 					null, 
 					"[Dev Error] Trying to add a null object (with description '" +
 					_resultDescription +
-					"') to the results (id=" + currentUnregisteredResultID_  + ")!" ) );
-			
-			currentUnregisteredResultID_++;
+					"') to the results (id=" + resultID  + ")!" ) );
 		}
 	}
 	
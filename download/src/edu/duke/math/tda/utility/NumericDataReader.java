@@ -0,0 +1,371 @@
+/*
+ * Created October 2026
+ *
+ * This file is part of Topological Data Analysis
+ * edu.duke.math.tda
+ * Copyright (c) 2012-2014 by John Harer
+ * All rights reserved.
+ *
+ * License Info:
+ *
+ *
+ */
+
+package edu.duke.math.tda.utility;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+
+import edu.duke.math.tda.utility.errorhandling.TdaException;
+
+/**
+ * Single-pass reader for whitespace-delimited numeric data (point clouds, distance
+ * and sparse matrices), from a file or from a string
+ *
+ * <p><strong>Details:</strong> <br>
+ *
+ * The data is read line by line: blank lines and lines starting with '#' are
+ * skipped, and the tokens of each data line are parsed straight into a (reused)
+ * primitive buffer, without creating a String per line or per token. Files are
+ * read through a buffered byte channel.
+ *
+ * Numbers are parsed with a fast path for plain decimals (at most 18 significant
+ * digits, and a power of ten that is exact as a double), which gives the exact
+ * same value as Double.parseDouble; anything else (long mantissas, large exponents,
+ * NaN, Infinity, etc.) is handed to Double.parseDouble. A token that can't be
+ * parsed doesn't end the line: the caller gets to decide (see getInvalidValueIndex),
+ * so the line's entry counts can be checked first.
+ *
+ * <p><strong>Change History:</strong> <br>
+ * Created October 2026
+ *
+ *
+ * @author Jurgen Sladeczek (hjs) <br>
+ * For the latest info, please visit www.math.duke.edu.
+ */
+
+public class NumericDataReader {
+
+	protected static final int BUFFERSIZE = 1 << 16;
+	protected static final int MAXFASTPATHDIGITS = 18;
+	protected static final double[] POWERSOFTEN = {
+			1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9, 1e10, 1e11,
+			1e12, 1e13, 1e14, 1e15, 1e16, 1e17, 1e18, 1e19, 1e20, 1e21, 1e22 };
+	protected static final long MAXEXACTMANTISSA = 1L << 53;
+
+	// the source: either a file channel, or a string
+	protected FileChannel channel_;
+	protected ByteBuffer byteBuffer_;
+	protected String text_;
+	protected int textPosition_;
+	protected boolean isEndOfData_;
+
+	// the values on the current line
+	protected double[] lineValues_ = new double[ 16 ];
+	protected int lineValueCount_;
+	protected int invalidValueIndex_;
+	protected String invalidValue_;
+
+	// the characters of the current token
+	protected char[] token_ = new char[ 32 ];
+	protected int tokenLength_;
+
+	public NumericDataReader( final String _text ) throws Exception {
+
+        if ( _text == null ) {
+
+            throw new TdaException(
+                    TDA.ERROR_APP_DEV,
+                    "(NumericDataReader) " +
+                    "The supplied data cannot be null." );
+        }
+
+		this.text_ = _text;
+	}
+
+	public NumericDataReader( final String _directory,
+			final String _fileName ) throws Exception {
+
+		File dataFile = new File( _directory, _fileName );
+
+		if ( !dataFile.exists() ) {
+
+            throw new TdaException(
+                    TDA.ERROR_APP_USERINPUT,
+                    "(Loading data) " +
+                    "Cannot find the file: '"
+                    + _fileName + "' in directory '" + _directory + "'." );
+		}
+
+		this.channel_ = FileChannel.open( dataFile.toPath(), StandardOpenOption.READ );
+		this.byteBuffer_ = ByteBuffer.allocate( BUFFERSIZE );
+		this.byteBuffer_.flip();
+	}
+
+	// Get the next character of the data, or -1 at the end
+	protected int nextChar() throws IOException {
+
+		if ( text_ != null ) {
+
+			if ( textPosition_ < text_.length() ) {
+
+				return text_.charAt( textPosition_++ );
+			}
+
+			return -1;
+		}
+
+		if ( !byteBuffer_.hasRemaining() ) {
+
+			byteBuffer_.clear();
+
+			if ( channel_.read( byteBuffer_ ) <= 0 ) {
+
+				byteBuffer_.flip();
+				return -1;
+			}
+
+			byteBuffer_.flip();
+		}
+
+		return byteBuffer_.get() & 0xff;
+	}
+
+	/*
+	 * Read the next data line, skipping blank and commented out lines, and parse its
+	 * tokens into the line buffer. Returns the number of values on the line, or -1
+	 * when the data is exhausted.
+	 */
+	public int readLine() throws Exception {
+
+		int c;
+		boolean isLineStart;
+		boolean isCommentLine;
+
+		if ( isEndOfData_ ) return -1;
+
+		while ( true ) {
+
+			lineValueCount_ = 0;
+			invalidValueIndex_ = -1;
+			invalidValue_ = null;
+			isLineStart = true;
+			isCommentLine = false;
+
+			while ( true ) {
+
+				c = nextChar();
+
+				if ( c == -1 || c == '\n' || c == '\r' ) break;
+
+				// any whitespace or control character separates the tokens
+				if ( c <= ' ' || isCommentLine ) continue;
+
+				if ( isLineStart && c == '#' ) {
+
+					isCommentLine = true;
+					continue;
+				}
+				isLineStart = false;
+
+				// collect the token
+				tokenLength_ = 0;
+				while ( c > ' ' ) {
+
+					if ( tokenLength_ == token_.length ) {
+
+						token_ = Arrays.copyOf( token_, 2*tokenLength_ );
+					}
+					token_[ tokenLength_++ ] = (char) c;
+					c = nextChar();
+				}
+
+				addLineValue();
+
+				if ( c == -1 || c == '\n' || c == '\r' ) break;
+			}
+
+			if ( c == -1 ) isEndOfData_ = true;
+
+			if ( lineValueCount_ > 0 ) return lineValueCount_;
+
+			if ( isEndOfData_ ) return -1;
+		}
+	}
+
+	protected void addLineValue() {
+
+		double value;
+
+		try {
+
+			value = parseToken();
+		}
+		catch ( NumberFormatException e ) {
+
+			value = Double.NaN;
+
+			if ( invalidValueIndex_ < 0 ) {
+
+				invalidValueIndex_ = lineValueCount_;
+				invalidValue_ = new String( token_, 0, tokenLength_ );
+			}
+		}
+
+		if ( lineValueCount_ == lineValues_.length ) {
+
+			lineValues_ = Arrays.copyOf( lineValues_, 2*lineValueCount_ );
+		}
+		lineValues_[ lineValueCount_++ ] = value;
+	}
+
+	// Parse the current token, with a fast path for plain decimal numbers
+	protected double parseToken() throws NumberFormatException {
+
+		int position = 0;
+		int digit;
+		int exponent = 0;
+		int significantDigits = 0;
+		int decimalExponent = 0;
+		long mantissa = 0;
+		boolean isNegative = false;
+		boolean isNegativeExponent = false;
+		boolean hasDigits = false;
+		boolean hasExponentDigits = false;
+
+		if ( token_[ 0 ] == '-' || token_[ 0 ] == '+' ) {
+
+			isNegative = ( token_[ 0 ] == '-' );
+			position++;
+		}
+
+		// integer part, then fractional part
+		for ( int part=0; part<2; part++ ) {
+
+			while ( position < tokenLength_ &&
+					( digit = token_[ position ] - '0' ) >= 0 && digit <= 9 ) {
+
+				hasDigits = true;
+
+				if ( mantissa != 0 || digit != 0 ) {
+
+					if ( significantDigits == MAXFASTPATHDIGITS ) return parseTokenSlowly();
+
+					mantissa = 10*mantissa + digit;
+					significantDigits++;
+				}
+
+				if ( part == 1 ) decimalExponent--;
+				position++;
+			}
+
+			if ( part == 0 ) {
+
+				if ( position < tokenLength_ && token_[ position ] == '.' ) {
+
+					position++;
+				}
+				else {
+
+					break;
+				}
+			}
+		}
+
+		if ( !hasDigits ) return parseTokenSlowly();
+
+		if ( position < tokenLength_ &&
+				( token_[ position ] == 'e' || token_[ position ] == 'E' ) ) {
+
+			position++;
+
+			if ( position < tokenLength_ &&
+					( token_[ position ] == '-' || token_[ position ] == '+' ) ) {
+
+				isNegativeExponent = ( token_[ position ] == '-' );
+				position++;
+			}
+
+			while ( position < tokenLength_ &&
+					( digit = token_[ position ] - '0' ) >= 0 && digit <= 9 ) {
+
+				hasExponentDigits = true;
+				if ( exponent > 1000 ) return parseTokenSlowly();
+				exponent = 10*exponent + digit;
+				position++;
+			}
+
+			if ( !hasExponentDigits ) return parseTokenSlowly();
+
+			decimalExponent += isNegativeExponent ? -exponent : exponent;
+		}
+
+		// e.g., a trailing 'd' or 'f', which Double.parseDouble accepts
+		if ( position != tokenLength_ ) return parseTokenSlowly();
+
+		if ( mantissa == 0 ) return isNegative ? -0.0 : 0.0;
+
+		// both the mantissa and the power of ten are exact, so a single (correctly
+		// rounded) operation gives the correctly rounded value
+		if ( mantissa >= MAXEXACTMANTISSA ||
+				decimalExponent < -22 || decimalExponent > 22 ) {
+
+			return parseTokenSlowly();
+		}
+
+		double value = ( decimalExponent >= 0 ) ?
+				mantissa * POWERSOFTEN[ decimalExponent ] :
+				mantissa / POWERSOFTEN[ -decimalExponent ];
+
+		return isNegative ? -value : value;
+	}
+
+	protected double parseTokenSlowly() throws NumberFormatException {
+
+		return Double.parseDouble( new String( token_, 0, tokenLength_ ) );
+	}
+
+	public int getLineValueCount() {
+
+		return lineValueCount_;
+	}
+
+	public double getLineValue( final int _index ) {
+
+		return lineValues_[ _index ];
+	}
+
+	// Copy the first _count values of the current line into the array
+	public void copyLineValues( final double[] _values, final int _offset, final int _count ) {
+
+		System.arraycopy( lineValues_, 0, _values, _offset, _count );
+	}
+
+	// Get the index of the first value on the current line that couldn't be parsed
+	// (or -1 if all values are valid)
+	public int getInvalidValueIndex() {
+
+		return invalidValueIndex_;
+	}
+
+	public String getInvalidValue() {
+
+		return invalidValue_;
+	}
+
+	public void close() {
+
+		try {
+
+			if ( channel_ != null ) channel_.close();
+		}
+		catch ( IOException e ) {
+
+			// nothing else to do
+		}
+	}
+}
@@ -42,10 +42,6 @@ public class StringUtil {
     private static final int MILLISECSPERHOUR = 60*60*1000;
     private static final int MILLISECSPERDAY = 24*60*60*1000;
 
- 	// This gives us access to the main Settings class, so we can validate the file
- 	// info in the same way the rest of the application does it.
- 	private static Settings processData = null;
-    
     private static String cachedTimeStamp = new String("");
 
     /**
@@ -56,14 +52,14 @@ public class StringUtil {
     };
 
     /**
-     * Provides access to the (main) settings.
+     * Validates the string util settings against the (main) settings.
      * @param  _processData The settings.
      */
 	public static void setProcessData( final Settings _processData ) throws Exception {
 	
-	    processData = _processData;
-	    
-	    validateRequiredData();	    
+	    // hjs 10/18/2026 No longer hold on to the settings in a static field, which
+	    // several threads (each with its own settings) may be setting at the same time
+	    validateRequiredData( _processData );	    
 	};
 	
 	/**
@@ -72,7 +68,8 @@ public class StringUtil {
 	 * @return Returns a boolean flag that indicates whether any crucial setting
 	 * could not be validated.
 	 */
-	private static boolean validateRequiredData() throws Exception {
+	private static boolean validateRequiredData( final Settings _processData ) 
+				throws Exception {
 	    
 	    boolean isDataValid = true;
 	    
@@ -90,7 +87,7 @@ public class StringUtil {
 	    settingNameForDisplay = TDA.SETTING_PROJECT_DISP;
 	    settingDataType = TDA.VALIDATION_DATATYPE_STRING;
 	    validationType = TDA.VALIDATIONTYPE_OPTIONAL;
-	    settingItem = processData.processSetting( settingNameCanonical, 
+	    settingItem = _processData.processSetting( settingNameCanonical, 
 	            settingNameDescriptive,
 	            settingNameForDisplay,
 	            settingDataType,
@@ -104,7 +101,7 @@ public class StringUtil {
 	    settingNameForDisplay = TDA.SETTING_USER_DISP;
 	    settingDataType = TDA.VALIDATION_DATATYPE_STRING;
 	    validationType = TDA.VALIDATIONTYPE_OPTIONAL;
-	    settingItem = processData.processSetting( settingNameCanonical, 
+	    settingItem = _processData.processSetting( settingNameCanonical, 
 	            settingNameDescriptive,
 	            settingNameForDisplay,
 	            settingDataType,
@@ -118,7 +115,7 @@ public class StringUtil {
 	    settingNameForDisplay = TDA.SETTING_DATASET_DISP;
 	    settingDataType = TDA.VALIDATION_DATATYPE_STRING;
 	    validationType = TDA.VALIDATIONTYPE_OPTIONAL;
-	    settingItem = processData.processSetting( settingNameCanonical, 
+	    settingItem = _processData.processSetting( settingNameCanonical, 
 	            settingNameDescriptive,
 	            settingNameForDisplay,
 	            settingDataType,
@@ -132,7 +129,7 @@ public class StringUtil {
 	    settingNameForDisplay = TDA.SETTING_NOTES_DISP;
 	    settingDataType = TDA.VALIDATION_DATATYPE_STRING;
 	    validationType = TDA.VALIDATIONTYPE_OPTIONAL;
-	    settingItem = processData.processSetting( settingNameCanonical, 
+	    settingItem = _processData.processSetting( settingNameCanonical, 
 	            settingNameDescriptive,
 	            settingNameForDisplay,
 	            settingDataType,
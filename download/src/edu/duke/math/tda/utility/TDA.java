@@ -827,6 +827,9 @@ public final class TDA {
 	// and because this long term is, well, a little silly, add this equivalent one:
 	public static final String UI_SUPPLYDATAAS_SPARSEMATRIX2 = "compact";
 	public static final String UI_SUPPLYDATAAS_OBJECT = "object";
+	// hjs 10/18/2026 Binary file (see BinaryDataFile); the file header specifies
+	// whether it holds a point cloud, a distance matrix, or a sparse matrix
+	public static final String UI_SUPPLYDATAAS_BINARY = "binary";
 	// 
 	public static final String SETTING_P_VALUE_FOR_LP = "p_valueForLpMetric";
 	public static final String SETTING_P_VALUE_FOR_LP_DESCR = "p-value for Lp metric";
@@ -836,6 +839,25 @@ public final class TDA {
 	public static final String SETTING_ZP_VALUE_DESCR = "Zp-value";
 	public static final String SETTING_ZP_VALUE_DISP = "Zp-value:";
 	// 
+	public static final String SETTING_REDUCTIONMETHOD = "reductionMethod";
+	public static final String SETTING_REDUCTIONMETHOD_DESCR = "Reduction method";
+	public static final String SETTING_REDUCTIONMETHOD_DISP = "Reduction method:";
+	// valid values for the reduction of the persistence matrices: 'standard' compares
+	// each column against all previous columns, 'pivotLookup' finds the column to merge
+	// with via a (lowest row -> column) table. Both produce identical intervals.
+	public static final String UI_REDUCTIONMETHOD_STANDARD = "standard";
+	public static final String UI_REDUCTIONMETHOD_PIVOTLOOKUP = "pivotLookup";
+	public static final String DEFAULT_REDUCTIONMETHOD = UI_REDUCTIONMETHOD_STANDARD;
+	// 
+	public static final String SETTING_USECLEARING = "useClearing";
+	public static final String SETTING_USECLEARING_DESCR = "Use clearing";
+	public static final String SETTING_USECLEARING_DISP = "Use clearing:";
+	// 'yes' drops the columns whose associated edge is already paired by the 
+	// lower-dimensional (union-find) reduction before the matrix gets reduced
+	public static final String UI_USECLEARING_YES = "yes";
+	public static final String UI_USECLEARING_NO = "no";
+	public static final String DEFAULT_USECLEARING = UI_USECLEARING_NO;
+	// 
 	public static final String SETTING_POINTSPERNEIGHBORHOOD = "pointsPerLocalNeighborhood";
 	public static final String SETTING_POINTSPERNEIGHBORHOOD_DESCR = "Points per local neighborhood";
 	public static final String SETTING_POINTSPERNEIGHBORHOOD_DISP = "Points per local neighborhood:";
@@ -911,6 +933,16 @@ public final class TDA {
     public static final String DATA_CENTERPOINTSFORLOCALNBHDFILE = 
         	"centerPointsForLocalNeighborhoodsFile";
     
+	// hjs 10/18/2026 File for the LSD matrices of all center points (multi-center LSD)
+	public static final String SETTING_LSDMATRICESFILE = 
+		"lsdMatricesFile";
+	public static final String SETTING_LSDMATRICESFILE_DESCR = 
+		"LSD matrices file";
+	public static final String SETTING_LSDMATRICESFILE_DISP = 
+		"LSD matrices file:";
+    public static final String DEFAULT_LSDMATRICESFILE = 
+    	"lsdMatrices.txt";
+    
     
     public static final String SETTING_CENTERPOINTFORLPH = 
         	"centerPointForLPH";
@@ -956,6 +988,21 @@ public final class TDA {
 	public static final String SETTING_SPARSEMATRIXFILEOUTPUT_DISP = "Sparse Matrix Output File:";
     public static final String DEFAULT_SPARSEMATRIXFILEOUTPUT = "sparseMatrixData.txt";
 
+	// hjs 10/18/2026 Save the loaded data in the binary format (for re-use via
+	// supplyDataAs=binary)
+	public static final String SETTING_CONVERTDATATOBINARYFORMAT = "convertDataToBinaryFormat";
+	public static final String SETTING_CONVERTDATATOBINARYFORMAT_DESCR = "Convert data to binary format";
+	public static final String SETTING_CONVERTDATATOBINARYFORMAT_DISP = "Convert data to binary format";
+	public static final String UI_CONVERTDATATOBINARYFORMAT_YES = "yes";
+	public static final String UI_CONVERTDATATOBINARYFORMAT_NO = "no";
+	public static final String UI_CONVERTDATATOBINARYFORMAT_DEFAULT = 
+		UI_CONVERTDATATOBINARYFORMAT_NO;
+
+	public static final String SETTING_BINARYDATAFILEOUTPUT = "binaryDataOutputFile";
+	public static final String SETTING_BINARYDATAFILEOUTPUT_DESCR = "Binary Data Output File";
+	public static final String SETTING_BINARYDATAFILEOUTPUT_DISP = "Binary Data Output File:";
+    public static final String DEFAULT_BINARYDATAFILEOUTPUT = "binaryData.tdab";
+
 
 	public static final String SETTING_CONVERTDATATODISTANCEMATRIXFORMAT = "convertDataToDistanceMatrixFormat";
 	public static final String SETTING_CONVERTDATATODISTANCEMATRIXFORMAT_DESCR = "Convert data to distance matrix format";
@@ -1062,6 +1109,14 @@ public final class TDA {
 	// much larger storage requirement) to a sparse matrix representation -- if the user didn't
 	// specify a value for SETTING_SWITCHTOSPARSEAT:
 	public static final int DEFAULT_SWITCHTOSPARSEAT = 1000;
+
+	// hjs 10/18/2026 Number of vertices above which a distance matrix is stored
+	// off-heap (upper triangle only, in a memory-mapped temporary file) instead of
+	// as an n x n array on the heap
+	public static final String SETTING_SWITCHTOOFFHEAPAT = "switchToOffHeapAt";
+	public static final String SETTING_SWITCHTOOFFHEAPAT_DESCR = "switch to off-heap at";
+	public static final String SETTING_SWITCHTOOFFHEAPAT_DISP = "Switch to off-heap at:";
+	public static final int DEFAULT_SWITCHTOOFFHEAPAT = 5000;
 	
 	// Template for output of persistence diagrams via Python's MatPlotLib 
 	// (disabled, and very likely superseeded by drawing using Matlab)
@@ -16,6 +16,7 @@ import java.io.FilenameFilter;
 import java.util.*;
 import java.util.regex.Pattern;
 
+import edu.duke.math.tda.structures.results.LsdMatrixSinkI;
 import edu.duke.math.tda.structures.results.ResultRCA;
 import edu.duke.math.tda.utility.TDA;
 import edu.duke.math.tda.utility.TdaRandomNumber;
@@ -70,6 +71,14 @@ public class Settings {
     
     // Access to random sequence, application-wide
     protected TdaRandomNumber randomNumber_ = new TdaRandomNumber();
+    
+    // hjs 10/18/2026 Data supplied as an array (via the api), which is handed to
+    // the tasks as is, instead of through the (string) 'dataLoadedAsArray' setting
+    protected double[][] dataLoadedAsArray_;
+    // Center points supplied as an array (via the api), for the multi-center LSD
+    protected double[][] centerPointsLoadedAsArray_;
+    // Sink for the LSD matrices of the multi-center LSD (supplied via the api)
+    protected LsdMatrixSinkI lsdMatrixSink_;
 
     /**
      * Basic constructor that simply sets up the internal data for the settings object.
@@ -152,6 +161,64 @@ public class Settings {
         }
     }
 
+    /**
+     * Constructor based on the loaded (not yet validated) parameters of an existing
+     * settings, plus additional parameters that take precedence over them. This 
+     * avoids loading the settings file again, e.g., when the same settings are 
+     * applied to each data set in a batch. All parameters are validated anew.
+     *
+     * @param _settings The settings whose loaded parameters we want to use as basis.
+     * @param _additionalParameters The parameters to add (setting name, value).
+     * 
+     */ 
+    public Settings( final Settings _settings, 
+            final Map<String, String> _additionalParameters ) throws Exception { 
+        
+        synchronized ( this ) {
+            
+            initialProcessParametersAsLoaded_ = 
+                assignProperties( _settings.initialProcessParametersAsLoaded_ );
+            initialProcessParametersLowercase_ = 
+                assignProperties( _settings.initialProcessParametersLowercase_ );
+            
+            for ( Map.Entry<String, String> parameter : _additionalParameters.entrySet() ) {
+                
+                initialProcessParametersAsLoaded_.setProperty( 
+                        parameter.getKey(), parameter.getValue() );
+                initialProcessParametersLowercase_.setProperty( 
+                        parameter.getKey().toLowerCase(), parameter.getValue() );
+            }
+            
+            commandLineParameters_ = _settings.commandLineParameters_;
+            defaultProcessParameters_ = assignProperties( _settings.defaultProcessParameters_ );
+            passedInParameters_ = assignProperties( _settings.passedInParameters_ );
+            loadedSettings_ = assignProperties( _settings.loadedSettings_ );
+
+            // Only carry over the info about the settings file, the same way
+            // combineParameters sets it up
+            dynamicProcessParameters_ = new Properties();
+            dynamicProcessParameters_.setProperty( TDA.DATA_SPECIFIEDSETTINGSFILE,
+                    _settings.dynamicProcessParameters_.getProperty( 
+                            TDA.DATA_SPECIFIEDSETTINGSFILE, "" ) );
+            dynamicProcessParameters_.setProperty( TDA.DATA_SPECIFIEDSETTINGSFILEDIRECTORY,
+                    _settings.dynamicProcessParameters_.getProperty( 
+                            TDA.DATA_SPECIFIEDSETTINGSFILEDIRECTORY, "" ) );
+
+            generalProcessDataStorage_ = new HashSet<Object>();
+            registeredSettings_ = new HashSet<String>( _settings.registeredSettings_ );
+            centerPointsLoadedAsArray_ = _settings.centerPointsLoadedAsArray_;
+            lsdMatrixSink_ = _settings.lsdMatrixSink_;
+            
+            validateRequiredData();
+            validateReportFiles();
+            
+            // Set up the file I/O
+            prepareFileOutput();
+
+            StringUtil.setProcessData( this );
+        }
+    }
+
     /**
      * Method to superseed the constructor with command line arguments.
      * 
@@ -226,6 +293,10 @@ public class Settings {
       collectedErrors_ = assignSet( _settings.collectedErrors_ );
 
       validatedSettings_ = assignProperties( _settings.validatedSettings_ );
+      
+      dataLoadedAsArray_ = _settings.dataLoadedAsArray_;
+      centerPointsLoadedAsArray_ = _settings.centerPointsLoadedAsArray_;
+      lsdMatrixSink_ = _settings.lsdMatrixSink_;
     }
 
     /** Loads the settings based on the (typically: commandline) parameters provided by the user.
@@ -469,12 +540,15 @@ public class Settings {
         knownSettings.add( TDA.SETTING_SUPPRESSALLOUTPUT );
         knownSettings.add( TDA.SETTING_CENTERPOINTFORLOCALNBHD );
         knownSettings.add( TDA.SETTING_SWITCHTOSPARSEAT );
+        knownSettings.add( TDA.SETTING_SWITCHTOOFFHEAPAT );
         knownSettings.add( TDA.SETTING_CENTERPOINTFORLPH );
 //        knownSettings.add( TDA.SETTING_USEPYTHONINWINDOWS );
         knownSettings.add( TDA.SETTING_CONVERTDATATODISTANCEMATRIXFORMAT );
         knownSettings.add( TDA.SETTING_DISTANCEMATRIXFILEOUTPUT );
         knownSettings.add( TDA.SETTING_CONVERTDATATOSPARSEMATRIXFORMAT );
         knownSettings.add( TDA.SETTING_SPARSEMATRIXFILEOUTPUT );
+        knownSettings.add( TDA.SETTING_CONVERTDATATOBINARYFORMAT );
+        knownSettings.add( TDA.SETTING_BINARYDATAFILEOUTPUT );
         knownSettings.add( TDA.SETTING_APPLICATIONMODE );
         knownSettings.add( TDA.SETTING_DATALOADEDASARRAY );
         knownSettings.add( TDA.SETTING_DISTANCEMATRIXASSTRING );
@@ -495,10 +569,13 @@ public class Settings {
         knownSettings.add( TDA.SETTING_TASKCHOICE );
 //        knownSettings.add( TDA.SETTING_ALGORITHMCHOICE );
 //        knownSettings.add( TDA.SETTING_POINTSPERNEIGHBORHOOD );
-//        knownSettings.add( TDA.SETTING_CENTERPOINTSFORLOCALNBHDFILE );
+        knownSettings.add( TDA.SETTING_CENTERPOINTSFORLOCALNBHDFILE );
+        knownSettings.add( TDA.SETTING_LSDMATRICESFILE );
 //        knownSettings.add( TDA.SETTING_RADIUSFORLOCALNEIGHBORHOOD );
         knownSettings.add( TDA.SETTING_SUPPLYDATAAS );
         knownSettings.add( TDA.SETTING_ZP_VALUE );
+        knownSettings.add( TDA.SETTING_REDUCTIONMETHOD );
+        knownSettings.add( TDA.SETTING_USECLEARING );
         knownSettings.add( TDA.SETTING_POINTCLOUDFILE );
         knownSettings.add( TDA.SETTING_0DINTERVALSFILE );
         knownSettings.add( TDA.SETTING_1DINTERVALSFILE );
@@ -1090,6 +1167,81 @@ public class Settings {
                     TDA.APP_FREEFORMINPUT, 
                     TDA.DEFAULT_SPARSEMATRIXFILEOUTPUT );   
 
+            settingNameCanonical = TDA.SETTING_CONVERTDATATOBINARYFORMAT;
+            settingNameDescriptive = TDA.SETTING_CONVERTDATATOBINARYFORMAT_DESCR;
+            settingNameForDisplay = TDA.SETTING_CONVERTDATATOBINARYFORMAT_DISP;
+            settingDataType = TDA.VALIDATION_DATATYPE_STRING;
+            validationType = TDA.VALIDATIONTYPE_OPTIONAL;
+            validValues.clear();
+            validValues.add( TDA.UI_CONVERTDATATOBINARYFORMAT_YES );
+            validValues.add( TDA.UI_CONVERTDATATOBINARYFORMAT_NO );
+            settingItem = this.processSetting( settingNameCanonical, 
+                    settingNameDescriptive,
+                    settingNameForDisplay,
+                    settingDataType,
+                    validationType,
+                    validValues, 
+                    TDA.UI_CONVERTDATATOBINARYFORMAT_DEFAULT ); 
+
+            settingNameCanonical = TDA.SETTING_BINARYDATAFILEOUTPUT;
+            settingNameDescriptive = TDA.SETTING_BINARYDATAFILEOUTPUT_DESCR;
+            settingNameForDisplay = TDA.SETTING_BINARYDATAFILEOUTPUT_DISP;
+            settingDataType = TDA.VALIDATION_DATATYPE_STRING;
+            validationType = TDA.VALIDATIONTYPE_OPTIONAL;
+            settingItem = this.processSetting( settingNameCanonical, 
+                    settingNameDescriptive,
+                    settingNameForDisplay,
+                    settingDataType,
+                    validationType,
+                    TDA.APP_FREEFORMINPUT, 
+                    TDA.DEFAULT_BINARYDATAFILEOUTPUT );   
+
+            // hjs 10/18/2026 Validate the 'switch to storing the distance matrix off-heap'
+            settingNameCanonical = TDA.SETTING_SWITCHTOOFFHEAPAT;
+            settingNameDescriptive = TDA.SETTING_SWITCHTOOFFHEAPAT_DESCR;
+            settingNameForDisplay = TDA.SETTING_SWITCHTOOFFHEAPAT_DISP;
+            settingDataType = TDA.VALIDATION_DATATYPE_INTEGER;
+            validationType = TDA.VALIDATIONTYPE_OPTIONAL;
+            settingItem = this.processSetting( settingNameCanonical, 
+                    settingNameDescriptive,
+                    settingNameForDisplay,
+                    settingDataType,
+                    validationType,
+                    null,
+                    Integer.toString( TDA.DEFAULT_SWITCHTOOFFHEAPAT ) );
+            
+            if ( settingItem.isValidSetting() ) {
+
+                try {
+
+                    strCondition = new String( "greater or equal than 0" );
+                    dblValue[0] = Double.parseDouble( 
+                            this.getValidatedProcessParameter(
+                                    settingNameCanonical ));
+                    if ( dblValue[0] < 0 ) {
+                        
+                        this.addToErrors( new TdaError( 
+                                StringUtil.composeErrorMessage( 
+                                        settingItem, 
+                                        strCondition ),
+                                TDA.ERRORTYPE_INVALIDRANGE,
+                                settingNameCanonical,
+                                StringUtil.getClassName( this ) ) );
+                        
+                        isDataValid = false;
+                    }
+                }
+                catch ( Exception e ) {
+
+                    throw new TdaException( 
+                            TDA.ERROR_APP_DEV, settingItem, this );
+                }
+            }
+            else {
+                
+                isDataValid = false;
+            }
+
             
             // Validate the 'distance bound'
             settingNameCanonical = TDA.SETTING_DISTANCEBOUND;
@@ -1941,6 +2093,54 @@ public class Settings {
 		}
 	}
     
+    /**
+     * @return Returns the data supplied as an array, or null if there is none.
+     */
+	public double[][] getDataLoadedAsArray() {
+		
+		return dataLoadedAsArray_;
+	}
+    
+    /**
+     * Sets the data supplied as an array (the array is not copied).
+     */
+	public void setDataLoadedAsArray( final double[][] _dataLoadedAsArray ) {
+		
+		dataLoadedAsArray_ = _dataLoadedAsArray;
+	}
+    
+    /**
+     * @return Returns the center points supplied as an array, or null if there are none.
+     */
+	public double[][] getCenterPointsLoadedAsArray() {
+		
+		return centerPointsLoadedAsArray_;
+	}
+    
+    /**
+     * Sets the center points supplied as an array (the array is not copied).
+     */
+	public void setCenterPointsLoadedAsArray( final double[][] _centerPointsLoadedAsArray ) {
+		
+		centerPointsLoadedAsArray_ = _centerPointsLoadedAsArray;
+	}
+    
+    /**
+     * @return Returns the sink for the multi-center LSD matrices, or null if there is none.
+     */
+	public LsdMatrixSinkI getLsdMatrixSink() {
+		
+		return lsdMatrixSink_;
+	}
+    
+    /**
+     * Sets the sink for the multi-center LSD matrices.
+     */
+	public void setLsdMatrixSink( final LsdMatrixSinkI _lsdMatrixSink ) {
+		
+		lsdMatrixSink_ = _lsdMatrixSink;
+	}
+    
     /**
      * Gets the value of the specified dynamic process parameter.
      */
@@ -12,7 +12,10 @@
 package tda.api;
 
 
+import java.util.List;
+
 import edu.duke.math.tda.application.*;
+import edu.duke.math.tda.structures.results.LsdMatrixSinkI;
 import edu.duke.math.tda.structures.results.ResultGeneric;
 import edu.duke.math.tda.structures.results.ResultsCollection;
 import edu.duke.math.tda.structures.results.ResultsContainerI;
@@ -23,6 +26,14 @@ import edu.duke.math.tda.utility.settings.Settings;
 /**
  * Wrapper to main Tda functions in ApplicationTda class, for API purposes (Matlab, etc).
  * 
+ * <p><strong>Thread safety:</strong> <br>
+ * Each Tda object holds its own ApplicationTda, settings and results, so the 
+ * computations of separate Tda objects (e.g., RCA0(...) and RCA1(...), one object 
+ * per request thread) can run concurrently within a single JVM, and don't affect 
+ * each other's results. A single Tda object must not be used by several threads 
+ * at the same time. Concurrent computations that write output files should use
+ * separate output directories (or suppress the file output).
+ * 
  * <p><strong>Change History:</strong> <br>
  * Created 2014
  * <p>
@@ -355,6 +366,67 @@ public class Tda {
 	
 	
 	
+	// Batch versions: compute the persistence for each of the point clouds (or other
+	// data sets, based on 'supplyDataAs'), with the settings in _args applied to all 
+	// of them. The computations are spread across _numberOfThreads worker threads, 
+	// and the results are returned in input order, one container per data set.
+	public ResultsContainerI[] RCA0( final String[] _args, 
+			final double[][][] _dataSets, 
+			final int _numberOfThreads ) {
+		
+		return executeBatch( TDA.UI_TASK_RCA0, _args, _dataSets, _numberOfThreads );
+	}
+	
+	public ResultsContainerI[] RCA0( final String[] _args, 
+			final List<double[][]> _dataSets, 
+			final int _numberOfThreads ) {
+		
+		return executeBatch( TDA.UI_TASK_RCA0, _args, 
+				_dataSets.toArray( new double[ _dataSets.size() ][][] ), _numberOfThreads );
+	}
+	
+	public ResultsContainerI[] RCA1( final String[] _args, 
+			final double[][][] _dataSets, 
+			final int _numberOfThreads ) {
+		
+		return executeBatch( TDA.UI_TASK_M12, _args, _dataSets, _numberOfThreads );
+	}
+	
+	public ResultsContainerI[] RCA1( final String[] _args, 
+			final List<double[][]> _dataSets, 
+			final int _numberOfThreads ) {
+		
+		return executeBatch( TDA.UI_TASK_M12, _args, 
+				_dataSets.toArray( new double[ _dataSets.size() ][][] ), _numberOfThreads );
+	}
+	
+	protected ResultsContainerI[] executeBatch( final String _taskChoice,
+			final String[] _args, 
+			final double[][][] _dataSets, 
+			final int _numberOfThreads ) {
+		
+		ResultsContainerI[] batchResults = new ResultsContainerI[ 0 ];
+		String[] batchArgs = new String[ 2 ];
+		batchArgs[ 0 ] = TDA.SETTING_TASKCHOICE + "=" + _taskChoice;
+		batchArgs[ 1 ] = TDA.SETTING_APPLICATIONMODE + "=" + TDA.UI_APPLICATIONMODE_API;
+		
+		try {
+			
+			appTda_.assignData( _args );
+			appTda_.assignData( batchArgs );
+			batchResults = appTda_.executeTdaBatch( _dataSets, _numberOfThreads );
+			
+			resultsContainer_ = appTda_.getResults();
+		}
+		catch ( Exception e ) {
+			
+			System.out.println( "[ERROR batch " + _taskChoice + "] Exception encountered: " + e.toString() );
+			e.printStackTrace();
+		}
+
+		return batchResults;
+	}
+	
 	public ResultsContainerI RCA2() {
 		
 		String[] rca2Args = new String[ 2 ];
@@ -449,7 +521,7 @@ public class Tda {
 			final double[] point_ ) {
 		
 		// TODO: use generic container to put stuff in (avoid array with it's rigidity)
-		String[] lsdArgs = new String[ 5 ];
+		String[] lsdArgs = new String[ 4 ];
 		
 			
 		try {
@@ -458,11 +530,11 @@ public class Tda {
 			lsdArgs[ 1 ] = TDA.SETTING_RADIUSFORLOCALNEIGHBORHOOD + "=" + Double.toString( radius_ );
 			lsdArgs[ 2 ] = TDA.SETTING_CENTERPOINTFORLOCALNBHD + "=" + 
 								UTIL.convertToString( point_ );
-			lsdArgs[ 3 ] = TDA.SETTING_DATALOADEDASARRAY + "=" + 
-								UTIL.convertToString( pointCloud_ );
-			lsdArgs[ 4 ] = TDA.SETTING_APPLICATIONMODE + "=" + TDA.UI_APPLICATIONMODE_API;
+			lsdArgs[ 3 ] = TDA.SETTING_APPLICATIONMODE + "=" + TDA.UI_APPLICATIONMODE_API;
 			
+			// hjs 10/18/2026 The point cloud is handed over as an array (no string conversion)
 			appTda_.assignData( lsdArgs );
+			appTda_.assignData( pointCloud_ );
 			appTda_.executeTda();
 			resultsContainer_ = appTda_.getResults();
 		}
@@ -488,7 +560,7 @@ public class Tda {
 			final double point_ ) {
 				
 		// TODO: use generic container to put stuff in (avoid array with it's rigidity)
-		String[] lsdArgs = new String[ 5 ];
+		String[] lsdArgs = new String[ 4 ];
 		
 		
 		try {
@@ -496,11 +568,11 @@ public class Tda {
 			lsdArgs[ 0 ] = TDA.SETTING_TASKCHOICE + "=" + TDA.UI_TASK_LSD;
 			lsdArgs[ 1 ] = TDA.SETTING_RADIUSFORLOCALNEIGHBORHOOD + "=" + Double.toString( radius_ );
 			lsdArgs[ 2 ] = TDA.SETTING_CENTERPOINTFORLOCALNBHD + "=" + point_;
-			lsdArgs[ 3 ] = TDA.SETTING_DATALOADEDASARRAY + "=" + 
-								UTIL.convertToString( pointCloud_ );
-			lsdArgs[ 4 ] = TDA.SETTING_APPLICATIONMODE + "=" + TDA.UI_APPLICATIONMODE_API;
+			lsdArgs[ 3 ] = TDA.SETTING_APPLICATIONMODE + "=" + TDA.UI_APPLICATIONMODE_API;
 			
+			// hjs 10/18/2026 The point cloud is handed over as an array (no string conversion)
 			appTda_.assignData( lsdArgs );
+			appTda_.assignData( pointCloud_ );
 			appTda_.executeTda();
 			resultsContainer_ = appTda_.getResults();
 		}
@@ -521,6 +593,46 @@ public class Tda {
 		return resultsContainer_;		
 	}
 	
+	// hjs 10/18/2026 Multi-center LSD: compute the LSD matrices for all supplied
+	// center points in one pass (the matrices are handed to the sink, one matrix 
+	// per center point, in the order of the center points)
+	public ResultsContainerI LSD( final double[][] pointCloud_, 
+			final double radius_, 
+			final double[][] centerPoints_,
+			final LsdMatrixSinkI lsdMatrixSink_ ) {
+		
+		String[] lsdArgs = new String[ 3 ];
+		
+		try {
+
+			lsdArgs[ 0 ] = TDA.SETTING_TASKCHOICE + "=" + TDA.UI_TASK_LSD;
+			lsdArgs[ 1 ] = TDA.SETTING_RADIUSFORLOCALNEIGHBORHOOD + "=" + Double.toString( radius_ );
+			lsdArgs[ 2 ] = TDA.SETTING_APPLICATIONMODE + "=" + TDA.UI_APPLICATIONMODE_API;
+			
+			appTda_.assignData( lsdArgs );
+			appTda_.assignData( pointCloud_ );
+			appTda_.assignCenterPoints( centerPoints_ );
+			appTda_.assignLsdMatrixSink( lsdMatrixSink_ );
+			appTda_.executeTda();
+			resultsContainer_ = appTda_.getResults();
+		}
+		catch ( Exception e ) {
+			
+			resultsContainer_.addRegisteredResult( 
+					TDA.DATA_REGISTEREDRESULT_LSD_ERROR1,
+					e, 
+					"[ERROR Tda.LSD-4]" );
+			
+			if ( TDA.DEBUG ) {
+
+				System.out.println( "[ERROR Tda.LSD-4]  Exception encountered: " + e.toString() );
+				e.printStackTrace();
+			}
+		}
+
+		return resultsContainer_;		
+	}
+	
 	public ResultsContainerI LSD() {
 
 		// Here all settings have been loaded already -- note that we should take a look at what